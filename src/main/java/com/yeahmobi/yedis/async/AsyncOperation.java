@@ -1,17 +1,309 @@
 package com.yeahmobi.yedis.async;
 
-import java.util.concurrent.Callable;
+import java.lang.reflect.Method;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 
-public abstract class AsyncOperation<T> implements Callable<OperationResult<T>> {
+import com.google.common.util.concurrent.ExecutionList;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.common.YedisException;
+import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.common.YedisTimeoutException;
 
-    public abstract OperationResult<T> execute(Jedis jedis);
+/**
+ * 一次redis操作，同时也是该操作的结果（future）。<br>
+ * 操作对象本身就是完成槽：不再额外创建FutureTask和结果包装对象，等待者通过对象自身的monitor等待，
+ * 只有在添加listener时才会分配ExecutionList。
+ *
+ * @param <T> 操作的返回值类型
+ */
+public abstract class AsyncOperation<T> implements ListenableFuture<T> {
+
+    private static final int PENDING   = 0;
+    private static final int DONE      = 1;
+    private static final int FAILED    = 2;
+    private static final int CANCELLED = 3;
+
+    // 操作类 -> 命令名
+    private static final ConcurrentMap<Class<?>, String> COMMAND_NAMES = new ConcurrentHashMap<Class<?>, String>();
+
+    private volatile int     state     = PENDING;
+
+    private T                value;
+
+    private Throwable        cause;
+
+    private ExecutionList    listeners;
+
+    // 所属worker的load计数，操作完成时（在唤醒等待者之前）减一
+    private AtomicInteger    load;
+
+    // 自动pipeline时，已发送但尚未读取的结果
+    private Response<T>      response;
+
+    // 开始执行（或发送到pipeline）和完成的时间，0表示尚未发生；在完成（写state）之前写入
+    private long             startNanos;
+
+    private long             endNanos;
+
+    // 调用方等待结果的截止时间（System.nanoTime()），0表示没有截止时间
+    private long             deadlineNanos;
+
+    public abstract T execute(Jedis jedis);
+
+    /**
+     * 支持自动pipeline的操作覆盖此方法：在pipeline中发送命令，并返回对应的Response。<br>
+     * 默认返回null，表示该操作不能pipeline，worker会单独执行它。
+     */
+    public Response<T> pipeline(Pipeline pipeline) {
+        return null;
+    }
+
+    /**
+     * 由JedisPoolExecutor的worker线程调用，执行操作并设置结果。<br>
+     * 如遇到网络异常，在设置结果后继续抛出，以便worker关闭连接。
+     */
+    void run(Jedis jedis) {
+        if (expireIfOverdue(System.nanoTime())) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        T result;
+        try {
+            result = execute(jedis);
+        } catch (JedisConnectionException e) {
+            if (e.getCause() instanceof SocketTimeoutException && deadlineNanos != 0
+                && System.nanoTime() - deadlineNanos >= 0) {
+                // 读超时已经按截止时间缩短（DIRECT的同步调用），按操作超时处理
+                complete(FAILED, null, new YedisTimeoutException(e.getMessage(), e));
+            } else {
+                complete(FAILED, null, new YedisNetworkException(e.getMessage(), e));
+            }
+            throw e;
+        } catch (Throwable e) {
+            complete(FAILED, null, new YedisException(e.getMessage(), e));
+            return;
+        }
+        complete(DONE, result, null);
+    }
+
+    /**
+     * 已过截止时间、尚未开始执行的操作直接以超时结束，调用方已经不再等待它的结果；返回是否已经结束。<br>
+     * 每种传输方式在把命令写到连接之前都会检查。
+     */
+    boolean expireIfOverdue(long now) {
+        if (state != PENDING) {
+            return true;
+        }
+        if (deadlineNanos != 0 && now - deadlineNanos >= 0) {
+            complete(FAILED, null, new YedisTimeoutException("Operation expired before execution."));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 尝试在pipeline中发送该操作，返回false表示该操作不支持pipeline（没有发送任何命令）。
+     */
+    boolean sendTo(Pipeline pipeline) {
+        startNanos = System.nanoTime();
+        response = pipeline(pipeline);
+        return response != null;
+    }
+
+    /**
+     * pipeline sync之后，由Response设置结果
+     */
+    void completeFromResponse() {
+        Response<T> r = response;
+        if (r == null) {
+            // 没有发送（已超时或已取消）
+            return;
+        }
+        response = null;
+        T result;
+        try {
+            result = r.get();
+        } catch (Throwable e) {
+            complete(FAILED, null, new YedisException(e.getMessage(), e));
+            return;
+        }
+        complete(DONE, result, null);
+    }
+
+    /**
+     * 将操作计入worker的load
+     */
+    synchronized void assign(AtomicInteger load) {
+        if (state == PENDING) {
+            load.incrementAndGet();
+            this.load = load;
+        }
+    }
+
+    /**
+     * 将尚未完成的操作从原worker的load转移到新的worker（窃取时使用）
+     */
+    synchronized void reassign(AtomicInteger load) {
+        if (state == PENDING) {
+            if (this.load != null) {
+                this.load.decrementAndGet();
+            }
+            load.incrementAndGet();
+            this.load = load;
+        }
+    }
+
+    boolean set(T result) {
+        return complete(DONE, result, null);
+    }
+
+    public boolean setException(Throwable t) {
+        return complete(FAILED, null, t);
+    }
+
+    private boolean complete(int newState, T result, Throwable t) {
+        ExecutionList toExecute;
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            value = result;
+            cause = t;
+            endNanos = System.nanoTime();
+            state = newState;
+            if (load != null) {
+                // 先减load再唤醒等待者，调用方马上提交的下一个操作能看到该worker已空闲
+                load.decrementAndGet();
+                load = null;
+            }
+            notifyAll();
+            toExecute = listeners;
+        }
+        if (toExecute != null) {
+            toExecute.execute();
+        }
+        return true;
+    }
+
+    /**
+     * 命令名，即创建该操作的方法名（如Operations.get中创建的操作为"get"），按类缓存
+     */
+    public String getCommandName() {
+        Class<?> type = getClass();
+        String name = COMMAND_NAMES.get(type);
+        if (name == null) {
+            Method method = type.getEnclosingMethod();
+            name = method != null ? method.getName() : type.getSimpleName();
+            COMMAND_NAMES.put(type, name);
+        }
+        return name;
+    }
+
+    /**
+     * 设置截止时间（System.nanoTime()），在提交之前调用
+     */
+    public void setDeadlineNanos(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * 开始执行的时间（System.nanoTime()），没有执行过时为0
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * 完成的时间（System.nanoTime()），尚未完成时为0
+     */
+    public long getEndNanos() {
+        return endNanos;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return complete(CANCELLED, null, null);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public boolean isDone() {
+        return state != PENDING;
+    }
+
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        if (state == PENDING) {
+            synchronized (this) {
+                while (state == PENDING) {
+                    wait();
+                }
+            }
+        }
+        return report();
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (state == PENDING) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (this) {
+                while (state == PENDING) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException();
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+        }
+        return report();
+    }
+
+    private T report() throws ExecutionException {
+        switch (state) {
+            case DONE:
+                return value;
+            case FAILED:
+                throw new ExecutionException(cause);
+            default:
+                throw new CancellationException();
+        }
+    }
 
     @Override
-    public OperationResult<T> call() throws Exception {
-        Jedis jedis = ThreadLocalHolder.jedisHolder.get();
-        return execute(jedis);
+    public void addListener(Runnable listener, Executor executor) {
+        synchronized (this) {
+            if (state == PENDING) {
+                if (listeners == null) {
+                    listeners = new ExecutionList();
+                }
+                listeners.add(listener, executor);
+                return;
+            }
+        }
+        executor.execute(listener);
     }
 
 }
@@ -0,0 +1,41 @@
+package com.yeahmobi.yedis.async;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Yedis执行redis操作的传输层。
+ * 
+ * @see JedisPoolExecutor
+ * @see NioCommandExecutor
+ * @see DirectCommandExecutor
+ */
+public interface CommandExecutor {
+
+    void start();
+
+    void shutdown();
+
+    boolean isShutdown();
+
+    /**
+     * 提交操作，操作完成后设置到操作本身的结果中
+     */
+    <T> AsyncOperation<T> submit(AsyncOperation<T> opr);
+
+    /**
+     * 同步调用时提交操作，调用方会马上等待结果；除DIRECT传输直接在调用线程中执行外，与submit()相同
+     */
+    <T> AsyncOperation<T> execute(AsyncOperation<T> opr);
+
+    /**
+     * 每个worker（或连接）上排队、尚未开始执行的操作数，用于监控
+     */
+    int[] getQueueDepths();
+
+    /**
+     * 异步地建立并（用PING）验证所有连接，全部就绪时future以true结束，有连接失败时以false结束；
+     * 调用方负责超时，超时后取消future会取消还没有完成的PING
+     */
+    ListenableFuture<Boolean> prewarm();
+
+}
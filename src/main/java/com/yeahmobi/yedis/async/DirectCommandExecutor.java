@@ -0,0 +1,283 @@
+package com.yeahmobi.yedis.async;
+
+import java.lang.reflect.Method;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.pipeline.PipelineJedisPool;
+
+/**
+ * DIRECT传输的CommandExecutor：没有worker线程，每个操作从连接池借一个连接执行。<br>
+ * 同步调用直接在调用线程中执行，执行期间socket的读超时不超过操作剩余的时间；异步调用在JDK 21+上每个操作一个虚拟线程（通过反射创建，
+ * 不需要新的编译目标），更早的JDK上使用共享的线程池。异步操作超时或被取消时会中断执行线程，虚拟线程上的socket IO会因此立即中止。
+ */
+public class DirectCommandExecutor implements CommandExecutor {
+
+    private static final Logger     logger   = LoggerFactory.getLogger(DirectCommandExecutor.class);
+
+    private static final Executor   EXECUTOR = createExecutor();
+
+    private final AtomicBoolean     shutdown = new AtomicBoolean(false);
+
+    private final PipelineJedisPool jedisPool;
+
+    public DirectCommandExecutor(PipelineJedisPool jedisPool) {
+        if (jedisPool == null) {
+            throw new IllegalArgumentException("Argument cannot be null.");
+        }
+
+        this.jedisPool = jedisPool;
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown.set(true);
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown.get();
+    }
+
+    @Override
+    public <T> AsyncOperation<T> submit(final AsyncOperation<T> opr) {
+        checkClose();
+        if (opr == null) throw new NullPointerException();
+
+        EXECUTOR.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                runInterruptibly(opr);
+            }
+        });
+
+        return opr;
+    }
+
+    @Override
+    public int[] getQueueDepths() {
+        // 没有队列，等待连接的操作在连接池中排队
+        return new int[0];
+    }
+
+    /**
+     * 从连接池借出threadPoolSize个（不超过连接池上限）连接并PING，再一起归还，使这些连接留在池中
+     */
+    @Override
+    public ListenableFuture<Boolean> prewarm() {
+        checkClose();
+        final SettableFuture<Boolean> result = SettableFuture.create();
+        EXECUTOR.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                result.set(prewarm(result));
+            }
+        });
+        return result;
+    }
+
+    private boolean prewarm(Future<Boolean> result) {
+        AtomConfig config = jedisPool.getConfig();
+        int count = config.getThreadPoolSize();
+        int maxTotal = config.getPipelinePoolConfig().getMaxTotal();
+        if (maxTotal > 0 && maxTotal < count) {
+            count = maxTotal;
+        }
+        List<Jedis> borrowed = new ArrayList<Jedis>(count);
+        boolean success = true;
+        try {
+            for (int i = 0; i < count && success; i++) {
+                // 调用方超时后取消
+                if (result.isCancelled()) {
+                    success = false;
+                    break;
+                }
+                Jedis jedis = jedisPool.getJedis();
+                borrowed.add(jedis);
+                jedis.ping();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Error when prewarming connections to " + config.getHost() + ":" + config.getPort() + ": "
+                        + e.getMessage());
+            success = false;
+        } finally {
+            for (Jedis jedis : borrowed) {
+                if (success) {
+                    jedisPool.returnJedis(jedis);
+                } else {
+                    jedisPool.returnBrokenJedis(jedis);
+                }
+            }
+        }
+        return success;
+    }
+
+    /**
+     * 在调用线程中执行，返回时操作已经完成。<br>
+     * 执行期间socket的读超时缩短为操作剩余的时间，AtomConfig.timeout小于socketTimeout时同步调用也不会超过timeout（BLPOP、EVAL等命令除外，jedis执行它们时不设读超时）
+     */
+    @Override
+    public <T> AsyncOperation<T> execute(AsyncOperation<T> opr) {
+        checkClose();
+        if (opr == null) throw new NullPointerException();
+
+        Jedis jedis = borrow(opr);
+        if (jedis == null) {
+            return opr;
+        }
+        Socket socket = jedis.getClient().getSocket();
+        int socketTimeout = jedis.getClient().getTimeout();
+        boolean broken = false;
+        try {
+            socket.setSoTimeout(remainingMillis(opr, socketTimeout));
+            opr.run(jedis);
+            socket.setSoTimeout(socketTimeout);
+        } catch (JedisConnectionException e) {
+            broken = true;
+        } catch (SocketException e) {
+            opr.setException(new YedisNetworkException(e.getMessage(), e));
+            broken = true;
+        }
+        if (broken) {
+            jedisPool.returnBrokenJedis(jedis);
+        } else {
+            jedisPool.returnJedis(jedis);
+        }
+        return opr;
+    }
+
+    /**
+     * 到截止时间剩余的毫秒数（至少1），不超过socketTimeout（0表示不限）
+     */
+    private static int remainingMillis(AsyncOperation<?> opr, int socketTimeout) {
+        long deadline = opr.getDeadlineNanos();
+        if (deadline == 0) {
+            return socketTimeout;
+        }
+        long remaining = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime() + 999999));
+        if (socketTimeout > 0 && socketTimeout < remaining) {
+            return socketTimeout;
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 操作在其他线程中完成（超时或取消）时，中断执行线程
+     */
+    private void runInterruptibly(AsyncOperation<?> opr) {
+        if (opr.isDone()) {
+            return;
+        }
+        Jedis jedis = borrow(opr);
+        if (jedis == null) {
+            return;
+        }
+
+        final Thread runner = Thread.currentThread();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        opr.addListener(new Runnable() {
+
+            @Override
+            public void run() {
+                if (Thread.currentThread() != runner && running.compareAndSet(true, false)) {
+                    runner.interrupt();
+                }
+            }
+        }, MoreExecutors.directExecutor());
+
+        boolean broken = false;
+        try {
+            opr.run(jedis);
+        } catch (JedisConnectionException e) {
+            broken = true;
+        }
+        if (!running.compareAndSet(true, false)) {
+            // 已经或即将被中断，连接状态不可信
+            broken = true;
+            Thread.interrupted();
+        }
+        if (broken) {
+            jedisPool.returnBrokenJedis(jedis);
+        } else {
+            jedisPool.returnJedis(jedis);
+        }
+    }
+
+    /**
+     * 借连接，连接池耗尽时最多等到操作的截止时间；超过截止时间时操作以YedisTimeoutException结束，返回null
+     */
+    private Jedis borrow(AsyncOperation<?> opr) {
+        long deadline = opr.getDeadlineNanos();
+        try {
+            if (deadline == 0) {
+                return jedisPool.getJedis();
+            }
+            long now = System.nanoTime();
+            if (opr.expireIfOverdue(now)) {
+                return null;
+            }
+            return jedisPool.getJedis(TimeUnit.NANOSECONDS.toMillis(deadline - now + 999999));
+        } catch (RuntimeException e) {
+            if (deadline == 0 || !opr.expireIfOverdue(System.nanoTime())) {
+                opr.setException(new YedisNetworkException(e.getMessage(), e));
+            }
+            return null;
+        }
+    }
+
+    private void checkClose() {
+        if (shutdown.get()) {
+            throw new IllegalStateException("It is already closed.");
+        }
+    }
+
+    private static Executor createExecutor() {
+        try {
+            // Thread.ofVirtual().name("Yedis-Virtual-", 0).factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "Yedis-Virtual-", 0L);
+            Method factory = builderClass.getMethod("factory");
+            final ThreadFactory threadFactory = (ThreadFactory) factory.invoke(builder);
+            logger.info("Yedis DIRECT transport uses virtual threads.");
+            return new Executor() {
+
+                @Override
+                public void execute(Runnable command) {
+                    threadFactory.newThread(command).start();
+                }
+            };
+        } catch (Exception e) {
+            // JDK 21之前没有虚拟线程
+            ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Yedis-Direct-%d").build();
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+
+}
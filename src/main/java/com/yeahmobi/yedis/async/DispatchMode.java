@@ -0,0 +1,20 @@
+package com.yeahmobi.yedis.async;
+
+/**
+ * JedisPoolExecutor将操作分派给worker（即连接）的方式。
+ */
+public enum DispatchMode {
+    /**
+     * RoundRobin：按顺序轮流分派到每个worker，慢命令会阻塞排在它后面的命令。
+     */
+    ROUND_ROBIN,
+    /**
+     * LeastLoaded：分派到待处理操作（包括正在执行的）最少的worker。
+     */
+    LEAST_LOADED,
+    /**
+     * WorkStealing：优先分派到空闲的worker；worker空闲时会从其他worker的队列尾部窃取操作。
+     */
+    WORK_STEALING;
+
+}
@@ -1,9 +1,10 @@
 package com.yeahmobi.yedis.async;
 
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-import java.util.concurrent.FutureTask;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -11,12 +12,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.common.YedisOverloadException;
 import com.yeahmobi.yedis.util.SleepStrategy;
 
-public class JedisPoolExecutor {
+public class JedisPoolExecutor implements CommandExecutor {
 
     private static final Logger logger      = LoggerFactory.getLogger(JedisPoolExecutor.class);
 
@@ -30,6 +36,17 @@ public class JedisPoolExecutor {
 
     private final AtomicInteger workerIndex = new AtomicInteger(0);
 
+    private final DispatchMode  dispatchMode;
+
+    // 自动pipeline：每批最多的操作数，小于等于1表示不开启
+    private final int           autoPipelineBatchSize;
+
+    // 自动pipeline：凑批时最多等待的时间
+    private final long          autoPipelineWaitNanos;
+
+    // 每个worker最多排队的操作数，0表示不限制
+    private final int           maxQueueSize;
+
     private AtomConfig          config;
 
     public JedisPoolExecutor(AtomConfig config) {
@@ -39,9 +56,18 @@ public class JedisPoolExecutor {
 
         this.config = config;
 
+        this.dispatchMode = config.getDispatchMode() != null ? config.getDispatchMode() : DispatchMode.ROUND_ROBIN;
+
+        this.autoPipelineBatchSize = config.getAutoPipelineBatchSize();
+
+        this.autoPipelineWaitNanos = TimeUnit.MICROSECONDS.toNanos(config.getAutoPipelineWaitMicros());
+
+        this.maxQueueSize = config.getMaxQueueSize();
+
         this.workers = new Worker[config.getThreadPoolSize()];
     }
 
+    @Override
     public void start() {
         for (int i = 0; i < this.workers.length; i++) {
             this.workers[i] = new Worker();
@@ -49,6 +75,7 @@ public class JedisPoolExecutor {
         }
     }
 
+    @Override
     public void shutdown() {
         if (shutdown.compareAndSet(false, true)) {
             for (Worker worker : workers) {
@@ -57,6 +84,7 @@ public class JedisPoolExecutor {
         }
     }
 
+    @Override
     public boolean isShutdown() {
         return shutdown.get();
     }
@@ -67,50 +95,213 @@ public class JedisPoolExecutor {
         }
     }
 
-    public <T> Future<OperationResult<T>> submit(AsyncOperation<T> opr) {
+    @Override
+    public <T> AsyncOperation<T> submit(AsyncOperation<T> opr) {
         checkClose();
         if (opr == null) throw new NullPointerException();
-        FutureTask<OperationResult<T>> ftask = new FutureTask<OperationResult<T>>(opr);
 
         // 选择一个work, task入队
-        workers[nextIndex()].addTask(ftask);
+        selectWorker().addTask(opr);
 
-        return ftask;
+        return opr;
+    }
+
+    @Override
+    public <T> AsyncOperation<T> execute(AsyncOperation<T> opr) {
+        return submit(opr);
+    }
+
+    @Override
+    public int[] getQueueDepths() {
+        int[] depths = new int[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            Worker worker = workers[i];
+            depths[i] = worker != null ? worker.queue.size() : 0;
+        }
+        return depths;
+    }
+
+    /**
+     * 各worker的load（已分配、尚未完成的操作数）
+     */
+    int[] getLoads() {
+        int[] loads = new int[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            Worker worker = workers[i];
+            loads[i] = worker != null ? worker.load.get() : 0;
+        }
+        return loads;
+    }
+
+    @Override
+    public ListenableFuture<Boolean> prewarm() {
+        checkClose();
+        // 每个worker一个PING，worker在执行前会先建立连接
+        List<PingOperation> pings = new ArrayList<PingOperation>(workers.length);
+        try {
+            for (Worker worker : workers) {
+                PingOperation ping = new PingOperation();
+                worker.addTask(ping);
+                pings.add(ping);
+            }
+        } catch (YedisOverloadException e) {
+            for (PingOperation ping : pings) {
+                ping.cancel(false);
+            }
+            return Futures.immediateFuture(false);
+        }
+        return PingOperation.all(pings);
+    }
+
+    private Worker selectWorker() {
+        switch (dispatchMode) {
+            case LEAST_LOADED:
+                return leastLoadedWorker();
+            case WORK_STEALING:
+                return idlePreferredWorker();
+            default:
+                return workers[nextIndex()];
+        }
     }
 
     private int nextIndex() {
         return Math.abs(workerIndex.getAndIncrement() % workers.length);
     }
 
-    @SuppressWarnings("rawtypes")
+    /**
+     * 从轮询位置开始扫描，选择load最小的worker，load相同时保持轮询的顺序
+     */
+    private Worker leastLoadedWorker() {
+        int start = nextIndex();
+        Worker selected = workers[start];
+        int minLoad = selected.load.get();
+        for (int i = 1; i < workers.length && minLoad > 0; i++) {
+            Worker worker = workers[(start + i) % workers.length];
+            int load = worker.load.get();
+            if (load < minLoad) {
+                selected = worker;
+                minLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 轮询到的worker忙时，优先交给空闲的worker；都不空闲时仍按轮询入队，由空闲下来的worker窃取
+     */
+    private Worker idlePreferredWorker() {
+        int start = nextIndex();
+        for (int i = 0; i < workers.length; i++) {
+            Worker worker = workers[(start + i) % workers.length];
+            if (worker.load.get() == 0) {
+                return worker;
+            }
+        }
+        return workers[start];
+    }
+
+    /**
+     * 从load最大的其他worker的队列尾部窃取一个task
+     */
+    private AsyncOperation<?> steal(Worker thief) {
+        Worker victim = null;
+        int maxSize = 0;
+        for (Worker worker : workers) {
+            if (worker != thief && worker != null) {
+                int size = worker.queue.size();
+                if (size > maxSize) {
+                    victim = worker;
+                    maxSize = size;
+                }
+            }
+        }
+        if (victim == null) {
+            return null;
+        }
+        AsyncOperation<?> task = victim.queue.pollLast();
+        if (task != null) {
+            task.reassign(thief.load);
+        }
+        return task;
+    }
+
     private class Worker extends Thread {
 
-        private LinkedBlockingQueue<FutureTask> queue         = new LinkedBlockingQueue<FutureTask>();
+        private final LinkedBlockingDeque<AsyncOperation<?>> queue;
 
-        private Jedis                           jedis;
+        // 队列中和正在执行的、尚未完成的task数
+        private final AtomicInteger                          load          = new AtomicInteger(0);
 
-        private SleepStrategy                   sleepStrategy = new SleepStrategy();
+        private Jedis                                        jedis;
+
+        private SleepStrategy                                sleepStrategy = new SleepStrategy();
+
+        // 自动pipeline时当前批次的操作，由worker线程独占
+        private final List<AsyncOperation<?>>                batch         = new ArrayList<AsyncOperation<?>>();
 
         public Worker() {
             super(String.format(nameFormat, config.getHost() + ":" + config.getPort(), count.getAndIncrement()));
             this.setDaemon(true);
+            this.queue = new LinkedBlockingDeque<AsyncOperation<?>>(maxQueueSize > 0 ? maxQueueSize : Integer.MAX_VALUE);
         }
 
         public void close() {
-            FutureTask task;
+            AsyncOperation<?> task;
             // 将queue中的 task拿出来，cancle掉
             while ((task = queue.poll()) != null) {
                 task.cancel(true);
             }
             this.interrupt();
             if (jedis != null) {
-                jedis.close();
+                try {
+                    jedis.close();
+                } catch (JedisConnectionException e) {
+                    // worker线程可能正在建立或关闭同一个连接
+                    logger.debug("Error when closing connection to " + config.getHost() + ":" + config.getPort(), e);
+                }
             }
             logger.info("Closed from " + config.getHost() + ":" + config.getPort());
         }
 
-        public void addTask(FutureTask task) {
-            queue.add(task);
+        public void addTask(AsyncOperation<?> task) {
+            task.assign(load);
+            if (!queue.offerLast(task)) {
+                // 队列满时先清理已经结束或过期的task，仍然满则快速失败，而不是让调用方等到超时
+                purge();
+                if (!queue.offerLast(task)) {
+                    YedisOverloadException e = new YedisOverloadException("Queue to " + config.getHost() + ":"
+                                                                           + config.getPort() + " is full (maxQueueSize="
+                                                                           + maxQueueSize + ").");
+                    task.setException(e);
+                    throw e;
+                }
+            }
+        }
+
+        /**
+         * 从队列中移除已超时、已取消或已过截止时间的task
+         */
+        private void purge() {
+            long now = System.nanoTime();
+            Iterator<AsyncOperation<?>> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expireIfOverdue(now)) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        private AsyncOperation<?> nextTask() throws InterruptedException {
+            if (dispatchMode == DispatchMode.WORK_STEALING) {
+                AsyncOperation<?> task = queue.pollFirst();
+                if (task == null) {
+                    task = steal(this);
+                }
+                if (task != null) {
+                    return task;
+                }
+            }
+            return queue.takeFirst();
         }
 
         @Override
@@ -119,25 +310,17 @@ public class JedisPoolExecutor {
                 try {
                     checkJedis();
 
-                    FutureTask task = queue.take();
-                    if (!task.isCancelled()) {
-                        ThreadLocalHolder.jedisHolder.set(jedis);
-                        task.run();
-                        task.get();// 尝试获取结果，以便获取task是否有异常，如果有异常，需要关闭jedis
+                    AsyncOperation<?> task = nextTask();
+                    if (autoPipelineBatchSize > 1) {
+                        runBatch(task);
+                    } else {
+                        // 已超时、已取消或已过截止时间的task不再执行
+                        task.run(jedis);
                     }
                 } catch (InterruptedException e) {
-                    // 如果被中断，按逻辑会继续检查shutdown (Yedis超时cancle时也会走到此中断的逻辑)
-                } catch (ExecutionException e) {
-                    // 此处仅仅是为了判断task是否有jedis的网络异常
-                    Throwable cause = e.getCause();
-                    if (cause instanceof JedisConnectionException) {
-                        // 网络问题，关闭
-                        if (jedis != null) {
-                            jedis.close();
-                        }
-                    }
+                    // 如果被中断，按逻辑会继续检查shutdown
                 } catch (JedisConnectionException e) {
-                    // 创建jedis时遇到网络问题
+                    // 创建jedis或task执行时遇到网络问题
                     logger.error("Error when connecting to " + config.getHost() + ":" + config.getPort()
                                  + " in YedisExecutor: " + e.getMessage());
                     // 网络问题，关闭
@@ -146,16 +329,92 @@ public class JedisPoolExecutor {
                         sleepStrategy.sleep();
                     }
                 } catch (RuntimeException e) {
-                    // 遇到task运行时异常，则记log （实际上FutureTask的run方法不会抛出任何异常）
+                    // task的异常已经设置到task的结果中，此处仅记log
                     logger.error("Error when task running in YedisExecutor", e);
                 } catch (Error e) {
-                    // 遇到task运行时异常，则记log（实际上FutureTask的run方法不会抛出任何异常）
                     logger.error("Error when task running in YedisExecutor", e);
                 } catch (Throwable e) {
-                    // 遇到task运行时异常，则记log（实际上FutureTask的run方法不会抛出任何异常）
                     logger.error("Error when task running in YedisExecutor", e);
-                } finally {
-                    ThreadLocalHolder.jedisHolder.remove();
+                }
+            }
+        }
+
+        /**
+         * 自动pipeline：从队列中凑一批操作，支持pipeline的操作一次性发送，再按顺序读取结果。<br>
+         * 不支持pipeline的操作会先sync之前已发送的操作，再单独执行，因此批次内的顺序不变。
+         */
+        private void runBatch(AsyncOperation<?> first) throws InterruptedException {
+            batch.add(first);
+            try {
+                fillBatch();
+                executeBatch();
+            } catch (JedisConnectionException e) {
+                // 网络问题，整批失败，由run()关闭连接
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).setException(new YedisNetworkException(e.getMessage(), e));
+                }
+                throw e;
+            } finally {
+                // 被中断等情况下没有执行的操作，直接cancel
+                for (int i = 0; i < batch.size(); i++) {
+                    AsyncOperation<?> task = batch.get(i);
+                    if (!task.isDone()) {
+                        task.cancel(false);
+                    }
+                }
+                batch.clear();
+            }
+        }
+
+        private void fillBatch() throws InterruptedException {
+            AsyncOperation<?> task;
+            while (batch.size() < autoPipelineBatchSize && (task = queue.pollFirst()) != null) {
+                batch.add(task);
+            }
+            if (autoPipelineWaitNanos > 0 && batch.size() < autoPipelineBatchSize) {
+                long deadline = System.nanoTime() + autoPipelineWaitNanos;
+                long remaining;
+                while (batch.size() < autoPipelineBatchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                    task = queue.pollFirst(remaining, TimeUnit.NANOSECONDS);
+                    if (task == null) {
+                        break;
+                    }
+                    batch.add(task);
+                }
+            }
+        }
+
+        private void executeBatch() {
+            Pipeline pipeline = null;
+            long now = System.nanoTime();
+            // [from, i) 是已经发送到pipeline、尚未读取结果的区间
+            int from = 0;
+            int i = 0;
+            for (; i < batch.size(); i++) {
+                AsyncOperation<?> task = batch.get(i);
+                if (task.expireIfOverdue(now)) {
+                    // 已超时、已取消或已过截止时间的task不再执行
+                    continue;
+                }
+                if (pipeline == null) {
+                    pipeline = jedis.pipelined();
+                }
+                if (!task.sendTo(pipeline)) {
+                    sync(pipeline, from, i);
+                    task.run(jedis);
+                    from = i + 1;
+                }
+            }
+            if (pipeline != null) {
+                sync(pipeline, from, i);
+            }
+        }
+
+        private void sync(Pipeline pipeline, int from, int to) {
+            if (from < to) {
+                pipeline.sync();
+                for (int i = from; i < to; i++) {
+                    batch.get(i).completeFromResponse();
                 }
             }
         }
@@ -0,0 +1,144 @@
+package com.yeahmobi.yedis.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.pipeline.PipelineJedisPool;
+
+/**
+ * 基于NIO的CommandExecutor：每个redis只建立multiplexedConnections个非阻塞连接，所有Yedis共享一个selector线程。<br>
+ * 支持pipeline的操作（覆盖了AsyncOperation.pipeline()）在连接上复用发送；其他操作由共享的线程池通过PipelineJedisPool执行。<br>
+ * 复用发送的操作在selector线程中完成，以directExecutor注册的回调会阻塞该线程上所有连接的读写。
+ */
+public class NioCommandExecutor implements CommandExecutor {
+
+    // 所有NioCommandExecutor共享，执行不支持pipeline的操作，空闲线程会被回收
+    private static final ExecutorService BLOCKING_EXECUTOR;
+    static {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Yedis-Blocking-%d").build();
+        BLOCKING_EXECUTOR = Executors.newCachedThreadPool(threadFactory);
+    }
+
+    private final AtomicBoolean          shutdown          = new AtomicBoolean(false);
+
+    private final AtomicInteger          connectionIndex   = new AtomicInteger(0);
+
+    private final AtomConfig             config;
+
+    private final PipelineJedisPool      jedisPool;
+
+    private NioConnection[]              connections;
+
+    public NioCommandExecutor(AtomConfig config, PipelineJedisPool jedisPool) {
+        if (config == null || jedisPool == null) {
+            throw new IllegalArgumentException("Argument cannot be null.");
+        }
+
+        this.config = config;
+        this.jedisPool = jedisPool;
+    }
+
+    @Override
+    public void start() {
+        NioEventLoop loop = NioEventLoop.getInstance();
+        NioConnection[] connections = new NioConnection[Math.max(1, config.getMultiplexedConnections())];
+        for (int i = 0; i < connections.length; i++) {
+            connections[i] = new NioConnection(loop, config, this);
+        }
+        this.connections = connections;
+    }
+
+    @Override
+    public void shutdown() {
+        if (shutdown.compareAndSet(false, true)) {
+            for (NioConnection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown.get();
+    }
+
+    @Override
+    public <T> AsyncOperation<T> submit(AsyncOperation<T> opr) {
+        if (shutdown.get()) {
+            throw new IllegalStateException("It is already closed.");
+        }
+        if (opr == null) throw new NullPointerException();
+
+        connections[Math.abs(connectionIndex.getAndIncrement() % connections.length)].submit(opr);
+
+        return opr;
+    }
+
+    @Override
+    public <T> AsyncOperation<T> execute(AsyncOperation<T> opr) {
+        return submit(opr);
+    }
+
+    @Override
+    public int[] getQueueDepths() {
+        NioConnection[] connections = this.connections;
+        int[] depths = new int[connections.length];
+        for (int i = 0; i < connections.length; i++) {
+            depths[i] = connections[i].getQueueDepth();
+        }
+        return depths;
+    }
+
+    @Override
+    public ListenableFuture<Boolean> prewarm() {
+        if (shutdown.get()) {
+            throw new IllegalStateException("It is already closed.");
+        }
+        NioConnection[] connections = this.connections;
+        List<PingOperation> pings = new ArrayList<PingOperation>(connections.length);
+        for (NioConnection connection : connections) {
+            PingOperation ping = new PingOperation();
+            connection.submit(ping);
+            pings.add(ping);
+        }
+        return PingOperation.all(pings);
+    }
+
+    void runBlocking(final AsyncOperation<?> opr) {
+        BLOCKING_EXECUTOR.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                if (opr.isDone()) {
+                    return;
+                }
+                Jedis jedis;
+                try {
+                    jedis = jedisPool.getJedis();
+                } catch (RuntimeException e) {
+                    opr.setException(new YedisNetworkException(e.getMessage(), e));
+                    return;
+                }
+                try {
+                    opr.run(jedis);
+                    jedisPool.returnJedis(jedis);
+                } catch (JedisConnectionException e) {
+                    jedisPool.returnBrokenJedis(jedis);
+                }
+            }
+        });
+    }
+
+}
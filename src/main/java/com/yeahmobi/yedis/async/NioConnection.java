@@ -0,0 +1,395 @@
+package com.yeahmobi.yedis.async;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.util.SleepStrategy;
+
+/**
+ * 一个非阻塞的redis连接，多个调用方的命令以pipeline的方式复用该连接，reply按发送顺序对应到操作。<br>
+ * 除submit()和close()外，所有方法都只在NioEventLoop线程中调用。
+ */
+final class NioConnection {
+
+    private static final Logger                             logger        = LoggerFactory.getLogger(NioConnection.class);
+
+    private static final int                                DISCONNECTED  = 0;
+    private static final int                                CONNECTING    = 1;
+    private static final int                                CONNECTED     = 2;
+    private static final int                                CLOSED        = 3;
+
+    private static final int                                BUFFER_SIZE   = 16 * 1024;
+
+    private final NioEventLoop                              loop;
+
+    private final AtomConfig                                config;
+
+    private final NioCommandExecutor                        executor;
+
+    private final long                                      timeoutNanos;
+
+    private final ConcurrentLinkedQueue<AsyncOperation<?>>  pending       = new ConcurrentLinkedQueue<AsyncOperation<?>>();
+
+    private final AtomicBoolean                             scheduled     = new AtomicBoolean(false);
+
+    private volatile boolean                                closed;
+
+    // 已发送、等待reply的操作
+    private final ArrayDeque<AsyncOperation<?>>             inflight      = new ArrayDeque<AsyncOperation<?>>();
+
+    private final SleepStrategy                             sleepStrategy = new SleepStrategy();
+
+    private final RespParser                                parser        = new RespParser();
+
+    private RecordingPipeline                               pipeline      = new RecordingPipeline();
+
+    private ByteBuffer                                      readBuffer    = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private SocketChannel                                   channel;
+
+    private SelectionKey                                    key;
+
+    private int                                             state         = DISCONNECTED;
+
+    // CONNECTING时为连接超时的时间点，DISCONNECTED时为下次重连的时间点
+    private long                                            deadline;
+
+    // 最近一次收到reply（或开始等待reply）的时间
+    private long                                            progressAt;
+
+    // 是否已由NioEventLoop定时检查
+    boolean                                                 tracked;
+
+    NioConnection(NioEventLoop loop, AtomConfig config, NioCommandExecutor executor) {
+        this.loop = loop;
+        this.config = config;
+        this.executor = executor;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getSocketTimeout());
+        // 首次连接立即进行：event loop的now取自本轮select之后，可能略早于构造的时间
+        this.deadline = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+    }
+
+    void submit(AsyncOperation<?> opr) {
+        if (closed) {
+            opr.setException(new YedisNetworkException("Connection to " + config.getHost() + ":" + config.getPort()
+                                                        + " is closed."));
+            return;
+        }
+        pending.add(opr);
+        if (scheduled.compareAndSet(false, true)) {
+            loop.schedule(this);
+        }
+    }
+
+    /**
+     * 尚未发送的操作数（遍历队列，仅用于监控）
+     */
+    int getQueueDepth() {
+        return pending.size();
+    }
+
+    void close() {
+        closed = true;
+        loop.schedule(this);
+    }
+
+    boolean isClosed() {
+        return state == CLOSED;
+    }
+
+    void process(long now) {
+        scheduled.set(false);
+        if (closed) {
+            doClose();
+            return;
+        }
+        switch (state) {
+            case DISCONNECTED:
+                if (now - deadline >= 0) {
+                    connect(now);
+                } else {
+                    failPending();
+                }
+                break;
+            case CONNECTED:
+                drainPending(now);
+                break;
+            default:
+                // 连接建立后再发送
+                break;
+        }
+    }
+
+    void tick(long now) {
+        switch (state) {
+            case CONNECTING:
+                if (now - deadline > 0) {
+                    failure(new ConnectException("Connect timed out"), now);
+                }
+                break;
+            case CONNECTED:
+                if (!inflight.isEmpty() && now - progressAt > timeoutNanos) {
+                    failure(new SocketTimeoutException("Read timed out"), now);
+                }
+                break;
+            case DISCONNECTED:
+                if (!pending.isEmpty()) {
+                    process(now);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    void handle(SelectionKey key, long now) {
+        try {
+            if (key.isConnectable()) {
+                channel.finishConnect();
+                connected(now);
+            }
+            if (key.isValid() && key.isReadable()) {
+                read(now);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write();
+            }
+        } catch (CancelledKeyException e) {
+            // 连接已关闭
+        } catch (IOException e) {
+            failure(e, now);
+        } catch (RuntimeException e) {
+            failure(e, now);
+        }
+    }
+
+    private void connect(long now) {
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            channel.socket().setKeepAlive(true);
+            if (channel.connect(new InetSocketAddress(config.getHost(), config.getPort()))) {
+                key = channel.register(loop.selector(), SelectionKey.OP_READ, this);
+                connected(now);
+            } else {
+                key = channel.register(loop.selector(), SelectionKey.OP_CONNECT, this);
+                state = CONNECTING;
+                deadline = now + timeoutNanos;
+            }
+        } catch (IOException e) {
+            failure(e, now);
+        }
+    }
+
+    private void connected(long now) {
+        key.interestOps(SelectionKey.OP_READ);
+        state = CONNECTED;
+        sleepStrategy.reset();
+        logger.info("Connected to " + config.getHost() + ":" + config.getPort());
+
+        if (config.getPassword() != null) {
+            send(new HandshakeOperation() {
+
+                @Override
+                public Response<String> pipeline(Pipeline pipeline) {
+                    return ((RecordingPipeline) pipeline).auth(config.getPassword());
+                }
+            }, now);
+        }
+        if (config.getDatabase() != 0) {
+            send(new HandshakeOperation() {
+
+                @Override
+                public Response<String> pipeline(Pipeline pipeline) {
+                    return pipeline.select(config.getDatabase());
+                }
+            }, now);
+        }
+        drainPending(now);
+    }
+
+    private void drainPending(long now) {
+        AsyncOperation<?> opr;
+        while ((opr = pending.poll()) != null) {
+            // 已超时、已取消或已过截止时间的操作不再发送
+            if (!opr.expireIfOverdue(now)) {
+                send(opr, now);
+            }
+        }
+        write();
+    }
+
+    private void send(AsyncOperation<?> opr, long now) {
+        boolean sent;
+        try {
+            sent = opr.sendTo(pipeline);
+        } catch (RuntimeException e) {
+            opr.setException(new YedisNetworkException(e.getMessage(), e));
+            return;
+        }
+        if (sent) {
+            if (inflight.isEmpty()) {
+                progressAt = now;
+            }
+            inflight.add(opr);
+        } else {
+            // 不支持pipeline的操作，交给阻塞的连接池执行
+            executor.runBlocking(opr);
+        }
+    }
+
+    private void write() {
+        RecordingPipeline.OutputBuffer buffer = pipeline.buffer();
+        if (buffer.size() == 0) {
+            return;
+        }
+        try {
+            ByteBuffer src = ByteBuffer.wrap(buffer.array(), 0, buffer.size());
+            channel.write(src);
+            buffer.consume(src.position());
+        } catch (IOException e) {
+            failure(e, System.nanoTime());
+            return;
+        }
+        // 未写完的数据等socket可写时继续写
+        key.interestOps(buffer.size() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    private void read(long now) throws IOException {
+        if (channel.read(readBuffer) < 0) {
+            throw new EOFException("Connection closed by server");
+        }
+        progressAt = now;
+
+        parser.reset(readBuffer.array(), 0, readBuffer.position());
+        Object reply;
+        while ((reply = parser.next()) != RespParser.INCOMPLETE) {
+            AsyncOperation<?> opr = inflight.poll();
+            if (opr == null) {
+                throw new IOException("Unexpected reply without pending command");
+            }
+            pipeline.reply(reply);
+            opr.completeFromResponse();
+        }
+
+        // 保留不完整的reply，缓冲区满时扩容
+        int consumed = parser.position();
+        int remaining = readBuffer.position() - consumed;
+        if (consumed > 0) {
+            System.arraycopy(readBuffer.array(), consumed, readBuffer.array(), 0, remaining);
+            readBuffer.position(remaining);
+        }
+        if (!readBuffer.hasRemaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(readBuffer.capacity() * 2);
+            readBuffer.flip();
+            larger.put(readBuffer);
+            readBuffer = larger;
+        } else if (remaining == 0 && readBuffer.capacity() > BUFFER_SIZE) {
+            readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+    }
+
+    private void failure(Exception cause, long now) {
+        logger.error("Error when connecting to " + config.getHost() + ":" + config.getPort() + " in YedisExecutor: "
+                     + cause.getMessage());
+        closeChannel();
+        state = DISCONNECTED;
+        deadline = now + TimeUnit.MILLISECONDS.toNanos(sleepStrategy.next());
+
+        AsyncOperation<?> opr;
+        while ((opr = inflight.poll()) != null) {
+            opr.setException(new YedisNetworkException(cause.getMessage(), cause));
+        }
+        failPending();
+    }
+
+    private void failPending() {
+        AsyncOperation<?> opr;
+        while ((opr = pending.poll()) != null) {
+            opr.setException(new YedisNetworkException("Not connected to " + config.getHost() + ":"
+                                                        + config.getPort()));
+        }
+    }
+
+    private void doClose() {
+        AsyncOperation<?> opr;
+        if (state != CLOSED) {
+            closeChannel();
+            state = CLOSED;
+            while ((opr = inflight.poll()) != null) {
+                opr.cancel(true);
+            }
+            logger.info("Closed from " + config.getHost() + ":" + config.getPort());
+        }
+        // 与close()并发submit的操作可能在关闭之后才入队，每次都要取消
+        while ((opr = pending.poll()) != null) {
+            opr.cancel(true);
+        }
+    }
+
+    private void closeChannel() {
+        if (key != null) {
+            key.cancel();
+            key = null;
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+            channel = null;
+        }
+        pipeline = new RecordingPipeline();
+        readBuffer.clear();
+    }
+
+    /**
+     * 连接建立后的AUTH和SELECT，结果只记录log
+     */
+    private abstract class HandshakeOperation extends AsyncOperation<String> {
+
+        HandshakeOperation() {
+            addListener(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        get();
+                    } catch (Exception e) {
+                        logger.error("Error when initializing connection to " + config.getHost() + ":"
+                                     + config.getPort(), e);
+                    }
+                }
+            }, MoreExecutors.directExecutor());
+        }
+
+        @Override
+        public String execute(Jedis jedis) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.yeahmobi.yedis.async;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yeahmobi.yedis.common.YedisException;
+
+/**
+ * 所有MULTIPLEXED传输的连接共享的selector线程，线程数不随shard和slave的数量增长。
+ */
+final class NioEventLoop extends Thread {
+
+    private static final Logger                        logger      = LoggerFactory.getLogger(NioEventLoop.class);
+
+    private static final long                          TICK_MILLIS = 10;
+
+    private static NioEventLoop                        instance;
+
+    private final Selector                             selector;
+
+    // 有新操作或需要关闭的连接
+    private final ConcurrentLinkedQueue<NioConnection> ready       = new ConcurrentLinkedQueue<NioConnection>();
+
+    private final AtomicBoolean                        wakenUp     = new AtomicBoolean(false);
+
+    // 需要定时检查超时和重连的连接，仅由selector线程访问
+    private final List<NioConnection>                  connections = new ArrayList<NioConnection>();
+
+    static synchronized NioEventLoop getInstance() {
+        if (instance == null) {
+            instance = new NioEventLoop();
+            instance.start();
+        }
+        return instance;
+    }
+
+    private NioEventLoop() {
+        super("Yedis-NIO");
+        this.setDaemon(true);
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new YedisException(e.getMessage(), e);
+        }
+    }
+
+    Selector selector() {
+        return selector;
+    }
+
+    /**
+     * 通知selector线程处理该连接，可在任意线程调用
+     */
+    void schedule(NioConnection connection) {
+        ready.add(connection);
+        if (Thread.currentThread() != this && wakenUp.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    public void run() {
+        long lastTick = System.nanoTime();
+        while (true) {
+            try {
+                wakenUp.set(false);
+                if (ready.isEmpty()) {
+                    selector.select(TICK_MILLIS);
+                } else {
+                    selector.selectNow();
+                }
+
+                long now = System.nanoTime();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    ((NioConnection) key.attachment()).handle(key, now);
+                }
+
+                NioConnection connection;
+                while ((connection = ready.poll()) != null) {
+                    if (!connection.tracked) {
+                        connection.tracked = true;
+                        connections.add(connection);
+                    }
+                    connection.process(now);
+                }
+
+                if (now - lastTick >= TICK_MILLIS * 1000000L) {
+                    lastTick = now;
+                    Iterator<NioConnection> it = connections.iterator();
+                    while (it.hasNext()) {
+                        connection = it.next();
+                        if (connection.isClosed()) {
+                            it.remove();
+                        } else {
+                            connection.tick(now);
+                        }
+                    }
+                }
+            } catch (Throwable e) {
+                logger.error("Error in Yedis NIO event loop", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.yeahmobi.yedis.async;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * 预热连接时发送到每个连接上的PING，支持pipeline，因此多路复用的连接也能执行
+ */
+final class PingOperation extends AsyncOperation<String> {
+
+    @Override
+    public String execute(Jedis jedis) {
+        return jedis.ping();
+    }
+
+    @Override
+    public Response<String> pipeline(Pipeline pipeline) {
+        return pipeline.ping();
+    }
+
+    /**
+     * 所有PING都成功时以true结束，有一个失败时以false结束并取消剩下的；取消返回的future会取消所有PING
+     */
+    static ListenableFuture<Boolean> all(final List<PingOperation> pings) {
+        final SettableFuture<Boolean> result = SettableFuture.create();
+        if (pings.isEmpty()) {
+            result.set(true);
+            return result;
+        }
+        final AtomicInteger remaining = new AtomicInteger(pings.size());
+        for (final PingOperation ping : pings) {
+            ping.addListener(new Runnable() {
+
+                @Override
+                public void run() {
+                    if (succeeded(ping)) {
+                        if (remaining.decrementAndGet() == 0) {
+                            result.set(true);
+                        }
+                    } else {
+                        result.set(false);
+                        cancelAll(pings);
+                    }
+                }
+            }, MoreExecutors.directExecutor());
+        }
+        result.addListener(new Runnable() {
+
+            @Override
+            public void run() {
+                if (result.isCancelled()) {
+                    cancelAll(pings);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    private static boolean succeeded(PingOperation ping) {
+        if (ping.isCancelled()) {
+            return false;
+        }
+        try {
+            ping.get();
+            return true;
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void cancelAll(List<PingOperation> pings) {
+        for (PingOperation ping : pings) {
+            ping.cancel(false);
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.yeahmobi.yedis.async;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.util.RedisOutputStream;
+
+/**
+ * 不直接访问socket的Pipeline：命令按RESP编码到内存缓冲区，由NioConnection负责写出；
+ * 读到reply后通过reply()按发送顺序设置到对应的Response中。
+ */
+final class RecordingPipeline extends Pipeline {
+
+    private static final byte[][] EMPTY_ARGS = new byte[0][];
+
+    private final OutputBuffer    buffer     = new OutputBuffer();
+
+    private final RecordingClient client     = new RecordingClient(new RedisOutputStream(buffer));
+
+    RecordingPipeline() {
+        setClient(client);
+    }
+
+    Response<String> auth(String password) {
+        client.auth(password);
+        return getResponse(BuilderFactory.STRING);
+    }
+
+    /**
+     * 按发送顺序设置下一个Response的数据
+     */
+    void reply(Object data) {
+        generateResponse(data);
+    }
+
+    /**
+     * 已编码、尚未写出的数据
+     */
+    OutputBuffer buffer() {
+        client.flushOutput();
+        return buffer;
+    }
+
+    static final class OutputBuffer extends ByteArrayOutputStream {
+
+        OutputBuffer() {
+            super(8192);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+
+        /**
+         * 丢弃已写出的前n个字节
+         */
+        void consume(int n) {
+            System.arraycopy(buf, n, buf, 0, count - n);
+            count -= n;
+        }
+    }
+
+    private static final class RecordingClient extends Client {
+
+        private final RedisOutputStream out;
+
+        RecordingClient(RedisOutputStream out) {
+            super("localhost");
+            this.out = out;
+        }
+
+        @Override
+        public void connect() {
+            // 由NioConnection负责连接
+        }
+
+        @Override
+        protected Connection sendCommand(Command cmd, byte[]... args) {
+            Protocol.sendCommand(out, cmd, args);
+            return this;
+        }
+
+        @Override
+        protected Connection sendCommand(Command cmd) {
+            return sendCommand(cmd, EMPTY_ARGS);
+        }
+
+        void flushOutput() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new JedisConnectionException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.yeahmobi.yedis.async;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.util.SafeEncoder;
+
+/**
+ * 非阻塞的RESP解析：在缓冲区中解析完整的reply，数据不完整时返回INCOMPLETE并保持位置不变。<br>
+ * 解析结果与Protocol.read()一致（错误reply作为JedisDataException对象返回，与Connection.getAll()一致），可直接设置到Response中。
+ */
+final class RespParser {
+
+    static final Object INCOMPLETE = new Object();
+
+    private byte[]      buf;
+
+    private int         pos;
+
+    private int         limit;
+
+    void reset(byte[] buf, int pos, int limit) {
+        this.buf = buf;
+        this.pos = pos;
+        this.limit = limit;
+    }
+
+    int position() {
+        return pos;
+    }
+
+    /**
+     * 解析下一个完整的reply
+     */
+    Object next() {
+        int start = pos;
+        Object reply = parse();
+        if (reply == INCOMPLETE) {
+            pos = start;
+        }
+        return reply;
+    }
+
+    private Object parse() {
+        if (pos >= limit) {
+            return INCOMPLETE;
+        }
+        byte type = buf[pos++];
+        int lineEnd = lineEnd();
+        if (lineEnd < 0) {
+            return INCOMPLETE;
+        }
+        int lineStart = pos;
+        pos = lineEnd + 2;
+        switch (type) {
+            case '+':
+                return Arrays.copyOfRange(buf, lineStart, lineEnd);
+            case '-':
+                return new JedisDataException(SafeEncoder.encode(Arrays.copyOfRange(buf, lineStart, lineEnd)));
+            case ':':
+                return Long.valueOf(parseLong(lineStart, lineEnd));
+            case '$': {
+                int len = (int) parseLong(lineStart, lineEnd);
+                if (len < 0) {
+                    return null;
+                }
+                if (limit - pos < len + 2) {
+                    return INCOMPLETE;
+                }
+                byte[] bulk = Arrays.copyOfRange(buf, pos, pos + len);
+                pos += len + 2;
+                return bulk;
+            }
+            case '*': {
+                int size = (int) parseLong(lineStart, lineEnd);
+                if (size < 0) {
+                    return null;
+                }
+                List<Object> multi = new ArrayList<Object>(size);
+                for (int i = 0; i < size; i++) {
+                    Object element = parse();
+                    if (element == INCOMPLETE) {
+                        return INCOMPLETE;
+                    }
+                    multi.add(element);
+                }
+                return multi;
+            }
+            default:
+                throw new JedisConnectionException("Unknown reply: " + (char) type);
+        }
+    }
+
+    private int lineEnd() {
+        for (int i = pos; i < limit - 1; i++) {
+            if (buf[i] == '\r' && buf[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long parseLong(int from, int to) {
+        boolean negative = buf[from] == '-';
+        long value = 0;
+        for (int i = negative ? from + 1 : from; i < to; i++) {
+            value = value * 10 + (buf[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+}
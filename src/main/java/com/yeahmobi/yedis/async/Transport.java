@@ -0,0 +1,22 @@
+package com.yeahmobi.yedis.async;
+
+/**
+ * Yedis与redis之间的传输方式。
+ */
+public enum Transport {
+    /**
+     * ThreadPerConnection：每个连接一个worker线程，使用阻塞socket，连接数由threadPoolSize决定。
+     */
+    THREAD_PER_CONNECTION,
+    /**
+     * Multiplexed：所有Yedis共享一个selector线程，每个redis只使用少量非阻塞连接，命令以pipeline的方式复用连接。<br>
+     * 不支持pipeline的命令（如阻塞命令、管理命令）由共享的线程池通过连接池执行。
+     */
+    MULTIPLEXED,
+    /**
+     * Direct：没有worker线程，每个操作从连接池（pipelinePoolConfig）借一个连接执行。同步调用在调用线程中执行，
+     * 超时由socketTimeout和连接池的maxWaitMillis控制；异步调用在JDK 21+上使用虚拟线程。
+     */
+    DIRECT;
+
+}
@@ -0,0 +1,1562 @@
+package com.yeahmobi.yedis.atomic;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import redis.clients.jedis.BinaryClient.LIST_POSITION;
+import redis.clients.jedis.BitOP;
+import redis.clients.jedis.BitPosParams;
+import redis.clients.jedis.DebugParams;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.SortingParams;
+import redis.clients.jedis.Tuple;
+import redis.clients.jedis.ZParams;
+import redis.clients.util.Slowlog;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.async.AsyncOperation;
+
+/**
+ * Yedis的非阻塞版本，与Yedis共享同一个JedisPoolExecutor，每个命令都返回ListenableFuture，调用线程不会被阻塞。<br>
+ * 超时仍由AtomConfig.timeout控制，超时后future以YedisTimeoutException结束。<br>
+ * 回调（以directExecutor注册时）在完成操作的线程中执行：worker线程、超时扫描线程，或MULTIPLEXED传输下所有Yedis共享的selector线程，
+ * 因此回调中不能阻塞；耗时的回调请通过addListener(listener, executor)指定线程池。<br>
+ * 通过 {@link Yedis#async()} 获取实例。
+ */
+public final class AsyncYedis {
+
+    private final Yedis yedis;
+
+    AsyncYedis(Yedis yedis) {
+        this.yedis = yedis;
+    }
+
+    public Yedis getYedis() {
+        return yedis;
+    }
+
+    private <T> ListenableFuture<T> submit(AsyncOperation<T> opr) {
+        return yedis.submit(opr);
+    }
+
+    /**
+     * 建立并验证所有连接，全部就绪时future以true结束；调用方负责超时，超时后取消future
+     */
+    public ListenableFuture<Boolean> prewarm() {
+        return yedis.startPrewarm();
+    }
+
+    public ListenableFuture<String> set(String key, String value) {
+        return submit(Operations.set(key, value));
+    }
+
+    public ListenableFuture<String> set(String key, String value, String nxxx, String expx, long time) {
+        return submit(Operations.set(key, value, nxxx, expx, time));
+    }
+
+    public ListenableFuture<String> get(String key) {
+        return submit(Operations.get(key));
+    }
+
+    public ListenableFuture<Boolean> exists(String key) {
+        return submit(Operations.exists(key));
+    }
+
+    public ListenableFuture<Long> del(String... keys) {
+        return submit(Operations.del(keys));
+    }
+
+    public ListenableFuture<Long> del(String key) {
+        return submit(Operations.del(key));
+    }
+
+    public ListenableFuture<String> type(String key) {
+        return submit(Operations.type(key));
+    }
+
+    public ListenableFuture<Set<String>> keys(String pattern) {
+        return submit(Operations.keys(pattern));
+    }
+
+    public ListenableFuture<String> randomKey() {
+        return submit(Operations.randomKey());
+    }
+
+    public ListenableFuture<String> rename(String oldkey, String newkey) {
+        return submit(Operations.rename(oldkey, newkey));
+    }
+
+    public ListenableFuture<Long> renamenx(String oldkey, String newkey) {
+        return submit(Operations.renamenx(oldkey, newkey));
+    }
+
+    public ListenableFuture<Long> expire(String key, int seconds) {
+        return submit(Operations.expire(key, seconds));
+    }
+
+    public ListenableFuture<Long> expireAt(String key, long unixTime) {
+        return submit(Operations.expireAt(key, unixTime));
+    }
+
+    public ListenableFuture<Long> ttl(String key) {
+        return submit(Operations.ttl(key));
+    }
+
+    public ListenableFuture<Long> move(String key, int dbIndex) {
+        return submit(Operations.move(key, dbIndex));
+    }
+
+    public ListenableFuture<String> getSet(String key, String value) {
+        return submit(Operations.getSet(key, value));
+    }
+
+    public ListenableFuture<List<String>> mget(String... keys) {
+        return submit(Operations.mget(keys));
+    }
+
+    public ListenableFuture<Long> setnx(String key, String value) {
+        return submit(Operations.setnx(key, value));
+    }
+
+    public ListenableFuture<String> setex(String key, int seconds, String value) {
+        return submit(Operations.setex(key, seconds, value));
+    }
+
+    public ListenableFuture<String> mset(String... keysvalues) {
+        return submit(Operations.mset(keysvalues));
+    }
+
+    public ListenableFuture<Long> msetnx(String... keysvalues) {
+        return submit(Operations.msetnx(keysvalues));
+    }
+
+    public ListenableFuture<Long> decrBy(String key, long integer) {
+        return submit(Operations.decrBy(key, integer));
+    }
+
+    public ListenableFuture<Long> decr(String key) {
+        return submit(Operations.decr(key));
+    }
+
+    public ListenableFuture<Long> incrBy(String key, long integer) {
+        return submit(Operations.incrBy(key, integer));
+    }
+
+    public ListenableFuture<Double> incrByFloat(String key, double value) {
+        return submit(Operations.incrByFloat(key, value));
+    }
+
+    public ListenableFuture<Long> incr(String key) {
+        return submit(Operations.incr(key));
+    }
+
+    public ListenableFuture<Long> append(String key, String value) {
+        return submit(Operations.append(key, value));
+    }
+
+    public ListenableFuture<String> substr(String key, int start, int end) {
+        return submit(Operations.substr(key, start, end));
+    }
+
+    public ListenableFuture<Long> hset(String key, String field, String value) {
+        return submit(Operations.hset(key, field, value));
+    }
+
+    public ListenableFuture<String> hget(String key, String field) {
+        return submit(Operations.hget(key, field));
+    }
+
+    public ListenableFuture<Long> hsetnx(String key, String field, String value) {
+        return submit(Operations.hsetnx(key, field, value));
+    }
+
+    public ListenableFuture<String> hmset(String key, Map<String, String> hash) {
+        return submit(Operations.hmset(key, hash));
+    }
+
+    public ListenableFuture<List<String>> hmget(String key, String... fields) {
+        return submit(Operations.hmget(key, fields));
+    }
+
+    public ListenableFuture<Long> hincrBy(String key, String field, long value) {
+        return submit(Operations.hincrBy(key, field, value));
+    }
+
+    public ListenableFuture<Double> hincrByFloat(String key, String field, double value) {
+        return submit(Operations.hincrByFloat(key, field, value));
+    }
+
+    public ListenableFuture<Boolean> hexists(String key, String field) {
+        return submit(Operations.hexists(key, field));
+    }
+
+    public ListenableFuture<Long> hdel(String key, String... fields) {
+        return submit(Operations.hdel(key, fields));
+    }
+
+    public ListenableFuture<Long> hlen(String key) {
+        return submit(Operations.hlen(key));
+    }
+
+    public ListenableFuture<Set<String>> hkeys(String key) {
+        return submit(Operations.hkeys(key));
+    }
+
+    public ListenableFuture<List<String>> hvals(String key) {
+        return submit(Operations.hvals(key));
+    }
+
+    public ListenableFuture<Map<String, String>> hgetAll(String key) {
+        return submit(Operations.hgetAll(key));
+    }
+
+    public ListenableFuture<Long> rpush(String key, String... strings) {
+        return submit(Operations.rpush(key, strings));
+    }
+
+    public ListenableFuture<Long> lpush(String key, String... strings) {
+        return submit(Operations.lpush(key, strings));
+    }
+
+    public ListenableFuture<Long> llen(String key) {
+        return submit(Operations.llen(key));
+    }
+
+    public ListenableFuture<List<String>> lrange(String key, long start, long end) {
+        return submit(Operations.lrange(key, start, end));
+    }
+
+    public ListenableFuture<String> ltrim(String key, long start, long end) {
+        return submit(Operations.ltrim(key, start, end));
+    }
+
+    public ListenableFuture<String> lindex(String key, long index) {
+        return submit(Operations.lindex(key, index));
+    }
+
+    public ListenableFuture<String> lset(String key, long index, String value) {
+        return submit(Operations.lset(key, index, value));
+    }
+
+    public ListenableFuture<Long> lrem(String key, long count, String value) {
+        return submit(Operations.lrem(key, count, value));
+    }
+
+    public ListenableFuture<String> lpop(String key) {
+        return submit(Operations.lpop(key));
+    }
+
+    public ListenableFuture<String> rpop(String key) {
+        return submit(Operations.rpop(key));
+    }
+
+    public ListenableFuture<String> rpoplpush(String srckey, String dstkey) {
+        return submit(Operations.rpoplpush(srckey, dstkey));
+    }
+
+    public ListenableFuture<Long> sadd(String key, String... members) {
+        return submit(Operations.sadd(key, members));
+    }
+
+    public ListenableFuture<Set<String>> smembers(String key) {
+        return submit(Operations.smembers(key));
+    }
+
+    public ListenableFuture<Long> srem(String key, String... members) {
+        return submit(Operations.srem(key, members));
+    }
+
+    public ListenableFuture<String> spop(String key) {
+        return submit(Operations.spop(key));
+    }
+
+    public ListenableFuture<Long> smove(String srckey, String dstkey, String member) {
+        return submit(Operations.smove(srckey, dstkey, member));
+    }
+
+    public ListenableFuture<Long> scard(String key) {
+        return submit(Operations.scard(key));
+    }
+
+    public ListenableFuture<Boolean> sismember(String key, String member) {
+        return submit(Operations.sismember(key, member));
+    }
+
+    public ListenableFuture<Set<String>> sinter(String... keys) {
+        return submit(Operations.sinter(keys));
+    }
+
+    public ListenableFuture<Long> sinterstore(String dstkey, String... keys) {
+        return submit(Operations.sinterstore(dstkey, keys));
+    }
+
+    public ListenableFuture<Set<String>> sunion(String... keys) {
+        return submit(Operations.sunion(keys));
+    }
+
+    public ListenableFuture<Long> sunionstore(String dstkey, String... keys) {
+        return submit(Operations.sunionstore(dstkey, keys));
+    }
+
+    public ListenableFuture<Set<String>> sdiff(String... keys) {
+        return submit(Operations.sdiff(keys));
+    }
+
+    public ListenableFuture<Long> sdiffstore(String dstkey, String... keys) {
+        return submit(Operations.sdiffstore(dstkey, keys));
+    }
+
+    public ListenableFuture<String> srandmember(String key) {
+        return submit(Operations.srandmember(key));
+    }
+
+    public ListenableFuture<List<String>> srandmember(String key, int count) {
+        return submit(Operations.srandmember(key, count));
+    }
+
+    public ListenableFuture<Long> zadd(String key, double score, String member) {
+        return submit(Operations.zadd(key, score, member));
+    }
+
+    public ListenableFuture<Long> zadd(String key, Map<String, Double> scoreMembers) {
+        return submit(Operations.zadd(key, scoreMembers));
+    }
+
+    public ListenableFuture<Set<String>> zrange(String key, long start, long end) {
+        return submit(Operations.zrange(key, start, end));
+    }
+
+    public ListenableFuture<Long> zrem(String key, String... members) {
+        return submit(Operations.zrem(key, members));
+    }
+
+    public ListenableFuture<Double> zincrby(String key, double score, String member) {
+        return submit(Operations.zincrby(key, score, member));
+    }
+
+    public ListenableFuture<Long> zrank(String key, String member) {
+        return submit(Operations.zrank(key, member));
+    }
+
+    public ListenableFuture<Long> zrevrank(String key, String member) {
+        return submit(Operations.zrevrank(key, member));
+    }
+
+    public ListenableFuture<Set<String>> zrevrange(String key, long start, long end) {
+        return submit(Operations.zrevrange(key, start, end));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeWithScores(String key, long start, long end) {
+        return submit(Operations.zrangeWithScores(key, start, end));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeWithScores(String key, long start, long end) {
+        return submit(Operations.zrevrangeWithScores(key, start, end));
+    }
+
+    public ListenableFuture<Long> zcard(String key) {
+        return submit(Operations.zcard(key));
+    }
+
+    public ListenableFuture<Double> zscore(String key, String member) {
+        return submit(Operations.zscore(key, member));
+    }
+
+    public ListenableFuture<List<String>> sort(String key) {
+        return submit(Operations.sort(key));
+    }
+
+    public ListenableFuture<List<String>> sort(String key, SortingParams sortingParameters) {
+        return submit(Operations.sort(key, sortingParameters));
+    }
+
+    public ListenableFuture<List<String>> blpop(String... keys) {
+        return submit(Operations.blpop(keys));
+    }
+
+    public ListenableFuture<List<String>> blpop(String key) {
+        return submit(Operations.blpop(key));
+    }
+
+    public ListenableFuture<List<String>> blpop(int timeout, String... keys) {
+        return submit(Operations.blpop(timeout, keys));
+    }
+
+    public ListenableFuture<Long> sort(String key, SortingParams sortingParameters, String dstkey) {
+        return submit(Operations.sort(key, sortingParameters, dstkey));
+    }
+
+    public ListenableFuture<Long> sort(String key, String dstkey) {
+        return submit(Operations.sort(key, dstkey));
+    }
+
+    public ListenableFuture<List<String>> brpop(int timeout, String... keys) {
+        return submit(Operations.brpop(timeout, keys));
+    }
+
+    public ListenableFuture<List<String>> brpop(String... keys) {
+        return submit(Operations.brpop(keys));
+    }
+
+    public ListenableFuture<List<String>> brpop(String key) {
+        return submit(Operations.brpop(key));
+    }
+
+    public ListenableFuture<List<byte[]>> brpop(byte[] key) {
+        return submit(Operations.brpop(key));
+    }
+
+    public ListenableFuture<Long> zcount(String key, double min, double max) {
+        return submit(Operations.zcount(key, min, max));
+    }
+
+    public ListenableFuture<Long> zcount(String key, String min, String max) {
+        return submit(Operations.zcount(key, min, max));
+    }
+
+    public ListenableFuture<Set<String>> zrangeByScore(String key, double min, double max) {
+        return submit(Operations.zrangeByScore(key, min, max));
+    }
+
+    public ListenableFuture<Set<String>> zrangeByScore(String key, String min, String max) {
+        return submit(Operations.zrangeByScore(key, min, max));
+    }
+
+    public ListenableFuture<Set<String>> zrangeByScore(String key, double min, double max, int offset, int count) {
+        return submit(Operations.zrangeByScore(key, min, max, offset, count));
+    }
+
+    public ListenableFuture<Set<String>> zrangeByScore(String key, String min, String max, int offset, int count) {
+        return submit(Operations.zrangeByScore(key, min, max, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, double min, double max) {
+        return submit(Operations.zrangeByScoreWithScores(key, min, max));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, String min, String max) {
+        return submit(Operations.zrangeByScoreWithScores(key, min, max));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, double min, double max,
+                                                                int offset, int count) {
+        return submit(Operations.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, String min, String max,
+                                                                int offset, int count) {
+        return submit(Operations.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    public ListenableFuture<Set<String>> zrevrangeByScore(String key, double max, double min) {
+        return submit(Operations.zrevrangeByScore(key, max, min));
+    }
+
+    public ListenableFuture<Set<String>> zrevrangeByScore(String key, String max, String min) {
+        return submit(Operations.zrevrangeByScore(key, max, min));
+    }
+
+    public ListenableFuture<Set<String>> zrevrangeByScore(String key, double max, double min, int offset, int count) {
+        return submit(Operations.zrevrangeByScore(key, max, min, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, double max, double min) {
+        return submit(Operations.zrevrangeByScoreWithScores(key, max, min));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, double max, double min,
+                                                                   int offset, int count) {
+        return submit(Operations.zrevrangeByScoreWithScores(key, max, min, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, String max, String min,
+                                                                   int offset, int count) {
+        return submit(Operations.zrevrangeByScoreWithScores(key, max, min, offset, count));
+    }
+
+    public ListenableFuture<Set<String>> zrevrangeByScore(String key, String max, String min, int offset, int count) {
+        return submit(Operations.zrevrangeByScore(key, max, min, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, String max, String min) {
+        return submit(Operations.zrevrangeByScoreWithScores(key, max, min));
+    }
+
+    public ListenableFuture<Long> zremrangeByRank(String key, long start, long end) {
+        return submit(Operations.zremrangeByRank(key, start, end));
+    }
+
+    public ListenableFuture<Long> zremrangeByScore(String key, double start, double end) {
+        return submit(Operations.zremrangeByScore(key, start, end));
+    }
+
+    public ListenableFuture<Long> zremrangeByScore(String key, String start, String end) {
+        return submit(Operations.zremrangeByScore(key, start, end));
+    }
+
+    public ListenableFuture<Long> zunionstore(String dstkey, String... sets) {
+        return submit(Operations.zunionstore(dstkey, sets));
+    }
+
+    public ListenableFuture<Long> zunionstore(String dstkey, ZParams params, String... sets) {
+        return submit(Operations.zunionstore(dstkey, params, sets));
+    }
+
+    public ListenableFuture<Long> zinterstore(String dstkey, String... sets) {
+        return submit(Operations.zinterstore(dstkey, sets));
+    }
+
+    public ListenableFuture<Long> zinterstore(String dstkey, ZParams params, String... sets) {
+        return submit(Operations.zinterstore(dstkey, params, sets));
+    }
+
+    public ListenableFuture<Long> strlen(String key) {
+        return submit(Operations.strlen(key));
+    }
+
+    public ListenableFuture<Long> lpushx(String key, String... string) {
+        return submit(Operations.lpushx(key, string));
+    }
+
+    public ListenableFuture<Long> lpushx(byte[] key, byte[]... string) {
+        return submit(Operations.lpushx(key, string));
+    }
+
+    public ListenableFuture<Long> persist(String key) {
+        return submit(Operations.persist(key));
+    }
+
+    public ListenableFuture<Long> rpushx(String key, String... string) {
+        return submit(Operations.rpushx(key, string));
+    }
+
+    public ListenableFuture<String> echo(String string) {
+        return submit(Operations.echo(string));
+    }
+
+    public ListenableFuture<Long> linsert(String key, LIST_POSITION where, String pivot, String value) {
+        return submit(Operations.linsert(key, where, pivot, value));
+    }
+
+    public ListenableFuture<String> brpoplpush(String source, String destination, int timeout) {
+        return submit(Operations.brpoplpush(source, destination, timeout));
+    }
+
+    public ListenableFuture<Boolean> setbit(String key, long offset, boolean value) {
+        return submit(Operations.setbit(key, offset, value));
+    }
+
+    public ListenableFuture<Boolean> setbit(String key, long offset, String value) {
+        return submit(Operations.setbit(key, offset, value));
+    }
+
+    public ListenableFuture<Boolean> getbit(String key, long offset) {
+        return submit(Operations.getbit(key, offset));
+    }
+
+    public ListenableFuture<Long> setrange(String key, long offset, String value) {
+        return submit(Operations.setrange(key, offset, value));
+    }
+
+    public ListenableFuture<String> getrange(String key, long startOffset, long endOffset) {
+        return submit(Operations.getrange(key, startOffset, endOffset));
+    }
+
+    public ListenableFuture<Long> bitpos(String key, boolean value) {
+        return submit(Operations.bitpos(key, value));
+    }
+
+    public ListenableFuture<Long> bitpos(String key, boolean value, BitPosParams params) {
+        return submit(Operations.bitpos(key, value, params));
+    }
+
+    public ListenableFuture<List<String>> configGet(String pattern) {
+        return submit(Operations.configGet(pattern));
+    }
+
+    public ListenableFuture<String> configSet(String parameter, String value) {
+        return submit(Operations.configSet(parameter, value));
+    }
+
+    public ListenableFuture<Object> eval(String script, int keyCount, String... params) {
+        return submit(Operations.eval(script, keyCount, params));
+    }
+
+    public ListenableFuture<Object> eval(String script, List<String> keys, List<String> args) {
+        return submit(Operations.eval(script, keys, args));
+    }
+
+    public ListenableFuture<Object> eval(String script) {
+        return submit(Operations.eval(script));
+    }
+
+    public ListenableFuture<Object> evalsha(String script) {
+        return submit(Operations.evalsha(script));
+    }
+
+    public ListenableFuture<Object> evalsha(String sha1, List<String> keys, List<String> args) {
+        return submit(Operations.evalsha(sha1, keys, args));
+    }
+
+    public ListenableFuture<Object> evalsha(String sha1, int keyCount, String... params) {
+        return submit(Operations.evalsha(sha1, keyCount, params));
+    }
+
+    public ListenableFuture<Boolean> scriptExists(String sha1) {
+        return submit(Operations.scriptExists(sha1));
+    }
+
+    public ListenableFuture<List<Boolean>> scriptExists(String... sha1) {
+        return submit(Operations.scriptExists(sha1));
+    }
+
+    public ListenableFuture<String> scriptLoad(String script) {
+        return submit(Operations.scriptLoad(script));
+    }
+
+    public ListenableFuture<List<Slowlog>> slowlogGet() {
+        return submit(Operations.slowlogGet());
+    }
+
+    public ListenableFuture<List<Slowlog>> slowlogGet(long entries) {
+        return submit(Operations.slowlogGet(entries));
+    }
+
+    public ListenableFuture<Long> objectRefcount(String string) {
+        return submit(Operations.objectRefcount(string));
+    }
+
+    public ListenableFuture<String> objectEncoding(String string) {
+        return submit(Operations.objectEncoding(string));
+    }
+
+    public ListenableFuture<Long> objectIdletime(String string) {
+        return submit(Operations.objectIdletime(string));
+    }
+
+    public ListenableFuture<Long> bitcount(String key) {
+        return submit(Operations.bitcount(key));
+    }
+
+    public ListenableFuture<Long> bitcount(String key, long start, long end) {
+        return submit(Operations.bitcount(key, start, end));
+    }
+
+    public ListenableFuture<Long> bitop(BitOP op, String destKey, String... srcKeys) {
+        return submit(Operations.bitop(op, destKey, srcKeys));
+    }
+
+    public ListenableFuture<byte[]> dump(String key) {
+        return submit(Operations.dump(key));
+    }
+
+    public ListenableFuture<String> restore(String key, int ttl, byte[] serializedValue) {
+        return submit(Operations.restore(key, ttl, serializedValue));
+    }
+
+    @Deprecated
+    public ListenableFuture<Long> pexpire(String key, int milliseconds) {
+        return submit(Operations.pexpire(key, milliseconds));
+    }
+
+    public ListenableFuture<Long> pexpire(String key, long milliseconds) {
+        return submit(Operations.pexpire(key, milliseconds));
+    }
+
+    public ListenableFuture<Long> pexpireAt(String key, long millisecondsTimestamp) {
+        return submit(Operations.pexpireAt(key, millisecondsTimestamp));
+    }
+
+    public ListenableFuture<Long> pttl(String key) {
+        return submit(Operations.pttl(key));
+    }
+
+    public ListenableFuture<String> psetex(String key, int milliseconds, String value) {
+        return submit(Operations.psetex(key, milliseconds, value));
+    }
+
+    public ListenableFuture<String> set(String key, String value, String nxxx) {
+        return submit(Operations.set(key, value, nxxx));
+    }
+
+    public ListenableFuture<String> set(String key, String value, String nxxx, String expx, int time) {
+        return submit(Operations.set(key, value, nxxx, expx, time));
+    }
+
+    public ListenableFuture<String> clientKill(String client) {
+        return submit(Operations.clientKill(client));
+    }
+
+    public ListenableFuture<String> clientSetname(String name) {
+        return submit(Operations.clientSetname(name));
+    }
+
+    public ListenableFuture<String> migrate(String host, int port, String key, int destinationDb, int timeout) {
+        return submit(Operations.migrate(host, port, key, destinationDb, timeout));
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<String>> scan(int cursor) {
+        return submit(Operations.scan(cursor));
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<String>> scan(int cursor, ScanParams params) {
+        return submit(Operations.scan(cursor, params));
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<Entry<String, String>>> hscan(String key, int cursor) {
+        return submit(Operations.hscan(key, cursor));
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<Entry<String, String>>> hscan(String key, int cursor, ScanParams params) {
+        return submit(Operations.hscan(key, cursor, params));
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<String>> sscan(String key, int cursor) {
+        return submit(Operations.sscan(key, cursor));
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<String>> sscan(String key, int cursor, ScanParams params) {
+        return submit(Operations.sscan(key, cursor, params));
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<Tuple>> zscan(String key, int cursor) {
+        return submit(Operations.zscan(key, cursor));
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<Tuple>> zscan(String key, int cursor, ScanParams params) {
+        return submit(Operations.zscan(key, cursor, params));
+    }
+
+    public ListenableFuture<ScanResult<String>> scan(String cursor) {
+        return submit(Operations.scan(cursor));
+    }
+
+    public ListenableFuture<ScanResult<String>> scan(String cursor, ScanParams params) {
+        return submit(Operations.scan(cursor, params));
+    }
+
+    public ListenableFuture<ScanResult<Entry<String, String>>> hscan(String key, String cursor) {
+        return submit(Operations.hscan(key, cursor));
+    }
+
+    public ListenableFuture<ScanResult<Entry<String, String>>> hscan(String key, String cursor, ScanParams params) {
+        return submit(Operations.hscan(key, cursor, params));
+    }
+
+    public ListenableFuture<ScanResult<String>> sscan(String key, String cursor) {
+        return submit(Operations.sscan(key, cursor));
+    }
+
+    public ListenableFuture<ScanResult<String>> sscan(String key, String cursor, ScanParams params) {
+        return submit(Operations.sscan(key, cursor, params));
+    }
+
+    public ListenableFuture<ScanResult<Tuple>> zscan(String key, String cursor) {
+        return submit(Operations.zscan(key, cursor));
+    }
+
+    public ListenableFuture<ScanResult<Tuple>> zscan(String key, String cursor, ScanParams params) {
+        return submit(Operations.zscan(key, cursor, params));
+    }
+
+    public ListenableFuture<Long> pfcount(String key) {
+        return submit(Operations.pfcount(key));
+    }
+
+    public ListenableFuture<Long> pfcount(String... keys) {
+        return submit(Operations.pfcount(keys));
+    }
+
+    public ListenableFuture<String> pfmerge(String destkey, String... sourcekeys) {
+        return submit(Operations.pfmerge(destkey, sourcekeys));
+    }
+
+    public ListenableFuture<String> ping() {
+        return submit(Operations.ping());
+    }
+
+    public ListenableFuture<String> set(byte[] key, byte[] value) {
+        return submit(Operations.set(key, value));
+    }
+
+    public ListenableFuture<String> set(byte[] key, byte[] value, byte[] nxxx, byte[] expx, long time) {
+        return submit(Operations.set(key, value, nxxx, expx, time));
+    }
+
+    public ListenableFuture<byte[]> get(byte[] key) {
+        return submit(Operations.get(key));
+    }
+
+    public ListenableFuture<Boolean> exists(byte[] key) {
+        return submit(Operations.exists(key));
+    }
+
+    public ListenableFuture<Long> del(byte[]... keys) {
+        return submit(Operations.del(keys));
+    }
+
+    public ListenableFuture<Long> del(byte[] key) {
+        return submit(Operations.del(key));
+    }
+
+    public ListenableFuture<String> type(byte[] key) {
+        return submit(Operations.type(key));
+    }
+
+    public ListenableFuture<String> flushDB() {
+        return submit(Operations.flushDB());
+    }
+
+    public ListenableFuture<Set<byte[]>> keys(byte[] pattern) {
+        return submit(Operations.keys(pattern));
+    }
+
+    public ListenableFuture<byte[]> randomBinaryKey() {
+        return submit(Operations.randomBinaryKey());
+    }
+
+    public ListenableFuture<String> rename(byte[] oldkey, byte[] newkey) {
+        return submit(Operations.rename(oldkey, newkey));
+    }
+
+    public ListenableFuture<Long> renamenx(byte[] oldkey, byte[] newkey) {
+        return submit(Operations.renamenx(oldkey, newkey));
+    }
+
+    public ListenableFuture<Long> dbSize() {
+        return submit(Operations.dbSize());
+    }
+
+    public ListenableFuture<Long> expire(byte[] key, int seconds) {
+        return submit(Operations.expire(key, seconds));
+    }
+
+    public ListenableFuture<Long> expireAt(byte[] key, long unixTime) {
+        return submit(Operations.expireAt(key, unixTime));
+    }
+
+    public ListenableFuture<Long> ttl(byte[] key) {
+        return submit(Operations.ttl(key));
+    }
+
+    public ListenableFuture<String> select(int index) {
+        return submit(Operations.select(index));
+    }
+
+    public ListenableFuture<Long> move(byte[] key, int dbIndex) {
+        return submit(Operations.move(key, dbIndex));
+    }
+
+    public ListenableFuture<String> flushAll() {
+        return submit(Operations.flushAll());
+    }
+
+    public ListenableFuture<byte[]> getSet(byte[] key, byte[] value) {
+        return submit(Operations.getSet(key, value));
+    }
+
+    public ListenableFuture<List<byte[]>> mget(byte[]... keys) {
+        return submit(Operations.mget(keys));
+    }
+
+    public ListenableFuture<Long> setnx(byte[] key, byte[] value) {
+        return submit(Operations.setnx(key, value));
+    }
+
+    public ListenableFuture<String> setex(byte[] key, int seconds, byte[] value) {
+        return submit(Operations.setex(key, seconds, value));
+    }
+
+    public ListenableFuture<String> mset(byte[]... keysvalues) {
+        return submit(Operations.mset(keysvalues));
+    }
+
+    public ListenableFuture<Long> msetnx(byte[]... keysvalues) {
+        return submit(Operations.msetnx(keysvalues));
+    }
+
+    public ListenableFuture<Long> decrBy(byte[] key, long integer) {
+        return submit(Operations.decrBy(key, integer));
+    }
+
+    public ListenableFuture<Long> decr(byte[] key) {
+        return submit(Operations.decr(key));
+    }
+
+    public ListenableFuture<Long> incrBy(byte[] key, long integer) {
+        return submit(Operations.incrBy(key, integer));
+    }
+
+    public ListenableFuture<Double> incrByFloat(byte[] key, double integer) {
+        return submit(Operations.incrByFloat(key, integer));
+    }
+
+    public ListenableFuture<Long> incr(byte[] key) {
+        return submit(Operations.incr(key));
+    }
+
+    public ListenableFuture<Long> append(byte[] key, byte[] value) {
+        return submit(Operations.append(key, value));
+    }
+
+    public ListenableFuture<byte[]> substr(byte[] key, int start, int end) {
+        return submit(Operations.substr(key, start, end));
+    }
+
+    public ListenableFuture<Long> hset(byte[] key, byte[] field, byte[] value) {
+        return submit(Operations.hset(key, field, value));
+    }
+
+    public ListenableFuture<byte[]> hget(byte[] key, byte[] field) {
+        return submit(Operations.hget(key, field));
+    }
+
+    public ListenableFuture<Long> hsetnx(byte[] key, byte[] field, byte[] value) {
+        return submit(Operations.hsetnx(key, field, value));
+    }
+
+    public ListenableFuture<String> hmset(byte[] key, Map<byte[], byte[]> hash) {
+        return submit(Operations.hmset(key, hash));
+    }
+
+    public ListenableFuture<List<byte[]>> hmget(byte[] key, byte[]... fields) {
+        return submit(Operations.hmget(key, fields));
+    }
+
+    public ListenableFuture<Long> hincrBy(byte[] key, byte[] field, long value) {
+        return submit(Operations.hincrBy(key, field, value));
+    }
+
+    public ListenableFuture<Double> hincrByFloat(byte[] key, byte[] field, double value) {
+        return submit(Operations.hincrByFloat(key, field, value));
+    }
+
+    public ListenableFuture<Boolean> hexists(byte[] key, byte[] field) {
+        return submit(Operations.hexists(key, field));
+    }
+
+    public ListenableFuture<Long> hdel(byte[] key, byte[]... fields) {
+        return submit(Operations.hdel(key, fields));
+    }
+
+    public ListenableFuture<Long> hlen(byte[] key) {
+        return submit(Operations.hlen(key));
+    }
+
+    public ListenableFuture<Set<byte[]>> hkeys(byte[] key) {
+        return submit(Operations.hkeys(key));
+    }
+
+    public ListenableFuture<List<byte[]>> hvals(byte[] key) {
+        return submit(Operations.hvals(key));
+    }
+
+    public ListenableFuture<Map<byte[], byte[]>> hgetAll(byte[] key) {
+        return submit(Operations.hgetAll(key));
+    }
+
+    public ListenableFuture<Long> rpush(byte[] key, byte[]... strings) {
+        return submit(Operations.rpush(key, strings));
+    }
+
+    public ListenableFuture<Long> lpush(byte[] key, byte[]... strings) {
+        return submit(Operations.lpush(key, strings));
+    }
+
+    public ListenableFuture<Long> llen(byte[] key) {
+        return submit(Operations.llen(key));
+    }
+
+    public ListenableFuture<List<byte[]>> lrange(byte[] key, long start, long end) {
+        return submit(Operations.lrange(key, start, end));
+    }
+
+    public ListenableFuture<String> ltrim(byte[] key, long start, long end) {
+        return submit(Operations.ltrim(key, start, end));
+    }
+
+    public ListenableFuture<byte[]> lindex(byte[] key, long index) {
+        return submit(Operations.lindex(key, index));
+    }
+
+    public ListenableFuture<String> lset(byte[] key, long index, byte[] value) {
+        return submit(Operations.lset(key, index, value));
+    }
+
+    public ListenableFuture<Long> lrem(byte[] key, long count, byte[] value) {
+        return submit(Operations.lrem(key, count, value));
+    }
+
+    public ListenableFuture<byte[]> lpop(byte[] key) {
+        return submit(Operations.lpop(key));
+    }
+
+    public ListenableFuture<byte[]> rpop(byte[] key) {
+        return submit(Operations.rpop(key));
+    }
+
+    public ListenableFuture<byte[]> rpoplpush(byte[] srckey, byte[] dstkey) {
+        return submit(Operations.rpoplpush(srckey, dstkey));
+    }
+
+    public ListenableFuture<Long> sadd(byte[] key, byte[]... members) {
+        return submit(Operations.sadd(key, members));
+    }
+
+    public ListenableFuture<Set<byte[]>> smembers(byte[] key) {
+        return submit(Operations.smembers(key));
+    }
+
+    public ListenableFuture<Long> srem(byte[] key, byte[]... member) {
+        return submit(Operations.srem(key, member));
+    }
+
+    public ListenableFuture<byte[]> spop(byte[] key) {
+        return submit(Operations.spop(key));
+    }
+
+    public ListenableFuture<Long> smove(byte[] srckey, byte[] dstkey, byte[] member) {
+        return submit(Operations.smove(srckey, dstkey, member));
+    }
+
+    public ListenableFuture<Long> scard(byte[] key) {
+        return submit(Operations.scard(key));
+    }
+
+    public ListenableFuture<Boolean> sismember(byte[] key, byte[] member) {
+        return submit(Operations.sismember(key, member));
+    }
+
+    public ListenableFuture<Set<byte[]>> sinter(byte[]... keys) {
+        return submit(Operations.sinter(keys));
+    }
+
+    public ListenableFuture<Long> sinterstore(byte[] dstkey, byte[]... keys) {
+        return submit(Operations.sinterstore(dstkey, keys));
+    }
+
+    public ListenableFuture<Set<byte[]>> sunion(byte[]... keys) {
+        return submit(Operations.sunion(keys));
+    }
+
+    public ListenableFuture<Long> sunionstore(byte[] dstkey, byte[]... keys) {
+        return submit(Operations.sunionstore(dstkey, keys));
+    }
+
+    public ListenableFuture<Set<byte[]>> sdiff(byte[]... keys) {
+        return submit(Operations.sdiff(keys));
+    }
+
+    public ListenableFuture<Long> sdiffstore(byte[] dstkey, byte[]... keys) {
+        return submit(Operations.sdiffstore(dstkey, keys));
+    }
+
+    public ListenableFuture<byte[]> srandmember(byte[] key) {
+        return submit(Operations.srandmember(key));
+    }
+
+    public ListenableFuture<List<byte[]>> srandmember(byte[] key, int count) {
+        return submit(Operations.srandmember(key, count));
+    }
+
+    public ListenableFuture<Long> zadd(byte[] key, double score, byte[] member) {
+        return submit(Operations.zadd(key, score, member));
+    }
+
+    public ListenableFuture<Long> zadd(byte[] key, Map<byte[], Double> scoreMembers) {
+        return submit(Operations.zadd(key, scoreMembers));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrange(byte[] key, long start, long end) {
+        return submit(Operations.zrange(key, start, end));
+    }
+
+    public ListenableFuture<Long> zrem(byte[] key, byte[]... members) {
+        return submit(Operations.zrem(key, members));
+    }
+
+    public ListenableFuture<Double> zincrby(byte[] key, double score, byte[] member) {
+        return submit(Operations.zincrby(key, score, member));
+    }
+
+    public ListenableFuture<Long> zrank(byte[] key, byte[] member) {
+        return submit(Operations.zrank(key, member));
+    }
+
+    public ListenableFuture<Long> zrevrank(byte[] key, byte[] member) {
+        return submit(Operations.zrevrank(key, member));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrange(byte[] key, long start, long end) {
+        return submit(Operations.zrevrange(key, start, end));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeWithScores(byte[] key, long start, long end) {
+        return submit(Operations.zrangeWithScores(key, start, end));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeWithScores(byte[] key, long start, long end) {
+        return submit(Operations.zrevrangeWithScores(key, start, end));
+    }
+
+    public ListenableFuture<Long> zcard(byte[] key) {
+        return submit(Operations.zcard(key));
+    }
+
+    public ListenableFuture<Double> zscore(byte[] key, byte[] member) {
+        return submit(Operations.zscore(key, member));
+    }
+
+    public ListenableFuture<List<byte[]>> sort(byte[] key) {
+        return submit(Operations.sort(key));
+    }
+
+    public ListenableFuture<List<byte[]>> sort(byte[] key, SortingParams sortingParameters) {
+        return submit(Operations.sort(key, sortingParameters));
+    }
+
+    public ListenableFuture<List<byte[]>> blpop(int timeout, byte[]... keys) {
+        return submit(Operations.blpop(timeout, keys));
+    }
+
+    public ListenableFuture<List<byte[]>> blpop(byte[]... keys) {
+        return submit(Operations.blpop(keys));
+    }
+
+    public ListenableFuture<Long> sort(byte[] key, SortingParams sortingParameters, byte[] dstkey) {
+        return submit(Operations.sort(key, sortingParameters, dstkey));
+    }
+
+    public ListenableFuture<Long> sort(byte[] key, byte[] dstkey) {
+        return submit(Operations.sort(key, dstkey));
+    }
+
+    public ListenableFuture<List<byte[]>> brpop(int timeout, byte[]... keys) {
+        return submit(Operations.brpop(timeout, keys));
+    }
+
+    public ListenableFuture<String> auth(String password) {
+        return submit(Operations.auth(password));
+    }
+
+    public ListenableFuture<Long> zcount(byte[] key, double min, double max) {
+        return submit(Operations.zcount(key, min, max));
+    }
+
+    public ListenableFuture<Long> zcount(byte[] key, byte[] min, byte[] max) {
+        return submit(Operations.zcount(key, min, max));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, double min, double max) {
+        return submit(Operations.zrangeByScore(key, min, max));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, byte[] min, byte[] max) {
+        return submit(Operations.zrangeByScore(key, min, max));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, double min, double max, int offset, int count) {
+        return submit(Operations.zrangeByScore(key, min, max, offset, count));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, byte[] min, byte[] max, int offset, int count) {
+        return submit(Operations.zrangeByScore(key, min, max, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, double min, double max) {
+        return submit(Operations.zrangeByScoreWithScores(key, min, max));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max) {
+        return submit(Operations.zrangeByScoreWithScores(key, min, max));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, double min, double max,
+                                                                int offset, int count) {
+        return submit(Operations.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max,
+                                                                int offset, int count) {
+        return submit(Operations.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, double max, double min) {
+        return submit(Operations.zrevrangeByScore(key, max, min));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, byte[] max, byte[] min) {
+        return submit(Operations.zrevrangeByScore(key, max, min));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, double max, double min, int offset, int count) {
+        return submit(Operations.zrevrangeByScore(key, max, min, offset, count));
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, byte[] max, byte[] min, int offset, int count) {
+        return submit(Operations.zrevrangeByScore(key, max, min, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, double max, double min) {
+        return submit(Operations.zrevrangeByScoreWithScores(key, max, min));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, double max, double min,
+                                                                   int offset, int count) {
+        return submit(Operations.zrevrangeByScoreWithScores(key, max, min, offset, count));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min) {
+        return submit(Operations.zrevrangeByScoreWithScores(key, max, min));
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min,
+                                                                   int offset, int count) {
+        return submit(Operations.zrevrangeByScoreWithScores(key, max, min, offset, count));
+    }
+
+    public ListenableFuture<Long> zremrangeByRank(byte[] key, long start, long end) {
+        return submit(Operations.zremrangeByRank(key, start, end));
+    }
+
+    public ListenableFuture<Long> zremrangeByScore(byte[] key, double start, double end) {
+        return submit(Operations.zremrangeByScore(key, start, end));
+    }
+
+    public ListenableFuture<Long> zremrangeByScore(byte[] key, byte[] start, byte[] end) {
+        return submit(Operations.zremrangeByScore(key, start, end));
+    }
+
+    public ListenableFuture<Long> zunionstore(byte[] dstkey, byte[]... sets) {
+        return submit(Operations.zunionstore(dstkey, sets));
+    }
+
+    public ListenableFuture<Long> zunionstore(byte[] dstkey, ZParams params, byte[]... sets) {
+        return submit(Operations.zunionstore(dstkey, params, sets));
+    }
+
+    public ListenableFuture<Long> zinterstore(byte[] dstkey, byte[]... sets) {
+        return submit(Operations.zinterstore(dstkey, sets));
+    }
+
+    public ListenableFuture<Long> zinterstore(byte[] dstkey, ZParams params, byte[]... sets) {
+        return submit(Operations.zinterstore(dstkey, params, sets));
+    }
+
+    public ListenableFuture<String> save() {
+        return submit(Operations.save());
+    }
+
+    public ListenableFuture<String> bgsave() {
+        return submit(Operations.bgsave());
+    }
+
+    public ListenableFuture<String> bgrewriteaof() {
+        return submit(Operations.bgrewriteaof());
+    }
+
+    public ListenableFuture<Long> lastsave() {
+        return submit(Operations.lastsave());
+    }
+
+    public ListenableFuture<String> shutdown() {
+        return submit(Operations.shutdown());
+    }
+
+    public ListenableFuture<String> info() {
+        return submit(Operations.info());
+    }
+
+    public ListenableFuture<String> info(String section) {
+        return submit(Operations.info(section));
+    }
+
+    public ListenableFuture<String> slaveofNoOne() {
+        return submit(Operations.slaveofNoOne());
+    }
+
+    public ListenableFuture<List<byte[]>> configGet(byte[] pattern) {
+        return submit(Operations.configGet(pattern));
+    }
+
+    public ListenableFuture<String> configResetStat() {
+        return submit(Operations.configResetStat());
+    }
+
+    public ListenableFuture<byte[]> configSet(byte[] parameter, byte[] value) {
+        return submit(Operations.configSet(parameter, value));
+    }
+
+    public ListenableFuture<Boolean> isConnected() {
+        return submit(Operations.isConnected());
+    }
+
+    public ListenableFuture<Long> strlen(byte[] key) {
+        return submit(Operations.strlen(key));
+    }
+
+    public ListenableFuture<Long> persist(byte[] key) {
+        return submit(Operations.persist(key));
+    }
+
+    public ListenableFuture<Long> rpushx(byte[] key, byte[]... string) {
+        return submit(Operations.rpushx(key, string));
+    }
+
+    public ListenableFuture<byte[]> echo(byte[] string) {
+        return submit(Operations.echo(string));
+    }
+
+    public ListenableFuture<Long> linsert(byte[] key, LIST_POSITION where, byte[] pivot, byte[] value) {
+        return submit(Operations.linsert(key, where, pivot, value));
+    }
+
+    public ListenableFuture<String> debug(DebugParams params) {
+        return submit(Operations.debug(params));
+    }
+
+    public ListenableFuture<byte[]> brpoplpush(byte[] source, byte[] destination, int timeout) {
+        return submit(Operations.brpoplpush(source, destination, timeout));
+    }
+
+    public ListenableFuture<Boolean> setbit(byte[] key, long offset, boolean value) {
+        return submit(Operations.setbit(key, offset, value));
+    }
+
+    public ListenableFuture<Boolean> setbit(byte[] key, long offset, byte[] value) {
+        return submit(Operations.setbit(key, offset, value));
+    }
+
+    public ListenableFuture<Boolean> getbit(byte[] key, long offset) {
+        return submit(Operations.getbit(key, offset));
+    }
+
+    public ListenableFuture<Long> bitpos(byte[] key, boolean value) {
+        return submit(Operations.bitpos(key, value));
+    }
+
+    public ListenableFuture<Long> bitpos(byte[] key, boolean value, BitPosParams params) {
+        return submit(Operations.bitpos(key, value, params));
+    }
+
+    public ListenableFuture<Long> setrange(byte[] key, long offset, byte[] value) {
+        return submit(Operations.setrange(key, offset, value));
+    }
+
+    public ListenableFuture<byte[]> getrange(byte[] key, long startOffset, long endOffset) {
+        return submit(Operations.getrange(key, startOffset, endOffset));
+    }
+
+    public ListenableFuture<Object> eval(byte[] script, List<byte[]> keys, List<byte[]> args) {
+        return submit(Operations.eval(script, keys, args));
+    }
+
+    public ListenableFuture<Object> eval(byte[] script, byte[] keyCount, byte[]... params) {
+        return submit(Operations.eval(script, keyCount, params));
+    }
+
+    public ListenableFuture<Object> eval(byte[] script, int keyCount, byte[]... params) {
+        return submit(Operations.eval(script, keyCount, params));
+    }
+
+    public ListenableFuture<Object> eval(byte[] script) {
+        return submit(Operations.eval(script));
+    }
+
+    public ListenableFuture<Object> evalsha(byte[] sha1) {
+        return submit(Operations.evalsha(sha1));
+    }
+
+    public ListenableFuture<Object> evalsha(byte[] sha1, List<byte[]> keys, List<byte[]> args) {
+        return submit(Operations.evalsha(sha1, keys, args));
+    }
+
+    public ListenableFuture<Object> evalsha(byte[] sha1, int keyCount, byte[]... params) {
+        return submit(Operations.evalsha(sha1, keyCount, params));
+    }
+
+    public ListenableFuture<String> scriptFlush() {
+        return submit(Operations.scriptFlush());
+    }
+
+    public ListenableFuture<List<Long>> scriptExists(byte[]... sha1) {
+        return submit(Operations.scriptExists(sha1));
+    }
+
+    public ListenableFuture<byte[]> scriptLoad(byte[] script) {
+        return submit(Operations.scriptLoad(script));
+    }
+
+    public ListenableFuture<String> scriptKill() {
+        return submit(Operations.scriptKill());
+    }
+
+    public ListenableFuture<String> slowlogReset() {
+        return submit(Operations.slowlogReset());
+    }
+
+    public ListenableFuture<Long> slowlogLen() {
+        return submit(Operations.slowlogLen());
+    }
+
+    public ListenableFuture<List<byte[]>> slowlogGetBinary() {
+        return submit(Operations.slowlogGetBinary());
+    }
+
+    public ListenableFuture<List<byte[]>> slowlogGetBinary(long entries) {
+        return submit(Operations.slowlogGetBinary(entries));
+    }
+
+    public ListenableFuture<Long> objectRefcount(byte[] key) {
+        return submit(Operations.objectRefcount(key));
+    }
+
+    public ListenableFuture<byte[]> objectEncoding(byte[] key) {
+        return submit(Operations.objectEncoding(key));
+    }
+
+    public ListenableFuture<Long> objectIdletime(byte[] key) {
+        return submit(Operations.objectIdletime(key));
+    }
+
+    public ListenableFuture<Long> bitcount(byte[] key) {
+        return submit(Operations.bitcount(key));
+    }
+
+    public ListenableFuture<Long> bitcount(byte[] key, long start, long end) {
+        return submit(Operations.bitcount(key, start, end));
+    }
+
+    public ListenableFuture<Long> bitop(BitOP op, byte[] destKey, byte[]... srcKeys) {
+        return submit(Operations.bitop(op, destKey, srcKeys));
+    }
+
+    public ListenableFuture<byte[]> dump(byte[] key) {
+        return submit(Operations.dump(key));
+    }
+
+    public ListenableFuture<String> restore(byte[] key, int ttl, byte[] serializedValue) {
+        return submit(Operations.restore(key, ttl, serializedValue));
+    }
+
+    @Deprecated
+    public ListenableFuture<Long> pexpire(byte[] key, int milliseconds) {
+        return submit(Operations.pexpire(key, milliseconds));
+    }
+
+    public ListenableFuture<Long> pexpire(byte[] key, long milliseconds) {
+        return submit(Operations.pexpire(key, milliseconds));
+    }
+
+    public ListenableFuture<Long> pexpireAt(byte[] key, long millisecondsTimestamp) {
+        return submit(Operations.pexpireAt(key, millisecondsTimestamp));
+    }
+
+    public ListenableFuture<Long> pttl(byte[] key) {
+        return submit(Operations.pttl(key));
+    }
+
+    public ListenableFuture<String> psetex(byte[] key, int milliseconds, byte[] value) {
+        return submit(Operations.psetex(key, milliseconds, value));
+    }
+
+    public ListenableFuture<String> set(byte[] key, byte[] value, byte[] nxxx) {
+        return submit(Operations.set(key, value, nxxx));
+    }
+
+    public ListenableFuture<String> set(byte[] key, byte[] value, byte[] nxxx, byte[] expx, int time) {
+        return submit(Operations.set(key, value, nxxx, expx, time));
+    }
+
+    public ListenableFuture<String> clientKill(byte[] client) {
+        return submit(Operations.clientKill(client));
+    }
+
+    public ListenableFuture<String> clientGetname() {
+        return submit(Operations.clientGetname());
+    }
+
+    public ListenableFuture<String> clientList() {
+        return submit(Operations.clientList());
+    }
+
+    public ListenableFuture<String> clientSetname(byte[] name) {
+        return submit(Operations.clientSetname(name));
+    }
+
+    public ListenableFuture<List<String>> time() {
+        return submit(Operations.time());
+    }
+
+    public ListenableFuture<String> migrate(byte[] host, int port, byte[] key, int destinationDb, int timeout) {
+        return submit(Operations.migrate(host, port, key, destinationDb, timeout));
+    }
+
+    public ListenableFuture<Long> waitReplicas(int replicas, long timeout) {
+        return submit(Operations.waitReplicas(replicas, timeout));
+    }
+
+    public ListenableFuture<Long> pfadd(String key, String... elements) {
+        return submit(Operations.pfadd(key, elements));
+    }
+
+    public ListenableFuture<Long> pfadd(byte[] key, byte[]... elements) {
+        return submit(Operations.pfadd(key, elements));
+    }
+
+    public ListenableFuture<Long> pfcount(byte[] key) {
+        return submit(Operations.pfcount(key));
+    }
+
+    public ListenableFuture<String> pfmerge(byte[] destkey, byte[]... sourcekeys) {
+        return submit(Operations.pfmerge(destkey, sourcekeys));
+    }
+
+    public ListenableFuture<Long> pfcount(byte[]... keys) {
+        return submit(Operations.pfcount(keys));
+    }
+
+    public ListenableFuture<ScanResult<byte[]>> scan(byte[] cursor) {
+        return submit(Operations.scan(cursor));
+    }
+
+    public ListenableFuture<ScanResult<byte[]>> scan(byte[] cursor, ScanParams params) {
+        return submit(Operations.scan(cursor, params));
+    }
+
+    public ListenableFuture<ScanResult<Entry<byte[], byte[]>>> hscan(byte[] key, byte[] cursor) {
+        return submit(Operations.hscan(key, cursor));
+    }
+
+    public ListenableFuture<ScanResult<Entry<byte[], byte[]>>> hscan(byte[] key, byte[] cursor, ScanParams params) {
+        return submit(Operations.hscan(key, cursor, params));
+    }
+
+    public ListenableFuture<ScanResult<byte[]>> sscan(byte[] key, byte[] cursor) {
+        return submit(Operations.sscan(key, cursor));
+    }
+
+    public ListenableFuture<ScanResult<byte[]>> sscan(byte[] key, byte[] cursor, ScanParams params) {
+        return submit(Operations.sscan(key, cursor, params));
+    }
+
+    public ListenableFuture<ScanResult<Tuple>> zscan(byte[] key, byte[] cursor) {
+        return submit(Operations.zscan(key, cursor));
+    }
+
+    public ListenableFuture<ScanResult<Tuple>> zscan(byte[] key, byte[] cursor, ScanParams params) {
+        return submit(Operations.zscan(key, cursor, params));
+    }
+
+}
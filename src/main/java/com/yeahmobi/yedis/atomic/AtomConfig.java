@@ -2,6 +2,8 @@ package com.yeahmobi.yedis.atomic;
 
 import redis.clients.jedis.JedisPoolConfig;
 
+import com.yeahmobi.yedis.async.DispatchMode;
+import com.yeahmobi.yedis.async.Transport;
 import com.yeahmobi.yedis.common.ServerInfo;
 
 public class AtomConfig implements Cloneable {
@@ -16,6 +18,8 @@ public class AtomConfig implements Cloneable {
 
     private static final long DEFAULT_MAX_WAIT_MILLIS = 1000;
 
+    public static final int  DEFAULT_WEIGHT = 1;
+
     // host和port
     private ServerInfo       serverInfo;
 
@@ -33,6 +37,33 @@ public class AtomConfig implements Cloneable {
 
     private int              threadPoolSize = 5;
 
+    // 操作分派到连接的方式
+    private DispatchMode     dispatchMode   = DispatchMode.ROUND_ROBIN;
+
+    // 传输方式
+    private Transport        transport      = Transport.THREAD_PER_CONNECTION;
+
+    // MULTIPLEXED传输时每个redis的连接数
+    private int              multiplexedConnections = 1;
+
+    // 自动pipeline时每批最多的操作数，小于等于1表示不开启
+    private int              autoPipelineBatchSize = 1;
+
+    // 自动pipeline时凑批最多等待的微秒数，0表示不等待
+    private long             autoPipelineWaitMicros = 0;
+
+    // THREAD_PER_CONNECTION传输时每个连接最多排队的操作数，队列满时拒绝新的操作（YedisOverloadException），0表示不限制
+    private int              maxQueueSize   = 0;
+
+    // 是否记录每个命令的耗时和失败数（Yedis.getMetrics()）
+    private boolean          metricsEnabled = true;
+
+    // 是否将统计注册到JMX
+    private boolean          jmxEnabled     = false;
+
+    // 作为slave时的权重（WEIGHTED负载均衡时使用）
+    private int              weight         = DEFAULT_WEIGHT;
+
     private String           clientName;
     
     private JedisPoolConfig pipelinePoolConfig = new JedisPoolConfig();
@@ -123,6 +154,81 @@ public class AtomConfig implements Cloneable {
         this.threadPoolSize = threadPoolSize;
     }
 
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public void setDispatchMode(DispatchMode dispatchMode) {
+        this.dispatchMode = dispatchMode;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public int getMultiplexedConnections() {
+        return multiplexedConnections;
+    }
+
+    public void setMultiplexedConnections(int multiplexedConnections) {
+        this.multiplexedConnections = multiplexedConnections;
+    }
+
+    public int getAutoPipelineBatchSize() {
+        return autoPipelineBatchSize;
+    }
+
+    public void setAutoPipelineBatchSize(int autoPipelineBatchSize) {
+        this.autoPipelineBatchSize = autoPipelineBatchSize;
+    }
+
+    public long getAutoPipelineWaitMicros() {
+        return autoPipelineWaitMicros;
+    }
+
+    public void setAutoPipelineWaitMicros(long autoPipelineWaitMicros) {
+        this.autoPipelineWaitMicros = autoPipelineWaitMicros;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public void setMaxQueueSize(int maxQueueSize) {
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize cannot be negative.");
+        }
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
+    public void setJmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
     public String getClientName() {
         return clientName;
     }
@@ -143,7 +249,10 @@ public class AtomConfig implements Cloneable {
     public String toString() {
         return "AtomConfig [serverInfo=" + serverInfo + ", database=" + database + ", password=" + password
                + ", socketTimeout=" + socketTimeout + ", timeout=" + timeout + ", threadPoolSize=" + threadPoolSize
-               + ", clientName=" + clientName + ", pipelinePoolConfig=" + pipelinePoolConfig + "]";
+               + ", dispatchMode=" + dispatchMode + ", transport=" + transport
+               + ", multiplexedConnections=" + multiplexedConnections + ", autoPipelineBatchSize="
+               + autoPipelineBatchSize + ", autoPipelineWaitMicros=" + autoPipelineWaitMicros + ", maxQueueSize=" + maxQueueSize + ", metricsEnabled=" + metricsEnabled
+               + ", jmxEnabled=" + jmxEnabled + ", weight=" + weight + ", clientName=" + clientName + ", pipelinePoolConfig=" + pipelinePoolConfig + "]";
     }
 
 }
@@ -0,0 +1,5196 @@
+package com.yeahmobi.yedis.atomic;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import redis.clients.jedis.BinaryClient.LIST_POSITION;
+import redis.clients.jedis.BitOP;
+import redis.clients.jedis.BitPosParams;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.DebugParams;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.SortingParams;
+import redis.clients.jedis.Tuple;
+import redis.clients.jedis.ZParams;
+import redis.clients.util.Slowlog;
+
+import com.yeahmobi.yedis.async.AsyncOperation;
+
+/**
+ * Yedis和AsyncYedis共用的命令：每个方法构建一个命令的AsyncOperation，同步和异步版本只是提交的方式不同。<br>
+ * 方法名即命令名（见AsyncOperation.getCommandName()），用于按命令统计。
+ */
+final class Operations {
+
+    private Operations() {
+    }
+
+    static AsyncOperation<String> set(final String key, final String value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set(key, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.set(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> set(final String key, final String value, final String nxxx, final String expx,
+                                      final long time) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set(key, value, nxxx, expx, time);
+            }
+        };
+    }
+
+    static AsyncOperation<String> get(final String key) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.get(key);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.get(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> exists(final String key) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.exists(key);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.exists(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> del(final String... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.del(keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.del(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> del(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.del(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.del(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> type(final String key) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.type(key);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.type(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> keys(final String pattern) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.keys(pattern);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.keys(pattern);
+            }
+        };
+    }
+
+    static AsyncOperation<String> randomKey() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.randomKey();
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.randomKey();
+            }
+        };
+    }
+
+    static AsyncOperation<String> rename(final String oldkey, final String newkey) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.rename(oldkey, newkey);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.rename(oldkey, newkey);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> renamenx(final String oldkey, final String newkey) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.renamenx(oldkey, newkey);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.renamenx(oldkey, newkey);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> expire(final String key, final int seconds) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.expire(key, seconds);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.expire(key, seconds);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> expireAt(final String key, final long unixTime) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.expireAt(key, unixTime);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.expireAt(key, unixTime);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> ttl(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.ttl(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.ttl(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> move(final String key, final int dbIndex) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.move(key, dbIndex);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.move(key, dbIndex);
+            }
+        };
+    }
+
+    static AsyncOperation<String> getSet(final String key, final String value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.getSet(key, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.getSet(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> mget(final String... keys) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.mget(keys);
+            }
+
+            @Override
+            public Response<List<String>> pipeline(Pipeline pipeline) {
+                return pipeline.mget(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> setnx(final String key, final String value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.setnx(key, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.setnx(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> setex(final String key, final int seconds, final String value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.setex(key, seconds, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.setex(key, seconds, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> mset(final String... keysvalues) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.mset(keysvalues);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.mset(keysvalues);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> msetnx(final String... keysvalues) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.msetnx(keysvalues);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.msetnx(keysvalues);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> decrBy(final String key, final long integer) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.decrBy(key, integer);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.decrBy(key, integer);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> decr(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.decr(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.decr(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> incrBy(final String key, final long integer) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.incrBy(key, integer);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.incrBy(key, integer);
+            }
+        };
+    }
+
+    static AsyncOperation<Double> incrByFloat(final String key, final double value) {
+        return new AsyncOperation<Double>() {
+
+            @Override
+            public Double execute(Jedis jedis) {
+                return jedis.incrByFloat(key, value);
+            }
+
+            @Override
+            public Response<Double> pipeline(Pipeline pipeline) {
+                return pipeline.incrByFloat(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> incr(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.incr(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.incr(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> append(final String key, final String value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.append(key, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.append(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> substr(final String key, final int start, final int end) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.substr(key, start, end);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.substr(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hset(final String key, final String field, final String value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hset(key, field, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hset(key, field, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> hget(final String key, final String field) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.hget(key, field);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.hget(key, field);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hsetnx(final String key, final String field, final String value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hsetnx(key, field, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hsetnx(key, field, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> hmset(final String key, final Map<String, String> hash) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.hmset(key, hash);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.hmset(key, hash);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> hmget(final String key, final String... fields) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.hmget(key, fields);
+            }
+
+            @Override
+            public Response<List<String>> pipeline(Pipeline pipeline) {
+                return pipeline.hmget(key, fields);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hincrBy(final String key, final String field, final long value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hincrBy(key, field, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hincrBy(key, field, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Double> hincrByFloat(final String key, final String field, final double value) {
+        return new AsyncOperation<Double>() {
+
+            @Override
+            public Double execute(Jedis jedis) {
+                return jedis.hincrByFloat(key, field, value);
+            }
+
+            @Override
+            public Response<Double> pipeline(Pipeline pipeline) {
+                return pipeline.hincrByFloat(key, field, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> hexists(final String key, final String field) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.hexists(key, field);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.hexists(key, field);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hdel(final String key, final String... fields) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hdel(key, fields);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hdel(key, fields);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hlen(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hlen(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hlen(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> hkeys(final String key) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.hkeys(key);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.hkeys(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> hvals(final String key) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.hvals(key);
+            }
+
+            @Override
+            public Response<List<String>> pipeline(Pipeline pipeline) {
+                return pipeline.hvals(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Map<String, String>> hgetAll(final String key) {
+        return new AsyncOperation<Map<String, String>>() {
+
+            @Override
+            public Map<String, String> execute(Jedis jedis) {
+                return jedis.hgetAll(key);
+            }
+
+            @Override
+            public Response<Map<String, String>> pipeline(Pipeline pipeline) {
+                return pipeline.hgetAll(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> rpush(final String key, final String... strings) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.rpush(key, strings);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.rpush(key, strings);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> lpush(final String key, final String... strings) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.lpush(key, strings);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.lpush(key, strings);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> llen(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.llen(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.llen(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> lrange(final String key, final long start, final long end) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.lrange(key, start, end);
+            }
+
+            @Override
+            public Response<List<String>> pipeline(Pipeline pipeline) {
+                return pipeline.lrange(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<String> ltrim(final String key, final long start, final long end) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.ltrim(key, start, end);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.ltrim(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<String> lindex(final String key, final long index) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.lindex(key, index);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.lindex(key, index);
+            }
+        };
+    }
+
+    static AsyncOperation<String> lset(final String key, final long index, final String value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.lset(key, index, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.lset(key, index, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> lrem(final String key, final long count, final String value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.lrem(key, count, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.lrem(key, count, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> lpop(final String key) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.lpop(key);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.lpop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> rpop(final String key) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.rpop(key);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.rpop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> rpoplpush(final String srckey, final String dstkey) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.rpoplpush(srckey, dstkey);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.rpoplpush(srckey, dstkey);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sadd(final String key, final String... members) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sadd(key, members);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sadd(key, members);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> smembers(final String key) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.smembers(key);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.smembers(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> srem(final String key, final String... members) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.srem(key, members);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.srem(key, members);
+            }
+        };
+    }
+
+    static AsyncOperation<String> spop(final String key) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.spop(key);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.spop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> smove(final String srckey, final String dstkey, final String member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.smove(srckey, dstkey, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.smove(srckey, dstkey, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> scard(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.scard(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.scard(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> sismember(final String key, final String member) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.sismember(key, member);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.sismember(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> sinter(final String... keys) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.sinter(keys);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.sinter(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sinterstore(final String dstkey, final String... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sinterstore(dstkey, keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sinterstore(dstkey, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> sunion(final String... keys) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.sunion(keys);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.sunion(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sunionstore(final String dstkey, final String... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sunionstore(dstkey, keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sunionstore(dstkey, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> sdiff(final String... keys) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.sdiff(keys);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.sdiff(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sdiffstore(final String dstkey, final String... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sdiffstore(dstkey, keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sdiffstore(dstkey, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<String> srandmember(final String key) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.srandmember(key);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.srandmember(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> srandmember(final String key, final int count) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.srandmember(key, count);
+            }
+
+            @Override
+            public Response<List<String>> pipeline(Pipeline pipeline) {
+                return pipeline.srandmember(key, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zadd(final String key, final double score, final String member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zadd(key, score, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zadd(key, score, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zadd(final String key, final Map<String, Double> scoreMembers) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zadd(key, scoreMembers);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zadd(key, scoreMembers);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrange(final String key, final long start, final long end) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrange(key, start, end);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrange(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zrem(final String key, final String... members) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zrem(key, members);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zrem(key, members);
+            }
+        };
+    }
+
+    static AsyncOperation<Double> zincrby(final String key, final double score, final String member) {
+        return new AsyncOperation<Double>() {
+
+            @Override
+            public Double execute(Jedis jedis) {
+                return jedis.zincrby(key, score, member);
+            }
+
+            @Override
+            public Response<Double> pipeline(Pipeline pipeline) {
+                return pipeline.zincrby(key, score, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zrank(final String key, final String member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zrank(key, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zrank(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zrevrank(final String key, final String member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zrevrank(key, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrank(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrevrange(final String key, final long start, final long end) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrevrange(key, start, end);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrange(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeWithScores(final String key, final long start, final long end) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeWithScores(key, start, end);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeWithScores(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeWithScores(final String key, final long start, final long end) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeWithScores(key, start, end);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeWithScores(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zcard(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zcard(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zcard(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Double> zscore(final String key, final String member) {
+        return new AsyncOperation<Double>() {
+
+            @Override
+            public Double execute(Jedis jedis) {
+                return jedis.zscore(key, member);
+            }
+
+            @Override
+            public Response<Double> pipeline(Pipeline pipeline) {
+                return pipeline.zscore(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> sort(final String key) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.sort(key);
+            }
+
+            @Override
+            public Response<List<String>> pipeline(Pipeline pipeline) {
+                return pipeline.sort(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> sort(final String key, final SortingParams sortingParameters) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.sort(key, sortingParameters);
+            }
+
+            @Override
+            public Response<List<String>> pipeline(Pipeline pipeline) {
+                return pipeline.sort(key, sortingParameters);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> blpop(final String... keys) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.blpop(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> blpop(final String key) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.blpop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> blpop(final int timeout, final String... keys) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.blpop(timeout, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sort(final String key, final SortingParams sortingParameters, final String dstkey) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sort(key, sortingParameters, dstkey);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sort(key, sortingParameters, dstkey);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sort(final String key, final String dstkey) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sort(key, dstkey);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sort(key, dstkey);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> brpop(final int timeout, final String... keys) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.brpop(timeout, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> brpop(final String... keys) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.brpop(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> brpop(final String key) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.brpop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> brpop(final byte[] key) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.brpop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zcount(final String key, final double min, final double max) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zcount(key, min, max);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zcount(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zcount(final String key, final String min, final String max) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zcount(key, min, max);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zcount(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrangeByScore(final String key, final double min, final double max) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrangeByScore(key, min, max);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScore(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrangeByScore(final String key, final String min, final String max) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrangeByScore(key, min, max);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScore(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrangeByScore(final String key, final double min, final double max,
+                                                     final int offset, final int count) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrangeByScore(key, min, max, offset, count);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScore(key, min, max, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrangeByScore(final String key, final String min, final String max,
+                                                     final int offset, final int count) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrangeByScore(key, min, max, offset, count);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScore(key, min, max, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeByScoreWithScores(final String key, final double min, final double max) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeByScoreWithScores(key, min, max);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScoreWithScores(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeByScoreWithScores(final String key, final String min, final String max) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeByScoreWithScores(key, min, max);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScoreWithScores(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeByScoreWithScores(final String key, final double min, final double max,
+                                                              final int offset, final int count) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeByScoreWithScores(key, min, max, offset, count);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScoreWithScores(key, min, max, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeByScoreWithScores(final String key, final String min, final String max,
+                                                              final int offset, final int count) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeByScoreWithScores(key, min, max, offset, count);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScoreWithScores(key, min, max, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrevrangeByScore(final String key, final double max, final double min) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrevrangeByScore(key, max, min);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScore(key, max, min);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrevrangeByScore(final String key, final String max, final String min) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrevrangeByScore(key, max, min);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScore(key, max, min);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrevrangeByScore(final String key, final double max, final double min,
+                                                        final int offset, final int count) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrevrangeByScore(key, max, min, offset, count);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScore(key, max, min, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeByScoreWithScores(final String key, final double max, final double min) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeByScoreWithScores(key, max, min);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScoreWithScores(key, max, min);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeByScoreWithScores(final String key, final double max, final double min,
+                                                                 final int offset, final int count) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeByScoreWithScores(key, max, min, offset, count);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeByScoreWithScores(final String key, final String max, final String min,
+                                                                 final int offset, final int count) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeByScoreWithScores(key, max, min, offset, count);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<String>> zrevrangeByScore(final String key, final String max, final String min,
+                                                        final int offset, final int count) {
+        return new AsyncOperation<Set<String>>() {
+
+            @Override
+            public Set<String> execute(Jedis jedis) {
+                return jedis.zrevrangeByScore(key, max, min, offset, count);
+            }
+
+            @Override
+            public Response<Set<String>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScore(key, max, min, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeByScoreWithScores(final String key, final String max, final String min) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeByScoreWithScores(key, max, min);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScoreWithScores(key, max, min);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zremrangeByRank(final String key, final long start, final long end) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zremrangeByRank(key, start, end);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zremrangeByRank(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zremrangeByScore(final String key, final double start, final double end) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zremrangeByScore(key, start, end);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zremrangeByScore(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zremrangeByScore(final String key, final String start, final String end) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zremrangeByScore(key, start, end);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zremrangeByScore(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zunionstore(final String dstkey, final String... sets) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zunionstore(dstkey, sets);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zunionstore(dstkey, sets);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zunionstore(final String dstkey, final ZParams params, final String... sets) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zunionstore(dstkey, params, sets);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zunionstore(dstkey, params, sets);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zinterstore(final String dstkey, final String... sets) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zinterstore(dstkey, sets);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zinterstore(dstkey, sets);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zinterstore(final String dstkey, final ZParams params, final String... sets) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zinterstore(dstkey, params, sets);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zinterstore(dstkey, params, sets);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> strlen(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.strlen(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.strlen(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> lpushx(final String key, final String... string) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.lpushx(key, string);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.lpushx(key, string);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> lpushx(final byte[] key, final byte[]... string) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.lpushx(key, string);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.lpushx(key, string);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> persist(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.persist(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.persist(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> rpushx(final String key, final String... string) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.rpushx(key, string);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.rpushx(key, string);
+            }
+        };
+    }
+
+    static AsyncOperation<String> echo(final String string) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.echo(string);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.echo(string);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> linsert(final String key, final LIST_POSITION where, final String pivot,
+                                        final String value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.linsert(key, where, pivot, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.linsert(key, where, pivot, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> brpoplpush(final String source, final String destination, final int timeout) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.brpoplpush(source, destination, timeout);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> setbit(final String key, final long offset, final boolean value) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.setbit(key, offset, value);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.setbit(key, offset, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> setbit(final String key, final long offset, final String value) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.setbit(key, offset, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> getbit(final String key, final long offset) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.getbit(key, offset);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.getbit(key, offset);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> setrange(final String key, final long offset, final String value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.setrange(key, offset, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.setrange(key, offset, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> getrange(final String key, final long startOffset, final long endOffset) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.getrange(key, startOffset, endOffset);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.getrange(key, startOffset, endOffset);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitpos(final String key, final boolean value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitpos(key, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitpos(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitpos(final String key, final boolean value, final BitPosParams params) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitpos(key, value, params);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitpos(key, value, params);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> configGet(final String pattern) {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.configGet(pattern);
+            }
+        };
+    }
+
+    static AsyncOperation<String> configSet(final String parameter, final String value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.configSet(parameter, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> eval(final String script, final int keyCount, final String... params) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.eval(script, keyCount, params);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> eval(final String script, final List<String> keys, final List<String> args) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.eval(script, keys, args);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> eval(final String script) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.eval(script);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> evalsha(final String script) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.evalsha(script);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> evalsha(final String sha1, final List<String> keys, final List<String> args) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.evalsha(sha1, keys, args);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> evalsha(final String sha1, final int keyCount, final String... params) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.evalsha(sha1, keyCount, params);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> scriptExists(final String sha1) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.scriptExists(sha1);
+            }
+        };
+    }
+
+    static AsyncOperation<List<Boolean>> scriptExists(final String... sha1) {
+        return new AsyncOperation<List<Boolean>>() {
+
+            @Override
+            public List<Boolean> execute(Jedis jedis) {
+                return jedis.scriptExists(sha1);
+            }
+        };
+    }
+
+    static AsyncOperation<String> scriptLoad(final String script) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.scriptLoad(script);
+            }
+        };
+    }
+
+    static AsyncOperation<List<Slowlog>> slowlogGet() {
+        return new AsyncOperation<List<Slowlog>>() {
+
+            @Override
+            public List<Slowlog> execute(Jedis jedis) {
+                return jedis.slowlogGet();
+            }
+        };
+    }
+
+    static AsyncOperation<List<Slowlog>> slowlogGet(final long entries) {
+        return new AsyncOperation<List<Slowlog>>() {
+
+            @Override
+            public List<Slowlog> execute(Jedis jedis) {
+                return jedis.slowlogGet(entries);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> objectRefcount(final String string) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.objectRefcount(string);
+            }
+        };
+    }
+
+    static AsyncOperation<String> objectEncoding(final String string) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.objectEncoding(string);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> objectIdletime(final String string) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.objectIdletime(string);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitcount(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitcount(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitcount(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitcount(final String key, final long start, final long end) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitcount(key, start, end);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitcount(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitop(final BitOP op, final String destKey, final String... srcKeys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitop(op, destKey, srcKeys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitop(op, destKey, srcKeys);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> dump(final String key) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.dump(key);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.dump(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> restore(final String key, final int ttl, final byte[] serializedValue) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.restore(key, ttl, serializedValue);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.restore(key, ttl, serializedValue);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pexpire(final String key, final int milliseconds) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pexpire(key, milliseconds);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pexpire(key, milliseconds);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pexpire(final String key, final long milliseconds) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pexpire(key, milliseconds);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pexpire(key, milliseconds);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pexpireAt(final String key, final long millisecondsTimestamp) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pexpireAt(key, millisecondsTimestamp);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pexpireAt(key, millisecondsTimestamp);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pttl(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pttl(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pttl(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> psetex(final String key, final int milliseconds, final String value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.psetex(key, milliseconds, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.psetex(key, milliseconds, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> set(final String key, final String value, final String nxxx) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set(key, value, nxxx);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.set(key, value, nxxx);
+            }
+        };
+    }
+
+    static AsyncOperation<String> set(final String key, final String value, final String nxxx, final String expx,
+                                      final int time) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set(key, value, nxxx, expx, time);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.set(key, value, nxxx, expx, time);
+            }
+        };
+    }
+
+    static AsyncOperation<String> clientKill(final String client) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.clientKill(client);
+            }
+        };
+    }
+
+    static AsyncOperation<String> clientSetname(final String name) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.clientSetname(name);
+            }
+        };
+    }
+
+    static AsyncOperation<String> migrate(final String host, final int port, final String key,
+                                          final int destinationDb, final int timeout) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.migrate(host, port, key, destinationDb, timeout);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.migrate(host, port, key, destinationDb, timeout);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<String>> scan(final int cursor) {
+        return new AsyncOperation<ScanResult<String>>() {
+
+            @Override
+            public ScanResult<String> execute(Jedis jedis) {
+                return jedis.scan(cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<String>> scan(final int cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<String>>() {
+
+            @Override
+            public ScanResult<String> execute(Jedis jedis) {
+                return jedis.scan(cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Entry<String, String>>> hscan(final String key, final int cursor) {
+        return new AsyncOperation<ScanResult<Entry<String, String>>>() {
+
+            @Override
+            public ScanResult<Entry<String, String>> execute(Jedis jedis) {
+                return jedis.hscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Entry<String, String>>> hscan(final String key, final int cursor,
+                                                                   final ScanParams params) {
+        return new AsyncOperation<ScanResult<Entry<String, String>>>() {
+
+            @Override
+            public ScanResult<Entry<String, String>> execute(Jedis jedis) {
+                return jedis.hscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<String>> sscan(final String key, final int cursor) {
+        return new AsyncOperation<ScanResult<String>>() {
+
+            @Override
+            public ScanResult<String> execute(Jedis jedis) {
+                return jedis.sscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<String>> sscan(final String key, final int cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<String>>() {
+
+            @Override
+            public ScanResult<String> execute(Jedis jedis) {
+                return jedis.sscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Tuple>> zscan(final String key, final int cursor) {
+        return new AsyncOperation<ScanResult<Tuple>>() {
+
+            @Override
+            public ScanResult<Tuple> execute(Jedis jedis) {
+                return jedis.zscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Tuple>> zscan(final String key, final int cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<Tuple>>() {
+
+            @Override
+            public ScanResult<Tuple> execute(Jedis jedis) {
+                return jedis.zscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<String>> scan(final String cursor) {
+        return new AsyncOperation<ScanResult<String>>() {
+
+            @Override
+            public ScanResult<String> execute(Jedis jedis) {
+                return jedis.scan(cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<String>> scan(final String cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<String>>() {
+
+            @Override
+            public ScanResult<String> execute(Jedis jedis) {
+                return jedis.scan(cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Entry<String, String>>> hscan(final String key, final String cursor) {
+        return new AsyncOperation<ScanResult<Entry<String, String>>>() {
+
+            @Override
+            public ScanResult<Entry<String, String>> execute(Jedis jedis) {
+                return jedis.hscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Entry<String, String>>> hscan(final String key, final String cursor,
+                                                                   final ScanParams params) {
+        return new AsyncOperation<ScanResult<Entry<String, String>>>() {
+
+            @Override
+            public ScanResult<Entry<String, String>> execute(Jedis jedis) {
+                return jedis.hscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<String>> sscan(final String key, final String cursor) {
+        return new AsyncOperation<ScanResult<String>>() {
+
+            @Override
+            public ScanResult<String> execute(Jedis jedis) {
+                return jedis.sscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<String>> sscan(final String key, final String cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<String>>() {
+
+            @Override
+            public ScanResult<String> execute(Jedis jedis) {
+                return jedis.sscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Tuple>> zscan(final String key, final String cursor) {
+        return new AsyncOperation<ScanResult<Tuple>>() {
+
+            @Override
+            public ScanResult<Tuple> execute(Jedis jedis) {
+                return jedis.zscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Tuple>> zscan(final String key, final String cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<Tuple>>() {
+
+            @Override
+            public ScanResult<Tuple> execute(Jedis jedis) {
+                return jedis.zscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pfcount(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pfcount(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pfcount(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pfcount(final String... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pfcount(keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pfcount(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<String> pfmerge(final String destkey, final String... sourcekeys) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.pfmerge(destkey, sourcekeys);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.pfmerge(destkey, sourcekeys);
+            }
+        };
+    }
+
+    static AsyncOperation<String> ping() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.ping();
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.ping();
+            }
+        };
+    }
+
+    static AsyncOperation<String> set(final byte[] key, final byte[] value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set(key, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.set(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> set(final byte[] key, final byte[] value, final byte[] nxxx, final byte[] expx,
+                                      final long time) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set(key, value, nxxx, expx, time);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> get(final byte[] key) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.get(key);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.get(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> exists(final byte[] key) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.exists(key);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.exists(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> del(final byte[]... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.del(keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.del(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> del(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.del(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.del(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> type(final byte[] key) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.type(key);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.type(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> flushDB() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.flushDB();
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.flushDB();
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> keys(final byte[] pattern) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.keys(pattern);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.keys(pattern);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> randomBinaryKey() {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.randomBinaryKey();
+            }
+        };
+    }
+
+    static AsyncOperation<String> rename(final byte[] oldkey, final byte[] newkey) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.rename(oldkey, newkey);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.rename(oldkey, newkey);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> renamenx(final byte[] oldkey, final byte[] newkey) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.renamenx(oldkey, newkey);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.renamenx(oldkey, newkey);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> dbSize() {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.dbSize();
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.dbSize();
+            }
+        };
+    }
+
+    static AsyncOperation<Long> expire(final byte[] key, final int seconds) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.expire(key, seconds);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.expire(key, seconds);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> expireAt(final byte[] key, final long unixTime) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.expireAt(key, unixTime);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.expireAt(key, unixTime);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> ttl(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.ttl(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.ttl(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> select(final int index) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.select(index);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> move(final byte[] key, final int dbIndex) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.move(key, dbIndex);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.move(key, dbIndex);
+            }
+        };
+    }
+
+    static AsyncOperation<String> flushAll() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.flushAll();
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.flushAll();
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> getSet(final byte[] key, final byte[] value) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.getSet(key, value);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.getSet(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> mget(final byte[]... keys) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.mget(keys);
+            }
+
+            @Override
+            public Response<List<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.mget(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> setnx(final byte[] key, final byte[] value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.setnx(key, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.setnx(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> setex(final byte[] key, final int seconds, final byte[] value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.setex(key, seconds, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.setex(key, seconds, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> mset(final byte[]... keysvalues) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.mset(keysvalues);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.mset(keysvalues);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> msetnx(final byte[]... keysvalues) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.msetnx(keysvalues);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.msetnx(keysvalues);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> decrBy(final byte[] key, final long integer) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.decrBy(key, integer);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.decrBy(key, integer);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> decr(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.decr(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.decr(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> incrBy(final byte[] key, final long integer) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.incrBy(key, integer);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.incrBy(key, integer);
+            }
+        };
+    }
+
+    static AsyncOperation<Double> incrByFloat(final byte[] key, final double integer) {
+        return new AsyncOperation<Double>() {
+
+            @Override
+            public Double execute(Jedis jedis) {
+                return jedis.incrByFloat(key, integer);
+            }
+
+            @Override
+            public Response<Double> pipeline(Pipeline pipeline) {
+                return pipeline.incrByFloat(key, integer);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> incr(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.incr(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.incr(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> append(final byte[] key, final byte[] value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.append(key, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.append(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> substr(final byte[] key, final int start, final int end) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.substr(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hset(final byte[] key, final byte[] field, final byte[] value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hset(key, field, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hset(key, field, value);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> hget(final byte[] key, final byte[] field) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.hget(key, field);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.hget(key, field);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hsetnx(final byte[] key, final byte[] field, final byte[] value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hsetnx(key, field, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hsetnx(key, field, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> hmset(final byte[] key, final Map<byte[], byte[]> hash) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.hmset(key, hash);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.hmset(key, hash);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> hmget(final byte[] key, final byte[]... fields) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.hmget(key, fields);
+            }
+
+            @Override
+            public Response<List<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.hmget(key, fields);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hincrBy(final byte[] key, final byte[] field, final long value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hincrBy(key, field, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hincrBy(key, field, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Double> hincrByFloat(final byte[] key, final byte[] field, final double value) {
+        return new AsyncOperation<Double>() {
+
+            @Override
+            public Double execute(Jedis jedis) {
+                return jedis.hincrByFloat(key, field, value);
+            }
+
+            @Override
+            public Response<Double> pipeline(Pipeline pipeline) {
+                return pipeline.hincrByFloat(key, field, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> hexists(final byte[] key, final byte[] field) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.hexists(key, field);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.hexists(key, field);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hdel(final byte[] key, final byte[]... fields) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hdel(key, fields);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hdel(key, fields);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> hlen(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.hlen(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.hlen(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> hkeys(final byte[] key) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.hkeys(key);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.hkeys(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> hvals(final byte[] key) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.hvals(key);
+            }
+
+            @Override
+            public Response<List<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.hvals(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Map<byte[], byte[]>> hgetAll(final byte[] key) {
+        return new AsyncOperation<Map<byte[], byte[]>>() {
+
+            @Override
+            public Map<byte[], byte[]> execute(Jedis jedis) {
+                return jedis.hgetAll(key);
+            }
+
+            @Override
+            public Response<Map<byte[], byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.hgetAll(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> rpush(final byte[] key, final byte[]... strings) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.rpush(key, strings);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.rpush(key, strings);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> lpush(final byte[] key, final byte[]... strings) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.lpush(key, strings);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.lpush(key, strings);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> llen(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.llen(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.llen(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> lrange(final byte[] key, final long start, final long end) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.lrange(key, start, end);
+            }
+
+            @Override
+            public Response<List<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.lrange(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<String> ltrim(final byte[] key, final long start, final long end) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.ltrim(key, start, end);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.ltrim(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> lindex(final byte[] key, final long index) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.lindex(key, index);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.lindex(key, index);
+            }
+        };
+    }
+
+    static AsyncOperation<String> lset(final byte[] key, final long index, final byte[] value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.lset(key, index, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.lset(key, index, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> lrem(final byte[] key, final long count, final byte[] value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.lrem(key, count, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.lrem(key, count, value);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> lpop(final byte[] key) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.lpop(key);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.lpop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> rpop(final byte[] key) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.rpop(key);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.rpop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> rpoplpush(final byte[] srckey, final byte[] dstkey) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.rpoplpush(srckey, dstkey);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.rpoplpush(srckey, dstkey);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sadd(final byte[] key, final byte[]... members) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sadd(key, members);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sadd(key, members);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> smembers(final byte[] key) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.smembers(key);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.smembers(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> srem(final byte[] key, final byte[]... member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.srem(key, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.srem(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> spop(final byte[] key) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.spop(key);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.spop(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> smove(final byte[] srckey, final byte[] dstkey, final byte[] member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.smove(srckey, dstkey, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.smove(srckey, dstkey, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> scard(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.scard(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.scard(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> sismember(final byte[] key, final byte[] member) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.sismember(key, member);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.sismember(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> sinter(final byte[]... keys) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.sinter(keys);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.sinter(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sinterstore(final byte[] dstkey, final byte[]... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sinterstore(dstkey, keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sinterstore(dstkey, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> sunion(final byte[]... keys) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.sunion(keys);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.sunion(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sunionstore(final byte[] dstkey, final byte[]... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sunionstore(dstkey, keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sunionstore(dstkey, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> sdiff(final byte[]... keys) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.sdiff(keys);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.sdiff(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sdiffstore(final byte[] dstkey, final byte[]... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sdiffstore(dstkey, keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sdiffstore(dstkey, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> srandmember(final byte[] key) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.srandmember(key);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.srandmember(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> srandmember(final byte[] key, final int count) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.srandmember(key, count);
+            }
+
+            @Override
+            public Response<List<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.srandmember(key, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zadd(final byte[] key, final double score, final byte[] member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zadd(key, score, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zadd(key, score, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zadd(final byte[] key, final Map<byte[], Double> scoreMembers) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zadd(key, scoreMembers);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrange(final byte[] key, final long start, final long end) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrange(key, start, end);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrange(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zrem(final byte[] key, final byte[]... members) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zrem(key, members);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zrem(key, members);
+            }
+        };
+    }
+
+    static AsyncOperation<Double> zincrby(final byte[] key, final double score, final byte[] member) {
+        return new AsyncOperation<Double>() {
+
+            @Override
+            public Double execute(Jedis jedis) {
+                return jedis.zincrby(key, score, member);
+            }
+
+            @Override
+            public Response<Double> pipeline(Pipeline pipeline) {
+                return pipeline.zincrby(key, score, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zrank(final byte[] key, final byte[] member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zrank(key, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zrank(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zrevrank(final byte[] key, final byte[] member) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zrevrank(key, member);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrank(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrevrange(final byte[] key, final long start, final long end) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrevrange(key, start, end);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrange(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeWithScores(final byte[] key, final long start, final long end) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeWithScores(key, start, end);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeWithScores(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeWithScores(final byte[] key, final long start, final long end) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeWithScores(key, start, end);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeWithScores(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zcard(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zcard(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zcard(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Double> zscore(final byte[] key, final byte[] member) {
+        return new AsyncOperation<Double>() {
+
+            @Override
+            public Double execute(Jedis jedis) {
+                return jedis.zscore(key, member);
+            }
+
+            @Override
+            public Response<Double> pipeline(Pipeline pipeline) {
+                return pipeline.zscore(key, member);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> sort(final byte[] key) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.sort(key);
+            }
+
+            @Override
+            public Response<List<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.sort(key);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> sort(final byte[] key, final SortingParams sortingParameters) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.sort(key, sortingParameters);
+            }
+
+            @Override
+            public Response<List<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.sort(key, sortingParameters);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> blpop(final int timeout, final byte[]... keys) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.blpop(timeout, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> blpop(final byte[]... keys) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.blpop(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sort(final byte[] key, final SortingParams sortingParameters, final byte[] dstkey) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sort(key, sortingParameters, dstkey);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sort(key, sortingParameters, dstkey);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> sort(final byte[] key, final byte[] dstkey) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.sort(key, dstkey);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.sort(key, dstkey);
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> brpop(final int timeout, final byte[]... keys) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.brpop(timeout, keys);
+            }
+        };
+    }
+
+    static AsyncOperation<String> auth(final String password) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.auth(password);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zcount(final byte[] key, final double min, final double max) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zcount(key, min, max);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zcount(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zcount(final byte[] key, final byte[] min, final byte[] max) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zcount(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrangeByScore(final byte[] key, final double min, final double max) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrangeByScore(key, min, max);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScore(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrangeByScore(key, min, max);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScore(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrangeByScore(final byte[] key, final double min, final double max,
+                                                     final int offset, final int count) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrangeByScore(key, min, max, offset, count);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScore(key, min, max, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrangeByScore(final byte[] key, final byte[] min, final byte[] max,
+                                                     final int offset, final int count) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrangeByScore(key, min, max, offset, count);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScore(key, min, max, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final double min, final double max) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeByScoreWithScores(key, min, max);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScoreWithScores(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeByScoreWithScores(key, min, max);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScoreWithScores(key, min, max);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final double min, final double max,
+                                                              final int offset, final int count) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeByScoreWithScores(key, min, max, offset, count);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScoreWithScores(key, min, max, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max,
+                                                              final int offset, final int count) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrangeByScoreWithScores(key, min, max, offset, count);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrangeByScoreWithScores(key, min, max, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrevrangeByScore(final byte[] key, final double max, final double min) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrevrangeByScore(key, max, min);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScore(key, max, min);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrevrangeByScore(key, max, min);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScore(key, max, min);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrevrangeByScore(final byte[] key, final double max, final double min,
+                                                        final int offset, final int count) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrevrangeByScore(key, max, min, offset, count);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScore(key, max, min, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<byte[]>> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min,
+                                                        final int offset, final int count) {
+        return new AsyncOperation<Set<byte[]>>() {
+
+            @Override
+            public Set<byte[]> execute(Jedis jedis) {
+                return jedis.zrevrangeByScore(key, max, min, offset, count);
+            }
+
+            @Override
+            public Response<Set<byte[]>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScore(key, max, min, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeByScoreWithScores(key, max, min);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScoreWithScores(key, max, min);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min,
+                                                                 final int offset, final int count) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeByScoreWithScores(key, max, min, offset, count);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeByScoreWithScores(key, max, min);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScoreWithScores(key, max, min);
+            }
+        };
+    }
+
+    static AsyncOperation<Set<Tuple>> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min,
+                                                                 final int offset, final int count) {
+        return new AsyncOperation<Set<Tuple>>() {
+
+            @Override
+            public Set<Tuple> execute(Jedis jedis) {
+                return jedis.zrevrangeByScoreWithScores(key, max, min, offset, count);
+            }
+
+            @Override
+            public Response<Set<Tuple>> pipeline(Pipeline pipeline) {
+                return pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zremrangeByRank(final byte[] key, final long start, final long end) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zremrangeByRank(key, start, end);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zremrangeByRank(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zremrangeByScore(final byte[] key, final double start, final double end) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zremrangeByScore(key, start, end);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zremrangeByScore(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zremrangeByScore(final byte[] key, final byte[] start, final byte[] end) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zremrangeByScore(key, start, end);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zremrangeByScore(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zunionstore(final byte[] dstkey, final byte[]... sets) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zunionstore(dstkey, sets);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zunionstore(dstkey, sets);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zunionstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zunionstore(dstkey, params, sets);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zunionstore(dstkey, params, sets);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zinterstore(final byte[] dstkey, final byte[]... sets) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zinterstore(dstkey, sets);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zinterstore(dstkey, sets);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> zinterstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.zinterstore(dstkey, params, sets);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.zinterstore(dstkey, params, sets);
+            }
+        };
+    }
+
+    static AsyncOperation<String> save() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.save();
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.save();
+            }
+        };
+    }
+
+    static AsyncOperation<String> bgsave() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.bgsave();
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.bgsave();
+            }
+        };
+    }
+
+    static AsyncOperation<String> bgrewriteaof() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.bgrewriteaof();
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.bgrewriteaof();
+            }
+        };
+    }
+
+    static AsyncOperation<Long> lastsave() {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.lastsave();
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.lastsave();
+            }
+        };
+    }
+
+    static AsyncOperation<String> shutdown() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.shutdown();
+            }
+        };
+    }
+
+    static AsyncOperation<String> info() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.info();
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.info();
+            }
+        };
+    }
+
+    static AsyncOperation<String> info(final String section) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.info(section);
+            }
+        };
+    }
+
+    static AsyncOperation<String> slaveofNoOne() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.slaveofNoOne();
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> configGet(final byte[] pattern) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.configGet(pattern);
+            }
+        };
+    }
+
+    static AsyncOperation<String> configResetStat() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.configResetStat();
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> configSet(final byte[] parameter, final byte[] value) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.configSet(parameter, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> isConnected() {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.isConnected();
+            }
+        };
+    }
+
+    static AsyncOperation<Long> strlen(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.strlen(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.strlen(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> persist(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.persist(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.persist(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> rpushx(final byte[] key, final byte[]... string) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.rpushx(key, string);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.rpushx(key, string);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> echo(final byte[] string) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.echo(string);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.echo(string);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> linsert(final byte[] key, final LIST_POSITION where, final byte[] pivot,
+                                        final byte[] value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.linsert(key, where, pivot, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.linsert(key, where, pivot, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> debug(final DebugParams params) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.debug(params);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> brpoplpush(final byte[] source, final byte[] destination, final int timeout) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.brpoplpush(source, destination, timeout);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> setbit(final byte[] key, final long offset, final boolean value) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.setbit(key, offset, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> setbit(final byte[] key, final long offset, final byte[] value) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.setbit(key, offset, value);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.setbit(key, offset, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Boolean> getbit(final byte[] key, final long offset) {
+        return new AsyncOperation<Boolean>() {
+
+            @Override
+            public Boolean execute(Jedis jedis) {
+                return jedis.getbit(key, offset);
+            }
+
+            @Override
+            public Response<Boolean> pipeline(Pipeline pipeline) {
+                return pipeline.getbit(key, offset);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitpos(final byte[] key, final boolean value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitpos(key, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitpos(key, value);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitpos(final byte[] key, final boolean value, final BitPosParams params) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitpos(key, value, params);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitpos(key, value, params);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> setrange(final byte[] key, final long offset, final byte[] value) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.setrange(key, offset, value);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.setrange(key, offset, value);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> getrange(final byte[] key, final long startOffset, final long endOffset) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.getrange(key, startOffset, endOffset);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> eval(final byte[] script, final List<byte[]> keys, final List<byte[]> args) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.eval(script, keys, args);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> eval(final byte[] script, final byte[] keyCount, final byte[]... params) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.eval(script, keyCount, params);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> eval(final byte[] script, final int keyCount, final byte[]... params) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.eval(script, keyCount, params);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> eval(final byte[] script) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.eval(script);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> evalsha(final byte[] sha1) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.evalsha(sha1);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> evalsha(final byte[] sha1, final List<byte[]> keys, final List<byte[]> args) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.evalsha(sha1, keys, args);
+            }
+        };
+    }
+
+    static AsyncOperation<Object> evalsha(final byte[] sha1, final int keyCount, final byte[]... params) {
+        return new AsyncOperation<Object>() {
+
+            @Override
+            public Object execute(Jedis jedis) {
+                return jedis.evalsha(sha1, keyCount, params);
+            }
+        };
+    }
+
+    static AsyncOperation<String> scriptFlush() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.scriptFlush();
+            }
+        };
+    }
+
+    static AsyncOperation<List<Long>> scriptExists(final byte[]... sha1) {
+        return new AsyncOperation<List<Long>>() {
+
+            @Override
+            public List<Long> execute(Jedis jedis) {
+                return jedis.scriptExists(sha1);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> scriptLoad(final byte[] script) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.scriptLoad(script);
+            }
+        };
+    }
+
+    static AsyncOperation<String> scriptKill() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.scriptKill();
+            }
+        };
+    }
+
+    static AsyncOperation<String> slowlogReset() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.slowlogReset();
+            }
+        };
+    }
+
+    static AsyncOperation<Long> slowlogLen() {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.slowlogLen();
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> slowlogGetBinary() {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.slowlogGetBinary();
+            }
+        };
+    }
+
+    static AsyncOperation<List<byte[]>> slowlogGetBinary(final long entries) {
+        return new AsyncOperation<List<byte[]>>() {
+
+            @Override
+            public List<byte[]> execute(Jedis jedis) {
+                return jedis.slowlogGetBinary(entries);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> objectRefcount(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.objectRefcount(key);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> objectEncoding(final byte[] key) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.objectEncoding(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> objectIdletime(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.objectIdletime(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitcount(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitcount(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitcount(key);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitcount(final byte[] key, final long start, final long end) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitcount(key, start, end);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitcount(key, start, end);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> bitop(final BitOP op, final byte[] destKey, final byte[]... srcKeys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.bitop(op, destKey, srcKeys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.bitop(op, destKey, srcKeys);
+            }
+        };
+    }
+
+    static AsyncOperation<byte[]> dump(final byte[] key) {
+        return new AsyncOperation<byte[]>() {
+
+            @Override
+            public byte[] execute(Jedis jedis) {
+                return jedis.dump(key);
+            }
+
+            @Override
+            public Response<byte[]> pipeline(Pipeline pipeline) {
+                return pipeline.dump(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> restore(final byte[] key, final int ttl, final byte[] serializedValue) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.restore(key, ttl, serializedValue);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.restore(key, ttl, serializedValue);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pexpire(final byte[] key, final int milliseconds) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pexpire(key, milliseconds);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pexpire(key, milliseconds);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pexpire(final byte[] key, final long milliseconds) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pexpire(key, milliseconds);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pexpire(key, milliseconds);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pexpireAt(final byte[] key, final long millisecondsTimestamp) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pexpireAt(key, millisecondsTimestamp);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pexpireAt(key, millisecondsTimestamp);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pttl(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pttl(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pttl(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> psetex(final byte[] key, final int milliseconds, final byte[] value) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.psetex(key, milliseconds, value);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.psetex(key, milliseconds, value);
+            }
+        };
+    }
+
+    static AsyncOperation<String> set(final byte[] key, final byte[] value, final byte[] nxxx) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set(key, value, nxxx);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.set(key, value, nxxx);
+            }
+        };
+    }
+
+    static AsyncOperation<String> set(final byte[] key, final byte[] value, final byte[] nxxx, final byte[] expx,
+                                      final int time) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set(key, value, nxxx, expx, time);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.set(key, value, nxxx, expx, time);
+            }
+        };
+    }
+
+    static AsyncOperation<String> clientKill(final byte[] client) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.clientKill(client);
+            }
+        };
+    }
+
+    static AsyncOperation<String> clientGetname() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.clientGetname();
+            }
+        };
+    }
+
+    static AsyncOperation<String> clientList() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.clientList();
+            }
+        };
+    }
+
+    static AsyncOperation<String> clientSetname(final byte[] name) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.clientSetname(name);
+            }
+        };
+    }
+
+    static AsyncOperation<List<String>> time() {
+        return new AsyncOperation<List<String>>() {
+
+            @Override
+            public List<String> execute(Jedis jedis) {
+                return jedis.time();
+            }
+
+            @Override
+            public Response<List<String>> pipeline(Pipeline pipeline) {
+                return pipeline.time();
+            }
+        };
+    }
+
+    static AsyncOperation<String> migrate(final byte[] host, final int port, final byte[] key,
+                                          final int destinationDb, final int timeout) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.migrate(host, port, key, destinationDb, timeout);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.migrate(host, port, key, destinationDb, timeout);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> waitReplicas(final int replicas, final long timeout) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.waitReplicas(replicas, timeout);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pfadd(final String key, final String... elements) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pfadd(key, elements);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pfadd(key, elements);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pfadd(final byte[] key, final byte[]... elements) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pfadd(key, elements);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pfadd(key, elements);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pfcount(final byte[] key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pfcount(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pfcount(key);
+            }
+        };
+    }
+
+    static AsyncOperation<String> pfmerge(final byte[] destkey, final byte[]... sourcekeys) {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.pfmerge(destkey, sourcekeys);
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.pfmerge(destkey, sourcekeys);
+            }
+        };
+    }
+
+    static AsyncOperation<Long> pfcount(final byte[]... keys) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.pfcount(keys);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.pfcount(keys);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<byte[]>> scan(final byte[] cursor) {
+        return new AsyncOperation<ScanResult<byte[]>>() {
+
+            @Override
+            public ScanResult<byte[]> execute(Jedis jedis) {
+                return jedis.scan(cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<byte[]>> scan(final byte[] cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<byte[]>>() {
+
+            @Override
+            public ScanResult<byte[]> execute(Jedis jedis) {
+                return jedis.scan(cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Entry<byte[], byte[]>>> hscan(final byte[] key, final byte[] cursor) {
+        return new AsyncOperation<ScanResult<Entry<byte[], byte[]>>>() {
+
+            @Override
+            public ScanResult<Entry<byte[], byte[]>> execute(Jedis jedis) {
+                return jedis.hscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Entry<byte[], byte[]>>> hscan(final byte[] key, final byte[] cursor,
+                                                                   final ScanParams params) {
+        return new AsyncOperation<ScanResult<Entry<byte[], byte[]>>>() {
+
+            @Override
+            public ScanResult<Entry<byte[], byte[]>> execute(Jedis jedis) {
+                return jedis.hscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<byte[]>> sscan(final byte[] key, final byte[] cursor) {
+        return new AsyncOperation<ScanResult<byte[]>>() {
+
+            @Override
+            public ScanResult<byte[]> execute(Jedis jedis) {
+                return jedis.sscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<byte[]>> sscan(final byte[] key, final byte[] cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<byte[]>>() {
+
+            @Override
+            public ScanResult<byte[]> execute(Jedis jedis) {
+                return jedis.sscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Tuple>> zscan(final byte[] key, final byte[] cursor) {
+        return new AsyncOperation<ScanResult<Tuple>>() {
+
+            @Override
+            public ScanResult<Tuple> execute(Jedis jedis) {
+                return jedis.zscan(key, cursor);
+            }
+        };
+    }
+
+    static AsyncOperation<ScanResult<Tuple>> zscan(final byte[] key, final byte[] cursor, final ScanParams params) {
+        return new AsyncOperation<ScanResult<Tuple>>() {
+
+            @Override
+            public ScanResult<Tuple> execute(Jedis jedis) {
+                return jedis.zscan(key, cursor, params);
+            }
+        };
+    }
+
+    static AsyncOperation<String> quit() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.quit();
+            }
+        };
+    }
+
+    static AsyncOperation<Client> getClient() {
+        return new AsyncOperation<Client>() {
+
+            @Override
+            public Client execute(Jedis jedis) {
+                return jedis.getClient();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.yeahmobi.yedis.atomic;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.yeahmobi.yedis.async.AsyncOperation;
+import com.yeahmobi.yedis.common.YedisTimeoutException;
+
+/**
+ * 异步操作的超时控制：所有Yedis共享一个线程，每毫秒扫描一次已提交的异步操作，超过截止时间的以YedisTimeoutException结束，已完成的移出。<br>
+ * 提交时只是一次无锁的入队，不为每个操作创建ScheduledFuture；完成的操作最多保留一个扫描周期。<br>
+ * 还在排队的操作由各传输方式在执行前检查截止时间（AsyncOperation.expireIfOverdue）。
+ */
+final class TimeoutSweeper implements Runnable {
+
+    private static final Logger                 logger      = LoggerFactory.getLogger(TimeoutSweeper.class);
+
+    private static final long                   TICK_MILLIS = 1;
+
+    private static final TimeoutSweeper         INSTANCE    = new TimeoutSweeper();
+
+    static {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Yedis-Timeout").build();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(INSTANCE, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private final Queue<AsyncOperation<?>>      operations  = new ConcurrentLinkedQueue<AsyncOperation<?>>();
+
+    private TimeoutSweeper() {
+    }
+
+    /**
+     * 在操作的截止时间（已通过setDeadlineNanos设置）之后以超时结束它，除非它已经完成
+     */
+    static void watch(AsyncOperation<?> opr) {
+        INSTANCE.operations.add(opr);
+    }
+
+    @Override
+    public void run() {
+        long now = System.nanoTime();
+        Iterator<AsyncOperation<?>> iterator = operations.iterator();
+        while (iterator.hasNext()) {
+            AsyncOperation<?> opr = iterator.next();
+            if (opr.isDone()) {
+                iterator.remove();
+            } else if (now - opr.getDeadlineNanos() >= 0) {
+                iterator.remove();
+                try {
+                    // 回调在这个线程中执行
+                    opr.setException(new YedisTimeoutException("Operation timeout, deadline exceeded."));
+                } catch (RuntimeException e) {
+                    // 不能让一个回调的异常停止扫描
+                    logger.warn("Error in callback of timed out operation " + opr.getCommandName(), e);
+                }
+            }
+        }
+    }
+
+}
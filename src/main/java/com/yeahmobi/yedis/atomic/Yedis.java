@@ -5,8 +5,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -23,16 +24,25 @@ import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.SortingParams;
 import redis.clients.jedis.Tuple;
 import redis.clients.jedis.ZParams;
-import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.util.Slowlog;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.yeahmobi.yedis.async.AsyncOperation;
+import com.yeahmobi.yedis.async.CommandExecutor;
+import com.yeahmobi.yedis.async.DirectCommandExecutor;
 import com.yeahmobi.yedis.async.JedisPoolExecutor;
-import com.yeahmobi.yedis.async.OperationResult;
+import com.yeahmobi.yedis.async.NioCommandExecutor;
+import com.yeahmobi.yedis.async.Transport;
 import com.yeahmobi.yedis.common.YedisException;
 import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.common.YedisOverloadException;
 import com.yeahmobi.yedis.common.YedisTimeoutException;
+import com.yeahmobi.yedis.metrics.MetricsRegistry;
+import com.yeahmobi.yedis.metrics.Outcome;
+import com.yeahmobi.yedis.metrics.YedisMetrics;
 import com.yeahmobi.yedis.pipeline.PipelineJedisPool;
+import com.yeahmobi.yedis.pipeline.StreamingConfig;
 import com.yeahmobi.yedis.pipeline.YedisPipeline;
 
 /**
@@ -44,15 +54,34 @@ public final class Yedis {
 
     private static final TimeUnit   UNIT     = TimeUnit.MILLISECONDS;
 
+    private static final int        MAX_TIMEOUT_VIEWS = 16;
+
     private final long              timeout;
 
-    private final JedisPoolExecutor executor;
+    private final CommandExecutor   executor;
 
     private final PipelineJedisPool pipelineJedisPool;
 
+    private final AsyncYedis        async;
+
+    private final YedisStats        stats;
+
+    // 每个命令的耗时和失败数，没有开启时为null
+    private final YedisMetrics      metrics;
+
+    // withTimeout返回的视图所属的Yedis，不是视图时为null
+    private final Yedis             origin;
+
+    // 按超时时间缓存的视图，只在origin为null时使用
+    private final ConcurrentMap<Long, Yedis> timeoutViews;
+
     private AtomConfig              config;
 
-    private AtomicBoolean           shutdown = new AtomicBoolean(false);
+    // 不再接受新的操作
+    private final AtomicBoolean     shutdown;
+
+    // 连接已经释放
+    private final AtomicBoolean     closed;
 
     public AtomConfig getConfig() {
         return config;
@@ -67,51 +96,308 @@ public final class Yedis {
 
         timeout = config.getTimeout();
 
-        // 构建executor
-        executor = new JedisPoolExecutor(config);
-        executor.start();
+        stats = new YedisStats();
+
+        shutdown = new AtomicBoolean(false);
+
+        closed = new AtomicBoolean(false);
+
+        origin = null;
+
+        timeoutViews = new ConcurrentHashMap<Long, Yedis>();
 
         //pipelined jedisPool
         pipelineJedisPool = new PipelineJedisPool(config);
+
+        // 构建executor
+        if (config.getTransport() == Transport.MULTIPLEXED) {
+            executor = new NioCommandExecutor(config, pipelineJedisPool);
+        } else if (config.getTransport() == Transport.DIRECT) {
+            executor = new DirectCommandExecutor(pipelineJedisPool);
+        } else {
+            executor = new JedisPoolExecutor(config);
+        }
+        executor.start();
+
+        if (config.isMetricsEnabled()) {
+            metrics = new YedisMetrics(config.getHost() + ":" + config.getPort(), executor);
+            MetricsRegistry.getInstance().register(metrics, config.isJmxEnabled());
+        } else {
+            metrics = null;
+        }
+
+        async = new AsyncYedis(this);
+    }
+
+    private Yedis(Yedis origin, long timeout) {
+        this.origin = origin;
+        this.timeout = timeout;
+        this.config = origin.config;
+        this.executor = origin.executor;
+        this.pipelineJedisPool = origin.pipelineJedisPool;
+        this.stats = origin.stats;
+        this.metrics = origin.metrics;
+        this.shutdown = origin.shutdown;
+        this.closed = origin.closed;
+        this.timeoutViews = null;
+        this.async = new AsyncYedis(this);
+    }
+
+    /**
+     * 返回操作超时为timeoutMillis的视图，与当前Yedis共享连接和统计，只有超时不同；
+     * 用于同一个客户端上延迟要求不同的调用方（如10ms预算的在线请求和数秒的批处理）。<br>
+     * 视图不持有连接，不需要关闭（close()不做任何事），原Yedis关闭后视图也不再可用。
+     */
+    public Yedis withTimeout(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("timeoutMillis must be positive.");
+        }
+        Yedis root = origin != null ? origin : this;
+        if (timeoutMillis == root.timeout) {
+            return root;
+        }
+        Yedis view = root.timeoutViews.get(timeoutMillis);
+        if (view == null) {
+            view = new Yedis(root, timeoutMillis);
+            // 只缓存有限个超时，按剩余预算计算的超时每次都不同
+            if (root.timeoutViews.size() < MAX_TIMEOUT_VIEWS) {
+                Yedis cached = root.timeoutViews.putIfAbsent(timeoutMillis, view);
+                if (cached != null) {
+                    view = cached;
+                }
+            }
+        }
+        return view;
+    }
+
+    /**
+     * 操作的超时（毫秒）
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 返回非阻塞的Yedis，与当前Yedis共享连接，每个命令返回ListenableFuture
+     */
+    public AsyncYedis async() {
+        return async;
+    }
+
+    /**
+     * 当前Yedis的实时统计（正在执行的操作数、响应时间EWMA）
+     */
+    public YedisStats getStats() {
+        return stats;
+    }
+
+    /**
+     * 每个命令的排队、执行和总耗时以及失败数；metricsEnabled为false时返回null
+     */
+    public YedisMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 建立并验证所有连接（每个连接一个PING），最多等待timeoutMillis，返回是否全部就绪。<br>
+     * 用于切换到新的server之前，避免切换后的第一批操作承担建立连接的耗时。
+     */
+    public boolean prewarm(long timeoutMillis) {
+        ListenableFuture<Boolean> future = startPrewarm();
+        try {
+            return future.get(timeoutMillis, UNIT);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return false;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 非阻塞的prewarm，由调用方决定等待多久；同时预热多个Yedis时先全部提交再等待
+     */
+    ListenableFuture<Boolean> startPrewarm() {
+        checkClose();
+        return executor.prewarm();
     }
 
     public void close() {
-        if (shutdown.compareAndSet(false, true)) {
-            executor.shutdown();
-            pipelineJedisPool.destroy();
+        if (origin != null) {
+            return;
+        }
+        shutdown.set(true);
+        if (closed.compareAndSet(false, true)) {
+            doClose();
         }
     }
 
-    private <T> T doAsynchronously(AsyncOperation<T> opr) {
+    /**
+     * 不再接受新的操作，已提交的操作继续执行；之后仍需要close()或closeGracefully()释放连接
+     */
+    public void retire() {
+        if (origin != null) {
+            return;
+        }
+        shutdown.set(true);
+    }
+
+    /**
+     * 不再接受新的操作，等待已提交的操作完成后再关闭；操作最多执行timeout，因此最多等待timeout
+     */
+    public void closeGracefully() {
+        if (origin != null) {
+            return;
+        }
+        retire();
+        long deadline = System.nanoTime() + UNIT.toNanos(timeout);
+        while (stats.getInflight() > 0 && System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        close();
+    }
+
+    private void doClose() {
+        if (metrics != null) {
+            MetricsRegistry.getInstance().unregister(metrics);
+        }
+        executor.shutdown();
+        pipelineJedisPool.destroy();
+    }
+
+    /**
+     * 先计入inflight再检查shutdown：closeGracefully要么等到这个操作，要么调用方看到已关闭
+     */
+    private long begin() {
         checkClose();
+        long start = stats.begin();
+        if (shutdown.get()) {
+            stats.abort();
+            checkClose();
+        }
+        return start;
+    }
 
-        Future<OperationResult<T>> future = executor.submit(opr);
+    private <T> T doAsynchronously(AsyncOperation<T> opr) {
+        long start = begin();
+        // 超过timeout后调用方不再等待，还在排队的操作不再执行
+        opr.setDeadlineNanos(start + UNIT.toNanos(timeout));
+        try {
+            executor.execute(opr);
+        } catch (RuntimeException e) {
+            finish(opr, start, outcome(e));
+            throw e;
+        }
 
+        Outcome outcome = Outcome.SUCCESS;
         try {
-            OperationResult<T> result = future.get(timeout, UNIT);
-            return result.getValue();
+            return opr.get(timeout, UNIT);
         } catch (InterruptedException e) {
-            future.cancel(true);
+            outcome = Outcome.CANCELLED;
+            opr.cancel(true);
             throw new YedisException(e.getMessage(), e);
         } catch (ExecutionException e) {
-            future.cancel(true);
-            if (e.getCause() instanceof JedisConnectionException) {
-                throw new YedisNetworkException(e.getMessage(), e.getCause());
-            } else {
-                throw new YedisException(e.getMessage(), e.getCause());
-            }
+            outcome = outcome(e.getCause());
+            throw translate(e.getCause());
         } catch (TimeoutException e) {
-            future.cancel(true);
+            outcome = Outcome.TIMEOUT;
+            opr.cancel(true);
             throw new YedisTimeoutException(e.getMessage(), e);
         } catch (CancellationException e) {
-            // Operation is cancelled by JedisPoolExecutor, maybe caused by
-            // network problem or Yedis is closing.
-            throw new YedisException(
-                                     "Operation is cancelled by JedisPoolExecutor, maybe caused by network problem or Yedis is closing.",
-                                     e);
+            outcome = Outcome.CANCELLED;
+            throw translate(e);
         } catch (RuntimeException e) {
-            future.cancel(true);
+            outcome = Outcome.ERROR;
+            opr.cancel(true);
             throw new YedisException(e.getMessage(), e);
+        } finally {
+            finish(opr, start, outcome);
+        }
+    }
+
+    /**
+     * 非阻塞地提交操作，超时由共享的TimeoutSweeper控制。<br>
+     * 注意：回调默认在Yedis的worker线程中执行，不要在回调中做耗时的事情。
+     */
+    <T> ListenableFuture<T> submit(final AsyncOperation<T> opr) {
+        final long start = begin();
+        opr.setDeadlineNanos(start + UNIT.toNanos(timeout));
+        try {
+            executor.submit(opr);
+        } catch (RuntimeException e) {
+            finish(opr, start, outcome(e));
+            throw e;
+        }
+
+        TimeoutSweeper.watch(opr);
+
+        opr.addListener(new Runnable() {
+
+            @Override
+            public void run() {
+                finish(opr, start, outcome(opr));
+            }
+        }, MoreExecutors.directExecutor());
+
+        return opr;
+    }
+
+    /**
+     * 操作结束后更新统计。网络异常和超时说明server不健康，计入YedisStats时按超时时间惩罚；命令本身的错误（如WRONGTYPE）不算
+     */
+    private void finish(AsyncOperation<?> opr, long start, Outcome outcome) {
+        stats.end(start, outcome == Outcome.TIMEOUT || outcome == Outcome.NETWORK_ERROR, UNIT.toNanos(timeout));
+        if (metrics != null) {
+            metrics.record(opr, start, outcome);
+        }
+    }
+
+    private static Outcome outcome(AsyncOperation<?> opr) {
+        if (opr.isCancelled()) {
+            return Outcome.CANCELLED;
+        }
+        try {
+            opr.get();
+            return Outcome.SUCCESS;
+        } catch (ExecutionException e) {
+            return outcome(e.getCause());
+        } catch (InterruptedException e) {
+            return Outcome.CANCELLED;
+        }
+    }
+
+    private static Outcome outcome(Throwable cause) {
+        if (cause instanceof YedisTimeoutException) {
+            return Outcome.TIMEOUT;
+        } else if (cause instanceof YedisNetworkException) {
+            return Outcome.NETWORK_ERROR;
+        } else if (cause instanceof YedisOverloadException) {
+            return Outcome.REJECTED;
+        } else {
+            return Outcome.ERROR;
+        }
+    }
+
+    private static YedisException translate(Throwable cause) {
+        if (cause instanceof YedisException) {
+            return (YedisException) cause;
+        } else if (cause instanceof CancellationException) {
+            // Operation is cancelled by JedisPoolExecutor, maybe caused by
+            // network problem or Yedis is closing.
+            return new YedisException(
+                                      "Operation is cancelled by JedisPoolExecutor, maybe caused by network problem or Yedis is closing.",
+                                      cause);
+        } else {
+            return new YedisException(cause.getMessage(), cause);
         }
     }
 
@@ -126,3815 +412,1558 @@ public final class Yedis {
         return new YedisPipeline(config,this.pipelineJedisPool.getJedis());
     }
 
-    public String set(final String key, final String value) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    /**
+     * 流式pipeline：按streaming的配置自动写出和读取reply，内存占用与命令数无关
+     */
+    public YedisPipeline pipelined(StreamingConfig streaming) {
+        if (streaming == null) {
+            throw new IllegalArgumentException("Argument cannot be null.");
+        }
+        checkClose();
+        return new YedisPipeline(config, this.pipelineJedisPool.getJedis(), streaming);
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.set(key, value));
-            }
-        });
+    public String set(String key, String value) {
+        return doAsynchronously(Operations.set(key, value));
     }
 
-    public String set(final String key, final String value, final String nxxx, final String expx, final long time) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public String set(String key, String value, String nxxx, String expx, long time) {
+        return doAsynchronously(Operations.set(key, value, nxxx, expx, time));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.set(key, value, nxxx, expx, time));
-            }
-        });
+    public String get(String key) {
+        return doAsynchronously(Operations.get(key));
     }
 
-    public String get(final String key) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Boolean exists(String key) {
+        return doAsynchronously(Operations.exists(key));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.get(key));
-            }
-        });
+    public Long del(String... keys) {
+        return doAsynchronously(Operations.del(keys));
     }
 
-    public Boolean exists(final String key) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
+    public Long del(String key) {
+        return doAsynchronously(Operations.del(key));
+    }
 
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.exists(key));
-            }
-        });
+    public String type(String key) {
+        return doAsynchronously(Operations.type(key));
     }
 
-    public Long del(final String... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Set<String> keys(String pattern) {
+        return doAsynchronously(Operations.keys(pattern));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.del(keys));
-            }
-        });
+    public String randomKey() {
+        return doAsynchronously(Operations.randomKey());
     }
 
-    public Long del(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String rename(String oldkey, String newkey) {
+        return doAsynchronously(Operations.rename(oldkey, newkey));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.del(key));
-            }
-        });
+    public Long renamenx(String oldkey, String newkey) {
+        return doAsynchronously(Operations.renamenx(oldkey, newkey));
     }
 
-    public String type(final String key) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long expire(String key, int seconds) {
+        return doAsynchronously(Operations.expire(key, seconds));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.type(key));
-            }
-        });
+    public Long expireAt(String key, long unixTime) {
+        return doAsynchronously(Operations.expireAt(key, unixTime));
     }
 
-    public Set<String> keys(final String pattern) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Long ttl(String key) {
+        return doAsynchronously(Operations.ttl(key));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.keys(pattern));
-            }
-        });
+    public Long move(String key, int dbIndex) {
+        return doAsynchronously(Operations.move(key, dbIndex));
     }
 
-    public String randomKey() {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public String getSet(String key, String value) {
+        return doAsynchronously(Operations.getSet(key, value));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.randomKey());
-            }
-        });
+    public List<String> mget(String... keys) {
+        return doAsynchronously(Operations.mget(keys));
     }
 
-    public String rename(final String oldkey, final String newkey) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long setnx(String key, String value) {
+        return doAsynchronously(Operations.setnx(key, value));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.rename(oldkey, newkey));
-            }
-        });
+    public String setex(String key, int seconds, String value) {
+        return doAsynchronously(Operations.setex(key, seconds, value));
     }
 
-    public Long renamenx(final String oldkey, final String newkey) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String mset(String... keysvalues) {
+        return doAsynchronously(Operations.mset(keysvalues));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.renamenx(oldkey, newkey));
-            }
-        });
+    public Long msetnx(String... keysvalues) {
+        return doAsynchronously(Operations.msetnx(keysvalues));
     }
 
-    public Long expire(final String key, final int seconds) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long decrBy(String key, long integer) {
+        return doAsynchronously(Operations.decrBy(key, integer));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.expire(key, seconds));
-            }
-        });
+    public Long decr(String key) {
+        return doAsynchronously(Operations.decr(key));
     }
 
-    public Long expireAt(final String key, final long unixTime) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long incrBy(String key, long integer) {
+        return doAsynchronously(Operations.incrBy(key, integer));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.expireAt(key, unixTime));
-            }
-        });
+    public Double incrByFloat(String key, double value) {
+        return doAsynchronously(Operations.incrByFloat(key, value));
     }
 
-    public Long ttl(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long incr(String key) {
+        return doAsynchronously(Operations.incr(key));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.ttl(key));
-            }
-        });
+    public Long append(String key, String value) {
+        return doAsynchronously(Operations.append(key, value));
     }
 
-    public Long move(final String key, final int dbIndex) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String substr(String key, int start, int end) {
+        return doAsynchronously(Operations.substr(key, start, end));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.move(key, dbIndex));
-            }
-        });
+    public Long hset(String key, String field, String value) {
+        return doAsynchronously(Operations.hset(key, field, value));
     }
 
-    public String getSet(final String key, final String value) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public String hget(String key, String field) {
+        return doAsynchronously(Operations.hget(key, field));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.getSet(key, value));
-            }
-        });
+    public Long hsetnx(String key, String field, String value) {
+        return doAsynchronously(Operations.hsetnx(key, field, value));
     }
 
-    public List<String> mget(final String... keys) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public String hmset(String key, Map<String, String> hash) {
+        return doAsynchronously(Operations.hmset(key, hash));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.mget(keys));
-            }
-        });
+    public List<String> hmget(String key, String... fields) {
+        return doAsynchronously(Operations.hmget(key, fields));
     }
 
-    public Long setnx(final String key, final String value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long hincrBy(String key, String field, long value) {
+        return doAsynchronously(Operations.hincrBy(key, field, value));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.setnx(key, value));
-            }
-        });
+    public Double hincrByFloat(String key, String field, double value) {
+        return doAsynchronously(Operations.hincrByFloat(key, field, value));
     }
 
-    public String setex(final String key, final int seconds, final String value) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Boolean hexists(String key, String field) {
+        return doAsynchronously(Operations.hexists(key, field));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.setex(key, seconds, value));
-            }
-        });
+    public Long hdel(String key, String... fields) {
+        return doAsynchronously(Operations.hdel(key, fields));
     }
 
-    public String mset(final String... keysvalues) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long hlen(String key) {
+        return doAsynchronously(Operations.hlen(key));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.mset(keysvalues));
-            }
-        });
+    public Set<String> hkeys(String key) {
+        return doAsynchronously(Operations.hkeys(key));
     }
 
-    public Long msetnx(final String... keysvalues) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public List<String> hvals(String key) {
+        return doAsynchronously(Operations.hvals(key));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.msetnx(keysvalues));
-            }
-        });
+    public Map<String, String> hgetAll(String key) {
+        return doAsynchronously(Operations.hgetAll(key));
     }
 
-    public Long decrBy(final String key, final long integer) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long rpush(String key, String... strings) {
+        return doAsynchronously(Operations.rpush(key, strings));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.decrBy(key, integer));
-            }
-        });
+    public Long lpush(String key, String... strings) {
+        return doAsynchronously(Operations.lpush(key, strings));
     }
 
-    public Long decr(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long llen(String key) {
+        return doAsynchronously(Operations.llen(key));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.decr(key));
-            }
-        });
+    public List<String> lrange(String key, long start, long end) {
+        return doAsynchronously(Operations.lrange(key, start, end));
     }
 
-    public Long incrBy(final String key, final long integer) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String ltrim(String key, long start, long end) {
+        return doAsynchronously(Operations.ltrim(key, start, end));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.incrBy(key, integer));
-            }
-        });
+    public String lindex(String key, long index) {
+        return doAsynchronously(Operations.lindex(key, index));
     }
 
-    public Double incrByFloat(final String key, final double value) {
-        return doAsynchronously(new AsyncOperation<Double>() {
+    public String lset(String key, long index, String value) {
+        return doAsynchronously(Operations.lset(key, index, value));
+    }
 
-            @Override
-            public OperationResult<Double> execute(Jedis jedis) {
-                return new OperationResult<Double>(jedis.incrByFloat(key, value));
-            }
-        });
+    public Long lrem(String key, long count, String value) {
+        return doAsynchronously(Operations.lrem(key, count, value));
     }
 
-    public Long incr(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String lpop(String key) {
+        return doAsynchronously(Operations.lpop(key));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.incr(key));
-            }
-        });
+    public String rpop(String key) {
+        return doAsynchronously(Operations.rpop(key));
     }
 
-    public Long append(final String key, final String value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String rpoplpush(String srckey, String dstkey) {
+        return doAsynchronously(Operations.rpoplpush(srckey, dstkey));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.append(key, value));
-            }
-        });
+    public Long sadd(String key, String... members) {
+        return doAsynchronously(Operations.sadd(key, members));
     }
 
-    public String substr(final String key, final int start, final int end) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Set<String> smembers(String key) {
+        return doAsynchronously(Operations.smembers(key));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.substr(key, start, end));
-            }
-        });
+    public Long srem(String key, String... members) {
+        return doAsynchronously(Operations.srem(key, members));
     }
 
-    public Long hset(final String key, final String field, final String value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String spop(String key) {
+        return doAsynchronously(Operations.spop(key));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hset(key, field, value));
-            }
-        });
+    public Long smove(String srckey, String dstkey, String member) {
+        return doAsynchronously(Operations.smove(srckey, dstkey, member));
     }
 
-    public String hget(final String key, final String field) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long scard(String key) {
+        return doAsynchronously(Operations.scard(key));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.hget(key, field));
-            }
-        });
+    public Boolean sismember(String key, String member) {
+        return doAsynchronously(Operations.sismember(key, member));
     }
 
-    public Long hsetnx(final String key, final String field, final String value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Set<String> sinter(String... keys) {
+        return doAsynchronously(Operations.sinter(keys));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hsetnx(key, field, value));
-            }
-        });
+    public Long sinterstore(String dstkey, String... keys) {
+        return doAsynchronously(Operations.sinterstore(dstkey, keys));
     }
 
-    public String hmset(final String key, final Map<String, String> hash) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Set<String> sunion(String... keys) {
+        return doAsynchronously(Operations.sunion(keys));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.hmset(key, hash));
-            }
-        });
+    public Long sunionstore(String dstkey, String... keys) {
+        return doAsynchronously(Operations.sunionstore(dstkey, keys));
     }
 
-    public List<String> hmget(final String key, final String... fields) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public Set<String> sdiff(String... keys) {
+        return doAsynchronously(Operations.sdiff(keys));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.hmget(key, fields));
-            }
-        });
+    public Long sdiffstore(String dstkey, String... keys) {
+        return doAsynchronously(Operations.sdiffstore(dstkey, keys));
     }
 
-    public Long hincrBy(final String key, final String field, final long value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String srandmember(String key) {
+        return doAsynchronously(Operations.srandmember(key));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hincrBy(key, field, value));
-            }
-        });
+    public List<String> srandmember(String key, int count) {
+        return doAsynchronously(Operations.srandmember(key, count));
     }
 
-    public Double hincrByFloat(final String key, final String field, final double value) {
-        return doAsynchronously(new AsyncOperation<Double>() {
+    public Long zadd(String key, double score, String member) {
+        return doAsynchronously(Operations.zadd(key, score, member));
+    }
 
-            @Override
-            public OperationResult<Double> execute(Jedis jedis) {
-                return new OperationResult<Double>(jedis.hincrByFloat(key, field, value));
-            }
-        });
+    public Long zadd(String key, Map<String, Double> scoreMembers) {
+        return doAsynchronously(Operations.zadd(key, scoreMembers));
     }
 
-    public Boolean hexists(final String key, final String field) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
+    public Set<String> zrange(String key, long start, long end) {
+        return doAsynchronously(Operations.zrange(key, start, end));
+    }
 
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.hexists(key, field));
-            }
-        });
+    public Long zrem(String key, String... members) {
+        return doAsynchronously(Operations.zrem(key, members));
     }
 
-    public Long hdel(final String key, final String... fields) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Double zincrby(String key, double score, String member) {
+        return doAsynchronously(Operations.zincrby(key, score, member));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hdel(key, fields));
-            }
-        });
+    public Long zrank(String key, String member) {
+        return doAsynchronously(Operations.zrank(key, member));
     }
 
-    public Long hlen(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long zrevrank(String key, String member) {
+        return doAsynchronously(Operations.zrevrank(key, member));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hlen(key));
-            }
-        });
+    public Set<String> zrevrange(String key, long start, long end) {
+        return doAsynchronously(Operations.zrevrange(key, start, end));
     }
 
-    public Set<String> hkeys(final String key) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Set<Tuple> zrangeWithScores(String key, long start, long end) {
+        return doAsynchronously(Operations.zrangeWithScores(key, start, end));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.hkeys(key));
-            }
-        });
+    public Set<Tuple> zrevrangeWithScores(String key, long start, long end) {
+        return doAsynchronously(Operations.zrevrangeWithScores(key, start, end));
     }
 
-    public List<String> hvals(final String key) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public Long zcard(String key) {
+        return doAsynchronously(Operations.zcard(key));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.hvals(key));
-            }
-        });
+    public Double zscore(String key, String member) {
+        return doAsynchronously(Operations.zscore(key, member));
     }
 
-    public Map<String, String> hgetAll(final String key) {
-        return doAsynchronously(new AsyncOperation<Map<String, String>>() {
+    public List<String> sort(String key) {
+        return doAsynchronously(Operations.sort(key));
+    }
 
-            @Override
-            public OperationResult<Map<String, String>> execute(Jedis jedis) {
-                return new OperationResult<Map<String, String>>(jedis.hgetAll(key));
-            }
-        });
+    public List<String> sort(String key, SortingParams sortingParameters) {
+        return doAsynchronously(Operations.sort(key, sortingParameters));
     }
 
-    public Long rpush(final String key, final String... strings) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public List<String> blpop(String... keys) {
+        return doAsynchronously(Operations.blpop(keys));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.rpush(key, strings));
-            }
-        });
+    public List<String> blpop(String key) {
+        return doAsynchronously(Operations.blpop(key));
     }
 
-    public Long lpush(final String key, final String... strings) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public List<String> blpop(int timeout, String... keys) {
+        return doAsynchronously(Operations.blpop(timeout, keys));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.lpush(key, strings));
-            }
-        });
+    public Long sort(String key, SortingParams sortingParameters, String dstkey) {
+        return doAsynchronously(Operations.sort(key, sortingParameters, dstkey));
     }
 
-    public Long llen(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long sort(String key, String dstkey) {
+        return doAsynchronously(Operations.sort(key, dstkey));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.llen(key));
-            }
-        });
+    public List<String> brpop(int timeout, String... keys) {
+        return doAsynchronously(Operations.brpop(timeout, keys));
     }
 
-    public List<String> lrange(final String key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public List<String> brpop(String... keys) {
+        return doAsynchronously(Operations.brpop(keys));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.lrange(key, start, end));
-            }
-        });
+    public List<String> brpop(String key) {
+        return doAsynchronously(Operations.brpop(key));
     }
 
-    public String ltrim(final String key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public List<byte[]> brpop(byte[] key) {
+        return doAsynchronously(Operations.brpop(key));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.ltrim(key, start, end));
-            }
-        });
+    public Long zcount(String key, double min, double max) {
+        return doAsynchronously(Operations.zcount(key, min, max));
     }
 
-    public String lindex(final String key, final long index) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long zcount(String key, String min, String max) {
+        return doAsynchronously(Operations.zcount(key, min, max));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.lindex(key, index));
-            }
-        });
+    public Set<String> zrangeByScore(String key, double min, double max) {
+        return doAsynchronously(Operations.zrangeByScore(key, min, max));
     }
 
-    public String lset(final String key, final long index, final String value) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Set<String> zrangeByScore(String key, String min, String max) {
+        return doAsynchronously(Operations.zrangeByScore(key, min, max));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.lset(key, index, value));
-            }
-        });
+    public Set<String> zrangeByScore(String key, double min, double max, int offset, int count) {
+        return doAsynchronously(Operations.zrangeByScore(key, min, max, offset, count));
     }
 
-    public Long lrem(final String key, final long count, final String value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Set<String> zrangeByScore(String key, String min, String max, int offset, int count) {
+        return doAsynchronously(Operations.zrangeByScore(key, min, max, offset, count));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.lrem(key, count, value));
-            }
-        });
+    public Set<Tuple> zrangeByScoreWithScores(String key, double min, double max) {
+        return doAsynchronously(Operations.zrangeByScoreWithScores(key, min, max));
     }
 
-    public String lpop(final String key) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Set<Tuple> zrangeByScoreWithScores(String key, String min, String max) {
+        return doAsynchronously(Operations.zrangeByScoreWithScores(key, min, max));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.lpop(key));
-            }
-        });
+    public Set<Tuple> zrangeByScoreWithScores(String key, double min, double max, int offset, int count) {
+        return doAsynchronously(Operations.zrangeByScoreWithScores(key, min, max, offset, count));
     }
 
-    public String rpop(final String key) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Set<Tuple> zrangeByScoreWithScores(String key, String min, String max, int offset, int count) {
+        return doAsynchronously(Operations.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.rpop(key));
-            }
-        });
+    public Set<String> zrevrangeByScore(String key, double max, double min) {
+        return doAsynchronously(Operations.zrevrangeByScore(key, max, min));
     }
 
-    public String rpoplpush(final String srckey, final String dstkey) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Set<String> zrevrangeByScore(String key, String max, String min) {
+        return doAsynchronously(Operations.zrevrangeByScore(key, max, min));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.rpoplpush(srckey, dstkey));
-            }
-        });
+    public Set<String> zrevrangeByScore(String key, double max, double min, int offset, int count) {
+        return doAsynchronously(Operations.zrevrangeByScore(key, max, min, offset, count));
     }
 
-    public Long sadd(final String key, final String... members) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Set<Tuple> zrevrangeByScoreWithScores(String key, double max, double min) {
+        return doAsynchronously(Operations.zrevrangeByScoreWithScores(key, max, min));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sadd(key, members));
-            }
-        });
+    public Set<Tuple> zrevrangeByScoreWithScores(String key, double max, double min, int offset, int count) {
+        return doAsynchronously(Operations.zrevrangeByScoreWithScores(key, max, min, offset, count));
     }
 
-    public Set<String> smembers(final String key) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Set<Tuple> zrevrangeByScoreWithScores(String key, String max, String min, int offset, int count) {
+        return doAsynchronously(Operations.zrevrangeByScoreWithScores(key, max, min, offset, count));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.smembers(key));
-            }
-        });
+    public Set<String> zrevrangeByScore(String key, String max, String min, int offset, int count) {
+        return doAsynchronously(Operations.zrevrangeByScore(key, max, min, offset, count));
     }
 
-    public Long srem(final String key, final String... members) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Set<Tuple> zrevrangeByScoreWithScores(String key, String max, String min) {
+        return doAsynchronously(Operations.zrevrangeByScoreWithScores(key, max, min));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.srem(key, members));
-            }
-        });
+    public Long zremrangeByRank(String key, long start, long end) {
+        return doAsynchronously(Operations.zremrangeByRank(key, start, end));
     }
 
-    public String spop(final String key) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long zremrangeByScore(String key, double start, double end) {
+        return doAsynchronously(Operations.zremrangeByScore(key, start, end));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.spop(key));
-            }
-        });
+    public Long zremrangeByScore(String key, String start, String end) {
+        return doAsynchronously(Operations.zremrangeByScore(key, start, end));
     }
 
-    public Long smove(final String srckey, final String dstkey, final String member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long zunionstore(String dstkey, String... sets) {
+        return doAsynchronously(Operations.zunionstore(dstkey, sets));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.smove(srckey, dstkey, member));
-            }
-        });
+    public Long zunionstore(String dstkey, ZParams params, String... sets) {
+        return doAsynchronously(Operations.zunionstore(dstkey, params, sets));
     }
 
-    public Long scard(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long zinterstore(String dstkey, String... sets) {
+        return doAsynchronously(Operations.zinterstore(dstkey, sets));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.scard(key));
-            }
-        });
+    public Long zinterstore(String dstkey, ZParams params, String... sets) {
+        return doAsynchronously(Operations.zinterstore(dstkey, params, sets));
     }
 
-    public Boolean sismember(final String key, final String member) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
+    public Long strlen(String key) {
+        return doAsynchronously(Operations.strlen(key));
+    }
 
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.sismember(key, member));
-            }
-        });
+    public Long lpushx(String key, String... string) {
+        return doAsynchronously(Operations.lpushx(key, string));
     }
 
-    public Set<String> sinter(final String... keys) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Long lpushx(byte[] key, byte[]... string) {
+        return doAsynchronously(Operations.lpushx(key, string));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.sinter(keys));
-            }
-        });
+    public Long persist(String key) {
+        return doAsynchronously(Operations.persist(key));
     }
 
-    public Long sinterstore(final String dstkey, final String... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long rpushx(String key, String... string) {
+        return doAsynchronously(Operations.rpushx(key, string));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sinterstore(dstkey, keys));
-            }
-        });
+    public String echo(String string) {
+        return doAsynchronously(Operations.echo(string));
     }
 
-    public Set<String> sunion(final String... keys) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Long linsert(String key, LIST_POSITION where, String pivot, String value) {
+        return doAsynchronously(Operations.linsert(key, where, pivot, value));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.sunion(keys));
-            }
-        });
+    public String brpoplpush(String source, String destination, int timeout) {
+        return doAsynchronously(Operations.brpoplpush(source, destination, timeout));
     }
 
-    public Long sunionstore(final String dstkey, final String... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Boolean setbit(String key, long offset, boolean value) {
+        return doAsynchronously(Operations.setbit(key, offset, value));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sunionstore(dstkey, keys));
-            }
-        });
+    public Boolean setbit(String key, long offset, String value) {
+        return doAsynchronously(Operations.setbit(key, offset, value));
     }
 
-    public Set<String> sdiff(final String... keys) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Boolean getbit(String key, long offset) {
+        return doAsynchronously(Operations.getbit(key, offset));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.sdiff(keys));
-            }
-        });
+    public Long setrange(String key, long offset, String value) {
+        return doAsynchronously(Operations.setrange(key, offset, value));
     }
 
-    public Long sdiffstore(final String dstkey, final String... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String getrange(String key, long startOffset, long endOffset) {
+        return doAsynchronously(Operations.getrange(key, startOffset, endOffset));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sdiffstore(dstkey, keys));
-            }
-        });
+    public Long bitpos(String key, boolean value) {
+        return doAsynchronously(Operations.bitpos(key, value));
     }
 
-    public String srandmember(final String key) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long bitpos(String key, boolean value, BitPosParams params) {
+        return doAsynchronously(Operations.bitpos(key, value, params));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.srandmember(key));
-            }
-        });
+    public List<String> configGet(String pattern) {
+        return doAsynchronously(Operations.configGet(pattern));
     }
 
-    public List<String> srandmember(final String key, final int count) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public String configSet(String parameter, String value) {
+        return doAsynchronously(Operations.configSet(parameter, value));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.srandmember(key, count));
-            }
-        });
+    public Object eval(String script, int keyCount, String... params) {
+        return doAsynchronously(Operations.eval(script, keyCount, params));
     }
 
-    public Long zadd(final String key, final double score, final String member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Object eval(String script, List<String> keys, List<String> args) {
+        return doAsynchronously(Operations.eval(script, keys, args));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zadd(key, score, member));
-            }
-        });
+    public Object eval(String script) {
+        return doAsynchronously(Operations.eval(script));
     }
 
-    public Long zadd(final String key, final Map<String, Double> scoreMembers) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Object evalsha(String script) {
+        return doAsynchronously(Operations.evalsha(script));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zadd(key, scoreMembers));
-            }
-        });
+    public Object evalsha(String sha1, List<String> keys, List<String> args) {
+        return doAsynchronously(Operations.evalsha(sha1, keys, args));
     }
 
-    public Set<String> zrange(final String key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Object evalsha(String sha1, int keyCount, String... params) {
+        return doAsynchronously(Operations.evalsha(sha1, keyCount, params));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrange(key, start, end));
-            }
-        });
+    public Boolean scriptExists(String sha1) {
+        return doAsynchronously(Operations.scriptExists(sha1));
     }
 
-    public Long zrem(final String key, final String... members) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public List<Boolean> scriptExists(String... sha1) {
+        return doAsynchronously(Operations.scriptExists(sha1));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zrem(key, members));
-            }
-        });
+    public String scriptLoad(String script) {
+        return doAsynchronously(Operations.scriptLoad(script));
     }
 
-    public Double zincrby(final String key, final double score, final String member) {
-        return doAsynchronously(new AsyncOperation<Double>() {
+    public List<Slowlog> slowlogGet() {
+        return doAsynchronously(Operations.slowlogGet());
+    }
 
-            @Override
-            public OperationResult<Double> execute(Jedis jedis) {
-                return new OperationResult<Double>(jedis.zincrby(key, score, member));
-            }
-        });
+    public List<Slowlog> slowlogGet(long entries) {
+        return doAsynchronously(Operations.slowlogGet(entries));
     }
 
-    public Long zrank(final String key, final String member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long objectRefcount(String string) {
+        return doAsynchronously(Operations.objectRefcount(string));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zrank(key, member));
-            }
-        });
+    public String objectEncoding(String string) {
+        return doAsynchronously(Operations.objectEncoding(string));
     }
 
-    public Long zrevrank(final String key, final String member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long objectIdletime(String string) {
+        return doAsynchronously(Operations.objectIdletime(string));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zrevrank(key, member));
-            }
-        });
+    public Long bitcount(String key) {
+        return doAsynchronously(Operations.bitcount(key));
     }
 
-    public Set<String> zrevrange(final String key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Long bitcount(String key, long start, long end) {
+        return doAsynchronously(Operations.bitcount(key, start, end));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrevrange(key, start, end));
-            }
-        });
+    public Long bitop(BitOP op, String destKey, String... srcKeys) {
+        return doAsynchronously(Operations.bitop(op, destKey, srcKeys));
     }
 
-    public Set<Tuple> zrangeWithScores(final String key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
+    public byte[] dump(String key) {
+        return doAsynchronously(Operations.dump(key));
+    }
 
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeWithScores(key, start, end));
-            }
-        });
+    public String restore(String key, int ttl, byte[] serializedValue) {
+        return doAsynchronously(Operations.restore(key, ttl, serializedValue));
     }
 
-    public Set<Tuple> zrevrangeWithScores(final String key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
+    @Deprecated
+    public Long pexpire(String key, int milliseconds) {
+        return doAsynchronously(Operations.pexpire(key, milliseconds));
+    }
 
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeWithScores(key, start, end));
-            }
-        });
+    public Long pexpire(String key, long milliseconds) {
+        return doAsynchronously(Operations.pexpire(key, milliseconds));
     }
 
-    public Long zcard(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long pexpireAt(String key, long millisecondsTimestamp) {
+        return doAsynchronously(Operations.pexpireAt(key, millisecondsTimestamp));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zcard(key));
-            }
-        });
+    public Long pttl(String key) {
+        return doAsynchronously(Operations.pttl(key));
     }
 
-    public Double zscore(final String key, final String member) {
-        return doAsynchronously(new AsyncOperation<Double>() {
+    public String psetex(String key, int milliseconds, String value) {
+        return doAsynchronously(Operations.psetex(key, milliseconds, value));
+    }
 
-            @Override
-            public OperationResult<Double> execute(Jedis jedis) {
-                return new OperationResult<Double>(jedis.zscore(key, member));
-            }
-        });
+    public String set(String key, String value, String nxxx) {
+        return doAsynchronously(Operations.set(key, value, nxxx));
     }
 
-    public List<String> sort(final String key) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public String set(String key, String value, String nxxx, String expx, int time) {
+        return doAsynchronously(Operations.set(key, value, nxxx, expx, time));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.sort(key));
-            }
-        });
+    public String clientKill(String client) {
+        return doAsynchronously(Operations.clientKill(client));
     }
 
-    public List<String> sort(final String key, final SortingParams sortingParameters) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public String clientSetname(String name) {
+        return doAsynchronously(Operations.clientSetname(name));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.sort(key, sortingParameters));
-            }
-        });
+    public String migrate(String host, int port, String key, int destinationDb, int timeout) {
+        return doAsynchronously(Operations.migrate(host, port, key, destinationDb, timeout));
     }
 
-    public List<String> blpop(final String... keys) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    @Deprecated
+    public ScanResult<String> scan(int cursor) {
+        return doAsynchronously(Operations.scan(cursor));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.blpop(keys));
-            }
-        });
+    @Deprecated
+    public ScanResult<String> scan(int cursor, ScanParams params) {
+        return doAsynchronously(Operations.scan(cursor, params));
     }
 
-    public List<String> blpop(final String key) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    @Deprecated
+    public ScanResult<Entry<String, String>> hscan(String key, int cursor) {
+        return doAsynchronously(Operations.hscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.blpop(key));
-            }
-        });
+    @Deprecated
+    public ScanResult<Entry<String, String>> hscan(String key, int cursor, ScanParams params) {
+        return doAsynchronously(Operations.hscan(key, cursor, params));
     }
 
-    public List<String> blpop(final int timeout, final String... keys) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    @Deprecated
+    public ScanResult<String> sscan(String key, int cursor) {
+        return doAsynchronously(Operations.sscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.blpop(timeout, keys));
-            }
-        });
+    @Deprecated
+    public ScanResult<String> sscan(String key, int cursor, ScanParams params) {
+        return doAsynchronously(Operations.sscan(key, cursor, params));
     }
 
-    public Long sort(final String key, final SortingParams sortingParameters, final String dstkey) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    @Deprecated
+    public ScanResult<Tuple> zscan(String key, int cursor) {
+        return doAsynchronously(Operations.zscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sort(key, sortingParameters, dstkey));
-            }
-        });
+    @Deprecated
+    public ScanResult<Tuple> zscan(String key, int cursor, ScanParams params) {
+        return doAsynchronously(Operations.zscan(key, cursor, params));
     }
 
-    public Long sort(final String key, final String dstkey) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public ScanResult<String> scan(String cursor) {
+        return doAsynchronously(Operations.scan(cursor));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sort(key, dstkey));
-            }
-        });
+    public ScanResult<String> scan(String cursor, ScanParams params) {
+        return doAsynchronously(Operations.scan(cursor, params));
     }
 
-    public List<String> brpop(final int timeout, final String... keys) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public ScanResult<Entry<String, String>> hscan(String key, String cursor) {
+        return doAsynchronously(Operations.hscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.brpop(timeout, keys));
-            }
-        });
+    public ScanResult<Entry<String, String>> hscan(String key, String cursor, ScanParams params) {
+        return doAsynchronously(Operations.hscan(key, cursor, params));
     }
 
-    public List<String> brpop(final String... keys) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public ScanResult<String> sscan(String key, String cursor) {
+        return doAsynchronously(Operations.sscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.brpop(keys));
-            }
-        });
+    public ScanResult<String> sscan(String key, String cursor, ScanParams params) {
+        return doAsynchronously(Operations.sscan(key, cursor, params));
     }
 
-    public List<String> brpop(final String key) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public ScanResult<Tuple> zscan(String key, String cursor) {
+        return doAsynchronously(Operations.zscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.brpop(key));
-            }
-        });
+    public ScanResult<Tuple> zscan(String key, String cursor, ScanParams params) {
+        return doAsynchronously(Operations.zscan(key, cursor, params));
     }
 
-    public List<byte[]> brpop(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
+    public long pfcount(String key) {
+        return doAsynchronously(Operations.pfcount(key));
+    }
 
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.brpop(key));
-            }
-        });
+    public Long pfcount(String... keys) {
+        return doAsynchronously(Operations.pfcount(keys));
     }
 
-    public Long zcount(final String key, final double min, final double max) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String pfmerge(String destkey, String... sourcekeys) {
+        return doAsynchronously(Operations.pfmerge(destkey, sourcekeys));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zcount(key, min, max));
-            }
-        });
+    public String ping() {
+        return doAsynchronously(Operations.ping());
     }
 
-    public Long zcount(final String key, final String min, final String max) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String set(byte[] key, byte[] value) {
+        return doAsynchronously(Operations.set(key, value));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zcount(key, min, max));
-            }
-        });
+    public String set(byte[] key, byte[] value, byte[] nxxx, byte[] expx, long time) {
+        return doAsynchronously(Operations.set(key, value, nxxx, expx, time));
     }
 
-    public Set<String> zrangeByScore(final String key, final double min, final double max) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public byte[] get(byte[] key) {
+        return doAsynchronously(Operations.get(key));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrangeByScore(key, min, max));
-            }
-        });
+    public String quit() {
+        return doAsynchronously(Operations.quit());
     }
 
-    public Set<String> zrangeByScore(final String key, final String min, final String max) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Boolean exists(byte[] key) {
+        return doAsynchronously(Operations.exists(key));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrangeByScore(key, min, max));
-            }
-        });
+    public Long del(byte[]... keys) {
+        return doAsynchronously(Operations.del(keys));
     }
 
-    public Set<String> zrangeByScore(final String key, final double min, final double max, final int offset,
-                                     final int count) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public Long del(byte[] key) {
+        return doAsynchronously(Operations.del(key));
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrangeByScore(key, min, max, offset, count));
-            }
-        });
+    public String type(byte[] key) {
+        return doAsynchronously(Operations.type(key));
     }
 
-    public Set<String> zrangeByScore(final String key, final String min, final String max, final int offset,
-                                     final int count) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
+    public String flushDB() {
+        return doAsynchronously(Operations.flushDB());
+    }
 
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrangeByScore(key, min, max, offset, count));
-            }
-        });
+    public Set<byte[]> keys(byte[] pattern) {
+        return doAsynchronously(Operations.keys(pattern));
     }
 
-    public Set<Tuple> zrangeByScoreWithScores(final String key, final double min, final double max) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
+    public byte[] randomBinaryKey() {
+        return doAsynchronously(Operations.randomBinaryKey());
+    }
 
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeByScoreWithScores(key, min, max));
-            }
-        });
+    public String rename(byte[] oldkey, byte[] newkey) {
+        return doAsynchronously(Operations.rename(oldkey, newkey));
     }
 
-    public Set<Tuple> zrangeByScoreWithScores(final String key, final String min, final String max) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
+    public Long renamenx(byte[] oldkey, byte[] newkey) {
+        return doAsynchronously(Operations.renamenx(oldkey, newkey));
+    }
 
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeByScoreWithScores(key, min, max));
-            }
-        });
+    public Long dbSize() {
+        return doAsynchronously(Operations.dbSize());
     }
 
-    public Set<Tuple> zrangeByScoreWithScores(final String key, final double min, final double max, final int offset,
-                                              final int count) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
+    public Long expire(byte[] key, int seconds) {
+        return doAsynchronously(Operations.expire(key, seconds));
+    }
 
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeByScoreWithScores(key, min, max, offset, count));
-            }
-        });
+    public Long expireAt(byte[] key, long unixTime) {
+        return doAsynchronously(Operations.expireAt(key, unixTime));
     }
 
-    public Set<Tuple> zrangeByScoreWithScores(final String key, final String min, final String max, final int offset,
-                                              final int count) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeByScoreWithScores(key, min, max, offset, count));
-            }
-        });
+    public Long ttl(byte[] key) {
+        return doAsynchronously(Operations.ttl(key));
     }
 
-    public Set<String> zrevrangeByScore(final String key, final double max, final double min) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
-
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrevrangeByScore(key, max, min));
-            }
-        });
+    public String select(int index) {
+        return doAsynchronously(Operations.select(index));
     }
 
-    public Set<String> zrevrangeByScore(final String key, final String max, final String min) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
-
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrevrangeByScore(key, max, min));
-            }
-        });
+    public Long move(byte[] key, int dbIndex) {
+        return doAsynchronously(Operations.move(key, dbIndex));
     }
 
-    public Set<String> zrevrangeByScore(final String key, final double max, final double min, final int offset,
-                                        final int count) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
-
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrevrangeByScore(key, max, min, offset, count));
-            }
-        });
+    public String flushAll() {
+        return doAsynchronously(Operations.flushAll());
     }
 
-    public Set<Tuple> zrevrangeByScoreWithScores(final String key, final double max, final double min) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeByScoreWithScores(key, max, min));
-            }
-        });
+    public byte[] getSet(byte[] key, byte[] value) {
+        return doAsynchronously(Operations.getSet(key, value));
     }
 
-    public Set<Tuple> zrevrangeByScoreWithScores(final String key, final double max, final double min,
-                                                 final int offset, final int count) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeByScoreWithScores(key, max, min, offset, count));
-            }
-        });
+    public List<byte[]> mget(byte[]... keys) {
+        return doAsynchronously(Operations.mget(keys));
     }
 
-    public Set<Tuple> zrevrangeByScoreWithScores(final String key, final String max, final String min,
-                                                 final int offset, final int count) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeByScoreWithScores(key, max, min, offset, count));
-            }
-        });
+    public Long setnx(byte[] key, byte[] value) {
+        return doAsynchronously(Operations.setnx(key, value));
     }
 
-    public Set<String> zrevrangeByScore(final String key, final String max, final String min, final int offset,
-                                        final int count) {
-        return doAsynchronously(new AsyncOperation<Set<String>>() {
-
-            @Override
-            public OperationResult<Set<String>> execute(Jedis jedis) {
-                return new OperationResult<Set<String>>(jedis.zrevrangeByScore(key, max, min, offset, count));
-            }
-        });
+    public String setex(byte[] key, int seconds, byte[] value) {
+        return doAsynchronously(Operations.setex(key, seconds, value));
     }
 
-    public Set<Tuple> zrevrangeByScoreWithScores(final String key, final String max, final String min) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeByScoreWithScores(key, max, min));
-            }
-        });
+    public String mset(byte[]... keysvalues) {
+        return doAsynchronously(Operations.mset(keysvalues));
     }
 
-    public Long zremrangeByRank(final String key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zremrangeByRank(key, start, end));
-            }
-        });
+    public Long msetnx(byte[]... keysvalues) {
+        return doAsynchronously(Operations.msetnx(keysvalues));
     }
 
-    public Long zremrangeByScore(final String key, final double start, final double end) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zremrangeByScore(key, start, end));
-            }
-        });
+    public Long decrBy(byte[] key, long integer) {
+        return doAsynchronously(Operations.decrBy(key, integer));
     }
 
-    public Long zremrangeByScore(final String key, final String start, final String end) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zremrangeByScore(key, start, end));
-            }
-        });
+    public Long decr(byte[] key) {
+        return doAsynchronously(Operations.decr(key));
     }
 
-    public Long zunionstore(final String dstkey, final String... sets) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zunionstore(dstkey, sets));
-            }
-        });
+    public Long incrBy(byte[] key, long integer) {
+        return doAsynchronously(Operations.incrBy(key, integer));
     }
 
-    public Long zunionstore(final String dstkey, final ZParams params, final String... sets) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zunionstore(dstkey, params, sets));
-            }
-        });
+    public Double incrByFloat(byte[] key, double integer) {
+        return doAsynchronously(Operations.incrByFloat(key, integer));
     }
 
-    public Long zinterstore(final String dstkey, final String... sets) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zinterstore(dstkey, sets));
-            }
-        });
+    public Long incr(byte[] key) {
+        return doAsynchronously(Operations.incr(key));
     }
 
-    public Long zinterstore(final String dstkey, final ZParams params, final String... sets) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zinterstore(dstkey, params, sets));
-            }
-        });
+    public Long append(byte[] key, byte[] value) {
+        return doAsynchronously(Operations.append(key, value));
     }
 
-    public Long strlen(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.strlen(key));
-            }
-        });
+    public byte[] substr(byte[] key, int start, int end) {
+        return doAsynchronously(Operations.substr(key, start, end));
     }
 
-    public Long lpushx(final String key, final String... string) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.lpushx(key, string));
-            }
-        });
+    public Long hset(byte[] key, byte[] field, byte[] value) {
+        return doAsynchronously(Operations.hset(key, field, value));
     }
 
-    public Long lpushx(final byte[] key, final byte[]... string) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.lpushx(key, string));
-            }
-        });
+    public byte[] hget(byte[] key, byte[] field) {
+        return doAsynchronously(Operations.hget(key, field));
     }
 
-    public Long persist(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.persist(key));
-            }
-        });
+    public Long hsetnx(byte[] key, byte[] field, byte[] value) {
+        return doAsynchronously(Operations.hsetnx(key, field, value));
     }
 
-    public Long rpushx(final String key, final String... string) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.rpushx(key, string));
-            }
-        });
+    public String hmset(byte[] key, Map<byte[], byte[]> hash) {
+        return doAsynchronously(Operations.hmset(key, hash));
     }
 
-    public String echo(final String string) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.echo(string));
-            }
-        });
+    public List<byte[]> hmget(byte[] key, byte[]... fields) {
+        return doAsynchronously(Operations.hmget(key, fields));
     }
 
-    public Long linsert(final String key, final LIST_POSITION where, final String pivot, final String value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.linsert(key, where, pivot, value));
-            }
-        });
+    public Long hincrBy(byte[] key, byte[] field, long value) {
+        return doAsynchronously(Operations.hincrBy(key, field, value));
     }
 
-    public String brpoplpush(final String source, final String destination, final int timeout) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.brpoplpush(source, destination, timeout));
-            }
-        });
+    public Double hincrByFloat(byte[] key, byte[] field, double value) {
+        return doAsynchronously(Operations.hincrByFloat(key, field, value));
     }
 
-    public Boolean setbit(final String key, final long offset, final boolean value) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
-
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.setbit(key, offset, value));
-            }
-        });
+    public Boolean hexists(byte[] key, byte[] field) {
+        return doAsynchronously(Operations.hexists(key, field));
     }
 
-    public Boolean setbit(final String key, final long offset, final String value) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
-
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.setbit(key, offset, value));
-            }
-        });
+    public Long hdel(byte[] key, byte[]... fields) {
+        return doAsynchronously(Operations.hdel(key, fields));
     }
 
-    public Boolean getbit(final String key, final long offset) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
-
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.getbit(key, offset));
-            }
-        });
+    public Long hlen(byte[] key) {
+        return doAsynchronously(Operations.hlen(key));
     }
 
-    public Long setrange(final String key, final long offset, final String value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.setrange(key, offset, value));
-            }
-        });
+    public Set<byte[]> hkeys(byte[] key) {
+        return doAsynchronously(Operations.hkeys(key));
     }
 
-    public String getrange(final String key, final long startOffset, final long endOffset) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.getrange(key, startOffset, endOffset));
-            }
-        });
+    public List<byte[]> hvals(byte[] key) {
+        return doAsynchronously(Operations.hvals(key));
     }
 
-    public Long bitpos(final String key, final boolean value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitpos(key, value));
-            }
-        });
+    public Map<byte[], byte[]> hgetAll(byte[] key) {
+        return doAsynchronously(Operations.hgetAll(key));
     }
 
-    public Long bitpos(final String key, final boolean value, final BitPosParams params) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitpos(key, value, params));
-            }
-        });
+    public Long rpush(byte[] key, byte[]... strings) {
+        return doAsynchronously(Operations.rpush(key, strings));
     }
 
-    public List<String> configGet(final String pattern) {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
-
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.configGet(pattern));
-            }
-        });
+    public Long lpush(byte[] key, byte[]... strings) {
+        return doAsynchronously(Operations.lpush(key, strings));
     }
 
-    public String configSet(final String parameter, final String value) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.configSet(parameter, value));
-            }
-        });
+    public Long llen(byte[] key) {
+        return doAsynchronously(Operations.llen(key));
     }
 
-    public Object eval(final String script, final int keyCount, final String... params) {
-        return doAsynchronously(new AsyncOperation<Object>() {
-
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.eval(script, keyCount, params));
-            }
-        });
+    public List<byte[]> lrange(byte[] key, long start, long end) {
+        return doAsynchronously(Operations.lrange(key, start, end));
     }
 
-    public Object eval(final String script, final List<String> keys, final List<String> args) {
-        return doAsynchronously(new AsyncOperation<Object>() {
-
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.eval(script, keys, args));
-            }
-        });
+    public String ltrim(byte[] key, long start, long end) {
+        return doAsynchronously(Operations.ltrim(key, start, end));
     }
 
-    public Object eval(final String script) {
-        return doAsynchronously(new AsyncOperation<Object>() {
-
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.eval(script));
-            }
-        });
+    public byte[] lindex(byte[] key, long index) {
+        return doAsynchronously(Operations.lindex(key, index));
     }
 
-    public Object evalsha(final String script) {
-        return doAsynchronously(new AsyncOperation<Object>() {
-
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.evalsha(script));
-            }
-        });
+    public String lset(byte[] key, long index, byte[] value) {
+        return doAsynchronously(Operations.lset(key, index, value));
     }
 
-    public Object evalsha(final String sha1, final List<String> keys, final List<String> args) {
-        return doAsynchronously(new AsyncOperation<Object>() {
-
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.evalsha(sha1, keys, args));
-            }
-        });
+    public Long lrem(byte[] key, long count, byte[] value) {
+        return doAsynchronously(Operations.lrem(key, count, value));
     }
 
-    public Object evalsha(final String sha1, final int keyCount, final String... params) {
-        return doAsynchronously(new AsyncOperation<Object>() {
-
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.evalsha(sha1, keyCount, params));
-            }
-        });
+    public byte[] lpop(byte[] key) {
+        return doAsynchronously(Operations.lpop(key));
     }
 
-    public Boolean scriptExists(final String sha1) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
-
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.scriptExists(sha1));
-            }
-        });
+    public byte[] rpop(byte[] key) {
+        return doAsynchronously(Operations.rpop(key));
     }
 
-    public List<Boolean> scriptExists(final String... sha1) {
-        return doAsynchronously(new AsyncOperation<List<Boolean>>() {
-
-            @Override
-            public OperationResult<List<Boolean>> execute(Jedis jedis) {
-                return new OperationResult<List<Boolean>>(jedis.scriptExists(sha1));
-            }
-        });
+    public byte[] rpoplpush(byte[] srckey, byte[] dstkey) {
+        return doAsynchronously(Operations.rpoplpush(srckey, dstkey));
     }
 
-    public String scriptLoad(final String script) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.scriptLoad(script));
-            }
-        });
+    public Long sadd(byte[] key, byte[]... members) {
+        return doAsynchronously(Operations.sadd(key, members));
     }
 
-    public List<Slowlog> slowlogGet() {
-        return doAsynchronously(new AsyncOperation<List<Slowlog>>() {
-
-            @Override
-            public OperationResult<List<Slowlog>> execute(Jedis jedis) {
-                return new OperationResult<List<Slowlog>>(jedis.slowlogGet());
-            }
-        });
+    public Set<byte[]> smembers(byte[] key) {
+        return doAsynchronously(Operations.smembers(key));
     }
 
-    public List<Slowlog> slowlogGet(final long entries) {
-        return doAsynchronously(new AsyncOperation<List<Slowlog>>() {
-
-            @Override
-            public OperationResult<List<Slowlog>> execute(Jedis jedis) {
-                return new OperationResult<List<Slowlog>>(jedis.slowlogGet(entries));
-            }
-        });
+    public Long srem(byte[] key, byte[]... member) {
+        return doAsynchronously(Operations.srem(key, member));
     }
 
-    public Long objectRefcount(final String string) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.objectRefcount(string));
-            }
-        });
+    public byte[] spop(byte[] key) {
+        return doAsynchronously(Operations.spop(key));
     }
 
-    public String objectEncoding(final String string) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.objectEncoding(string));
-            }
-        });
+    public Long smove(byte[] srckey, byte[] dstkey, byte[] member) {
+        return doAsynchronously(Operations.smove(srckey, dstkey, member));
     }
 
-    public Long objectIdletime(final String string) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.objectIdletime(string));
-            }
-        });
+    public Long scard(byte[] key) {
+        return doAsynchronously(Operations.scard(key));
     }
 
-    public Long bitcount(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitcount(key));
-            }
-        });
+    public Boolean sismember(byte[] key, byte[] member) {
+        return doAsynchronously(Operations.sismember(key, member));
     }
 
-    public Long bitcount(final String key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitcount(key, start, end));
-            }
-        });
+    public Set<byte[]> sinter(byte[]... keys) {
+        return doAsynchronously(Operations.sinter(keys));
     }
 
-    public Long bitop(final BitOP op, final String destKey, final String... srcKeys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitop(op, destKey, srcKeys));
-            }
-        });
+    public Long sinterstore(byte[] dstkey, byte[]... keys) {
+        return doAsynchronously(Operations.sinterstore(dstkey, keys));
     }
 
-    public byte[] dump(final String key) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.dump(key));
-            }
-        });
+    public Set<byte[]> sunion(byte[]... keys) {
+        return doAsynchronously(Operations.sunion(keys));
     }
 
-    public String restore(final String key, final int ttl, final byte[] serializedValue) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.restore(key, ttl, serializedValue));
-            }
-        });
+    public Long sunionstore(byte[] dstkey, byte[]... keys) {
+        return doAsynchronously(Operations.sunionstore(dstkey, keys));
     }
 
-    @Deprecated
-    public Long pexpire(final String key, final int milliseconds) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pexpire(key, milliseconds));
-            }
-        });
+    public Set<byte[]> sdiff(byte[]... keys) {
+        return doAsynchronously(Operations.sdiff(keys));
     }
 
-    public Long pexpire(final String key, final long milliseconds) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pexpire(key, milliseconds));
-            }
-        });
+    public Long sdiffstore(byte[] dstkey, byte[]... keys) {
+        return doAsynchronously(Operations.sdiffstore(dstkey, keys));
     }
 
-    public Long pexpireAt(final String key, final long millisecondsTimestamp) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pexpireAt(key, millisecondsTimestamp));
-            }
-        });
+    public byte[] srandmember(byte[] key) {
+        return doAsynchronously(Operations.srandmember(key));
     }
 
-    public Long pttl(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pttl(key));
-            }
-        });
+    public List<byte[]> srandmember(byte[] key, int count) {
+        return doAsynchronously(Operations.srandmember(key, count));
     }
 
-    public String psetex(final String key, final int milliseconds, final String value) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long zadd(byte[] key, double score, byte[] member) {
+        return doAsynchronously(Operations.zadd(key, score, member));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.psetex(key, milliseconds, value));
-            }
-        });
+    public Long zadd(byte[] key, Map<byte[], Double> scoreMembers) {
+        return doAsynchronously(Operations.zadd(key, scoreMembers));
     }
 
-    public String set(final String key, final String value, final String nxxx) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Set<byte[]> zrange(byte[] key, long start, long end) {
+        return doAsynchronously(Operations.zrange(key, start, end));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.set(key, value, nxxx));
-            }
-        });
+    public Long zrem(byte[] key, byte[]... members) {
+        return doAsynchronously(Operations.zrem(key, members));
     }
 
-    public String set(final String key, final String value, final String nxxx, final String expx, final int time) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Double zincrby(byte[] key, double score, byte[] member) {
+        return doAsynchronously(Operations.zincrby(key, score, member));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.set(key, value, nxxx, expx, time));
-            }
-        });
+    public Long zrank(byte[] key, byte[] member) {
+        return doAsynchronously(Operations.zrank(key, member));
     }
 
-    public String clientKill(final String client) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long zrevrank(byte[] key, byte[] member) {
+        return doAsynchronously(Operations.zrevrank(key, member));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.clientKill(client));
-            }
-        });
+    public Set<byte[]> zrevrange(byte[] key, long start, long end) {
+        return doAsynchronously(Operations.zrevrange(key, start, end));
     }
 
-    public String clientSetname(final String name) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Set<Tuple> zrangeWithScores(byte[] key, long start, long end) {
+        return doAsynchronously(Operations.zrangeWithScores(key, start, end));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.clientSetname(name));
-            }
-        });
+    public Set<Tuple> zrevrangeWithScores(byte[] key, long start, long end) {
+        return doAsynchronously(Operations.zrevrangeWithScores(key, start, end));
     }
 
-    public String migrate(final String host, final int port, final String key, final int destinationDb,
-                          final int timeout) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long zcard(byte[] key) {
+        return doAsynchronously(Operations.zcard(key));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.migrate(host, port, key, destinationDb, timeout));
-            }
-        });
+    public Double zscore(byte[] key, byte[] member) {
+        return doAsynchronously(Operations.zscore(key, member));
     }
 
-    @Deprecated
-    public ScanResult<String> scan(final int cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<String>>() {
+    public void connect() {
+        doAsynchronously(new AsyncOperation<Void>() {
 
             @Override
-            public OperationResult<ScanResult<String>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<String>>(jedis.scan(cursor));
-            }
-        });
-    }
-
-    @Deprecated
-    public ScanResult<String> scan(final int cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<String>>() {
-
-            @Override
-            public OperationResult<ScanResult<String>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<String>>(jedis.scan(cursor, params));
-            }
-        });
-    }
-
-    @Deprecated
-    public ScanResult<Entry<String, String>> hscan(final String key, final int cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Entry<String, String>>>() {
-
-            @Override
-            public OperationResult<ScanResult<Entry<String, String>>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Entry<String, String>>>(jedis.hscan(key, cursor));
-            }
-        });
-    }
-
-    @Deprecated
-    public ScanResult<Entry<String, String>> hscan(final String key, final int cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Entry<String, String>>>() {
-
-            @Override
-            public OperationResult<ScanResult<Entry<String, String>>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Entry<String, String>>>(jedis.hscan(key, cursor, params));
-            }
-        });
-    }
-
-    @Deprecated
-    public ScanResult<String> sscan(final String key, final int cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<String>>() {
-
-            @Override
-            public OperationResult<ScanResult<String>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<String>>(jedis.sscan(key, cursor));
-            }
-        });
-    }
-
-    @Deprecated
-    public ScanResult<String> sscan(final String key, final int cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<String>>() {
-
-            @Override
-            public OperationResult<ScanResult<String>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<String>>(jedis.sscan(key, cursor, params));
-            }
-        });
-    }
-
-    @Deprecated
-    public ScanResult<Tuple> zscan(final String key, final int cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Tuple>>() {
-
-            @Override
-            public OperationResult<ScanResult<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Tuple>>(jedis.zscan(key, cursor));
-            }
-        });
-    }
-
-    @Deprecated
-    public ScanResult<Tuple> zscan(final String key, final int cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Tuple>>() {
-
-            @Override
-            public OperationResult<ScanResult<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Tuple>>(jedis.zscan(key, cursor, params));
-            }
-        });
-    }
-
-    public ScanResult<String> scan(final String cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<String>>() {
-
-            @Override
-            public OperationResult<ScanResult<String>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<String>>(jedis.scan(cursor));
-            }
-        });
-    }
-
-    public ScanResult<String> scan(final String cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<String>>() {
-
-            @Override
-            public OperationResult<ScanResult<String>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<String>>(jedis.scan(cursor, params));
-            }
-        });
-    }
-
-    public ScanResult<Entry<String, String>> hscan(final String key, final String cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Entry<String, String>>>() {
-
-            @Override
-            public OperationResult<ScanResult<Entry<String, String>>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Entry<String, String>>>(jedis.hscan(key, cursor));
-            }
-        });
-    }
-
-    public ScanResult<Entry<String, String>> hscan(final String key, final String cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Entry<String, String>>>() {
-
-            @Override
-            public OperationResult<ScanResult<Entry<String, String>>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Entry<String, String>>>(jedis.hscan(key, cursor, params));
-            }
-        });
-    }
-
-    public ScanResult<String> sscan(final String key, final String cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<String>>() {
-
-            @Override
-            public OperationResult<ScanResult<String>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<String>>(jedis.sscan(key, cursor));
-            }
-        });
-    }
-
-    public ScanResult<String> sscan(final String key, final String cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<String>>() {
-
-            @Override
-            public OperationResult<ScanResult<String>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<String>>(jedis.sscan(key, cursor, params));
-            }
-        });
-    }
-
-    public ScanResult<Tuple> zscan(final String key, final String cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Tuple>>() {
-
-            @Override
-            public OperationResult<ScanResult<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Tuple>>(jedis.zscan(key, cursor));
-            }
-        });
-    }
-
-    public ScanResult<Tuple> zscan(final String key, final String cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Tuple>>() {
-
-            @Override
-            public OperationResult<ScanResult<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Tuple>>(jedis.zscan(key, cursor, params));
-            }
-        });
-    }
-
-    public long pfcount(final String key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pfcount(key));
-            }
-        });
-    }
-
-    public Long pfcount(final String... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pfcount(keys));
-            }
-        });
-    }
-
-    public String pfmerge(final String destkey, final String... sourcekeys) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.pfmerge(destkey, sourcekeys));
-            }
-        });
-    }
-
-    public String ping() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.ping());
-            }
-        });
-    }
-
-    public String set(final byte[] key, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.set(key, value));
-            }
-        });
-    }
-
-    public String set(final byte[] key, final byte[] value, final byte[] nxxx, final byte[] expx, final long time) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.set(key, value, nxxx, expx, time));
-            }
-        });
-    }
-
-    public byte[] get(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.get(key));
-            }
-        });
-    }
-
-    public String quit() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.quit());
-            }
-        });
-    }
-
-    public Boolean exists(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
-
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.exists(key));
-            }
-        });
-    }
-
-    public Long del(final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.del(keys));
-            }
-        });
-    }
-
-    public Long del(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.del(key));
-            }
-        });
-    }
-
-    public String type(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.type(key));
-            }
-        });
-    }
-
-    public String flushDB() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.flushDB());
-            }
-        });
-    }
-
-    public Set<byte[]> keys(final byte[] pattern) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.keys(pattern));
-            }
-        });
-    }
-
-    public byte[] randomBinaryKey() {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.randomBinaryKey());
-            }
-        });
-    }
-
-    public String rename(final byte[] oldkey, final byte[] newkey) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.rename(oldkey, newkey));
-            }
-        });
-    }
-
-    public Long renamenx(final byte[] oldkey, final byte[] newkey) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.renamenx(oldkey, newkey));
-            }
-        });
-    }
-
-    public Long dbSize() {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.dbSize());
-            }
-        });
-    }
-
-    public Long expire(final byte[] key, final int seconds) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.expire(key, seconds));
-            }
-        });
-    }
-
-    public Long expireAt(final byte[] key, final long unixTime) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.expireAt(key, unixTime));
-            }
-        });
-    }
-
-    public Long ttl(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.ttl(key));
-            }
-        });
-    }
-
-    public String select(final int index) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.select(index));
-            }
-        });
-    }
-
-    public Long move(final byte[] key, final int dbIndex) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.move(key, dbIndex));
-            }
-        });
-    }
-
-    public String flushAll() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.flushAll());
-            }
-        });
-    }
-
-    public byte[] getSet(final byte[] key, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.getSet(key, value));
-            }
-        });
-    }
-
-    public List<byte[]> mget(final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.mget(keys));
-            }
-        });
-    }
-
-    public Long setnx(final byte[] key, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.setnx(key, value));
-            }
-        });
-    }
-
-    public String setex(final byte[] key, final int seconds, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.setex(key, seconds, value));
-            }
-        });
-    }
-
-    public String mset(final byte[]... keysvalues) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.mset(keysvalues));
-            }
-        });
-    }
-
-    public Long msetnx(final byte[]... keysvalues) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.msetnx(keysvalues));
-            }
-        });
-    }
-
-    public Long decrBy(final byte[] key, final long integer) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.decrBy(key, integer));
-            }
-        });
-    }
-
-    public Long decr(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.decr(key));
-            }
-        });
-    }
-
-    public Long incrBy(final byte[] key, final long integer) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.incrBy(key, integer));
-            }
-        });
-    }
-
-    public Double incrByFloat(final byte[] key, final double integer) {
-        return doAsynchronously(new AsyncOperation<Double>() {
-
-            @Override
-            public OperationResult<Double> execute(Jedis jedis) {
-                return new OperationResult<Double>(jedis.incrByFloat(key, integer));
-            }
-        });
-    }
-
-    public Long incr(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.incr(key));
-            }
-        });
-    }
-
-    public Long append(final byte[] key, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.append(key, value));
-            }
-        });
-    }
-
-    public byte[] substr(final byte[] key, final int start, final int end) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.substr(key, start, end));
-            }
-        });
-    }
-
-    public Long hset(final byte[] key, final byte[] field, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hset(key, field, value));
-            }
-        });
-    }
-
-    public byte[] hget(final byte[] key, final byte[] field) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.hget(key, field));
-            }
-        });
-    }
-
-    public Long hsetnx(final byte[] key, final byte[] field, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hsetnx(key, field, value));
-            }
-        });
-    }
-
-    public String hmset(final byte[] key, final Map<byte[], byte[]> hash) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.hmset(key, hash));
-            }
-        });
-    }
-
-    public List<byte[]> hmget(final byte[] key, final byte[]... fields) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.hmget(key, fields));
-            }
-        });
-    }
-
-    public Long hincrBy(final byte[] key, final byte[] field, final long value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hincrBy(key, field, value));
-            }
-        });
-    }
-
-    public Double hincrByFloat(final byte[] key, final byte[] field, final double value) {
-        return doAsynchronously(new AsyncOperation<Double>() {
-
-            @Override
-            public OperationResult<Double> execute(Jedis jedis) {
-                return new OperationResult<Double>(jedis.hincrByFloat(key, field, value));
-            }
-        });
-    }
-
-    public Boolean hexists(final byte[] key, final byte[] field) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
-
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.hexists(key, field));
-            }
-        });
-    }
-
-    public Long hdel(final byte[] key, final byte[]... fields) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hdel(key, fields));
-            }
-        });
-    }
-
-    public Long hlen(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.hlen(key));
-            }
-        });
-    }
-
-    public Set<byte[]> hkeys(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.hkeys(key));
-            }
-        });
-    }
-
-    public List<byte[]> hvals(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.hvals(key));
-            }
-        });
-    }
-
-    public Map<byte[], byte[]> hgetAll(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Map<byte[], byte[]>>() {
-
-            @Override
-            public OperationResult<Map<byte[], byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Map<byte[], byte[]>>(jedis.hgetAll(key));
-            }
-        });
-    }
-
-    public Long rpush(final byte[] key, final byte[]... strings) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.rpush(key, strings));
-            }
-        });
-    }
-
-    public Long lpush(final byte[] key, final byte[]... strings) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.lpush(key, strings));
-            }
-        });
-    }
-
-    public Long llen(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.llen(key));
-            }
-        });
-    }
-
-    public List<byte[]> lrange(final byte[] key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.lrange(key, start, end));
-            }
-        });
-    }
-
-    public String ltrim(final byte[] key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.ltrim(key, start, end));
-            }
-        });
-    }
-
-    public byte[] lindex(final byte[] key, final long index) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.lindex(key, index));
-            }
-        });
-    }
-
-    public String lset(final byte[] key, final long index, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.lset(key, index, value));
-            }
-        });
-    }
-
-    public Long lrem(final byte[] key, final long count, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.lrem(key, count, value));
-            }
-        });
-    }
-
-    public byte[] lpop(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.lpop(key));
-            }
-        });
-    }
-
-    public byte[] rpop(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.rpop(key));
-            }
-        });
-    }
-
-    public byte[] rpoplpush(final byte[] srckey, final byte[] dstkey) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.rpoplpush(srckey, dstkey));
-            }
-        });
-    }
-
-    public Long sadd(final byte[] key, final byte[]... members) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sadd(key, members));
-            }
-        });
-    }
-
-    public Set<byte[]> smembers(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.smembers(key));
-            }
-        });
-    }
-
-    public Long srem(final byte[] key, final byte[]... member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.srem(key, member));
-            }
-        });
-    }
-
-    public byte[] spop(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.spop(key));
-            }
-        });
-    }
-
-    public Long smove(final byte[] srckey, final byte[] dstkey, final byte[] member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.smove(srckey, dstkey, member));
-            }
-        });
-    }
-
-    public Long scard(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.scard(key));
-            }
-        });
-    }
-
-    public Boolean sismember(final byte[] key, final byte[] member) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
-
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.sismember(key, member));
-            }
-        });
-    }
-
-    public Set<byte[]> sinter(final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.sinter(keys));
-            }
-        });
-    }
-
-    public Long sinterstore(final byte[] dstkey, final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sinterstore(dstkey, keys));
-            }
-        });
-    }
-
-    public Set<byte[]> sunion(final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.sunion(keys));
-            }
-        });
-    }
-
-    public Long sunionstore(final byte[] dstkey, final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sunionstore(dstkey, keys));
-            }
-        });
-    }
-
-    public Set<byte[]> sdiff(final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.sdiff(keys));
-            }
-        });
-    }
-
-    public Long sdiffstore(final byte[] dstkey, final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sdiffstore(dstkey, keys));
-            }
-        });
-    }
-
-    public byte[] srandmember(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.srandmember(key));
-            }
-        });
-    }
-
-    public List<byte[]> srandmember(final byte[] key, final int count) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.srandmember(key, count));
-            }
-        });
-    }
-
-    public Long zadd(final byte[] key, final double score, final byte[] member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zadd(key, score, member));
-            }
-        });
-    }
-
-    public Long zadd(final byte[] key, final Map<byte[], Double> scoreMembers) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zadd(key, scoreMembers));
-            }
-        });
-    }
-
-    public Set<byte[]> zrange(final byte[] key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrange(key, start, end));
-            }
-        });
-    }
-
-    public Long zrem(final byte[] key, final byte[]... members) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zrem(key, members));
-            }
-        });
-    }
-
-    public Double zincrby(final byte[] key, final double score, final byte[] member) {
-        return doAsynchronously(new AsyncOperation<Double>() {
-
-            @Override
-            public OperationResult<Double> execute(Jedis jedis) {
-                return new OperationResult<Double>(jedis.zincrby(key, score, member));
-            }
-        });
-    }
-
-    public Long zrank(final byte[] key, final byte[] member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zrank(key, member));
-            }
-        });
-    }
-
-    public Long zrevrank(final byte[] key, final byte[] member) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zrevrank(key, member));
-            }
-        });
-    }
-
-    public Set<byte[]> zrevrange(final byte[] key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrevrange(key, start, end));
-            }
-        });
-    }
-
-    public Set<Tuple> zrangeWithScores(final byte[] key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeWithScores(key, start, end));
-            }
-        });
-    }
-
-    public Set<Tuple> zrevrangeWithScores(final byte[] key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeWithScores(key, start, end));
-            }
-        });
-    }
-
-    public Long zcard(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zcard(key));
-            }
-        });
-    }
-
-    public Double zscore(final byte[] key, final byte[] member) {
-        return doAsynchronously(new AsyncOperation<Double>() {
-
-            @Override
-            public OperationResult<Double> execute(Jedis jedis) {
-                return new OperationResult<Double>(jedis.zscore(key, member));
-            }
-        });
-    }
-
-    public void connect() {
-        doAsynchronously(new AsyncOperation<Void>() {
-
-            @Override
-            public OperationResult<Void> execute(Jedis jedis) {
-                jedis.connect();
-                return null;
-            }
-        });
-    }
-
-    public List<byte[]> sort(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.sort(key));
-            }
-        });
-    }
-
-    public List<byte[]> sort(final byte[] key, final SortingParams sortingParameters) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.sort(key, sortingParameters));
-            }
-        });
-    }
-
-    public List<byte[]> blpop(final int timeout, final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.blpop(timeout, keys));
-            }
-        });
-    }
-
-    public List<byte[]> blpop(final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.blpop(keys));
-            }
-        });
-    }
-
-    public Long sort(final byte[] key, final SortingParams sortingParameters, final byte[] dstkey) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sort(key, sortingParameters, dstkey));
-            }
-        });
-    }
-
-    public Long sort(final byte[] key, final byte[] dstkey) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.sort(key, dstkey));
-            }
-        });
-    }
-
-    public List<byte[]> brpop(final int timeout, final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.brpop(timeout, keys));
-            }
-        });
-    }
-
-    public String auth(final String password) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.auth(password));
-            }
-        });
-    }
-
-    public Long zcount(final byte[] key, final double min, final double max) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zcount(key, min, max));
-            }
-        });
-    }
-
-    public Long zcount(final byte[] key, final byte[] min, final byte[] max) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zcount(key, min, max));
-            }
-        });
-    }
-
-    public Set<byte[]> zrangeByScore(final byte[] key, final double min, final double max) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrangeByScore(key, min, max));
-            }
-        });
-    }
-
-    public Set<byte[]> zrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrangeByScore(key, min, max));
-            }
-        });
-    }
-
-    public Set<byte[]> zrangeByScore(final byte[] key, final double min, final double max, final int offset,
-                                     final int count) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrangeByScore(key, min, max, offset, count));
-            }
-        });
-    }
-
-    public Set<byte[]> zrangeByScore(final byte[] key, final byte[] min, final byte[] max, final int offset,
-                                     final int count) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrangeByScore(key, min, max, offset, count));
-            }
-        });
-    }
-
-    public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final double min, final double max) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeByScoreWithScores(key, min, max));
-            }
-        });
-    }
-
-    public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeByScoreWithScores(key, min, max));
-            }
-        });
-    }
-
-    public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final double min, final double max, final int offset,
-                                              final int count) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeByScoreWithScores(key, min, max, offset, count));
-            }
-        });
-    }
-
-    public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max, final int offset,
-                                              final int count) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrangeByScoreWithScores(key, min, max, offset, count));
-            }
-        });
-    }
-
-    public Set<byte[]> zrevrangeByScore(final byte[] key, final double max, final double min) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrevrangeByScore(key, max, min));
-            }
-        });
-    }
-
-    public Set<byte[]> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrevrangeByScore(key, max, min));
-            }
-        });
-    }
-
-    public Set<byte[]> zrevrangeByScore(final byte[] key, final double max, final double min, final int offset,
-                                        final int count) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrevrangeByScore(key, max, min, offset, count));
-            }
-        });
-    }
-
-    public Set<byte[]> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min, final int offset,
-                                        final int count) {
-        return doAsynchronously(new AsyncOperation<Set<byte[]>>() {
-
-            @Override
-            public OperationResult<Set<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<Set<byte[]>>(jedis.zrevrangeByScore(key, max, min, offset, count));
-            }
-        });
-    }
-
-    public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeByScoreWithScores(key, max, min));
-            }
-        });
-    }
-
-    public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min,
-                                                 final int offset, final int count) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeByScoreWithScores(key, max, min, offset, count));
-            }
-        });
-    }
-
-    public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeByScoreWithScores(key, max, min));
-            }
-        });
-    }
-
-    public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min,
-                                                 final int offset, final int count) {
-        return doAsynchronously(new AsyncOperation<Set<Tuple>>() {
-
-            @Override
-            public OperationResult<Set<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<Set<Tuple>>(jedis.zrevrangeByScoreWithScores(key, max, min, offset, count));
-            }
-        });
-    }
-
-    public Long zremrangeByRank(final byte[] key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zremrangeByRank(key, start, end));
-            }
-        });
-    }
-
-    public Long zremrangeByScore(final byte[] key, final double start, final double end) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zremrangeByScore(key, start, end));
-            }
-        });
-    }
-
-    public Long zremrangeByScore(final byte[] key, final byte[] start, final byte[] end) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zremrangeByScore(key, start, end));
-            }
-        });
-    }
-
-    public Long zunionstore(final byte[] dstkey, final byte[]... sets) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zunionstore(dstkey, sets));
-            }
-        });
-    }
-
-    public Long zunionstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zunionstore(dstkey, params, sets));
-            }
-        });
-    }
-
-    public Long zinterstore(final byte[] dstkey, final byte[]... sets) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zinterstore(dstkey, sets));
-            }
-        });
-    }
-
-    public Long zinterstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.zinterstore(dstkey, params, sets));
-            }
-        });
-    }
-
-    public String save() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.save());
-            }
-        });
-    }
-
-    public String bgsave() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.bgsave());
-            }
-        });
-    }
-
-    public String bgrewriteaof() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.bgrewriteaof());
-            }
-        });
-    }
-
-    public Long lastsave() {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.lastsave());
-            }
-        });
-    }
-
-    public String shutdown() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.shutdown());
-            }
-        });
-    }
-
-    public String info() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.info());
-            }
-        });
-    }
-
-    public String info(final String section) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.info(section));
-            }
-        });
-    }
-
-    public void monitor(final JedisMonitor jedisMonitor) {
-        doAsynchronously(new AsyncOperation<Void>() {
-
-            @Override
-            public OperationResult<Void> execute(Jedis jedis) {
-                jedis.monitor(jedisMonitor);
-                return null;
-            }
-        });
-    }
-
-    public String slaveofNoOne() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.slaveofNoOne());
-            }
-        });
-    }
-
-    public List<byte[]> configGet(final byte[] pattern) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
-
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.configGet(pattern));
-            }
-        });
-    }
-
-    public String configResetStat() {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.configResetStat());
-            }
-        });
-    }
-
-    public byte[] configSet(final byte[] parameter, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.configSet(parameter, value));
-            }
-        });
-    }
-
-    public boolean isConnected() {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
-
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.isConnected());
-            }
-        });
-    }
-
-    public Long strlen(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.strlen(key));
-            }
-        });
-    }
-
-    public void sync() {
-        doAsynchronously(new AsyncOperation<Void>() {
-
-            @Override
-            public OperationResult<Void> execute(Jedis jedis) {
-                jedis.sync();
+            public Void execute(Jedis jedis) {
+                jedis.connect();
                 return null;
             }
         });
     }
 
-    public Long persist(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.persist(key));
-            }
-        });
-    }
-
-    public Long rpushx(final byte[] key, final byte[]... string) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.rpushx(key, string));
-            }
-        });
-    }
-
-    public byte[] echo(final byte[] string) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.echo(string));
-            }
-        });
-    }
-
-    public Long linsert(final byte[] key, final LIST_POSITION where, final byte[] pivot, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
-
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.linsert(key, where, pivot, value));
-            }
-        });
-    }
-
-    public String debug(final DebugParams params) {
-        return doAsynchronously(new AsyncOperation<String>() {
-
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.debug(params));
-            }
-        });
-    }
-
-    public Client getClient() {
-        return doAsynchronously(new AsyncOperation<Client>() {
-
-            @Override
-            public OperationResult<Client> execute(Jedis jedis) {
-                return new OperationResult<Client>(jedis.getClient());
-            }
-        });
-    }
-
-    public byte[] brpoplpush(final byte[] source, final byte[] destination, final int timeout) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
-
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.brpoplpush(source, destination, timeout));
-            }
-        });
-    }
-
-    public Boolean setbit(final byte[] key, final long offset, final boolean value) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
+    public List<byte[]> sort(byte[] key) {
+        return doAsynchronously(Operations.sort(key));
+    }
 
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.setbit(key, offset, value));
-            }
-        });
+    public List<byte[]> sort(byte[] key, SortingParams sortingParameters) {
+        return doAsynchronously(Operations.sort(key, sortingParameters));
     }
 
-    public Boolean setbit(final byte[] key, final long offset, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
+    public List<byte[]> blpop(int timeout, byte[]... keys) {
+        return doAsynchronously(Operations.blpop(timeout, keys));
+    }
 
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.setbit(key, offset, value));
-            }
-        });
+    public List<byte[]> blpop(byte[]... keys) {
+        return doAsynchronously(Operations.blpop(keys));
     }
 
-    public Boolean getbit(final byte[] key, final long offset) {
-        return doAsynchronously(new AsyncOperation<Boolean>() {
+    public Long sort(byte[] key, SortingParams sortingParameters, byte[] dstkey) {
+        return doAsynchronously(Operations.sort(key, sortingParameters, dstkey));
+    }
 
-            @Override
-            public OperationResult<Boolean> execute(Jedis jedis) {
-                return new OperationResult<Boolean>(jedis.getbit(key, offset));
-            }
-        });
+    public Long sort(byte[] key, byte[] dstkey) {
+        return doAsynchronously(Operations.sort(key, dstkey));
     }
 
-    public Long bitpos(final byte[] key, final boolean value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public List<byte[]> brpop(int timeout, byte[]... keys) {
+        return doAsynchronously(Operations.brpop(timeout, keys));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitpos(key, value));
-            }
-        });
+    public String auth(String password) {
+        return doAsynchronously(Operations.auth(password));
     }
 
-    public Long bitpos(final byte[] key, final boolean value, final BitPosParams params) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long zcount(byte[] key, double min, double max) {
+        return doAsynchronously(Operations.zcount(key, min, max));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitpos(key, value, params));
-            }
-        });
+    public Long zcount(byte[] key, byte[] min, byte[] max) {
+        return doAsynchronously(Operations.zcount(key, min, max));
     }
 
-    public Long setrange(final byte[] key, final long offset, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Set<byte[]> zrangeByScore(byte[] key, double min, double max) {
+        return doAsynchronously(Operations.zrangeByScore(key, min, max));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.setrange(key, offset, value));
-            }
-        });
+    public Set<byte[]> zrangeByScore(byte[] key, byte[] min, byte[] max) {
+        return doAsynchronously(Operations.zrangeByScore(key, min, max));
     }
 
-    public byte[] getrange(final byte[] key, final long startOffset, final long endOffset) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
+    public Set<byte[]> zrangeByScore(byte[] key, double min, double max, int offset, int count) {
+        return doAsynchronously(Operations.zrangeByScore(key, min, max, offset, count));
+    }
 
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.getrange(key, startOffset, endOffset));
-            }
-        });
+    public Set<byte[]> zrangeByScore(byte[] key, byte[] min, byte[] max, int offset, int count) {
+        return doAsynchronously(Operations.zrangeByScore(key, min, max, offset, count));
     }
 
-    public Object eval(final byte[] script, final List<byte[]> keys, final List<byte[]> args) {
-        return doAsynchronously(new AsyncOperation<Object>() {
+    public Set<Tuple> zrangeByScoreWithScores(byte[] key, double min, double max) {
+        return doAsynchronously(Operations.zrangeByScoreWithScores(key, min, max));
+    }
 
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.eval(script, keys, args));
-            }
-        });
+    public Set<Tuple> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max) {
+        return doAsynchronously(Operations.zrangeByScoreWithScores(key, min, max));
     }
 
-    public Object eval(final byte[] script, final byte[] keyCount, final byte[]... params) {
-        return doAsynchronously(new AsyncOperation<Object>() {
+    public Set<Tuple> zrangeByScoreWithScores(byte[] key, double min, double max, int offset, int count) {
+        return doAsynchronously(Operations.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
 
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.eval(script, keyCount, params));
-            }
-        });
+    public Set<Tuple> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max, int offset, int count) {
+        return doAsynchronously(Operations.zrangeByScoreWithScores(key, min, max, offset, count));
     }
 
-    public Object eval(final byte[] script, final int keyCount, final byte[]... params) {
-        return doAsynchronously(new AsyncOperation<Object>() {
+    public Set<byte[]> zrevrangeByScore(byte[] key, double max, double min) {
+        return doAsynchronously(Operations.zrevrangeByScore(key, max, min));
+    }
 
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.eval(script, keyCount, params));
-            }
-        });
+    public Set<byte[]> zrevrangeByScore(byte[] key, byte[] max, byte[] min) {
+        return doAsynchronously(Operations.zrevrangeByScore(key, max, min));
     }
 
-    public Object eval(final byte[] script) {
-        return doAsynchronously(new AsyncOperation<Object>() {
+    public Set<byte[]> zrevrangeByScore(byte[] key, double max, double min, int offset, int count) {
+        return doAsynchronously(Operations.zrevrangeByScore(key, max, min, offset, count));
+    }
 
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.eval(script));
-            }
-        });
+    public Set<byte[]> zrevrangeByScore(byte[] key, byte[] max, byte[] min, int offset, int count) {
+        return doAsynchronously(Operations.zrevrangeByScore(key, max, min, offset, count));
     }
 
-    public Object evalsha(final byte[] sha1) {
-        return doAsynchronously(new AsyncOperation<Object>() {
+    public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, double max, double min) {
+        return doAsynchronously(Operations.zrevrangeByScoreWithScores(key, max, min));
+    }
 
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.evalsha(sha1));
-            }
-        });
+    public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, double max, double min, int offset, int count) {
+        return doAsynchronously(Operations.zrevrangeByScoreWithScores(key, max, min, offset, count));
     }
 
-    public Object evalsha(final byte[] sha1, final List<byte[]> keys, final List<byte[]> args) {
-        return doAsynchronously(new AsyncOperation<Object>() {
+    public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min) {
+        return doAsynchronously(Operations.zrevrangeByScoreWithScores(key, max, min));
+    }
 
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.evalsha(sha1, keys, args));
-            }
-        });
+    public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min, int offset, int count) {
+        return doAsynchronously(Operations.zrevrangeByScoreWithScores(key, max, min, offset, count));
     }
 
-    public Object evalsha(final byte[] sha1, final int keyCount, final byte[]... params) {
-        return doAsynchronously(new AsyncOperation<Object>() {
+    public Long zremrangeByRank(byte[] key, long start, long end) {
+        return doAsynchronously(Operations.zremrangeByRank(key, start, end));
+    }
 
-            @Override
-            public OperationResult<Object> execute(Jedis jedis) {
-                return new OperationResult<Object>(jedis.evalsha(sha1, keyCount, params));
-            }
-        });
+    public Long zremrangeByScore(byte[] key, double start, double end) {
+        return doAsynchronously(Operations.zremrangeByScore(key, start, end));
     }
 
-    public String scriptFlush() {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long zremrangeByScore(byte[] key, byte[] start, byte[] end) {
+        return doAsynchronously(Operations.zremrangeByScore(key, start, end));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.scriptFlush());
-            }
-        });
+    public Long zunionstore(byte[] dstkey, byte[]... sets) {
+        return doAsynchronously(Operations.zunionstore(dstkey, sets));
     }
 
-    public List<Long> scriptExists(final byte[]... sha1) {
-        return doAsynchronously(new AsyncOperation<List<Long>>() {
+    public Long zunionstore(byte[] dstkey, ZParams params, byte[]... sets) {
+        return doAsynchronously(Operations.zunionstore(dstkey, params, sets));
+    }
 
-            @Override
-            public OperationResult<List<Long>> execute(Jedis jedis) {
-                return new OperationResult<List<Long>>(jedis.scriptExists(sha1));
-            }
-        });
+    public Long zinterstore(byte[] dstkey, byte[]... sets) {
+        return doAsynchronously(Operations.zinterstore(dstkey, sets));
     }
 
-    public byte[] scriptLoad(final byte[] script) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
+    public Long zinterstore(byte[] dstkey, ZParams params, byte[]... sets) {
+        return doAsynchronously(Operations.zinterstore(dstkey, params, sets));
+    }
 
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.scriptLoad(script));
-            }
-        });
+    public String save() {
+        return doAsynchronously(Operations.save());
     }
 
-    public String scriptKill() {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public String bgsave() {
+        return doAsynchronously(Operations.bgsave());
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.scriptKill());
-            }
-        });
+    public String bgrewriteaof() {
+        return doAsynchronously(Operations.bgrewriteaof());
     }
 
-    public String slowlogReset() {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long lastsave() {
+        return doAsynchronously(Operations.lastsave());
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.slowlogReset());
-            }
-        });
+    public String shutdown() {
+        return doAsynchronously(Operations.shutdown());
     }
 
-    public Long slowlogLen() {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String info() {
+        return doAsynchronously(Operations.info());
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.slowlogLen());
-            }
-        });
+    public String info(String section) {
+        return doAsynchronously(Operations.info(section));
     }
 
-    public List<byte[]> slowlogGetBinary() {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
+    public void monitor(final JedisMonitor jedisMonitor) {
+        doAsynchronously(new AsyncOperation<Void>() {
 
             @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.slowlogGetBinary());
+            public Void execute(Jedis jedis) {
+                jedis.monitor(jedisMonitor);
+                return null;
             }
         });
     }
 
-    public List<byte[]> slowlogGetBinary(final long entries) {
-        return doAsynchronously(new AsyncOperation<List<byte[]>>() {
+    public String slaveofNoOne() {
+        return doAsynchronously(Operations.slaveofNoOne());
+    }
 
-            @Override
-            public OperationResult<List<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<List<byte[]>>(jedis.slowlogGetBinary(entries));
-            }
-        });
+    public List<byte[]> configGet(byte[] pattern) {
+        return doAsynchronously(Operations.configGet(pattern));
     }
 
-    public Long objectRefcount(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String configResetStat() {
+        return doAsynchronously(Operations.configResetStat());
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.objectRefcount(key));
-            }
-        });
+    public byte[] configSet(byte[] parameter, byte[] value) {
+        return doAsynchronously(Operations.configSet(parameter, value));
     }
 
-    public byte[] objectEncoding(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
+    public boolean isConnected() {
+        return doAsynchronously(Operations.isConnected());
+    }
 
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.objectEncoding(key));
-            }
-        });
+    public Long strlen(byte[] key) {
+        return doAsynchronously(Operations.strlen(key));
     }
 
-    public Long objectIdletime(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public void sync() {
+        doAsynchronously(new AsyncOperation<Void>() {
 
             @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.objectIdletime(key));
+            public Void execute(Jedis jedis) {
+                jedis.sync();
+                return null;
             }
         });
     }
 
-    public Long bitcount(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long persist(byte[] key) {
+        return doAsynchronously(Operations.persist(key));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitcount(key));
-            }
-        });
+    public Long rpushx(byte[] key, byte[]... string) {
+        return doAsynchronously(Operations.rpushx(key, string));
     }
 
-    public Long bitcount(final byte[] key, final long start, final long end) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public byte[] echo(byte[] string) {
+        return doAsynchronously(Operations.echo(string));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitcount(key, start, end));
-            }
-        });
+    public Long linsert(byte[] key, LIST_POSITION where, byte[] pivot, byte[] value) {
+        return doAsynchronously(Operations.linsert(key, where, pivot, value));
     }
 
-    public Long bitop(final BitOP op, final byte[] destKey, final byte[]... srcKeys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String debug(DebugParams params) {
+        return doAsynchronously(Operations.debug(params));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.bitop(op, destKey, srcKeys));
-            }
-        });
+    public Client getClient() {
+        return doAsynchronously(Operations.getClient());
     }
 
-    public byte[] dump(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<byte[]>() {
+    public byte[] brpoplpush(byte[] source, byte[] destination, int timeout) {
+        return doAsynchronously(Operations.brpoplpush(source, destination, timeout));
+    }
 
-            @Override
-            public OperationResult<byte[]> execute(Jedis jedis) {
-                return new OperationResult<byte[]>(jedis.dump(key));
-            }
-        });
+    public Boolean setbit(byte[] key, long offset, boolean value) {
+        return doAsynchronously(Operations.setbit(key, offset, value));
     }
 
-    public String restore(final byte[] key, final int ttl, final byte[] serializedValue) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Boolean setbit(byte[] key, long offset, byte[] value) {
+        return doAsynchronously(Operations.setbit(key, offset, value));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.restore(key, ttl, serializedValue));
-            }
-        });
+    public Boolean getbit(byte[] key, long offset) {
+        return doAsynchronously(Operations.getbit(key, offset));
     }
 
-    @Deprecated
-    public Long pexpire(final byte[] key, final int milliseconds) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long bitpos(byte[] key, boolean value) {
+        return doAsynchronously(Operations.bitpos(key, value));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pexpire(key, milliseconds));
-            }
-        });
+    public Long bitpos(byte[] key, boolean value, BitPosParams params) {
+        return doAsynchronously(Operations.bitpos(key, value, params));
     }
 
-    public Long pexpire(final byte[] key, final long milliseconds) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long setrange(byte[] key, long offset, byte[] value) {
+        return doAsynchronously(Operations.setrange(key, offset, value));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pexpire(key, milliseconds));
-            }
-        });
+    public byte[] getrange(byte[] key, long startOffset, long endOffset) {
+        return doAsynchronously(Operations.getrange(key, startOffset, endOffset));
     }
 
-    public Long pexpireAt(final byte[] key, final long millisecondsTimestamp) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Object eval(byte[] script, List<byte[]> keys, List<byte[]> args) {
+        return doAsynchronously(Operations.eval(script, keys, args));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pexpireAt(key, millisecondsTimestamp));
-            }
-        });
+    public Object eval(byte[] script, byte[] keyCount, byte[]... params) {
+        return doAsynchronously(Operations.eval(script, keyCount, params));
     }
 
-    public Long pttl(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Object eval(byte[] script, int keyCount, byte[]... params) {
+        return doAsynchronously(Operations.eval(script, keyCount, params));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pttl(key));
-            }
-        });
+    public Object eval(byte[] script) {
+        return doAsynchronously(Operations.eval(script));
     }
 
-    public String psetex(final byte[] key, final int milliseconds, final byte[] value) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Object evalsha(byte[] sha1) {
+        return doAsynchronously(Operations.evalsha(sha1));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.psetex(key, milliseconds, value));
-            }
-        });
+    public Object evalsha(byte[] sha1, List<byte[]> keys, List<byte[]> args) {
+        return doAsynchronously(Operations.evalsha(sha1, keys, args));
     }
 
-    public String set(final byte[] key, final byte[] value, final byte[] nxxx) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Object evalsha(byte[] sha1, int keyCount, byte[]... params) {
+        return doAsynchronously(Operations.evalsha(sha1, keyCount, params));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.set(key, value, nxxx));
-            }
-        });
+    public String scriptFlush() {
+        return doAsynchronously(Operations.scriptFlush());
     }
 
-    public String set(final byte[] key, final byte[] value, final byte[] nxxx, final byte[] expx, final int time) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public List<Long> scriptExists(byte[]... sha1) {
+        return doAsynchronously(Operations.scriptExists(sha1));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.set(key, value, nxxx, expx, time));
-            }
-        });
+    public byte[] scriptLoad(byte[] script) {
+        return doAsynchronously(Operations.scriptLoad(script));
     }
 
-    public String clientKill(final byte[] client) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public String scriptKill() {
+        return doAsynchronously(Operations.scriptKill());
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.clientKill(client));
-            }
-        });
+    public String slowlogReset() {
+        return doAsynchronously(Operations.slowlogReset());
     }
 
-    public String clientGetname() {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long slowlogLen() {
+        return doAsynchronously(Operations.slowlogLen());
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.clientGetname());
-            }
-        });
+    public List<byte[]> slowlogGetBinary() {
+        return doAsynchronously(Operations.slowlogGetBinary());
     }
 
-    public String clientList() {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public List<byte[]> slowlogGetBinary(long entries) {
+        return doAsynchronously(Operations.slowlogGetBinary(entries));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.clientList());
-            }
-        });
+    public Long objectRefcount(byte[] key) {
+        return doAsynchronously(Operations.objectRefcount(key));
     }
 
-    public String clientSetname(final byte[] name) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public byte[] objectEncoding(byte[] key) {
+        return doAsynchronously(Operations.objectEncoding(key));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.clientSetname(name));
-            }
-        });
+    public Long objectIdletime(byte[] key) {
+        return doAsynchronously(Operations.objectIdletime(key));
     }
 
-    public List<String> time() {
-        return doAsynchronously(new AsyncOperation<List<String>>() {
+    public Long bitcount(byte[] key) {
+        return doAsynchronously(Operations.bitcount(key));
+    }
 
-            @Override
-            public OperationResult<List<String>> execute(Jedis jedis) {
-                return new OperationResult<List<String>>(jedis.time());
-            }
-        });
+    public Long bitcount(byte[] key, long start, long end) {
+        return doAsynchronously(Operations.bitcount(key, start, end));
     }
 
-    public String migrate(final byte[] host, final int port, final byte[] key, final int destinationDb,
-                          final int timeout) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public Long bitop(BitOP op, byte[] destKey, byte[]... srcKeys) {
+        return doAsynchronously(Operations.bitop(op, destKey, srcKeys));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.migrate(host, port, key, destinationDb, timeout));
-            }
-        });
+    public byte[] dump(byte[] key) {
+        return doAsynchronously(Operations.dump(key));
     }
 
-    public Long waitReplicas(final int replicas, final long timeout) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String restore(byte[] key, int ttl, byte[] serializedValue) {
+        return doAsynchronously(Operations.restore(key, ttl, serializedValue));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.waitReplicas(replicas, timeout));
-            }
-        });
+    @Deprecated
+    public Long pexpire(byte[] key, int milliseconds) {
+        return doAsynchronously(Operations.pexpire(key, milliseconds));
     }
 
-    public Long pfadd(final String key, final String... elements) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long pexpire(byte[] key, long milliseconds) {
+        return doAsynchronously(Operations.pexpire(key, milliseconds));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pfadd(key, elements));
-            }
-        });
+    public Long pexpireAt(byte[] key, long millisecondsTimestamp) {
+        return doAsynchronously(Operations.pexpireAt(key, millisecondsTimestamp));
     }
 
-    public Long pfadd(final byte[] key, final byte[]... elements) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public Long pttl(byte[] key) {
+        return doAsynchronously(Operations.pttl(key));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pfadd(key, elements));
-            }
-        });
+    public String psetex(byte[] key, int milliseconds, byte[] value) {
+        return doAsynchronously(Operations.psetex(key, milliseconds, value));
     }
 
-    public long pfcount(final byte[] key) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String set(byte[] key, byte[] value, byte[] nxxx) {
+        return doAsynchronously(Operations.set(key, value, nxxx));
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pfcount(key));
-            }
-        });
+    public String set(byte[] key, byte[] value, byte[] nxxx, byte[] expx, int time) {
+        return doAsynchronously(Operations.set(key, value, nxxx, expx, time));
     }
 
-    public String pfmerge(final byte[] destkey, final byte[]... sourcekeys) {
-        return doAsynchronously(new AsyncOperation<String>() {
+    public String clientKill(byte[] client) {
+        return doAsynchronously(Operations.clientKill(client));
+    }
 
-            @Override
-            public OperationResult<String> execute(Jedis jedis) {
-                return new OperationResult<String>(jedis.pfmerge(destkey, sourcekeys));
-            }
-        });
+    public String clientGetname() {
+        return doAsynchronously(Operations.clientGetname());
     }
 
-    public Long pfcount(final byte[]... keys) {
-        return doAsynchronously(new AsyncOperation<Long>() {
+    public String clientList() {
+        return doAsynchronously(Operations.clientList());
+    }
 
-            @Override
-            public OperationResult<Long> execute(Jedis jedis) {
-                return new OperationResult<Long>(jedis.pfcount(keys));
-            }
-        });
+    public String clientSetname(byte[] name) {
+        return doAsynchronously(Operations.clientSetname(name));
     }
 
-    public ScanResult<byte[]> scan(final byte[] cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<byte[]>>() {
+    public List<String> time() {
+        return doAsynchronously(Operations.time());
+    }
 
-            @Override
-            public OperationResult<ScanResult<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<byte[]>>(jedis.scan(cursor));
-            }
-        });
+    public String migrate(byte[] host, int port, byte[] key, int destinationDb, int timeout) {
+        return doAsynchronously(Operations.migrate(host, port, key, destinationDb, timeout));
     }
 
-    public ScanResult<byte[]> scan(final byte[] cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<byte[]>>() {
+    public Long waitReplicas(int replicas, long timeout) {
+        return doAsynchronously(Operations.waitReplicas(replicas, timeout));
+    }
 
-            @Override
-            public OperationResult<ScanResult<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<byte[]>>(jedis.scan(cursor, params));
-            }
-        });
+    public Long pfadd(String key, String... elements) {
+        return doAsynchronously(Operations.pfadd(key, elements));
     }
 
-    public ScanResult<Entry<byte[], byte[]>> hscan(final byte[] key, final byte[] cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Entry<byte[], byte[]>>>() {
+    public Long pfadd(byte[] key, byte[]... elements) {
+        return doAsynchronously(Operations.pfadd(key, elements));
+    }
 
-            @Override
-            public OperationResult<ScanResult<Entry<byte[], byte[]>>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Entry<byte[], byte[]>>>(jedis.hscan(key, cursor));
-            }
-        });
+    public long pfcount(byte[] key) {
+        return doAsynchronously(Operations.pfcount(key));
     }
 
-    public ScanResult<Entry<byte[], byte[]>> hscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Entry<byte[], byte[]>>>() {
+    public String pfmerge(byte[] destkey, byte[]... sourcekeys) {
+        return doAsynchronously(Operations.pfmerge(destkey, sourcekeys));
+    }
 
-            @Override
-            public OperationResult<ScanResult<Entry<byte[], byte[]>>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Entry<byte[], byte[]>>>(jedis.hscan(key, cursor, params));
-            }
-        });
+    public Long pfcount(byte[]... keys) {
+        return doAsynchronously(Operations.pfcount(keys));
     }
 
-    public ScanResult<byte[]> sscan(final byte[] key, final byte[] cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<byte[]>>() {
+    public ScanResult<byte[]> scan(byte[] cursor) {
+        return doAsynchronously(Operations.scan(cursor));
+    }
 
-            @Override
-            public OperationResult<ScanResult<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<byte[]>>(jedis.sscan(key, cursor));
-            }
-        });
+    public ScanResult<byte[]> scan(byte[] cursor, ScanParams params) {
+        return doAsynchronously(Operations.scan(cursor, params));
     }
 
-    public ScanResult<byte[]> sscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<byte[]>>() {
+    public ScanResult<Entry<byte[], byte[]>> hscan(byte[] key, byte[] cursor) {
+        return doAsynchronously(Operations.hscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<ScanResult<byte[]>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<byte[]>>(jedis.sscan(key, cursor, params));
-            }
-        });
+    public ScanResult<Entry<byte[], byte[]>> hscan(byte[] key, byte[] cursor, ScanParams params) {
+        return doAsynchronously(Operations.hscan(key, cursor, params));
     }
 
-    public ScanResult<Tuple> zscan(final byte[] key, final byte[] cursor) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Tuple>>() {
+    public ScanResult<byte[]> sscan(byte[] key, byte[] cursor) {
+        return doAsynchronously(Operations.sscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<ScanResult<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Tuple>>(jedis.zscan(key, cursor));
-            }
-        });
+    public ScanResult<byte[]> sscan(byte[] key, byte[] cursor, ScanParams params) {
+        return doAsynchronously(Operations.sscan(key, cursor, params));
     }
 
-    public ScanResult<Tuple> zscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return doAsynchronously(new AsyncOperation<ScanResult<Tuple>>() {
+    public ScanResult<Tuple> zscan(byte[] key, byte[] cursor) {
+        return doAsynchronously(Operations.zscan(key, cursor));
+    }
 
-            @Override
-            public OperationResult<ScanResult<Tuple>> execute(Jedis jedis) {
-                return new OperationResult<ScanResult<Tuple>>(jedis.zscan(key, cursor, params));
-            }
-        });
+    public ScanResult<Tuple> zscan(byte[] key, byte[] cursor, ScanParams params) {
+        return doAsynchronously(Operations.zscan(key, cursor, params));
     }
 
 }
@@ -0,0 +1,115 @@
+package com.yeahmobi.yedis.atomic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个Yedis的实时统计：正在执行的操作数，以及响应时间的EWMA，供自适应的LoadBalancer使用。<br>
+ * EWMA按TCP RTT的方式计算（alpha=1/8）；长时间没有新的样本时逐渐衰减，使被冷落的server有机会重新被选中。<br>
+ * 另外记录完成的操作数、失败（网络异常和超时）数和连续失败数，供GroupYedis判断slave是否健康。
+ */
+public final class YedisStats {
+
+    // EWMA的权重为 1/(1 << EWMA_SHIFT)
+    private static final int    EWMA_SHIFT  = 3;
+
+    // 没有新样本时，每隔这么长时间EWMA减半
+    private static final long   DECAY_NANOS = 1000000000L;
+
+    private final AtomicInteger inflight    = new AtomicInteger(0);
+
+    private final AtomicLong    ewma        = new AtomicLong(0);
+
+    private volatile long       lastSample  = System.nanoTime();
+
+    private final AtomicLong    completed   = new AtomicLong(0);
+
+    private final AtomicLong    failures    = new AtomicLong(0);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+
+    /**
+     * 操作开始，返回开始时间
+     */
+    long begin() {
+        inflight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * 已经begin的操作没有开始执行就放弃了（如Yedis已关闭），不计入统计
+     */
+    void abort() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * 操作结束；失败的操作至少按penaltyNanos计，避免快速失败的server吸走流量
+     */
+    void end(long start, boolean failed, long penaltyNanos) {
+        long now = System.nanoTime();
+        inflight.decrementAndGet();
+        completed.incrementAndGet();
+        long sample = now - start;
+        if (failed) {
+            failures.incrementAndGet();
+            consecutiveFailures.incrementAndGet();
+            if (sample < penaltyNanos) {
+                sample = penaltyNanos;
+            }
+        } else if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        long current;
+        long next;
+        do {
+            current = ewma.get();
+            next = current == 0 ? sample : current + ((sample - current) >> EWMA_SHIFT);
+        } while (!ewma.compareAndSet(current, next));
+        lastSample = now;
+    }
+
+    /**
+     * 正在执行（已提交、尚未完成）的操作数
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 响应时间的EWMA（纳秒），没有样本时为0
+     */
+    public long getLatencyNanos() {
+        long halvings = (System.nanoTime() - lastSample) / DECAY_NANOS;
+        return halvings >= 63 ? 0 : ewma.get() >> halvings;
+    }
+
+    /**
+     * 已完成的操作数（包括失败的）
+     */
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * 网络异常和超时的操作数
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * 最近连续的网络异常和超时的操作数，有操作成功（或命令本身出错）时清零
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    @Override
+    public String toString() {
+        return "YedisStats [inflight=" + getInflight() + ", latencyNanos=" + getLatencyNanos() + ", completed="
+               + getCompleted() + ", failures=" + getFailures() + ", consecutiveFailures="
+               + getConsecutiveFailures() + "]";
+    }
+
+}
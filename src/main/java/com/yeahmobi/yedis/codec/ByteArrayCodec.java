@@ -0,0 +1,23 @@
+package com.yeahmobi.yedis.codec;
+
+/**
+ * 原样使用byte[]，不复制
+ */
+public final class ByteArrayCodec implements Codec<byte[]> {
+
+    public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
+
+    private ByteArrayCodec() {
+    }
+
+    @Override
+    public byte[] encode(byte[] value) {
+        return value;
+    }
+
+    @Override
+    public byte[] decode(byte[] bytes) {
+        return bytes;
+    }
+
+}
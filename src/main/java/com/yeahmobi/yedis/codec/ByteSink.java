@@ -0,0 +1,113 @@
+package com.yeahmobi.yedis.codec;
+
+import java.util.Arrays;
+
+/**
+ * 线程本地、可复用的编码缓冲区：编码时直接写入，最后只复制一次得到大小刚好的byte[]
+ */
+final class ByteSink {
+
+    private static final int                   INITIAL_SIZE = 256;
+
+    // 超过该大小的缓冲区用完后不保留，避免一次大value长期占用内存
+    private static final int                   MAX_RETAINED = 64 * 1024;
+
+    private static final ThreadLocal<ByteSink> LOCAL = new ThreadLocal<ByteSink>() {
+
+        @Override
+        protected ByteSink initialValue() {
+            return new ByteSink();
+        }
+    };
+
+    private byte[]                             buf          = new byte[INITIAL_SIZE];
+
+    private int                                size;
+
+    /**
+     * 当前线程的缓冲区（已清空），在调用toByteArray之前不能再次获取
+     */
+    static ByteSink local() {
+        ByteSink sink = LOCAL.get();
+        sink.size = 0;
+        return sink;
+    }
+
+    private void ensure(int extra) {
+        int required = size + extra;
+        if (required > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(required, buf.length * 2));
+        }
+    }
+
+    void write(int b) {
+        ensure(1);
+        buf[size++] = (byte) b;
+    }
+
+    void write(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, size, bytes.length);
+        size += bytes.length;
+    }
+
+    void writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[size++] = (byte) value;
+    }
+
+    void writeLong(long value) {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buf[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    /**
+     * 按UTF-8写入，不成对的代理字符写为'?'（与String.getBytes一致）
+     */
+    void writeUtf8(String value) {
+        int length = value.length();
+        ensure(length * 3);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buf[size++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[size++] = (byte) (0xC0 | (c >> 6));
+                buf[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                       && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buf[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                buf[size++] = '?';
+            } else {
+                buf[size++] = (byte) (0xE0 | (c >> 12));
+                buf[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] toByteArray() {
+        byte[] bytes = Arrays.copyOf(buf, size);
+        if (buf.length > MAX_RETAINED) {
+            buf = new byte[INITIAL_SIZE];
+        }
+        size = 0;
+        return bytes;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.yeahmobi.yedis.codec;
+
+/**
+ * key或value与redis中字节的相互转换，实现必须是线程安全的。
+ *
+ * @param <T> 编码的类型
+ */
+public interface Codec<T> {
+
+    /**
+     * 编码，value不会是null
+     */
+    byte[] encode(T value);
+
+    /**
+     * 解码，bytes不会是null
+     */
+    T decode(byte[] bytes);
+
+}
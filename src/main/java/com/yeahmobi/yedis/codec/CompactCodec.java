@@ -0,0 +1,237 @@
+package com.yeahmobi.yedis.codec;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 紧凑的二进制编码，支持null、Boolean、Integer、Long、Double、String、byte[]，以及由它们组成的List和Map。<br>
+ * 每个值是一个类型字节加内容：整数为zigzag变长编码，字符串和byte[]为变长的长度加内容。
+ * 比JSON小，且byte[]不需要转义；解码时List为ArrayList，Map为LinkedHashMap。
+ */
+public final class CompactCodec implements Codec<Object> {
+
+    public static final CompactCodec INSTANCE  = new CompactCodec();
+
+    private static final int         NULL      = 0;
+    private static final int         FALSE     = 1;
+    private static final int         TRUE      = 2;
+    private static final int         INT       = 3;
+    private static final int         LONG      = 4;
+    private static final int         DOUBLE    = 5;
+    private static final int         STRING    = 6;
+    private static final int         BYTES     = 7;
+    private static final int         LIST      = 8;
+    private static final int         MAP       = 9;
+
+    // 防止错误的数据导致过深的递归
+    private static final int         MAX_DEPTH = 64;
+
+    private CompactCodec() {
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        ByteSink sink = ByteSink.local();
+        write(sink, value, 0);
+        return sink.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        Object value = reader.read(0);
+        if (reader.pos != bytes.length) {
+            throw new IllegalArgumentException("Trailing bytes after compact value.");
+        }
+        return value;
+    }
+
+    private static void write(ByteSink sink, Object value, int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Value nested too deep.");
+        }
+        if (value == null) {
+            sink.write(NULL);
+        } else if (value instanceof Boolean) {
+            sink.write((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            sink.write(INT);
+            sink.writeVarLong(zigzag((Integer) value));
+        } else if (value instanceof Long) {
+            sink.write(LONG);
+            sink.writeVarLong(zigzag((Long) value));
+        } else if (value instanceof Double) {
+            sink.write(DOUBLE);
+            sink.writeLong(Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof String) {
+            String s = (String) value;
+            sink.write(STRING);
+            // 长度在内容之前，先计算UTF-8的字节数
+            sink.writeVarLong(utf8Length(s));
+            sink.writeUtf8(s);
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            sink.write(BYTES);
+            sink.writeVarLong(bytes.length);
+            sink.write(bytes);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            sink.write(LIST);
+            sink.writeVarLong(list.size());
+            for (Object item : list) {
+                write(sink, item, depth + 1);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            sink.write(MAP);
+            sink.writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                write(sink, entry.getKey(), depth + 1);
+                write(sink, entry.getValue(), depth + 1);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported type for CompactCodec: " + value.getClass().getName());
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 与ByteSink.writeUtf8写出的字节数一致
+     */
+    private static int utf8Length(String s) {
+        int length = s.length();
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+
+        private int          pos;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        Object read(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("Value nested too deep.");
+            }
+            int type = readByte();
+            switch (type) {
+                case NULL:
+                    return null;
+                case FALSE:
+                    return Boolean.FALSE;
+                case TRUE:
+                    return Boolean.TRUE;
+                case INT:
+                    return (int) unzigzag(readVarLong());
+                case LONG:
+                    return unzigzag(readVarLong());
+                case DOUBLE:
+                    return Double.longBitsToDouble(readLong());
+                case STRING: {
+                    int length = readLength();
+                    String s = new String(bytes, pos, length, StringCodec.UTF8);
+                    pos += length;
+                    return s;
+                }
+                case BYTES: {
+                    int length = readLength();
+                    byte[] value = new byte[length];
+                    System.arraycopy(bytes, pos, value, 0, length);
+                    pos += length;
+                    return value;
+                }
+                case LIST: {
+                    int size = readCount();
+                    List<Object> list = new ArrayList<Object>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(read(depth + 1));
+                    }
+                    return list;
+                }
+                case MAP: {
+                    int size = readCount();
+                    Map<Object, Object> map = new LinkedHashMap<Object, Object>(size * 4 / 3 + 1);
+                    for (int i = 0; i < size; i++) {
+                        Object key = read(depth + 1);
+                        map.put(key, read(depth + 1));
+                    }
+                    return map;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown compact type " + type + " at " + (pos - 1));
+            }
+        }
+
+        private int readByte() {
+            if (pos >= bytes.length) {
+                throw new IllegalArgumentException("Truncated compact value.");
+            }
+            return bytes[pos++] & 0xFF;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint.");
+        }
+
+        private long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        private int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length - pos) {
+                throw new IllegalArgumentException("Truncated compact value.");
+            }
+            return (int) length;
+        }
+
+        /**
+         * 每个元素至少一个字节，元素数不可能超过剩余的字节数
+         */
+        private int readCount() {
+            return readLength();
+        }
+    }
+
+}
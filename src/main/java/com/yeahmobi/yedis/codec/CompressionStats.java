@@ -0,0 +1,80 @@
+package com.yeahmobi.yedis.codec;
+
+/**
+ * 一个命令的压缩统计快照
+ */
+public final class CompressionStats {
+
+    private final long compressedCount;
+
+    private final long uncompressedCount;
+
+    private final long decompressedCount;
+
+    private final long originalBytes;
+
+    private final long compressedBytes;
+
+    public CompressionStats(long compressedCount, long uncompressedCount, long decompressedCount, long originalBytes,
+                            long compressedBytes) {
+        this.compressedCount = compressedCount;
+        this.uncompressedCount = uncompressedCount;
+        this.decompressedCount = decompressedCount;
+        this.originalBytes = originalBytes;
+        this.compressedBytes = compressedBytes;
+    }
+
+    /**
+     * 压缩后写入的value数
+     */
+    public long getCompressedCount() {
+        return compressedCount;
+    }
+
+    /**
+     * 小于阈值或压缩后没有变小、按原样写入的value数
+     */
+    public long getUncompressedCount() {
+        return uncompressedCount;
+    }
+
+    /**
+     * 读到并解压的value数
+     */
+    public long getDecompressedCount() {
+        return decompressedCount;
+    }
+
+    /**
+     * 被压缩的value压缩前的总字节数
+     */
+    public long getOriginalBytes() {
+        return originalBytes;
+    }
+
+    /**
+     * 被压缩的value压缩后（含头部）的总字节数
+     */
+    public long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    public long getBytesSaved() {
+        return originalBytes - compressedBytes;
+    }
+
+    /**
+     * 压缩后与压缩前的大小之比，没有压缩过时为1.0
+     */
+    public double getRatio() {
+        return originalBytes == 0 ? 1.0 : (double) compressedBytes / originalBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionStats [compressedCount=" + compressedCount + ", uncompressedCount=" + uncompressedCount
+               + ", decompressedCount=" + decompressedCount + ", originalBytes=" + originalBytes
+               + ", compressedBytes=" + compressedBytes + ", bytesSaved=" + getBytesSaved() + "]";
+    }
+
+}
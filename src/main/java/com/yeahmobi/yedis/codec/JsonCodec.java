@@ -0,0 +1,41 @@
+package com.yeahmobi.yedis.codec;
+
+import java.lang.reflect.Type;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+
+/**
+ * 使用fastjson序列化为JSON（UTF-8）；fastjson在线程本地的缓冲区中直接写出UTF-8字节，不经过中间的String
+ *
+ * @param <T> value的类型
+ */
+public final class JsonCodec<T> implements Codec<T> {
+
+    private final Type                type;
+
+    private final SerializerFeature[] features;
+
+    public JsonCodec(Type type, SerializerFeature... features) {
+        if (type == null) {
+            throw new IllegalArgumentException("Argument cannot be null.");
+        }
+        this.type = type;
+        this.features = features;
+    }
+
+    public static <T> JsonCodec<T> of(Class<T> type) {
+        return new JsonCodec<T>(type);
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        return JSON.toJSONBytes(value, features);
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        return JSON.parseObject(bytes, type);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.yeahmobi.yedis.codec;
+
+import java.nio.charset.Charset;
+
+/**
+ * UTF-8编码的字符串；全部是ASCII字符时直接逐字节复制，不经过CharsetEncoder
+ */
+public final class StringCodec implements Codec<String> {
+
+    public static final StringCodec INSTANCE = new StringCodec();
+
+    static final Charset            UTF8     = Charset.forName("UTF-8");
+
+    private StringCodec() {
+    }
+
+    @Override
+    public byte[] encode(String value) {
+        int length = value.length();
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                ByteSink sink = ByteSink.local();
+                sink.writeUtf8(value);
+                return sink.toByteArray();
+            }
+            bytes[i] = (byte) c;
+        }
+        return bytes;
+    }
+
+    @Override
+    public String decode(byte[] bytes) {
+        return new String(bytes, UTF8);
+    }
+
+}
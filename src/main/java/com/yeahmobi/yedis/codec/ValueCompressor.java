@@ -0,0 +1,324 @@
+package com.yeahmobi.yedis.codec;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * value的透明压缩：不小于threshold字节的value用Deflater(BEST_SPEED)压缩，加上头部
+ * [0xF9 'Y' 'Z' 方法 原始长度(varint)]后写入；读时没有该头部的value原样返回，所以开启压缩前写入的value仍然可读。<br>
+ * 0xF9不会出现在UTF-8文本（包括JSON）和CompactCodec编码的开头；原始value恰好以该头部开头时会加上不压缩的头部写入，不会被误读。<br>
+ * 字典模式下用同一个字典预置压缩窗口，适合大量小而相似的value；压缩数据中带有字典的Adler32，读时字典不一致会报错。
+ * 写入时使用的字典必须一直保留，否则之前写入的value不能再读。<br>
+ * 只有通过YedisTemplate读写的value会自动压缩和解压；GroupYedis/ShardedYedis的byte[]命令总是原样读写，
+ * 直接使用它们时需要自行调用compress/decompress。同一个key不要混用两种方式，append/getrange/strlen等按字节操作value的命令也不适用于压缩的value。
+ */
+public final class ValueCompressor {
+
+    private static final byte[]                   MAGIC          = { (byte) 0xF9, 'Y', 'Z' };
+
+    private static final int                      METHOD_STORED  = 0;
+
+    private static final int                      METHOD_DEFLATE = 1;
+
+    // redis的value最大512MB，头部的长度超过该值说明数据已损坏
+    private static final int                      MAX_LENGTH     = 512 * 1024 * 1024;
+
+    // 超过该大小的临时缓冲区用完后不保留
+    private static final int                      MAX_RETAINED   = 1024 * 1024;
+
+    private static final ThreadLocal<Deflater>    DEFLATER       = new ThreadLocal<Deflater>() {
+
+        @Override
+        protected Deflater initialValue() {
+            return new Deflater(Deflater.BEST_SPEED);
+        }
+    };
+
+    private static final ThreadLocal<Inflater>    INFLATER       = new ThreadLocal<Inflater>() {
+
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater();
+        }
+    };
+
+    private static final ThreadLocal<byte[]>      BUFFER         = new ThreadLocal<byte[]>();
+
+    private final int                             threshold;
+
+    private final byte[]                          dictionary;
+
+    private final long                            dictionaryId;
+
+    private final ConcurrentMap<String, Counters> counters       = new ConcurrentHashMap<String, Counters>();
+
+    /**
+     * @param threshold 不小于该字节数的value才压缩
+     */
+    public ValueCompressor(int threshold) {
+        this(threshold, null);
+    }
+
+    /**
+     * @param threshold 不小于该字节数的value才压缩
+     * @param dictionary 预置字典（一般是典型value的拼接，不超过32KB有效），为null时不使用字典
+     */
+    public ValueCompressor(int threshold, byte[] dictionary) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold cannot be negative.");
+        }
+        if (dictionary != null && dictionary.length == 0) {
+            throw new IllegalArgumentException("Dictionary cannot be empty.");
+        }
+        this.threshold = threshold;
+        this.dictionary = dictionary != null ? dictionary.clone() : null;
+        if (dictionary != null) {
+            Adler32 adler = new Adler32();
+            adler.update(dictionary);
+            this.dictionaryId = adler.getValue();
+        } else {
+            this.dictionaryId = -1;
+        }
+    }
+
+    /**
+     * 压缩command写入的value，小于阈值或压缩后没有变小时原样返回
+     */
+    public byte[] compress(String command, byte[] value) {
+        Counters c = counters(command);
+        if (value.length >= threshold) {
+            byte[] compressed = deflate(value);
+            if (compressed != null) {
+                c.compressed.incrementAndGet();
+                c.originalBytes.addAndGet(value.length);
+                c.compressedBytes.addAndGet(compressed.length);
+                return compressed;
+            }
+        }
+        c.uncompressed.incrementAndGet();
+        return hasMagic(value) ? stored(value) : value;
+    }
+
+    /**
+     * 解压command读到的value，没有压缩头部的value原样返回
+     */
+    public byte[] decompress(String command, byte[] bytes) {
+        if (!hasMagic(bytes)) {
+            return bytes;
+        }
+        int[] position = { MAGIC.length + 1 };
+        int length = readLength(bytes, position);
+        int method = bytes[MAGIC.length];
+        byte[] value;
+        if (method == METHOD_STORED) {
+            if (bytes.length - position[0] != length) {
+                throw new IllegalArgumentException("Corrupted compressed value.");
+            }
+            value = Arrays.copyOfRange(bytes, position[0], bytes.length);
+        } else if (method == METHOD_DEFLATE) {
+            value = inflate(bytes, position[0], length);
+            counters(command).decompressed.incrementAndGet();
+        } else {
+            throw new IllegalArgumentException("Unknown compression method: " + method);
+        }
+        return value;
+    }
+
+    /**
+     * 值是否带有压缩头部
+     */
+    public static boolean isCompressed(byte[] bytes) {
+        return hasMagic(bytes);
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * 命令的压缩统计，没有经过该命令时为null
+     */
+    public CompressionStats getStats(String command) {
+        Counters c = counters.get(command);
+        return c != null ? c.snapshot() : null;
+    }
+
+    /**
+     * 所有命令的压缩统计，按命令名排序
+     */
+    public Map<String, CompressionStats> getStats() {
+        Map<String, CompressionStats> stats = new TreeMap<String, CompressionStats>();
+        for (Map.Entry<String, Counters> entry : counters.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return stats;
+    }
+
+    private Counters counters(String command) {
+        Counters c = counters.get(command);
+        if (c == null) {
+            Counters created = new Counters();
+            c = counters.putIfAbsent(command, created);
+            if (c == null) {
+                c = created;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * 压缩后（含头部）没有变小时返回null
+     */
+    private byte[] deflate(byte[] value) {
+        int header = MAGIC.length + 1 + varIntSize(value.length);
+        int limit = value.length - header;
+        if (limit <= 0) {
+            return null;
+        }
+        byte[] buffer = BUFFER.get();
+        if (buffer == null || buffer.length < limit) {
+            buffer = new byte[Math.max(limit, 1024)];
+            if (buffer.length <= MAX_RETAINED) {
+                BUFFER.set(buffer);
+            }
+        }
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary);
+        }
+        deflater.setInput(value);
+        deflater.finish();
+        int size = 0;
+        while (!deflater.finished() && size < limit) {
+            size += deflater.deflate(buffer, size, limit - size);
+        }
+        if (!deflater.finished()) {
+            return null;
+        }
+        byte[] compressed = new byte[header + size];
+        int position = writeHeader(compressed, METHOD_DEFLATE, value.length);
+        System.arraycopy(buffer, 0, compressed, position, size);
+        return compressed;
+    }
+
+    private byte[] inflate(byte[] bytes, int offset, int length) {
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(bytes, offset, bytes.length - offset);
+        byte[] value = new byte[length];
+        // 输出满了之后用1字节的缓冲区读完结尾的校验和，读出数据说明比头部的长度多
+        byte[] extra = new byte[1];
+        int size = 0;
+        try {
+            while (!inflater.finished()) {
+                int n = size < length ? inflater.inflate(value, size, length - size) : inflater.inflate(extra);
+                if (n > 0) {
+                    if (size == length) {
+                        break;
+                    }
+                    size += n;
+                } else if (inflater.needsDictionary()) {
+                    if (dictionary == null || inflater.getAdler() != dictionaryId) {
+                        throw new IllegalArgumentException("Value was compressed with a different dictionary.");
+                    }
+                    inflater.setDictionary(dictionary);
+                } else if (inflater.needsInput()) {
+                    // 数据被截断
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted compressed value.", e);
+        }
+        if (!inflater.finished() || size != length || inflater.getRemaining() != 0) {
+            throw new IllegalArgumentException("Corrupted compressed value.");
+        }
+        return value;
+    }
+
+    private static byte[] stored(byte[] value) {
+        byte[] bytes = new byte[MAGIC.length + 1 + varIntSize(value.length) + value.length];
+        int position = writeHeader(bytes, METHOD_STORED, value.length);
+        System.arraycopy(value, 0, bytes, position, value.length);
+        return bytes;
+    }
+
+    private static boolean hasMagic(byte[] bytes) {
+        if (bytes.length <= MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int writeHeader(byte[] bytes, int method, int length) {
+        System.arraycopy(MAGIC, 0, bytes, 0, MAGIC.length);
+        int position = MAGIC.length;
+        bytes[position++] = (byte) method;
+        while ((length & ~0x7F) != 0) {
+            bytes[position++] = (byte) ((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        bytes[position++] = (byte) length;
+        return position;
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    private static int readLength(byte[] bytes, int[] position) {
+        int length = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("Corrupted compressed value.");
+            }
+            int b = bytes[position[0]++];
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (length < 0 || length > MAX_LENGTH) {
+                    throw new IllegalArgumentException("Corrupted compressed value.");
+                }
+                return length;
+            }
+        }
+        throw new IllegalArgumentException("Corrupted compressed value.");
+    }
+
+    private static final class Counters {
+
+        final AtomicLong compressed      = new AtomicLong(0);
+
+        final AtomicLong uncompressed    = new AtomicLong(0);
+
+        final AtomicLong decompressed    = new AtomicLong(0);
+
+        final AtomicLong originalBytes   = new AtomicLong(0);
+
+        final AtomicLong compressedBytes = new AtomicLong(0);
+
+        CompressionStats snapshot() {
+            return new CompressionStats(compressed.get(), uncompressed.get(), decompressed.get(), originalBytes.get(),
+                                        compressedBytes.get());
+        }
+    }
+
+}
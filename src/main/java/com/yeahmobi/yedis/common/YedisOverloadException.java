@@ -0,0 +1,25 @@
+package com.yeahmobi.yedis.common;
+
+/**
+ * 操作队列已满，操作没有提交就被拒绝（快速失败，不等待超时）
+ */
+public class YedisOverloadException extends YedisException {
+
+    private static final long serialVersionUID = 2418769352103572184L;
+
+    public YedisOverloadException() {
+    }
+
+    public YedisOverloadException(String message) {
+        super(message);
+    }
+
+    public YedisOverloadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public YedisOverloadException(Throwable cause) {
+        super(cause);
+    }
+
+}
@@ -0,0 +1,1571 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import redis.clients.jedis.BinaryClient.LIST_POSITION;
+import redis.clients.jedis.BitOP;
+import redis.clients.jedis.BitPosParams;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.SortingParams;
+import redis.clients.jedis.Tuple;
+import redis.clients.jedis.ZParams;
+import redis.clients.util.Slowlog;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * GroupYedis的非阻塞版本，读写分离及负载均衡策略与GroupYedis一致，每个命令都返回ListenableFuture。<br>
+ * 通过 {@link GroupYedis#async()} 获取实例。
+ */
+public final class AsyncGroupYedis {
+
+	private final GroupYedis groupYedis;
+
+	AsyncGroupYedis(GroupYedis groupYedis) {
+		this.groupYedis = groupYedis;
+	}
+
+	public GroupYedis getGroupYedis() {
+		return groupYedis;
+	}
+
+	/**
+	 * 先执行callback（维护近端缓存），再完成返回的future，调用方拿到结果后的读能看到缓存的变化
+	 */
+	private static <T> ListenableFuture<T> completeAfter(
+			final ListenableFuture<T> future, final FutureCallback<T> callback) {
+		final SettableFuture<T> result = SettableFuture.create();
+		Futures.addCallback(future, new FutureCallback<T>() {
+
+			@Override
+			public void onSuccess(T value) {
+				callback.onSuccess(value);
+				result.set(value);
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				callback.onFailure(t);
+				if (future.isCancelled()) {
+					result.cancel(false);
+				} else {
+					result.setException(t);
+				}
+			}
+		});
+		result.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+				if (result.isCancelled()) {
+					future.cancel(false);
+				}
+			}
+		}, MoreExecutors.directExecutor());
+		return result;
+	}
+
+	private static <T> ListenableFuture<T> afterInvalidation(
+			ListenableFuture<T> future, final Runnable invalidation) {
+		return completeAfter(future, new FutureCallback<T>() {
+
+			@Override
+			public void onSuccess(T value) {
+				invalidation.run();
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				invalidation.run();
+			}
+		});
+	}
+
+	/**
+	 * 写操作完成（包括失败）后使近端缓存中的key失效
+	 */
+	private <T> ListenableFuture<T> invalidate(ListenableFuture<T> future,
+			final String key) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache != null) {
+			return afterInvalidation(future, new Runnable() {
+
+				@Override
+				public void run() {
+					nearCache.invalidate(key);
+				}
+			});
+		}
+		return future;
+	}
+
+	private <T> ListenableFuture<T> invalidate(ListenableFuture<T> future,
+			final String... keys) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache != null) {
+			return afterInvalidation(future, new Runnable() {
+
+				@Override
+				public void run() {
+					for (String key : keys) {
+						nearCache.invalidate(key);
+					}
+				}
+			});
+		}
+		return future;
+	}
+
+	private <T> ListenableFuture<T> invalidate(ListenableFuture<T> future,
+			final byte[] key) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache != null) {
+			return afterInvalidation(future, new Runnable() {
+
+				@Override
+				public void run() {
+					nearCache.invalidate(key);
+				}
+			});
+		}
+		return future;
+	}
+
+	private <T> ListenableFuture<T> invalidate(ListenableFuture<T> future,
+			final byte[]... keys) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache != null) {
+			return afterInvalidation(future, new Runnable() {
+
+				@Override
+				public void run() {
+					for (byte[] key : keys) {
+						nearCache.invalidate(key);
+					}
+				}
+			});
+		}
+		return future;
+	}
+
+	private <T> ListenableFuture<T> invalidateKeysValues(
+			ListenableFuture<T> future, final String... keysvalues) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache != null) {
+			return afterInvalidation(future, new Runnable() {
+
+				@Override
+				public void run() {
+					for (int i = 0; i < keysvalues.length; i += 2) {
+						nearCache.invalidate(keysvalues[i]);
+					}
+				}
+			});
+		}
+		return future;
+	}
+
+	private <T> ListenableFuture<T> invalidateKeysValues(
+			ListenableFuture<T> future, final byte[]... keysvalues) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache != null) {
+			return afterInvalidation(future, new Runnable() {
+
+				@Override
+				public void run() {
+					for (int i = 0; i < keysvalues.length; i += 2) {
+						nearCache.invalidate(keysvalues[i]);
+					}
+				}
+			});
+		}
+		return future;
+	}
+
+	private <T> ListenableFuture<T> invalidateAll(ListenableFuture<T> future) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache != null) {
+			return afterInvalidation(future, new Runnable() {
+
+				@Override
+				public void run() {
+					nearCache.invalidateAll();
+				}
+			});
+		}
+		return future;
+	}
+
+	public ListenableFuture<String> set(String key, String value) {
+		return invalidate(groupYedis.getYedis(false).async().set(key, value), key);
+	}
+
+	public ListenableFuture<String> set(String key, String value, String nxxx, String expx,
+			long time) {
+		return invalidate(groupYedis.getYedis(false).async().set(key, value, nxxx, expx, time), key);
+	}
+
+	public ListenableFuture<String> get(final String key) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache == null) {
+			return groupYedis.getYedis(true).async().get(key);
+		}
+		Object cached = nearCache.get(key);
+		if (cached != NearCache.MISS) {
+			return Futures.immediateFuture((String) cached);
+		}
+		final long stamp = nearCache.stamp(key);
+		ListenableFuture<String> future = groupYedis.getYedis(true)
+				.async().get(key);
+		return completeAfter(future, new FutureCallback<String>() {
+
+			@Override
+			public void onSuccess(String value) {
+				nearCache.put(key, value, stamp);
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				// 失败的读操作不缓存
+			}
+		});
+	}
+
+	public ListenableFuture<Boolean> exists(String key) {
+		return groupYedis.getYedis(true).async().exists(key);
+	}
+
+	public ListenableFuture<Long> del(String... keys) {
+		return invalidate(groupYedis.getYedis(false).async().del(keys), keys);
+	}
+
+	public ListenableFuture<Long> del(String key) {
+		return invalidate(groupYedis.getYedis(false).async().del(key), key);
+	}
+
+	public ListenableFuture<String> type(String key) {
+		return groupYedis.getYedis(true).async().type(key);
+	}
+
+	public ListenableFuture<Set<String>> keys(String pattern) {
+		return groupYedis.getYedis(true).async().keys(pattern);
+	}
+
+	public ListenableFuture<String> randomKey() {
+		return groupYedis.getYedis(true).async().randomKey();
+	}
+
+	public ListenableFuture<String> rename(String oldkey, String newkey) {
+		return invalidate(groupYedis.getYedis(false).async().rename(oldkey, newkey), oldkey, newkey);
+	}
+
+	public ListenableFuture<Long> renamenx(String oldkey, String newkey) {
+		return invalidate(groupYedis.getYedis(false).async().renamenx(oldkey, newkey), oldkey, newkey);
+	}
+
+	public ListenableFuture<Long> expire(String key, int seconds) {
+		return invalidate(groupYedis.getYedis(false).async().expire(key, seconds), key);
+	}
+
+	public ListenableFuture<Long> expireAt(String key, long unixTime) {
+		return invalidate(groupYedis.getYedis(false).async().expireAt(key, unixTime), key);
+	}
+
+	public ListenableFuture<Long> ttl(String key) {
+		return groupYedis.getYedis(true).async().ttl(key);
+	}
+
+	public ListenableFuture<Long> move(String key, int dbIndex) {
+		return invalidate(groupYedis.getYedis(false).async().move(key, dbIndex), key);
+	}
+
+	public ListenableFuture<String> getSet(String key, String value) {
+		return invalidate(groupYedis.getYedis(false).async().getSet(key, value), key);
+	}
+
+	public ListenableFuture<List<String>> mget(String... keys) {
+		return groupYedis.getYedis(true).async().mget(keys);
+	}
+
+	public ListenableFuture<Long> setnx(String key, String value) {
+		return invalidate(groupYedis.getYedis(false).async().setnx(key, value), key);
+	}
+
+	public ListenableFuture<String> setex(String key, int seconds, String value) {
+		return invalidate(groupYedis.getYedis(false).async().setex(key, seconds, value), key);
+	}
+
+	public ListenableFuture<String> mset(String... keysvalues) {
+		return invalidateKeysValues(groupYedis.getYedis(false).async().mset(keysvalues), keysvalues);
+	}
+
+	public ListenableFuture<Long> msetnx(String... keysvalues) {
+		return invalidateKeysValues(groupYedis.getYedis(false).async().msetnx(keysvalues), keysvalues);
+	}
+
+	public ListenableFuture<Long> decrBy(String key, long integer) {
+		return invalidate(groupYedis.getYedis(false).async().decrBy(key, integer), key);
+	}
+
+	public ListenableFuture<Long> decr(String key) {
+		return invalidate(groupYedis.getYedis(false).async().decr(key), key);
+	}
+
+	public ListenableFuture<Long> incrBy(String key, long integer) {
+		return invalidate(groupYedis.getYedis(false).async().incrBy(key, integer), key);
+	}
+
+	public ListenableFuture<Double> incrByFloat(String key, double value) {
+		return invalidate(groupYedis.getYedis(false).async().incrByFloat(key, value), key);
+	}
+
+	public ListenableFuture<Long> incr(String key) {
+		return invalidate(groupYedis.getYedis(false).async().incr(key), key);
+	}
+
+	public ListenableFuture<Long> append(String key, String value) {
+		return invalidate(groupYedis.getYedis(false).async().append(key, value), key);
+	}
+
+	public ListenableFuture<String> substr(String key, int start, int end) {
+		return groupYedis.getYedis(false).async().substr(key, start, end);
+	}
+
+	public ListenableFuture<Long> hset(String key, String field, String value) {
+		return invalidate(groupYedis.getYedis(false).async().hset(key, field, value), key);
+	}
+
+	public ListenableFuture<String> hget(final String key, final String field) {
+		final NearCache nearCache = groupYedis.getNearCache();
+		if (nearCache == null) {
+			return groupYedis.getYedis(true).async().hget(key, field);
+		}
+		Object cached = nearCache.hget(key, field);
+		if (cached != NearCache.MISS) {
+			return Futures.immediateFuture((String) cached);
+		}
+		final long stamp = nearCache.stamp(key);
+		ListenableFuture<String> future = groupYedis.getYedis(true)
+				.async().hget(key, field);
+		return completeAfter(future, new FutureCallback<String>() {
+
+			@Override
+			public void onSuccess(String value) {
+				nearCache.hput(key, field, value, stamp);
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				// 失败的读操作不缓存
+			}
+		});
+	}
+
+	public ListenableFuture<Long> hsetnx(String key, String field, String value) {
+		return invalidate(groupYedis.getYedis(false).async().hsetnx(key, field, value), key);
+	}
+
+	public ListenableFuture<String> hmset(String key, Map<String, String> hash) {
+		return invalidate(groupYedis.getYedis(false).async().hmset(key, hash), key);
+	}
+
+	public ListenableFuture<List<String>> hmget(String key, String... fields) {
+		return groupYedis.getYedis(true).async().hmget(key, fields);
+	}
+
+	public ListenableFuture<Long> hincrBy(String key, String field, long value) {
+		return invalidate(groupYedis.getYedis(false).async().hincrBy(key, field, value), key);
+	}
+
+	public ListenableFuture<Double> hincrByFloat(String key, String field, double value) {
+		return invalidate(groupYedis.getYedis(false).async().hincrByFloat(key, field, value), key);
+	}
+
+	public ListenableFuture<Boolean> hexists(String key, String field) {
+		return groupYedis.getYedis(false).async().hexists(key, field);
+	}
+
+	public ListenableFuture<Long> hdel(String key, String... fields) {
+		return invalidate(groupYedis.getYedis(false).async().hdel(key, fields), key);
+	}
+
+	public ListenableFuture<Long> hlen(String key) {
+		return groupYedis.getYedis(false).async().hlen(key);
+	}
+
+	public ListenableFuture<Set<String>> hkeys(String key) {
+		return groupYedis.getYedis(false).async().hkeys(key);
+	}
+
+	public ListenableFuture<List<String>> hvals(String key) {
+		return groupYedis.getYedis(false).async().hvals(key);
+	}
+
+	public ListenableFuture<Map<String, String>> hgetAll(String key) {
+		return groupYedis.getYedis(false).async().hgetAll(key);
+	}
+
+	public ListenableFuture<Long> rpush(String key, String... strings) {
+		return groupYedis.getYedis(false).async().rpush(key, strings);
+	}
+
+	public ListenableFuture<Long> lpush(String key, String... strings) {
+		return groupYedis.getYedis(false).async().lpush(key, strings);
+	}
+
+	public ListenableFuture<Long> llen(String key) {
+		return groupYedis.getYedis(false).async().llen(key);
+	}
+
+	public ListenableFuture<List<String>> lrange(String key, long start, long end) {
+		return groupYedis.getYedis(false).async().lrange(key, start, end);
+	}
+
+	public ListenableFuture<String> ltrim(String key, long start, long end) {
+		return groupYedis.getYedis(false).async().ltrim(key, start, end);
+	}
+
+	public ListenableFuture<String> lindex(String key, long index) {
+		return groupYedis.getYedis(false).async().lindex(key, index);
+	}
+
+	public ListenableFuture<String> lset(String key, long index, String value) {
+		return groupYedis.getYedis(false).async().lset(key, index, value);
+	}
+
+	public ListenableFuture<Long> lrem(String key, long count, String value) {
+		return groupYedis.getYedis(false).async().lrem(key, count, value);
+	}
+
+	public ListenableFuture<String> lpop(String key) {
+		return groupYedis.getYedis(false).async().lpop(key);
+	}
+
+	public ListenableFuture<String> rpop(String key) {
+		return groupYedis.getYedis(false).async().rpop(key);
+	}
+
+	public ListenableFuture<String> rpoplpush(String srckey, String dstkey) {
+		return groupYedis.getYedis(false).async().rpoplpush(srckey, dstkey);
+	}
+
+	public ListenableFuture<Long> sadd(String key, String... members) {
+		return groupYedis.getYedis(false).async().sadd(key, members);
+	}
+
+	public ListenableFuture<Set<String>> smembers(String key) {
+		return groupYedis.getYedis(false).async().smembers(key);
+	}
+
+	public ListenableFuture<Long> srem(String key, String... members) {
+		return groupYedis.getYedis(false).async().srem(key, members);
+	}
+
+	public ListenableFuture<String> spop(String key) {
+		return groupYedis.getYedis(false).async().spop(key);
+	}
+
+	public ListenableFuture<Long> smove(String srckey, String dstkey, String member) {
+		return groupYedis.getYedis(false).async().smove(srckey, dstkey, member);
+	}
+
+	public ListenableFuture<Long> scard(String key) {
+		return groupYedis.getYedis(false).async().scard(key);
+	}
+
+	public ListenableFuture<Boolean> sismember(String key, String member) {
+		return groupYedis.getYedis(false).async().sismember(key, member);
+	}
+
+	public ListenableFuture<Set<String>> sinter(String... keys) {
+		return groupYedis.getYedis(false).async().sinter(keys);
+	}
+
+	public ListenableFuture<Long> sinterstore(String dstkey, String... keys) {
+		return invalidate(groupYedis.getYedis(false).async().sinterstore(dstkey, keys), dstkey);
+	}
+
+	public ListenableFuture<Set<String>> sunion(String... keys) {
+		return groupYedis.getYedis(false).async().sunion(keys);
+	}
+
+	public ListenableFuture<Long> sunionstore(String dstkey, String... keys) {
+		return invalidate(groupYedis.getYedis(false).async().sunionstore(dstkey, keys), dstkey);
+	}
+
+	public ListenableFuture<Set<String>> sdiff(String... keys) {
+		return groupYedis.getYedis(false).async().sdiff(keys);
+	}
+
+	public ListenableFuture<Long> sdiffstore(String dstkey, String... keys) {
+		return invalidate(groupYedis.getYedis(false).async().sdiffstore(dstkey, keys), dstkey);
+	}
+
+	public ListenableFuture<String> srandmember(String key) {
+		return groupYedis.getYedis(false).async().srandmember(key);
+	}
+
+	public ListenableFuture<List<String>> srandmember(String key, int count) {
+		return groupYedis.getYedis(false).async().srandmember(key, count);
+	}
+
+	public ListenableFuture<Long> zadd(String key, double score, String member) {
+		return groupYedis.getYedis(false).async().zadd(key, score, member);
+	}
+
+	public ListenableFuture<Long> zadd(String key, Map<String, Double> scoreMembers) {
+		return groupYedis.getYedis(false).async().zadd(key, scoreMembers);
+	}
+
+	public ListenableFuture<Set<String>> zrange(String key, long start, long end) {
+		return groupYedis.getYedis(false).async().zrange(key, start, end);
+	}
+
+	public ListenableFuture<Long> zrem(String key, String... members) {
+		return groupYedis.getYedis(false).async().zrem(key, members);
+	}
+
+	public ListenableFuture<Double> zincrby(String key, double score, String member) {
+		return groupYedis.getYedis(false).async().zincrby(key, score, member);
+	}
+
+	public ListenableFuture<Long> zrank(String key, String member) {
+		return groupYedis.getYedis(false).async().zrank(key, member);
+	}
+
+	public ListenableFuture<Long> zrevrank(String key, String member) {
+		return groupYedis.getYedis(false).async().zrevrank(key, member);
+	}
+
+	public ListenableFuture<Set<String>> zrevrange(String key, long start, long end) {
+		return groupYedis.getYedis(false).async().zrevrange(key, start, end);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeWithScores(String key, long start, long end) {
+		return groupYedis.getYedis(false).async().zrangeWithScores(key, start, end);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeWithScores(String key, long start, long end) {
+		return groupYedis.getYedis(false).async().zrevrangeWithScores(key, start, end);
+	}
+
+	public ListenableFuture<Long> zcard(String key) {
+		return groupYedis.getYedis(false).async().zcard(key);
+	}
+
+	public ListenableFuture<Double> zscore(String key, String member) {
+		return groupYedis.getYedis(false).async().zscore(key, member);
+	}
+
+	public ListenableFuture<List<String>> sort(String key) {
+		return groupYedis.getYedis(false).async().sort(key);
+	}
+
+	public ListenableFuture<List<String>> sort(String key, SortingParams sortingParameters) {
+		return groupYedis.getYedis(false).async().sort(key, sortingParameters);
+	}
+
+	public ListenableFuture<List<String>> blpop(String... keys) {
+		return groupYedis.getYedis(false).async().blpop(keys);
+	}
+
+	public ListenableFuture<List<String>> blpop(String key) {
+		return groupYedis.getYedis(false).async().blpop(key);
+	}
+
+	public ListenableFuture<List<byte[]>> blpop(byte[] key) {
+		return groupYedis.getYedis(false).async().blpop(key);
+	}
+
+	public ListenableFuture<List<String>> blpop(int timeout, String... keys) {
+		return groupYedis.getYedis(false).async().blpop(timeout, keys);
+	}
+
+	public ListenableFuture<Long> sort(String key, SortingParams sortingParameters, String dstkey) {
+		return invalidate(groupYedis.getYedis(false).async().sort(key, sortingParameters, dstkey), dstkey);
+	}
+
+	public ListenableFuture<Long> sort(String key, String dstkey) {
+		return invalidate(groupYedis.getYedis(false).async().sort(key, dstkey), dstkey);
+	}
+
+	public ListenableFuture<List<String>> brpop(int timeout, String... keys) {
+		return groupYedis.getYedis(false).async().brpop(timeout, keys);
+	}
+
+	public ListenableFuture<List<String>> brpop(String key) {
+		return groupYedis.getYedis(false).async().brpop(key);
+	}
+
+	public ListenableFuture<Long> zcount(String key, double min, double max) {
+		return groupYedis.getYedis(false).async().zcount(key, min, max);
+	}
+
+	public ListenableFuture<Long> zcount(String key, String min, String max) {
+		return groupYedis.getYedis(false).async().zcount(key, min, max);
+	}
+
+	public ListenableFuture<Set<String>> zrangeByScore(String key, double min, double max) {
+		return groupYedis.getYedis(false).async().zrangeByScore(key, min, max);
+	}
+
+	public ListenableFuture<Set<String>> zrangeByScore(String key, String min, String max) {
+		return groupYedis.getYedis(false).async().zrangeByScore(key, min, max);
+	}
+
+	public ListenableFuture<Set<String>> zrangeByScore(String key, double min, double max,
+			int offset, int count) {
+		return groupYedis.getYedis(false).async().zrangeByScore(key, min, max, offset, count);
+	}
+
+	public ListenableFuture<Set<String>> zrangeByScore(String key, String min, String max,
+			int offset, int count) {
+		return groupYedis.getYedis(false).async().zrangeByScore(key, min, max, offset, count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, double min, double max) {
+		return groupYedis.getYedis(false).async().zrangeByScoreWithScores(key, min, max);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, String min, String max) {
+		return groupYedis.getYedis(false).async().zrangeByScoreWithScores(key, min, max);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, double min,
+			double max, int offset, int count) {
+		return groupYedis.getYedis(false).async().zrangeByScoreWithScores(key, min, max, offset,
+				count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, String min,
+			String max, int offset, int count) {
+		return groupYedis.getYedis(false).async().zrangeByScoreWithScores(key, min, max, offset,
+				count);
+	}
+
+	public ListenableFuture<Set<String>> zrevrangeByScore(String key, double max, double min) {
+		return groupYedis.getYedis(false).async().zrevrangeByScore(key, max, min);
+	}
+
+	public ListenableFuture<Set<String>> zrevrangeByScore(String key, String max, String min) {
+		return groupYedis.getYedis(false).async().zrevrangeByScore(key, max, min);
+	}
+
+	public ListenableFuture<Set<String>> zrevrangeByScore(String key, double max, double min,
+			int offset, int count) {
+		return groupYedis.getYedis(false).async().zrevrangeByScore(key, max, min, offset, count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, double max,
+			double min) {
+		return groupYedis.getYedis(false).async().zrevrangeByScoreWithScores(key, max, min);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, double max,
+			double min, int offset, int count) {
+		return groupYedis.getYedis(false).async().zrevrangeByScoreWithScores(key, max, min,
+				offset, count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, String max,
+			String min, int offset, int count) {
+		return groupYedis.getYedis(false).async().zrevrangeByScoreWithScores(key, max, min,
+				offset, count);
+	}
+
+	public ListenableFuture<Set<String>> zrevrangeByScore(String key, String max, String min,
+			int offset, int count) {
+		return groupYedis.getYedis(false).async().zrevrangeByScore(key, max, min, offset, count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, String max,
+			String min) {
+		return groupYedis.getYedis(false).async().zrevrangeByScoreWithScores(key, max, min);
+	}
+
+	public ListenableFuture<Long> zremrangeByRank(String key, long start, long end) {
+		return groupYedis.getYedis(false).async().zremrangeByRank(key, start, end);
+	}
+
+	public ListenableFuture<Long> zremrangeByScore(String key, double start, double end) {
+		return groupYedis.getYedis(false).async().zremrangeByScore(key, start, end);
+	}
+
+	public ListenableFuture<Long> zremrangeByScore(String key, String start, String end) {
+		return groupYedis.getYedis(false).async().zremrangeByScore(key, start, end);
+	}
+
+	public ListenableFuture<Long> zunionstore(String dstkey, String... sets) {
+		return invalidate(groupYedis.getYedis(false).async().zunionstore(dstkey, sets), dstkey);
+	}
+
+	public ListenableFuture<Long> zunionstore(String dstkey, ZParams params, String... sets) {
+		return invalidate(groupYedis.getYedis(false).async().zunionstore(dstkey, params, sets), dstkey);
+	}
+
+	public ListenableFuture<Long> zinterstore(String dstkey, String... sets) {
+		return invalidate(groupYedis.getYedis(false).async().zinterstore(dstkey, sets), dstkey);
+	}
+
+	public ListenableFuture<Long> zinterstore(String dstkey, ZParams params, String... sets) {
+		return invalidate(groupYedis.getYedis(false).async().zinterstore(dstkey, params, sets), dstkey);
+	}
+
+	public ListenableFuture<Long> strlen(String key) {
+		return groupYedis.getYedis(false).async().strlen(key);
+	}
+
+	public ListenableFuture<Long> lpushx(String key, String... string) {
+		return groupYedis.getYedis(false).async().lpushx(key, string);
+	}
+
+	public ListenableFuture<Long> persist(String key) {
+		return invalidate(groupYedis.getYedis(false).async().persist(key), key);
+	}
+
+	public ListenableFuture<Long> rpushx(String key, String... string) {
+		return groupYedis.getYedis(false).async().rpushx(key, string);
+	}
+
+	public ListenableFuture<Long> linsert(String key, LIST_POSITION where, String pivot,
+			String value) {
+		return groupYedis.getYedis(false).async().linsert(key, where, pivot, value);
+	}
+
+	public ListenableFuture<String> brpoplpush(String source, String destination, int timeout) {
+		return groupYedis.getYedis(false).async().brpoplpush(source, destination, timeout);
+	}
+
+	public ListenableFuture<Boolean> setbit(String key, long offset, boolean value) {
+		return invalidate(groupYedis.getYedis(false).async().setbit(key, offset, value), key);
+	}
+
+	public ListenableFuture<Boolean> setbit(String key, long offset, String value) {
+		return invalidate(groupYedis.getYedis(false).async().setbit(key, offset, value), key);
+	}
+
+	public ListenableFuture<Boolean> getbit(String key, long offset) {
+		return groupYedis.getYedis(false).async().getbit(key, offset);
+	}
+
+	public ListenableFuture<Long> setrange(String key, long offset, String value) {
+		return invalidate(groupYedis.getYedis(false).async().setrange(key, offset, value), key);
+	}
+
+	public ListenableFuture<String> getrange(String key, long startOffset, long endOffset) {
+		return groupYedis.getYedis(false).async().getrange(key, startOffset, endOffset);
+	}
+
+	public ListenableFuture<Long> bitpos(String key, boolean value) {
+		return groupYedis.getYedis(false).async().bitpos(key, value);
+	}
+
+	public ListenableFuture<Long> bitpos(String key, boolean value, BitPosParams params) {
+		return groupYedis.getYedis(false).async().bitpos(key, value, params);
+	}
+
+	public ListenableFuture<Object> eval(String script, int keyCount, String... params) {
+		return invalidateAll(groupYedis.getYedis(false).async().eval(script, keyCount, params));
+	}
+
+	public ListenableFuture<Object> eval(String script, List<String> keys, List<String> args) {
+		return invalidateAll(groupYedis.getYedis(false).async().eval(script, keys, args));
+	}
+
+	public ListenableFuture<Object> eval(String script) {
+		return invalidateAll(groupYedis.getYedis(false).async().eval(script));
+	}
+
+	public ListenableFuture<Object> evalsha(String script) {
+		return invalidateAll(groupYedis.getYedis(false).async().evalsha(script));
+	}
+
+	public ListenableFuture<Object> evalsha(String sha1, List<String> keys, List<String> args) {
+		return invalidateAll(groupYedis.getYedis(false).async().evalsha(sha1, keys, args));
+	}
+
+	public ListenableFuture<Object> evalsha(String sha1, int keyCount, String... params) {
+		return invalidateAll(groupYedis.getYedis(false).async().evalsha(sha1, keyCount, params));
+	}
+
+	public ListenableFuture<Boolean> scriptExists(String sha1) {
+		return groupYedis.getYedis(false).async().scriptExists(sha1);
+	}
+
+	public ListenableFuture<List<Boolean>> scriptExists(String... sha1) {
+		return groupYedis.getYedis(false).async().scriptExists(sha1);
+	}
+
+	public ListenableFuture<String> scriptLoad(String script) {
+		return groupYedis.getYedis(false).async().scriptLoad(script);
+	}
+
+	public ListenableFuture<List<Slowlog>> slowlogGet() {
+		return groupYedis.getYedis(false).async().slowlogGet();
+	}
+
+	public ListenableFuture<List<Slowlog>> slowlogGet(long entries) {
+		return groupYedis.getYedis(false).async().slowlogGet(entries);
+	}
+
+	public ListenableFuture<Long> bitcount(String key) {
+		return groupYedis.getYedis(false).async().bitcount(key);
+	}
+
+	public ListenableFuture<Long> bitcount(String key, long start, long end) {
+		return groupYedis.getYedis(false).async().bitcount(key, start, end);
+	}
+
+	public ListenableFuture<Long> bitop(BitOP op, String destKey, String... srcKeys) {
+		return invalidate(groupYedis.getYedis(false).async().bitop(op, destKey, srcKeys), destKey);
+	}
+
+	public ListenableFuture<byte[]> dump(String key) {
+		return groupYedis.getYedis(false).async().dump(key);
+	}
+
+	public ListenableFuture<String> restore(String key, int ttl, byte[] serializedValue) {
+		return invalidate(groupYedis.getYedis(false).async().restore(key, ttl, serializedValue), key);
+	}
+
+	@Deprecated
+	public ListenableFuture<Long> pexpire(String key, int milliseconds) {
+		return invalidate(groupYedis.getYedis(false).async().pexpire(key, milliseconds), key);
+	}
+
+	public ListenableFuture<Long> pexpire(String key, long milliseconds) {
+		return invalidate(groupYedis.getYedis(false).async().pexpire(key, milliseconds), key);
+	}
+
+	public ListenableFuture<Long> pexpireAt(String key, long millisecondsTimestamp) {
+		return invalidate(groupYedis.getYedis(false).async().pexpireAt(key, millisecondsTimestamp), key);
+	}
+
+	public ListenableFuture<Long> pttl(String key) {
+		return groupYedis.getYedis(true).async().pttl(key);
+	}
+
+	public ListenableFuture<String> psetex(String key, int milliseconds, String value) {
+		return invalidate(groupYedis.getYedis(false).async().psetex(key, milliseconds, value), key);
+	}
+
+	public ListenableFuture<String> set(String key, String value, String nxxx) {
+		return invalidate(groupYedis.getYedis(false).async().set(key, value, nxxx), key);
+	}
+
+	public ListenableFuture<String> set(String key, String value, String nxxx, String expx,
+			int time) {
+		return invalidate(groupYedis.getYedis(false).async().set(key, value, nxxx, expx, time), key);
+	}
+
+	public ListenableFuture<Long> pfadd(String key, String... elements) {
+		return invalidate(groupYedis.getYedis(false).async().pfadd(key, elements), key);
+	}
+
+	public ListenableFuture<Long> pfcount(String key) {
+		return groupYedis.getYedis(false).async().pfcount(key);
+	}
+
+	public ListenableFuture<Long> pfcount(String... keys) {
+		return groupYedis.getYedis(false).async().pfcount(keys);
+	}
+
+	public ListenableFuture<String> pfmerge(String destkey, String... sourcekeys) {
+		return invalidate(groupYedis.getYedis(false).async().pfmerge(destkey, sourcekeys), destkey);
+	}
+
+	public ListenableFuture<String> set(byte[] key, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().set(key, value), key);
+	}
+
+	public ListenableFuture<String> set(byte[] key, byte[] value, byte[] nxxx, byte[] expx,
+			long time) {
+		return invalidate(groupYedis.getYedis(false).async().set(key, value, nxxx, expx, time), key);
+	}
+
+	public ListenableFuture<byte[]> get(byte[] key) {
+		return groupYedis.getYedis(true).async().get(key);
+	}
+
+	public ListenableFuture<Boolean> exists(byte[] key) {
+		return groupYedis.getYedis(false).async().exists(key);
+	}
+
+	public ListenableFuture<Long> del(byte[]... keys) {
+		return invalidate(groupYedis.getYedis(false).async().del(keys), keys);
+	}
+
+	public ListenableFuture<Long> del(byte[] key) {
+		return invalidate(groupYedis.getYedis(false).async().del(key), key);
+	}
+
+	public ListenableFuture<String> type(byte[] key) {
+		return groupYedis.getYedis(false).async().type(key);
+	}
+
+	public ListenableFuture<String> flushDB() {
+		return invalidateAll(groupYedis.getYedis(false).async().flushDB());
+	}
+
+	public ListenableFuture<Set<byte[]>> keys(byte[] pattern) {
+		return groupYedis.getYedis(false).async().keys(pattern);
+	}
+
+	public ListenableFuture<byte[]> randomBinaryKey() {
+		return groupYedis.getYedis(false).async().randomBinaryKey();
+	}
+
+	public ListenableFuture<String> rename(byte[] oldkey, byte[] newkey) {
+		return invalidate(groupYedis.getYedis(false).async().rename(oldkey, newkey), oldkey, newkey);
+	}
+
+	public ListenableFuture<Long> renamenx(byte[] oldkey, byte[] newkey) {
+		return invalidate(groupYedis.getYedis(false).async().renamenx(oldkey, newkey), oldkey, newkey);
+	}
+
+	public ListenableFuture<Long> dbSize() {
+		return groupYedis.getYedis(false).async().dbSize();
+	}
+
+	public ListenableFuture<Long> expire(byte[] key, int seconds) {
+		return invalidate(groupYedis.getYedis(false).async().expire(key, seconds), key);
+	}
+
+	public ListenableFuture<Long> expireAt(byte[] key, long unixTime) {
+		return invalidate(groupYedis.getYedis(false).async().expireAt(key, unixTime), key);
+	}
+
+	public ListenableFuture<Long> ttl(byte[] key) {
+		return groupYedis.getYedis(true).async().ttl(key);
+	}
+
+	public ListenableFuture<Long> move(byte[] key, int dbIndex) {
+		return invalidate(groupYedis.getYedis(false).async().move(key, dbIndex), key);
+	}
+
+	public ListenableFuture<String> flushAll() {
+		return invalidateAll(groupYedis.getYedis(false).async().flushAll());
+	}
+
+	public ListenableFuture<byte[]> getSet(byte[] key, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().getSet(key, value), key);
+	}
+
+	public ListenableFuture<List<byte[]>> mget(byte[]... keys) {
+		return groupYedis.getYedis(true).async().mget(keys);
+	}
+
+	public ListenableFuture<Long> setnx(byte[] key, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().setnx(key, value), key);
+	}
+
+	public ListenableFuture<String> setex(byte[] key, int seconds, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().setex(key, seconds, value), key);
+	}
+
+	public ListenableFuture<String> mset(byte[]... keysvalues) {
+		return invalidateKeysValues(groupYedis.getYedis(false).async().mset(keysvalues), keysvalues);
+	}
+
+	public ListenableFuture<Long> msetnx(byte[]... keysvalues) {
+		return invalidateKeysValues(groupYedis.getYedis(false).async().msetnx(keysvalues), keysvalues);
+	}
+
+	public ListenableFuture<Long> decrBy(byte[] key, long integer) {
+		return invalidate(groupYedis.getYedis(false).async().decrBy(key, integer), key);
+	}
+
+	public ListenableFuture<Long> decr(byte[] key) {
+		return invalidate(groupYedis.getYedis(false).async().decr(key), key);
+	}
+
+	public ListenableFuture<Long> incrBy(byte[] key, long integer) {
+		return invalidate(groupYedis.getYedis(false).async().incrBy(key, integer), key);
+	}
+
+	public ListenableFuture<Double> incrByFloat(byte[] key, double integer) {
+		return invalidate(groupYedis.getYedis(false).async().incrByFloat(key, integer), key);
+	}
+
+	public ListenableFuture<Long> incr(byte[] key) {
+		return invalidate(groupYedis.getYedis(false).async().incr(key), key);
+	}
+
+	public ListenableFuture<Long> append(byte[] key, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().append(key, value), key);
+	}
+
+	public ListenableFuture<byte[]> substr(byte[] key, int start, int end) {
+		return groupYedis.getYedis(false).async().substr(key, start, end);
+	}
+
+	public ListenableFuture<Long> hset(byte[] key, byte[] field, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().hset(key, field, value), key);
+	}
+
+	public ListenableFuture<byte[]> hget(byte[] key, byte[] field) {
+		return groupYedis.getYedis(true).async().hget(key, field);
+	}
+
+	public ListenableFuture<Long> hsetnx(byte[] key, byte[] field, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().hsetnx(key, field, value), key);
+	}
+
+	public ListenableFuture<String> hmset(byte[] key, Map<byte[], byte[]> hash) {
+		return invalidate(groupYedis.getYedis(false).async().hmset(key, hash), key);
+	}
+
+	public ListenableFuture<List<byte[]>> hmget(byte[] key, byte[]... fields) {
+		return groupYedis.getYedis(true).async().hmget(key, fields);
+	}
+
+	public ListenableFuture<Long> hincrBy(byte[] key, byte[] field, long value) {
+		return invalidate(groupYedis.getYedis(false).async().hincrBy(key, field, value), key);
+	}
+
+	public ListenableFuture<Double> hincrByFloat(byte[] key, byte[] field, double value) {
+		return invalidate(groupYedis.getYedis(false).async().hincrByFloat(key, field, value), key);
+	}
+
+	public ListenableFuture<Boolean> hexists(byte[] key, byte[] field) {
+		return groupYedis.getYedis(true).async().hexists(key, field);
+	}
+
+	public ListenableFuture<Long> hdel(byte[] key, byte[]... fields) {
+		return invalidate(groupYedis.getYedis(false).async().hdel(key, fields), key);
+	}
+
+	public ListenableFuture<Long> hlen(byte[] key) {
+		return groupYedis.getYedis(true).async().hlen(key);
+	}
+
+	public ListenableFuture<Set<byte[]>> hkeys(byte[] key) {
+		return groupYedis.getYedis(true).async().hkeys(key);
+	}
+
+	public ListenableFuture<List<byte[]>> hvals(byte[] key) {
+		return groupYedis.getYedis(true).async().hvals(key);
+	}
+
+	public ListenableFuture<Map<byte[], byte[]>> hgetAll(byte[] key) {
+		return groupYedis.getYedis(true).async().hgetAll(key);
+	}
+
+	public ListenableFuture<Long> rpush(byte[] key, byte[]... strings) {
+		return groupYedis.getYedis(false).async().rpush(key, strings);
+	}
+
+	public ListenableFuture<Long> lpush(byte[] key, byte[]... strings) {
+		return groupYedis.getYedis(false).async().lpush(key, strings);
+	}
+
+	public ListenableFuture<Long> llen(byte[] key) {
+		return groupYedis.getYedis(true).async().llen(key);
+	}
+
+	public ListenableFuture<List<byte[]>> lrange(byte[] key, long start, long end) {
+		return groupYedis.getYedis(true).async().lrange(key, start, end);
+	}
+
+	public ListenableFuture<String> ltrim(byte[] key, long start, long end) {
+		return groupYedis.getYedis(false).async().ltrim(key, start, end);
+	}
+
+	public ListenableFuture<byte[]> lindex(byte[] key, long index) {
+		return groupYedis.getYedis(true).async().lindex(key, index);
+	}
+
+	public ListenableFuture<String> lset(byte[] key, long index, byte[] value) {
+		return groupYedis.getYedis(false).async().lset(key, index, value);
+	}
+
+	public ListenableFuture<Long> lrem(byte[] key, long count, byte[] value) {
+		return groupYedis.getYedis(false).async().lrem(key, count, value);
+	}
+
+	public ListenableFuture<byte[]> lpop(byte[] key) {
+		return groupYedis.getYedis(false).async().lpop(key);
+	}
+
+	public ListenableFuture<byte[]> rpop(byte[] key) {
+		return groupYedis.getYedis(false).async().rpop(key);
+	}
+
+	public ListenableFuture<byte[]> rpoplpush(byte[] srckey, byte[] dstkey) {
+		return groupYedis.getYedis(false).async().rpoplpush(srckey, dstkey);
+	}
+
+	public ListenableFuture<Long> sadd(byte[] key, byte[]... members) {
+		return groupYedis.getYedis(false).async().sadd(key, members);
+	}
+
+	public ListenableFuture<Set<byte[]>> smembers(byte[] key) {
+		return groupYedis.getYedis(true).async().smembers(key);
+	}
+
+	public ListenableFuture<Long> srem(byte[] key, byte[]... member) {
+		return groupYedis.getYedis(false).async().srem(key, member);
+	}
+
+	public ListenableFuture<byte[]> spop(byte[] key) {
+		return groupYedis.getYedis(false).async().spop(key);
+	}
+
+	public ListenableFuture<Long> smove(byte[] srckey, byte[] dstkey, byte[] member) {
+		return groupYedis.getYedis(false).async().smove(srckey, dstkey, member);
+	}
+
+	public ListenableFuture<Long> scard(byte[] key) {
+		return groupYedis.getYedis(true).async().scard(key);
+	}
+
+	public ListenableFuture<Boolean> sismember(byte[] key, byte[] member) {
+		return groupYedis.getYedis(true).async().sismember(key, member);
+	}
+
+	public ListenableFuture<Set<byte[]>> sinter(byte[]... keys) {
+		return groupYedis.getYedis(true).async().sinter(keys);
+	}
+
+	public ListenableFuture<Long> sinterstore(byte[] dstkey, byte[]... keys) {
+		return invalidate(groupYedis.getYedis(false).async().sinterstore(dstkey, keys), dstkey);
+	}
+
+	public ListenableFuture<Set<byte[]>> sunion(byte[]... keys) {
+		return groupYedis.getYedis(true).async().sunion(keys);
+	}
+
+	public ListenableFuture<Long> sunionstore(byte[] dstkey, byte[]... keys) {
+		return invalidate(groupYedis.getYedis(false).async().sunionstore(dstkey, keys), dstkey);
+	}
+
+	public ListenableFuture<Set<byte[]>> sdiff(byte[]... keys) {
+		return groupYedis.getYedis(true).async().sdiff(keys);
+	}
+
+	public ListenableFuture<Long> sdiffstore(byte[] dstkey, byte[]... keys) {
+		return invalidate(groupYedis.getYedis(false).async().sdiffstore(dstkey, keys), dstkey);
+	}
+
+	public ListenableFuture<byte[]> srandmember(byte[] key) {
+		return groupYedis.getYedis(true).async().srandmember(key);
+	}
+
+	public ListenableFuture<List<byte[]>> srandmember(byte[] key, int count) {
+		return groupYedis.getYedis(true).async().srandmember(key, count);
+	}
+
+	public ListenableFuture<Long> zadd(byte[] key, double score, byte[] member) {
+		return groupYedis.getYedis(false).async().zadd(key, score, member);
+	}
+
+	public ListenableFuture<Long> zadd(byte[] key, Map<byte[], Double> scoreMembers) {
+		return groupYedis.getYedis(false).async().zadd(key, scoreMembers);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrange(byte[] key, long start, long end) {
+		return groupYedis.getYedis(true).async().zrange(key, start, end);
+	}
+
+	public ListenableFuture<Long> zrem(byte[] key, byte[]... members) {
+		return groupYedis.getYedis(false).async().zrem(key, members);
+	}
+
+	public ListenableFuture<Double> zincrby(byte[] key, double score, byte[] member) {
+		return groupYedis.getYedis(false).async().zincrby(key, score, member);
+	}
+
+	public ListenableFuture<Long> zrank(byte[] key, byte[] member) {
+		return groupYedis.getYedis(true).async().zrank(key, member);
+	}
+
+	public ListenableFuture<Long> zrevrank(byte[] key, byte[] member) {
+		return groupYedis.getYedis(true).async().zrevrank(key, member);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrevrange(byte[] key, long start, long end) {
+		return groupYedis.getYedis(true).async().zrevrange(key, start, end);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeWithScores(byte[] key, long start, long end) {
+		return groupYedis.getYedis(true).async().zrangeWithScores(key, start, end);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeWithScores(byte[] key, long start, long end) {
+		return groupYedis.getYedis(true).async().zrevrangeWithScores(key, start, end);
+	}
+
+	public ListenableFuture<Long> zcard(byte[] key) {
+		return groupYedis.getYedis(true).async().zcard(key);
+	}
+
+	public ListenableFuture<Double> zscore(byte[] key, byte[] member) {
+		return groupYedis.getYedis(true).async().zscore(key, member);
+	}
+
+	public ListenableFuture<List<byte[]>> sort(byte[] key) {
+		return groupYedis.getYedis(true).async().sort(key);
+	}
+
+	public ListenableFuture<List<byte[]>> sort(byte[] key, SortingParams sortingParameters) {
+		return groupYedis.getYedis(true).async().sort(key, sortingParameters);
+	}
+
+	public ListenableFuture<List<byte[]>> blpop(int timeout, byte[]... keys) {
+		return groupYedis.getYedis(false).async().blpop(timeout, keys);
+	}
+
+	public ListenableFuture<Long> sort(byte[] key, SortingParams sortingParameters, byte[] dstkey) {
+		return invalidate(groupYedis.getYedis(false).async().sort(key, sortingParameters, dstkey), dstkey);
+	}
+
+	public ListenableFuture<Long> sort(byte[] key, byte[] dstkey) {
+		return invalidate(groupYedis.getYedis(false).async().sort(key, dstkey), dstkey);
+	}
+
+	public ListenableFuture<List<byte[]>> brpop(int timeout, byte[]... keys) {
+		return groupYedis.getYedis(false).async().brpop(timeout, keys);
+	}
+
+	public ListenableFuture<List<byte[]>> brpop(byte[] key) {
+		return groupYedis.getYedis(false).async().brpop(key);
+	}
+
+	public ListenableFuture<String> echo(String key) {
+		return groupYedis.getYedis(true).async().echo(key);
+	}
+
+	public ListenableFuture<byte[]> echo(byte[] key) {
+		return groupYedis.getYedis(true).async().echo(key);
+	}
+
+	public ListenableFuture<Long> zcount(byte[] key, double min, double max) {
+		return groupYedis.getYedis(true).async().zcount(key, min, max);
+	}
+
+	public ListenableFuture<Long> zcount(byte[] key, byte[] min, byte[] max) {
+		return groupYedis.getYedis(true).async().zcount(key, min, max);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, double min, double max) {
+		return groupYedis.getYedis(true).async().zrangeByScore(key, min, max);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, byte[] min, byte[] max) {
+		return groupYedis.getYedis(true).async().zrangeByScore(key, min, max);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, double min, double max,
+			int offset, int count) {
+		return groupYedis.getYedis(true).async().zrangeByScore(key, min, max, offset, count);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, byte[] min, byte[] max,
+			int offset, int count) {
+		return groupYedis.getYedis(true).async().zrangeByScore(key, min, max, offset, count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, double min, double max) {
+		return groupYedis.getYedis(true).async().zrangeByScoreWithScores(key, min, max);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max) {
+		return groupYedis.getYedis(true).async().zrangeByScoreWithScores(key, min, max);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, double min,
+			double max, int offset, int count) {
+		return groupYedis.getYedis(true).async().zrangeByScoreWithScores(key, min, max, offset,
+				count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, byte[] min,
+			byte[] max, int offset, int count) {
+		return groupYedis.getYedis(true).async().zrangeByScoreWithScores(key, min, max, offset,
+				count);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, double max, double min) {
+		return groupYedis.getYedis(true).async().zrevrangeByScore(key, max, min);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, byte[] max, byte[] min) {
+		return groupYedis.getYedis(true).async().zrevrangeByScore(key, max, min);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, double max, double min,
+			int offset, int count) {
+		return groupYedis.getYedis(true).async().zrevrangeByScore(key, max, min, offset, count);
+	}
+
+	public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, byte[] max, byte[] min,
+			int offset, int count) {
+		return groupYedis.getYedis(true).async().zrevrangeByScore(key, max, min, offset, count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, double max,
+			double min) {
+		return groupYedis.getYedis(true).async().zrevrangeByScoreWithScores(key, max, min);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, double max,
+			double min, int offset, int count) {
+		return groupYedis.getYedis(true).async().zrevrangeByScoreWithScores(key, max, min, offset,
+				count);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, byte[] max,
+			byte[] min) {
+		return groupYedis.getYedis(true).async().zrevrangeByScoreWithScores(key, max, min);
+	}
+
+	public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, byte[] max,
+			byte[] min, int offset, int count) {
+		return groupYedis.getYedis(true).async().zrevrangeByScoreWithScores(key, max, min, offset,
+				count);
+	}
+
+	public ListenableFuture<Long> zremrangeByRank(byte[] key, long start, long end) {
+		return groupYedis.getYedis(false).async().zremrangeByRank(key, start, end);
+	}
+
+	public ListenableFuture<Long> zremrangeByScore(byte[] key, double start, double end) {
+		return groupYedis.getYedis(false).async().zremrangeByScore(key, start, end);
+	}
+
+	public ListenableFuture<Long> zremrangeByScore(byte[] key, byte[] start, byte[] end) {
+		return groupYedis.getYedis(false).async().zremrangeByScore(key, start, end);
+	}
+
+	public ListenableFuture<Long> zunionstore(byte[] dstkey, byte[]... sets) {
+		return invalidate(groupYedis.getYedis(false).async().zunionstore(dstkey, sets), dstkey);
+	}
+
+	public ListenableFuture<Long> zunionstore(byte[] dstkey, ZParams params, byte[]... sets) {
+		return invalidate(groupYedis.getYedis(false).async().zunionstore(dstkey, params, sets), dstkey);
+	}
+
+	public ListenableFuture<Long> zinterstore(byte[] dstkey, byte[]... sets) {
+		return invalidate(groupYedis.getYedis(false).async().zinterstore(dstkey, sets), dstkey);
+	}
+
+	public ListenableFuture<Long> zinterstore(byte[] dstkey, ZParams params, byte[]... sets) {
+		return invalidate(groupYedis.getYedis(false).async().zinterstore(dstkey, params, sets), dstkey);
+	}
+
+	public ListenableFuture<Long> strlen(byte[] key) {
+		return groupYedis.getYedis(true).async().strlen(key);
+	}
+
+	public ListenableFuture<Long> lpushx(byte[] key, byte[]... string) {
+		return groupYedis.getYedis(false).async().lpushx(key, string);
+	}
+
+	public ListenableFuture<Long> persist(byte[] key) {
+		return invalidate(groupYedis.getYedis(false).async().persist(key), key);
+	}
+
+	public ListenableFuture<Long> rpushx(byte[] key, byte[]... string) {
+		return groupYedis.getYedis(false).async().rpushx(key, string);
+	}
+
+	public ListenableFuture<Long> linsert(byte[] key, LIST_POSITION where, byte[] pivot,
+			byte[] value) {
+		return groupYedis.getYedis(false).async().linsert(key, where, pivot, value);
+	}
+
+	public ListenableFuture<byte[]> brpoplpush(byte[] source, byte[] destination, int timeout) {
+		return groupYedis.getYedis(false).async().brpoplpush(source, destination, timeout);
+	}
+
+	public ListenableFuture<Boolean> setbit(byte[] key, long offset, boolean value) {
+		return invalidate(groupYedis.getYedis(false).async().setbit(key, offset, value), key);
+	}
+
+	public ListenableFuture<Boolean> setbit(byte[] key, long offset, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().setbit(key, offset, value), key);
+	}
+
+	public ListenableFuture<Boolean> getbit(byte[] key, long offset) {
+		return groupYedis.getYedis(true).async().getbit(key, offset);
+	}
+
+	public ListenableFuture<Long> bitpos(byte[] key, boolean value) {
+		return groupYedis.getYedis(true).async().bitpos(key, value);
+	}
+
+	public ListenableFuture<Long> bitpos(byte[] key, boolean value, BitPosParams params) {
+		return groupYedis.getYedis(true).async().bitpos(key, value, params);
+	}
+
+	public ListenableFuture<Long> setrange(byte[] key, long offset, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().setrange(key, offset, value), key);
+	}
+
+	public ListenableFuture<byte[]> getrange(byte[] key, long startOffset, long endOffset) {
+		return groupYedis.getYedis(true).async().getrange(key, startOffset, endOffset);
+	}
+
+	public ListenableFuture<Object> eval(byte[] script, List<byte[]> keys, List<byte[]> args) {
+		return invalidateAll(groupYedis.getYedis(false).async().eval(script, keys, args));
+	}
+
+	public ListenableFuture<Object> eval(byte[] script, byte[] keyCount, byte[]... params) {
+		return invalidateAll(groupYedis.getYedis(false).async().eval(script, keyCount, params));
+	}
+
+	public ListenableFuture<Object> eval(byte[] script, int keyCount, byte[]... params) {
+		return invalidateAll(groupYedis.getYedis(false).async().eval(script, keyCount, params));
+	}
+
+	public ListenableFuture<Object> eval(byte[] script) {
+		return invalidateAll(groupYedis.getYedis(false).async().eval(script));
+	}
+
+	public ListenableFuture<Object> evalsha(byte[] sha1) {
+		return invalidateAll(groupYedis.getYedis(false).async().evalsha(sha1));
+	}
+
+	public ListenableFuture<Object> evalsha(byte[] sha1, List<byte[]> keys, List<byte[]> args) {
+		return invalidateAll(groupYedis.getYedis(false).async().evalsha(sha1, keys, args));
+	}
+
+	public ListenableFuture<Object> evalsha(byte[] sha1, int keyCount, byte[]... params) {
+		return invalidateAll(groupYedis.getYedis(false).async().evalsha(sha1, keyCount, params));
+	}
+
+	public ListenableFuture<Long> bitcount(byte[] key) {
+		return groupYedis.getYedis(true).async().bitcount(key);
+	}
+
+	public ListenableFuture<Long> bitcount(byte[] key, long start, long end) {
+		return groupYedis.getYedis(true).async().bitcount(key, start, end);
+	}
+
+	public ListenableFuture<Long> bitop(BitOP op, byte[] destKey, byte[]... srcKeys) {
+		return invalidate(groupYedis.getYedis(false).async().bitop(op, destKey, srcKeys), destKey);
+	}
+
+	public ListenableFuture<byte[]> dump(byte[] key) {
+		return groupYedis.getYedis(true).async().dump(key);
+	}
+
+	public ListenableFuture<String> restore(byte[] key, int ttl, byte[] serializedValue) {
+		return invalidate(groupYedis.getYedis(false).async().restore(key, ttl, serializedValue), key);
+	}
+
+	@Deprecated
+	public ListenableFuture<Long> pexpire(byte[] key, int milliseconds) {
+		return invalidate(groupYedis.getYedis(false).async().pexpire(key, milliseconds), key);
+	}
+
+	public ListenableFuture<Long> pexpire(byte[] key, long milliseconds) {
+		return invalidate(groupYedis.getYedis(false).async().pexpire(key, milliseconds), key);
+	}
+
+	public ListenableFuture<Long> pexpireAt(byte[] key, long millisecondsTimestamp) {
+		return invalidate(groupYedis.getYedis(false).async().pexpireAt(key, millisecondsTimestamp), key);
+	}
+
+	public ListenableFuture<Long> pttl(byte[] key) {
+		return groupYedis.getYedis(true).async().pttl(key);
+	}
+
+	public ListenableFuture<String> psetex(byte[] key, int milliseconds, byte[] value) {
+		return invalidate(groupYedis.getYedis(false).async().psetex(key, milliseconds, value), key);
+	}
+
+	public ListenableFuture<String> set(byte[] key, byte[] value, byte[] nxxx) {
+		return invalidate(groupYedis.getYedis(false).async().set(key, value, nxxx), key);
+	}
+
+	public ListenableFuture<String> set(byte[] key, byte[] value, byte[] nxxx, byte[] expx,
+			int time) {
+		return invalidate(groupYedis.getYedis(false).async().set(key, value, nxxx, expx, time), key);
+	}
+
+	public ListenableFuture<Long> pfadd(byte[] key, byte[]... elements) {
+		return invalidate(groupYedis.getYedis(false).async().pfadd(key, elements), key);
+	}
+
+	public ListenableFuture<Long> pfcount(byte[] key) {
+		return groupYedis.getYedis(true).async().pfcount(key);
+	}
+
+	public ListenableFuture<String> pfmerge(byte[] destkey, byte[]... sourcekeys) {
+		return invalidate(groupYedis.getYedis(false).async().pfmerge(destkey, sourcekeys), destkey);
+	}
+
+	public ListenableFuture<Long> pfcount(byte[]... keys) {
+		return groupYedis.getYedis(true).async().pfcount(keys);
+	}
+
+	public ListenableFuture<ScanResult<byte[]>> scan(byte[] cursor) {
+		return groupYedis.getYedis(true).async().scan(cursor);
+	}
+
+	public ListenableFuture<ScanResult<byte[]>> scan(byte[] cursor, ScanParams params) {
+		return groupYedis.getYedis(true).async().scan(cursor, params);
+	}
+
+	public ListenableFuture<ScanResult<Entry<byte[], byte[]>>> hscan(byte[] key, byte[] cursor) {
+		return groupYedis.getYedis(true).async().hscan(key, cursor);
+	}
+
+	public ListenableFuture<ScanResult<Entry<String, String>>> hscan(String key, String cursor) {
+		return groupYedis.getYedis(true).async().hscan(key, cursor);
+	}
+
+	@Deprecated
+	public ListenableFuture<ScanResult<Entry<String, String>>> hscan(String key, int cursor) {
+		return groupYedis.getYedis(true).async().hscan(key, cursor);
+	}
+
+	public ListenableFuture<ScanResult<Entry<byte[], byte[]>>> hscan(byte[] key, byte[] cursor,
+			ScanParams params) {
+		return groupYedis.getYedis(true).async().hscan(key, cursor, params);
+	}
+
+	public ListenableFuture<ScanResult<byte[]>> sscan(byte[] key, byte[] cursor) {
+		return groupYedis.getYedis(true).async().sscan(key, cursor);
+	}
+
+	@Deprecated
+	public ListenableFuture<ScanResult<String>> sscan(String key, int cursor) {
+		return groupYedis.getYedis(true).async().sscan(key, cursor);
+	}
+
+	public ListenableFuture<ScanResult<String>> sscan(String key, String cursor) {
+		return groupYedis.getYedis(true).async().sscan(key, cursor);
+	}
+
+	public ListenableFuture<ScanResult<byte[]>> sscan(byte[] key, byte[] cursor, ScanParams params) {
+		return groupYedis.getYedis(true).async().sscan(key, cursor, params);
+	}
+
+	public ListenableFuture<ScanResult<Tuple>> zscan(byte[] key, byte[] cursor) {
+		return groupYedis.getYedis(true).async().zscan(key, cursor);
+	}
+
+	@Deprecated
+	public ListenableFuture<ScanResult<Tuple>> zscan(String key, int cursor) {
+		return groupYedis.getYedis(true).async().zscan(key, cursor);
+	}
+
+	public ListenableFuture<ScanResult<Tuple>> zscan(String key, String cursor) {
+		return groupYedis.getYedis(true).async().zscan(key, cursor);
+	}
+
+	public ListenableFuture<ScanResult<Tuple>> zscan(byte[] key, byte[] cursor, ScanParams params) {
+		return groupYedis.getYedis(false).async().zscan(key, cursor, params);
+	}
+
+}
@@ -2,11 +2,15 @@ package com.yeahmobi.yedis.group;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.curator.RetryPolicy;
 
 import redis.clients.jedis.JedisPoolConfig;
 
+import com.yeahmobi.yedis.async.DispatchMode;
+import com.yeahmobi.yedis.async.Transport;
 import com.yeahmobi.yedis.atomic.AtomConfig;
 import com.yeahmobi.yedis.common.ServerInfo;
 import com.yeahmobi.yedis.common.YedisException;
@@ -26,6 +30,9 @@ public class GroupConfig {
     // 读库负载均衡
     private LoadBalancer.Type        loadBalancerType = Type.ROUND_ROBIN;
 
+    // 读库的权重（WEIGHTED负载均衡时使用），没有配置的slave权重为1
+    private final Map<ServerInfo, Integer> slaveWeights = new ConcurrentHashMap<ServerInfo, Integer>();
+
     private MasterSlaveConfigManager masterSlaveConfigManager;
 
     // 数据库
@@ -42,6 +49,75 @@ public class GroupConfig {
 
     private int                      threadPoolSize   = 5;
 
+    // 操作分派到连接的方式
+    private DispatchMode             dispatchMode     = DispatchMode.ROUND_ROBIN;
+
+    // 传输方式
+    private Transport                transport        = Transport.THREAD_PER_CONNECTION;
+
+    // MULTIPLEXED传输时每个redis的连接数
+    private int                      multiplexedConnections = 1;
+
+    // 自动pipeline时每批最多的操作数，小于等于1表示不开启
+    private int                      autoPipelineBatchSize = 1;
+
+    // 自动pipeline时凑批最多等待的微秒数，0表示不等待
+    private long                     autoPipelineWaitMicros = 0;
+
+    // THREAD_PER_CONNECTION传输时每个连接最多排队的操作数，0表示不限制
+    private int                      maxQueueSize     = 0;
+
+    // 是否记录每个命令的耗时和失败数
+    private boolean                  metricsEnabled   = true;
+
+    // 是否将统计注册到JMX
+    private boolean                  jmxEnabled       = false;
+
+    // 近端缓存最多缓存的key数，0表示不开启
+    private long                     nearCacheMaxSize = 0;
+
+    // 近端缓存写入后的过期时间
+    private long                     nearCacheExpireMillis = 1000;
+
+    // 近端缓存如何感知其他客户端的写操作
+    private NearCacheInvalidation    nearCacheInvalidation = NearCacheInvalidation.LOCAL;
+
+    // nearCacheInvalidation为CHANNEL时订阅的channel
+    private String                   nearCacheChannel;
+
+    // slave的复制延迟（字节）超过该值时暂时不分配读请求，小于0表示不检查
+    private long                     maxReplicationLagBytes = -1;
+
+    // 采样复制延迟的间隔
+    private long                     replicationLagCheckMillis = 1000;
+
+    // 检查slave健康状况的间隔，小于等于0表示不检查（出错的slave不会被移出读负载均衡）
+    private long                     slaveHealthCheckMillis = 200;
+
+    // slave连续网络异常或超时达到该次数时移出读负载均衡，小于等于0表示不按连续次数判断
+    private int                      slaveEjectConsecutiveFailures = 5;
+
+    // 一个检查间隔内slave的网络异常和超时占比（百分比）达到该值时移出读负载均衡，小于等于0表示不按比例判断
+    private int                      slaveEjectErrorRatePercent = 50;
+
+    // 按比例判断时，一个检查间隔内至少要有的操作数
+    private int                      slaveEjectMinRequests = 20;
+
+    // 被移出的slave连续PING成功该次数后重新加入读负载均衡
+    private int                      slaveReinstateProbes = 3;
+
+    // 是否开启对冲读（get/exists/mget/hget/hmget）
+    private boolean                  hedgedReads      = false;
+
+    // 对冲延迟取读的server上该命令总耗时的分位数（0到100），小于等于0表示固定使用hedgeMinDelayMicros
+    private double                   hedgeDelayPercentile = 95;
+
+    // 对冲延迟的下限（微秒），分位数的样本不足时也使用该值
+    private long                     hedgeMinDelayMicros = 1000;
+
+    // master/slave变更时，切换前等待新server的连接建立并验证的最长时间，小于等于0表示不等待
+    private long                     prewarmMillis    = 1000;
+
     private String                   clientName;
 
     private ReadMode                 readMode         = ReadMode.SLAVEPREFERRED;
@@ -127,6 +203,21 @@ public class GroupConfig {
         this.loadBalancerType = loadBalancerType;
     }
 
+    public int getSlaveWeight(ServerInfo serverInfo) {
+        Integer weight = slaveWeights.get(serverInfo);
+        return weight != null ? weight : AtomConfig.DEFAULT_WEIGHT;
+    }
+
+    /**
+     * 设置slave的权重，0表示不分配读请求。从zookeeper获取的slave同样按host和port匹配。
+     */
+    public void setSlaveWeight(ServerInfo serverInfo, int weight) {
+        if (serverInfo == null || weight < 0) {
+            throw new IllegalArgumentException("serverInfo cannot be null, and weight cannot be negative.");
+        }
+        slaveWeights.put(serverInfo, weight);
+    }
+
     public int getDatabase() {
         return database;
     }
@@ -175,6 +266,199 @@ public class GroupConfig {
         this.threadPoolSize = threadPoolSize;
     }
 
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public void setDispatchMode(DispatchMode dispatchMode) {
+        this.dispatchMode = dispatchMode;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public int getMultiplexedConnections() {
+        return multiplexedConnections;
+    }
+
+    public void setMultiplexedConnections(int multiplexedConnections) {
+        this.multiplexedConnections = multiplexedConnections;
+    }
+
+    public int getAutoPipelineBatchSize() {
+        return autoPipelineBatchSize;
+    }
+
+    public void setAutoPipelineBatchSize(int autoPipelineBatchSize) {
+        this.autoPipelineBatchSize = autoPipelineBatchSize;
+    }
+
+    public long getAutoPipelineWaitMicros() {
+        return autoPipelineWaitMicros;
+    }
+
+    public void setAutoPipelineWaitMicros(long autoPipelineWaitMicros) {
+        this.autoPipelineWaitMicros = autoPipelineWaitMicros;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public void setMaxQueueSize(int maxQueueSize) {
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize cannot be negative.");
+        }
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
+    public void setJmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    public long getNearCacheMaxSize() {
+        return nearCacheMaxSize;
+    }
+
+    public void setNearCacheMaxSize(long nearCacheMaxSize) {
+        this.nearCacheMaxSize = nearCacheMaxSize;
+    }
+
+    public long getNearCacheExpireMillis() {
+        return nearCacheExpireMillis;
+    }
+
+    public void setNearCacheExpireMillis(long nearCacheExpireMillis) {
+        this.nearCacheExpireMillis = nearCacheExpireMillis;
+    }
+
+    public NearCacheInvalidation getNearCacheInvalidation() {
+        return nearCacheInvalidation;
+    }
+
+    public void setNearCacheInvalidation(NearCacheInvalidation nearCacheInvalidation) {
+        this.nearCacheInvalidation = nearCacheInvalidation;
+    }
+
+    public String getNearCacheChannel() {
+        return nearCacheChannel;
+    }
+
+    public void setNearCacheChannel(String nearCacheChannel) {
+        this.nearCacheChannel = nearCacheChannel;
+    }
+
+    public long getMaxReplicationLagBytes() {
+        return maxReplicationLagBytes;
+    }
+
+    public void setMaxReplicationLagBytes(long maxReplicationLagBytes) {
+        this.maxReplicationLagBytes = maxReplicationLagBytes;
+    }
+
+    public long getReplicationLagCheckMillis() {
+        return replicationLagCheckMillis;
+    }
+
+    public void setReplicationLagCheckMillis(long replicationLagCheckMillis) {
+        this.replicationLagCheckMillis = replicationLagCheckMillis;
+    }
+
+    public long getSlaveHealthCheckMillis() {
+        return slaveHealthCheckMillis;
+    }
+
+    public void setSlaveHealthCheckMillis(long slaveHealthCheckMillis) {
+        this.slaveHealthCheckMillis = slaveHealthCheckMillis;
+    }
+
+    public int getSlaveEjectConsecutiveFailures() {
+        return slaveEjectConsecutiveFailures;
+    }
+
+    public void setSlaveEjectConsecutiveFailures(int slaveEjectConsecutiveFailures) {
+        this.slaveEjectConsecutiveFailures = slaveEjectConsecutiveFailures;
+    }
+
+    public int getSlaveEjectErrorRatePercent() {
+        return slaveEjectErrorRatePercent;
+    }
+
+    public void setSlaveEjectErrorRatePercent(int slaveEjectErrorRatePercent) {
+        this.slaveEjectErrorRatePercent = slaveEjectErrorRatePercent;
+    }
+
+    public int getSlaveEjectMinRequests() {
+        return slaveEjectMinRequests;
+    }
+
+    public void setSlaveEjectMinRequests(int slaveEjectMinRequests) {
+        this.slaveEjectMinRequests = slaveEjectMinRequests;
+    }
+
+    public int getSlaveReinstateProbes() {
+        return slaveReinstateProbes;
+    }
+
+    public void setSlaveReinstateProbes(int slaveReinstateProbes) {
+        this.slaveReinstateProbes = slaveReinstateProbes;
+    }
+
+    public boolean isHedgedReads() {
+        return hedgedReads;
+    }
+
+    public void setHedgedReads(boolean hedgedReads) {
+        this.hedgedReads = hedgedReads;
+    }
+
+    public double getHedgeDelayPercentile() {
+        return hedgeDelayPercentile;
+    }
+
+    public void setHedgeDelayPercentile(double hedgeDelayPercentile) {
+        if (hedgeDelayPercentile > 100) {
+            throw new IllegalArgumentException("hedgeDelayPercentile cannot be greater than 100.");
+        }
+        this.hedgeDelayPercentile = hedgeDelayPercentile;
+    }
+
+    public long getHedgeMinDelayMicros() {
+        return hedgeMinDelayMicros;
+    }
+
+    public void setHedgeMinDelayMicros(long hedgeMinDelayMicros) {
+        if (hedgeMinDelayMicros < 0) {
+            throw new IllegalArgumentException("hedgeMinDelayMicros cannot be negative.");
+        }
+        this.hedgeMinDelayMicros = hedgeMinDelayMicros;
+    }
+
+    public long getPrewarmMillis() {
+        return prewarmMillis;
+    }
+
+    public void setPrewarmMillis(long prewarmMillis) {
+        this.prewarmMillis = prewarmMillis;
+    }
+
     public String getClientName() {
         return clientName;
     }
@@ -201,8 +485,17 @@ public class GroupConfig {
                 atomConfig.setDatabase(database);
                 atomConfig.setPassword(password);
                 atomConfig.setServerInfo(serverInfo);
+                atomConfig.setWeight(getSlaveWeight(serverInfo));
                 atomConfig.setSocketTimeout(socketTimeout);
                 atomConfig.setThreadPoolSize(threadPoolSize);
+                atomConfig.setDispatchMode(dispatchMode);
+                atomConfig.setTransport(transport);
+                atomConfig.setMultiplexedConnections(multiplexedConnections);
+                atomConfig.setAutoPipelineBatchSize(autoPipelineBatchSize);
+                atomConfig.setAutoPipelineWaitMicros(autoPipelineWaitMicros);
+                atomConfig.setMaxQueueSize(maxQueueSize);
+                atomConfig.setMetricsEnabled(metricsEnabled);
+                atomConfig.setJmxEnabled(jmxEnabled);
                 atomConfig.setTimeout(timeout);
                 atomConfig.setPipelinePoolConfig(pipelinePoolConfig);
                 atomConfigs.add(atomConfig);
@@ -223,6 +516,14 @@ public class GroupConfig {
             atomConfig.setServerInfo(serverInfo);
             atomConfig.setSocketTimeout(socketTimeout);
             atomConfig.setThreadPoolSize(threadPoolSize);
+            atomConfig.setDispatchMode(dispatchMode);
+            atomConfig.setTransport(transport);
+            atomConfig.setMultiplexedConnections(multiplexedConnections);
+            atomConfig.setAutoPipelineBatchSize(autoPipelineBatchSize);
+            atomConfig.setAutoPipelineWaitMicros(autoPipelineWaitMicros);
+            atomConfig.setMaxQueueSize(maxQueueSize);
+            atomConfig.setMetricsEnabled(metricsEnabled);
+            atomConfig.setJmxEnabled(jmxEnabled);
             atomConfig.setTimeout(timeout);
             atomConfig.setPipelinePoolConfig(pipelinePoolConfig);
             return atomConfig;
@@ -236,10 +537,22 @@ public class GroupConfig {
 
     @Override
     public String toString() {
-        return "GroupConfig [loadBalancerType=" + loadBalancerType + ", masterSlaveConfigManager="
+        return "GroupConfig [loadBalancerType=" + loadBalancerType + ", slaveWeights=" + slaveWeights
+               + ", masterSlaveConfigManager="
                + masterSlaveConfigManager + ", database=" + database + ", password=" + password + ", socketTimeout="
-               + socketTimeout + ", timeout=" + timeout + ", threadPoolSize=" + threadPoolSize + ", clientName="
-               + clientName + ", readMode=" + readMode + ", pipelinePoolConfig=" + pipelinePoolConfig + "]";
+               + socketTimeout + ", timeout=" + timeout + ", threadPoolSize=" + threadPoolSize + ", dispatchMode="
+               + dispatchMode + ", transport=" + transport + ", multiplexedConnections=" + multiplexedConnections
+               + ", autoPipelineBatchSize=" + autoPipelineBatchSize + ", autoPipelineWaitMicros="
+               + autoPipelineWaitMicros + ", maxQueueSize=" + maxQueueSize + ", metricsEnabled=" + metricsEnabled + ", jmxEnabled=" + jmxEnabled
+               + ", nearCacheMaxSize=" + nearCacheMaxSize + ", nearCacheExpireMillis="
+               + nearCacheExpireMillis + ", nearCacheInvalidation=" + nearCacheInvalidation + ", nearCacheChannel="
+               + nearCacheChannel + ", maxReplicationLagBytes=" + maxReplicationLagBytes
+               + ", replicationLagCheckMillis=" + replicationLagCheckMillis + ", slaveHealthCheckMillis="
+               + slaveHealthCheckMillis + ", slaveEjectConsecutiveFailures=" + slaveEjectConsecutiveFailures
+               + ", slaveEjectErrorRatePercent=" + slaveEjectErrorRatePercent + ", slaveEjectMinRequests="
+               + slaveEjectMinRequests + ", slaveReinstateProbes=" + slaveReinstateProbes + ", hedgedReads="
+               + hedgedReads + ", hedgeDelayPercentile=" + hedgeDelayPercentile + ", hedgeMinDelayMicros="
+               + hedgeMinDelayMicros + ", prewarmMillis=" + prewarmMillis + ", clientName=" + clientName + ", readMode=" + readMode + ", pipelinePoolConfig=" + pipelinePoolConfig + "]";
     }
 
 }
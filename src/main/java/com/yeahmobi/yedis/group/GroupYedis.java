@@ -1,12 +1,19 @@
 package com.yeahmobi.yedis.group;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,13 +28,18 @@ import redis.clients.jedis.Tuple;
 import redis.clients.jedis.ZParams;
 import redis.clients.util.Slowlog;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.atomic.AsyncYedis;
 import com.yeahmobi.yedis.atomic.AtomConfig;
 import com.yeahmobi.yedis.atomic.Yedis;
 import com.yeahmobi.yedis.common.ServerInfo;
 import com.yeahmobi.yedis.common.YedisException;
+import com.yeahmobi.yedis.loadbalance.AdaptiveLoadBalancer;
 import com.yeahmobi.yedis.loadbalance.LoadBalancer;
 import com.yeahmobi.yedis.loadbalance.RandomLoadBalancer;
 import com.yeahmobi.yedis.loadbalance.RoundRobinLoadBalancer;
+import com.yeahmobi.yedis.loadbalance.WeightedLoadBalancer;
+import com.yeahmobi.yedis.pipeline.StreamingConfig;
 import com.yeahmobi.yedis.pipeline.YedisPipeline;
 
 public final class GroupYedis implements ConfigChangeListener {
@@ -40,6 +52,16 @@ public final class GroupYedis implements ConfigChangeListener {
 		LoadBalancer loadBalancer;
 		Yedis master;
 		List<Yedis> slaves;
+		// 以下由复制延迟的采样结果决定，没有开启检查时readLoadBalancer与loadBalancer相同
+		// 不包括延迟过大的slave，都延迟过大时为null
+		LoadBalancer readLoadBalancer;
+		List<Yedis> readSlaves;
+		// 只包括确认延迟不超过上限的slave，没有时为null
+		LoadBalancer freshLoadBalancer;
+		List<Yedis> freshSlaves;
+		Map<Yedis, Long> replicationLags = Collections.emptyMap();
+		// 健康检查发现异常、暂时移出读负载均衡的slave
+		Set<Yedis> ejectedSlaves = Collections.emptySet();
 	}
 
 	private volatile MsHolder msHolder = new MsHolder();
@@ -48,16 +70,296 @@ public final class GroupYedis implements ConfigChangeListener {
 
 	private AtomicBoolean shutdown = new AtomicBoolean(false);
 
+	// 串行处理配置变更
+	private final Object configLock = new Object();
+
+	private final AsyncGroupYedis async = new AsyncGroupYedis(this);
+
+	// 近端缓存，没有开启时为null
+	private final NearCache nearCache;
+
+	// 复制延迟的采样，没有开启（maxReplicationLagBytes小于0）时为null
+	private final ReplicationLagMonitor replicationLagMonitor;
+
+	// slave的健康检查，没有开启（slaveHealthCheckMillis小于等于0）时为null
+	private final SlaveHealthChecker slaveHealthChecker;
+
+	// 对冲读，没有开启时为null
+	private final HedgedReads hedgedReads;
+
+	// 选择对冲读的server时的轮询位置
+	private final AtomicInteger hedgeIndex = new AtomicInteger(0);
+
+	// withTimeout返回的视图所属的GroupYedis，不是视图时为null
+	private final GroupYedis origin;
+
+	// 视图的操作超时
+	private final long timeout;
+
 	public GroupYedis(GroupConfig groupConfig) {
+		if (groupConfig.getReadMode() == ReadMode.FRESHSLAVE
+				&& groupConfig.getMaxReplicationLagBytes() < 0) {
+			throw new IllegalArgumentException(
+					"ReadMode FRESHSLAVE requires maxReplicationLagBytes >= 0.");
+		}
 		this.groupConfig = groupConfig;
+		this.origin = null;
+		this.timeout = 0;
+
+		this.nearCache = groupConfig.getNearCacheMaxSize() > 0 ? new NearCache(
+				groupConfig) : null;
+
+		this.hedgedReads = groupConfig.isHedgedReads() ? new HedgedReads(
+				groupConfig) : null;
 
 		msHolder.master = new Yedis(groupConfig.getMasterAtomConfig());
 		msHolder.slaves = createYedis(groupConfig.getSlaveAtomConfigs());
 
 		msHolder.loadBalancer = createLoadBalancer(msHolder.slaves,
 				groupConfig.getLoadBalancerType());
+		msHolder = withReadSlaves(msHolder,
+				Collections.<Yedis, Long> emptyMap(),
+				Collections.<Yedis> emptySet());
 
 		this.groupConfig.addListener(this);
+
+		if (groupConfig.getMaxReplicationLagBytes() >= 0) {
+			this.replicationLagMonitor = new ReplicationLagMonitor(this);
+			this.replicationLagMonitor.start(groupConfig
+					.getReplicationLagCheckMillis());
+		} else {
+			this.replicationLagMonitor = null;
+		}
+
+		if (groupConfig.getSlaveHealthCheckMillis() > 0) {
+			this.slaveHealthChecker = new SlaveHealthChecker(this, groupConfig);
+			this.slaveHealthChecker.start(groupConfig
+					.getSlaveHealthCheckMillis());
+		} else {
+			this.slaveHealthChecker = null;
+		}
+	}
+
+	private GroupYedis(GroupYedis origin, long timeout) {
+		this.origin = origin;
+		this.timeout = timeout;
+		this.groupConfig = origin.groupConfig;
+		this.shutdown = origin.shutdown;
+		this.nearCache = origin.nearCache;
+		this.hedgedReads = origin.hedgedReads;
+		this.replicationLagMonitor = null;
+		this.slaveHealthChecker = null;
+	}
+
+	/**
+	 * 返回操作超时为timeoutMillis的视图，与当前GroupYedis共享连接、读写分离、近端缓存和对冲读，见Yedis.withTimeout(long)。<br>
+	 * 视图不需要关闭，原GroupYedis关闭后视图也不再可用。
+	 */
+	public GroupYedis withTimeout(long timeoutMillis) {
+		if (timeoutMillis <= 0) {
+			throw new IllegalArgumentException(
+					"timeoutMillis must be positive.");
+		}
+		return new GroupYedis(origin != null ? origin : this, timeoutMillis);
+	}
+
+	MsHolder msHolder() {
+		return origin != null ? origin.msHolder : msHolder;
+	}
+
+	/**
+	 * 复制延迟采样完成，slave是否可读有变化时重建负载均衡
+	 */
+	synchronized void onReplicationSampled(MsHolder sampled,
+			Map<Yedis, Long> lags) {
+		if (shutdown.get() || sampled != msHolder) {
+			// 采样期间master/slave发生了变化，等下一次采样
+			return;
+		}
+		MsHolder newMsHolder = withReadSlaves(sampled,
+				Collections.unmodifiableMap(lags), sampled.ejectedSlaves);
+		if (newMsHolder.readSlaves != sampled.readSlaves) {
+			logReadSlavesChanged(sampled.readSlaves, newMsHolder.readSlaves,
+					lags);
+		}
+		this.msHolder = newMsHolder;
+	}
+
+	/**
+	 * 将slave移出读负载均衡，返回false表示该slave已经不属于这个GroupYedis或已被移出
+	 */
+	synchronized boolean ejectSlave(Yedis slave, String reason) {
+		MsHolder holder = msHolder;
+		if (shutdown.get() || holder.slaves == null
+				|| !holder.slaves.contains(slave)
+				|| holder.ejectedSlaves.contains(slave)) {
+			return false;
+		}
+		Set<Yedis> ejected = new HashSet<Yedis>(holder.ejectedSlaves);
+		ejected.add(slave);
+		this.msHolder = withReadSlaves(holder, holder.replicationLags,
+				Collections.unmodifiableSet(ejected));
+		logger.warn("Slave " + slave.getConfig().getHost() + ":"
+				+ slave.getConfig().getPort() + " ejected from reads: "
+				+ reason);
+		return true;
+	}
+
+	/**
+	 * PING探测成功后，将slave重新加入读负载均衡
+	 */
+	synchronized void reinstateSlave(Yedis slave) {
+		MsHolder holder = msHolder;
+		if (shutdown.get() || !holder.ejectedSlaves.contains(slave)) {
+			return;
+		}
+		Set<Yedis> ejected = new HashSet<Yedis>(holder.ejectedSlaves);
+		ejected.remove(slave);
+		this.msHolder = withReadSlaves(holder, holder.replicationLags,
+				Collections.unmodifiableSet(ejected));
+		logger.info("Slave " + slave.getConfig().getHost() + ":"
+				+ slave.getConfig().getPort() + " reinstated for reads");
+	}
+
+	/**
+	 * 按复制延迟和健康检查的结果重新计算可读的slave，只在可读的slave有变化时重建负载均衡
+	 */
+	private MsHolder withReadSlaves(MsHolder base, Map<Yedis, Long> lags,
+			Set<Yedis> ejected) {
+		long maxLag = groupConfig.getMaxReplicationLagBytes();
+		List<Yedis> slaves = base.slaves != null ? base.slaves : Collections
+				.<Yedis> emptyList();
+		List<Yedis> readSlaves = new ArrayList<Yedis>();
+		List<Yedis> freshSlaves = new ArrayList<Yedis>();
+		for (Yedis slave : slaves) {
+			if (ejected.contains(slave)) {
+				continue;
+			}
+			Long lag = lags.get(slave);
+			if (lag != null && lag > maxLag) {
+				continue;
+			}
+			readSlaves.add(slave);
+			if (lag != null && lag != ReplicationLagMonitor.UNKNOWN) {
+				freshSlaves.add(slave);
+			}
+		}
+
+		MsHolder newMsHolder = new MsHolder();
+		newMsHolder.master = base.master;
+		newMsHolder.slaves = base.slaves;
+		newMsHolder.loadBalancer = base.loadBalancer;
+		newMsHolder.replicationLags = lags;
+		newMsHolder.ejectedSlaves = ejected;
+		if (readSlaves.equals(base.readSlaves)) {
+			newMsHolder.readSlaves = base.readSlaves;
+			newMsHolder.readLoadBalancer = base.readLoadBalancer;
+		} else {
+			newMsHolder.readSlaves = readSlaves;
+			newMsHolder.readLoadBalancer = readSlaves.size() == slaves.size() ? base.loadBalancer
+					: createLoadBalancer(readSlaves,
+							groupConfig.getLoadBalancerType());
+		}
+		if (freshSlaves.equals(base.freshSlaves)) {
+			newMsHolder.freshSlaves = base.freshSlaves;
+			newMsHolder.freshLoadBalancer = base.freshLoadBalancer;
+		} else {
+			newMsHolder.freshSlaves = freshSlaves;
+			newMsHolder.freshLoadBalancer = createLoadBalancer(freshSlaves,
+					groupConfig.getLoadBalancerType());
+		}
+		return newMsHolder;
+	}
+
+	private static void logReadSlavesChanged(List<Yedis> before,
+			List<Yedis> after, Map<Yedis, Long> lags) {
+		for (Yedis slave : before) {
+			if (!after.contains(slave)) {
+				logger.warn("Slave " + slave.getConfig().getHost() + ":"
+						+ slave.getConfig().getPort()
+						+ " removed from reads, replication lag is "
+						+ lags.get(slave));
+			}
+		}
+		for (Yedis slave : after) {
+			if (!before.contains(slave)) {
+				logger.info("Slave " + slave.getConfig().getHost() + ":"
+						+ slave.getConfig().getPort()
+						+ " back to reads, replication lag is "
+						+ lags.get(slave));
+			}
+		}
+	}
+
+	/**
+	 * 最近一次采样的各slave的复制延迟（字节）：-1表示没有采样到，Long.MAX_VALUE表示复制连接已断开；
+	 * 没有开启检查（maxReplicationLagBytes小于0）时为空
+	 */
+	public Map<ServerInfo, Long> getReplicationLags() {
+		Map<ServerInfo, Long> result = new LinkedHashMap<ServerInfo, Long>();
+		for (Map.Entry<Yedis, Long> entry : msHolder().replicationLags
+				.entrySet()) {
+			result.put(entry.getKey().getConfig().getServerInfo(),
+					entry.getValue());
+		}
+		return result;
+	}
+
+	/**
+	 * 健康检查发现异常、暂时不分配读请求的slave
+	 */
+	public List<ServerInfo> getEjectedSlaves() {
+		List<ServerInfo> result = new ArrayList<ServerInfo>();
+		for (Yedis slave : msHolder().ejectedSlaves) {
+			result.add(slave.getConfig().getServerInfo());
+		}
+		return result;
+	}
+
+	/**
+	 * 对冲读的另一个server：优先选择与primary不同的可读slave，没有时选择master（Slave模式除外）；Master模式不对冲
+	 */
+	Yedis hedgeTarget(Yedis primary) {
+		if (origin != null) {
+			Yedis target = origin.hedgeTarget(primary);
+			return target != null ? target.withTimeout(timeout) : null;
+		}
+		ReadMode readMode = groupConfig.getReadMode();
+		if (readMode == ReadMode.MASTER) {
+			return null;
+		}
+		MsHolder holder = msHolder;
+		List<Yedis> candidates = readMode == ReadMode.FRESHSLAVE ? holder.freshSlaves
+				: holder.readSlaves;
+		int size = candidates.size();
+		if (size > 0) {
+			int start = Math.abs(hedgeIndex.getAndIncrement() % size);
+			for (int i = 0; i < size; i++) {
+				Yedis candidate = candidates.get((start + i) % size);
+				if (!sameServer(candidate, primary)) {
+					return candidate;
+				}
+			}
+		}
+		if (readMode != ReadMode.SLAVE && !sameServer(holder.master, primary)) {
+			return holder.master;
+		}
+		return null;
+	}
+
+	/**
+	 * primary可能是withTimeout的视图，按server比较
+	 */
+	private static boolean sameServer(Yedis a, Yedis b) {
+		return a.getConfig().getServerInfo()
+				.equals(b.getConfig().getServerInfo());
+	}
+
+	/**
+	 * 返回对冲读的统计；没有开启（hedgedReads为false）时返回null
+	 */
+	public HedgedReads getHedgedReads() {
+		return hedgedReads;
 	}
 
 	private LoadBalancer createLoadBalancer(List<Yedis> slaves,
@@ -71,6 +373,15 @@ public final class GroupYedis implements ConfigChangeListener {
 			case ROUND_ROBIN:
 				loadBalancer = new RoundRobinLoadBalancer(slaves);
 				break;
+			case WEIGHTED:
+				// weight都为0（如唯一有权重的slave被移出）时没有可读的slave，按读写分离策略回退
+				if (hasWeight(slaves)) {
+					loadBalancer = new WeightedLoadBalancer(slaves);
+				}
+				break;
+			case ADAPTIVE:
+				loadBalancer = new AdaptiveLoadBalancer(slaves);
+				break;
 			default:
 				loadBalancer = new RoundRobinLoadBalancer(slaves);
 				break;
@@ -79,6 +390,15 @@ public final class GroupYedis implements ConfigChangeListener {
 		return loadBalancer;
 	}
 
+	private static boolean hasWeight(List<Yedis> slaves) {
+		for (Yedis slave : slaves) {
+			if (slave.getConfig().getWeight() > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private List<Yedis> createYedis(List<AtomConfig> configs) {
 		List<Yedis> list = new ArrayList<Yedis>();
 
@@ -89,22 +409,36 @@ public final class GroupYedis implements ConfigChangeListener {
 		return list;
 	}
 
-	private Yedis getYedis(boolean readonly) {
+	Yedis getYedis(boolean readonly) {
+		if (origin != null) {
+			return origin.getYedis(readonly).withTimeout(timeout);
+		}
 		// long start = System.nanoTime();
 		checkClose();
 		Yedis re = null;
 		if (readonly) {
+			MsHolder holder = msHolder;
 			switch (groupConfig.getReadMode()) {
 			case SLAVEPREFERRED:
-				if (msHolder.loadBalancer != null) {
-					re = msHolder.loadBalancer.route();
+				if (holder.readLoadBalancer != null) {
+					re = holder.readLoadBalancer.route();
 				} else {
-					re = msHolder.master;
+					re = holder.master;
 				}
 				break;
 			case SLAVE:
-				if (msHolder.loadBalancer != null) {
-					re = msHolder.loadBalancer.route();
+				// slave的延迟都过大时，仍然读slave
+				if (holder.readLoadBalancer != null) {
+					re = holder.readLoadBalancer.route();
+				} else if (holder.loadBalancer != null) {
+					re = holder.loadBalancer.route();
+				}
+				break;
+			case FRESHSLAVE:
+				if (holder.freshLoadBalancer != null) {
+					re = holder.freshLoadBalancer.route();
+				} else {
+					re = holder.master;
 				}
 				break;
 			case MASTERPREFERRED:
@@ -140,96 +474,162 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	@Override
-	public synchronized void onChanged(MasterSlaveConfigManager configManager) {
+	public void onChanged(MasterSlaveConfigManager configManager) {
+		if (origin != null) {
+			origin.onChanged(configManager);
+			return;
+		}
+		// 配置变更串行处理；新建和预热不持有this的锁，不阻塞slave的移出和复制延迟采样
+		synchronized (configLock) {
+			switchServers();
+		}
+	}
+
+	private void switchServers() {
 		// 如果已经关闭，则忽略配置变更
 		if (shutdown.get()) {
 			return;
 		}
 
+		// master和slave只在这里（持有configLock）变化
+		MsHolder current = msHolder;
 		MsHolder newMsHolder = new MsHolder();
 		Yedis unusedMaster = null;
 		List<Yedis> unusedSlaves = null;
+		List<Yedis> created = new ArrayList<Yedis>();
 		try {
 
 			// 处理master的变化
-			try {
-				AtomConfig masterConfig = groupConfig.getMasterAtomConfig();
-				if (!msHolder.master.getConfig().getServerInfo()
-						.equals(masterConfig.getServerInfo())) {
-					newMsHolder.master = new Yedis(
-							groupConfig.getMasterAtomConfig());
-					logger.info("Master changed to "
-							+ groupConfig.getMasterAtomConfig().getHost() + ":"
-							+ groupConfig.getMasterAtomConfig().getPort());
-					unusedMaster = msHolder.master;
-				} else {
-					newMsHolder.master = msHolder.master;
-				}
-			} catch (Exception e) {
-				// 如果有异常，则需要关闭刚才新建的实例
-				unusedMaster = newMsHolder.master;
-				throw e;
+			AtomConfig masterConfig = groupConfig.getMasterAtomConfig();
+			if (!current.master.getConfig().getServerInfo()
+					.equals(masterConfig.getServerInfo())) {
+				newMsHolder.master = new Yedis(masterConfig);
+				created.add(newMsHolder.master);
+				logger.info("Master changed to " + masterConfig.getHost() + ":"
+						+ masterConfig.getPort());
+				unusedMaster = current.master;
+			} else {
+				newMsHolder.master = current.master;
 			}
 
 			// 处理slave的变化:构造slaves，从已有yedis中复用，最后，没被复用的则close
-			List<Yedis> createdSlaves = new ArrayList<Yedis>();
-			try {
-				List<AtomConfig> slaveConfigs = groupConfig
-						.getSlaveAtomConfigs();
-				if (slaveConfigs != null) {
-					List<Yedis> oldSlaves = new ArrayList<Yedis>(
-							msHolder.slaves);
-					List<Yedis> newSlaves = new ArrayList<Yedis>(
-							slaveConfigs.size());
-					for (AtomConfig config : slaveConfigs) {
-						Yedis existsYedis = takeSlaveIfExists(oldSlaves,
-								config.getServerInfo());
-						if (existsYedis != null) {
-							// 复用已经存在的Yedis
-							newSlaves.add(existsYedis);
-						} else {
-							// 是新的server，则构建Yedis
-							Yedis yedis = new Yedis(config);
-							newSlaves.add(yedis);
-							createdSlaves.add(yedis);
-							logger.info("New slave created: "
-									+ yedis.getConfig().getHost() + ":"
-									+ yedis.getConfig().getPort());
-						}
+			List<AtomConfig> slaveConfigs = groupConfig.getSlaveAtomConfigs();
+			if (slaveConfigs != null) {
+				List<Yedis> oldSlaves = new ArrayList<Yedis>(current.slaves);
+				List<Yedis> newSlaves = new ArrayList<Yedis>(
+						slaveConfigs.size());
+				for (AtomConfig config : slaveConfigs) {
+					Yedis existsYedis = takeSlaveIfExists(oldSlaves,
+							config.getServerInfo());
+					if (existsYedis != null) {
+						// 复用已经存在的Yedis
+						newSlaves.add(existsYedis);
+					} else {
+						// 是新的server，则构建Yedis
+						Yedis yedis = new Yedis(config);
+						newSlaves.add(yedis);
+						created.add(yedis);
+						logger.info("New slave created: "
+								+ yedis.getConfig().getHost() + ":"
+								+ yedis.getConfig().getPort());
 					}
-					newMsHolder.loadBalancer = createLoadBalancer(newSlaves,
-							groupConfig.getLoadBalancerType());
-					newMsHolder.slaves = newSlaves;
-					unusedSlaves = oldSlaves;
 				}
-			} catch (Exception e) {
-				// 如果有异常，则需要关闭刚才新建的实例
-				unusedSlaves = createdSlaves;
-				throw e;
+				newMsHolder.loadBalancer = createLoadBalancer(newSlaves,
+						groupConfig.getLoadBalancerType());
+				newMsHolder.slaves = newSlaves;
+				unusedSlaves = oldSlaves;
 			}
 
-			// 切换
-			this.msHolder = newMsHolder;
+			// 切换前建立好新的master和slave的连接
+			prewarm(created);
 
 		} catch (Exception e) {
 			logger.error(
 					"Master/slave Config changed, but error occurred, so GroupYedis haven't switched connection: ",
 					e);
+			// 关闭刚才新建的实例，老的实例继续使用
+			for (Yedis yedis : created) {
+				yedis.close();
+			}
+			return;
 		}
 
-		// 释放无用的yedis
+		synchronized (this) {
+			if (shutdown.get()) {
+				// 预热期间GroupYedis已经关闭
+				for (Yedis yedis : created) {
+					yedis.close();
+				}
+				return;
+			}
+
+			// 复用的slave保持移出状态（按切换时的状态），复制延迟等下一次采样
+			Set<Yedis> ejected = new HashSet<Yedis>(msHolder.ejectedSlaves);
+			if (newMsHolder.slaves != null) {
+				ejected.retainAll(newMsHolder.slaves);
+			} else {
+				ejected.clear();
+			}
+			newMsHolder = withReadSlaves(newMsHolder,
+					Collections.<Yedis, Long> emptyMap(),
+					Collections.unmodifiableSet(ejected));
+
+			// 切换
+			this.msHolder = newMsHolder;
+		}
+
+		if (nearCache != null && unusedMaster != null) {
+			nearCache.onMasterChanged();
+		}
+
+		// 释放无用的yedis：切换前拿到它们的调用方仍然可以使用，等已提交的操作完成后再关闭
 		if (unusedMaster != null) {
-			unusedMaster.close();
-			logger.info("Unused master closed: "
-					+ unusedMaster.getConfig().getHost() + ":"
-					+ unusedMaster.getConfig().getPort());
+			Retirement.schedule(unusedMaster, "master");
 		}
 		if (unusedSlaves != null) {
 			for (Yedis yedis : unusedSlaves) {
-				yedis.close();
-				logger.info("Unused slave closed: "
-						+ yedis.getConfig().getHost() + ":"
-						+ yedis.getConfig().getPort());
+				Retirement.schedule(yedis, "slave");
+			}
+		}
+	}
+
+	/**
+	 * 等待新建的Yedis的连接就绪，最多等待prewarmMillis；先对所有Yedis发起预热再等待，超时仍然切换（配置中心已经通知了新的server）
+	 */
+	private void prewarm(List<Yedis> created) {
+		long prewarmMillis = groupConfig.getPrewarmMillis();
+		if (prewarmMillis <= 0 || created.isEmpty()) {
+			return;
+		}
+		List<ListenableFuture<Boolean>> futures = new ArrayList<ListenableFuture<Boolean>>(
+				created.size());
+		for (Yedis yedis : created) {
+			futures.add(yedis.async().prewarm());
+		}
+		long deadline = System.nanoTime()
+				+ TimeUnit.MILLISECONDS.toNanos(prewarmMillis);
+		for (int i = 0; i < created.size(); i++) {
+			ListenableFuture<Boolean> future = futures.get(i);
+			boolean ready;
+			try {
+				ready = future.get(
+						Math.max(0, deadline - System.nanoTime()),
+						TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				ready = false;
+			} catch (ExecutionException e) {
+				ready = false;
+			} catch (TimeoutException e) {
+				ready = false;
+			}
+			if (!ready) {
+				future.cancel(true);
+				Yedis yedis = created.get(i);
+				logger.warn("Connections to " + yedis.getConfig().getHost()
+						+ ":" + yedis.getConfig().getPort()
+						+ " are not ready after " + prewarmMillis
+						+ "ms, switching anyway.");
 			}
 		}
 	}
@@ -248,6 +648,10 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public void close() {
+		if (origin != null) {
+			// 视图不持有连接
+			return;
+		}
 		if (shutdown.compareAndSet(false, true)) {
 
 			synchronized (this) {
@@ -260,36 +664,183 @@ public final class GroupYedis implements ConfigChangeListener {
 
 			groupConfig.getMasterSlaveConfigManager().close();
 
+			if (replicationLagMonitor != null) {
+				replicationLagMonitor.close();
+			}
+
+			if (slaveHealthChecker != null) {
+				slaveHealthChecker.close();
+			}
+
+			if (nearCache != null) {
+				nearCache.close();
+			}
+		}
+	}
+
+	/**
+	 * 返回近端缓存，用于查看命中率或手动失效；没有开启（nearCacheMaxSize为0）时返回null
+	 */
+	public NearCache getNearCache() {
+		return nearCache;
+	}
+
+	private void invalidate(String key) {
+		if (nearCache != null) {
+			nearCache.invalidate(key);
+		}
+	}
+
+	private void invalidate(String... keys) {
+		if (nearCache != null) {
+			for (String key : keys) {
+				nearCache.invalidate(key);
+			}
+		}
+	}
+
+	private void invalidate(byte[] key) {
+		if (nearCache != null) {
+			nearCache.invalidate(key);
+		}
+	}
+
+	private void invalidate(byte[]... keys) {
+		if (nearCache != null) {
+			for (byte[] key : keys) {
+				nearCache.invalidate(key);
+			}
+		}
+	}
+
+	private void invalidateKeysValues(String... keysvalues) {
+		if (nearCache != null) {
+			for (int i = 0; i < keysvalues.length; i += 2) {
+				nearCache.invalidate(keysvalues[i]);
+			}
+		}
+	}
+
+	private void invalidateKeysValues(byte[]... keysvalues) {
+		if (nearCache != null) {
+			for (int i = 0; i < keysvalues.length; i += 2) {
+				nearCache.invalidate(keysvalues[i]);
+			}
+		}
+	}
+
+	private void invalidateAll() {
+		if (nearCache != null) {
+			nearCache.invalidateAll();
 		}
 	}
 	
+	/**
+	 * 返回非阻塞的GroupYedis，与当前GroupYedis共享连接，每个命令返回ListenableFuture
+	 */
+	public AsyncGroupYedis async() {
+		return async;
+	}
+
+	/**
+	 * pipeline中的命令不经过近端缓存：读操作总是访问redis，写操作不会逐个失效，而是在sync之后失效整个近端缓存
+	 */
     public YedisPipeline pipelined() {
-        return getYedis(false).pipelined();
+        return invalidateAfterSync(getYedis(false).pipelined());
     }
 
+	/**
+	 * 流式pipeline，见Yedis.pipelined(StreamingConfig)；与近端缓存的关系同pipelined()
+	 */
+	public YedisPipeline pipelined(StreamingConfig streaming) {
+		return invalidateAfterSync(getYedis(false).pipelined(streaming));
+	}
+
+	private YedisPipeline invalidateAfterSync(YedisPipeline pipeline) {
+		if (nearCache != null) {
+			pipeline.afterSync(new Runnable() {
+
+				@Override
+				public void run() {
+					invalidateAll();
+				}
+			});
+		}
+		return pipeline;
+	}
+
 	public String set(String key, String value) {
-		return getYedis(false).set(key, value);
+		try {
+			return getYedis(false).set(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String set(String key, String value, String nxxx, String expx,
 			long time) {
-		return getYedis(false).set(key, value, nxxx, expx, time);
+		try {
+			return getYedis(false).set(key, value, nxxx, expx, time);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String get(String key) {
-		return getYedis(true).get(key);
+		if (nearCache == null) {
+			return readGet(key);
+		}
+		Object cached = nearCache.get(key);
+		if (cached != NearCache.MISS) {
+			return (String) cached;
+		}
+		long stamp = nearCache.stamp(key);
+		String value = readGet(key);
+		nearCache.put(key, value, stamp);
+		return value;
+	}
+
+	private String readGet(final String key) {
+		if (hedgedReads == null) {
+			return getYedis(true).get(key);
+		}
+		return hedgedReads.execute(this, "get", new HedgedReads.Read<String>() {
+
+			@Override
+			public ListenableFuture<String> submit(AsyncYedis yedis) {
+				return yedis.get(key);
+			}
+		});
 	}
 
-	public Boolean exists(String key) {
-		return getYedis(true).exists(key);
+	public Boolean exists(final String key) {
+		if (hedgedReads == null) {
+			return getYedis(true).exists(key);
+		}
+		return hedgedReads.execute(this, "exists",
+				new HedgedReads.Read<Boolean>() {
+
+					@Override
+					public ListenableFuture<Boolean> submit(AsyncYedis yedis) {
+						return yedis.exists(key);
+					}
+				});
 	}
 
 	public Long del(String... keys) {
-		return getYedis(false).del(keys);
+		try {
+			return getYedis(false).del(keys);
+		} finally {
+			invalidate(keys);
+		}
 	}
 
 	public Long del(String key) {
-		return getYedis(false).del(key);
+		try {
+			return getYedis(false).del(key);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String type(String key) {
@@ -305,19 +856,35 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String rename(String oldkey, String newkey) {
-		return getYedis(false).rename(oldkey, newkey);
+		try {
+			return getYedis(false).rename(oldkey, newkey);
+		} finally {
+			invalidate(oldkey, newkey);
+		}
 	}
 
 	public Long renamenx(String oldkey, String newkey) {
-		return getYedis(false).renamenx(oldkey, newkey);
+		try {
+			return getYedis(false).renamenx(oldkey, newkey);
+		} finally {
+			invalidate(oldkey, newkey);
+		}
 	}
 
 	public Long expire(String key, int seconds) {
-		return getYedis(false).expire(key, seconds);
+		try {
+			return getYedis(false).expire(key, seconds);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long expireAt(String key, long unixTime) {
-		return getYedis(false).expireAt(key, unixTime);
+		try {
+			return getYedis(false).expireAt(key, unixTime);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long ttl(String key) {
@@ -325,55 +892,114 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long move(String key, int dbIndex) {
-		return getYedis(false).move(key, dbIndex);
+		try {
+			return getYedis(false).move(key, dbIndex);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String getSet(String key, String value) {
-		return getYedis(false).getSet(key, value);
+		try {
+			return getYedis(false).getSet(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
-	public List<String> mget(String... keys) {
-		return getYedis(true).mget(keys);
+	public List<String> mget(final String... keys) {
+		if (hedgedReads == null) {
+			return getYedis(true).mget(keys);
+		}
+		return hedgedReads.execute(this, "mget",
+				new HedgedReads.Read<List<String>>() {
+
+					@Override
+					public ListenableFuture<List<String>> submit(
+							AsyncYedis yedis) {
+						return yedis.mget(keys);
+					}
+				});
 	}
 
 	public Long setnx(String key, String value) {
-		return getYedis(false).setnx(key, value);
+		try {
+			return getYedis(false).setnx(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String setex(String key, int seconds, String value) {
-		return getYedis(false).setex(key, seconds, value);
+		try {
+			return getYedis(false).setex(key, seconds, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String mset(String... keysvalues) {
-		return getYedis(false).mset(keysvalues);
+		try {
+			return getYedis(false).mset(keysvalues);
+		} finally {
+			invalidateKeysValues(keysvalues);
+		}
 	}
 
 	public Long msetnx(String... keysvalues) {
-		return getYedis(false).msetnx(keysvalues);
+		try {
+			return getYedis(false).msetnx(keysvalues);
+		} finally {
+			invalidateKeysValues(keysvalues);
+		}
 	}
 
 	public Long decrBy(String key, long integer) {
-		return getYedis(false).decrBy(key, integer);
+		try {
+			return getYedis(false).decrBy(key, integer);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long decr(String key) {
-		return getYedis(false).decr(key);
+		try {
+			return getYedis(false).decr(key);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long incrBy(String key, long integer) {
-		return getYedis(false).incrBy(key, integer);
+		try {
+			return getYedis(false).incrBy(key, integer);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Double incrByFloat(String key, double value) {
-		return getYedis(false).incrByFloat(key, value);
+		try {
+			return getYedis(false).incrByFloat(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long incr(String key) {
-		return getYedis(false).incr(key);
+		try {
+			return getYedis(false).incr(key);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long append(String key, String value) {
-		return getYedis(false).append(key, value);
+		try {
+			return getYedis(false).append(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String substr(String key, int start, int end) {
@@ -381,31 +1007,85 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long hset(String key, String field, String value) {
-		return getYedis(false).hset(key, field, value);
+		try {
+			return getYedis(false).hset(key, field, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String hget(String key, String field) {
-		return getYedis(true).hget(key, field);
+		if (nearCache == null) {
+			return readHget(key, field);
+		}
+		Object cached = nearCache.hget(key, field);
+		if (cached != NearCache.MISS) {
+			return (String) cached;
+		}
+		long stamp = nearCache.stamp(key);
+		String value = readHget(key, field);
+		nearCache.hput(key, field, value, stamp);
+		return value;
+	}
+
+	private String readHget(final String key, final String field) {
+		if (hedgedReads == null) {
+			return getYedis(true).hget(key, field);
+		}
+		return hedgedReads.execute(this, "hget", new HedgedReads.Read<String>() {
+
+			@Override
+			public ListenableFuture<String> submit(AsyncYedis yedis) {
+				return yedis.hget(key, field);
+			}
+		});
 	}
 
 	public Long hsetnx(String key, String field, String value) {
-		return getYedis(false).hsetnx(key, field, value);
+		try {
+			return getYedis(false).hsetnx(key, field, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String hmset(String key, Map<String, String> hash) {
-		return getYedis(false).hmset(key, hash);
+		try {
+			return getYedis(false).hmset(key, hash);
+		} finally {
+			invalidate(key);
+		}
 	}
 
-	public List<String> hmget(String key, String... fields) {
-		return getYedis(true).hmget(key, fields);
+	public List<String> hmget(final String key, final String... fields) {
+		if (hedgedReads == null) {
+			return getYedis(true).hmget(key, fields);
+		}
+		return hedgedReads.execute(this, "hmget",
+				new HedgedReads.Read<List<String>>() {
+
+					@Override
+					public ListenableFuture<List<String>> submit(
+							AsyncYedis yedis) {
+						return yedis.hmget(key, fields);
+					}
+				});
 	}
 
 	public Long hincrBy(String key, String field, long value) {
-		return getYedis(false).hincrBy(key, field, value);
+		try {
+			return getYedis(false).hincrBy(key, field, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Double hincrByFloat(String key, String field, double value) {
-		return getYedis(false).hincrByFloat(key, field, value);
+		try {
+			return getYedis(false).hincrByFloat(key, field, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Boolean hexists(String key, String field) {
@@ -413,7 +1093,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long hdel(String key, String... fields) {
-		return getYedis(false).hdel(key, fields);
+		try {
+			return getYedis(false).hdel(key, fields);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long hlen(String key) {
@@ -509,7 +1193,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long sinterstore(String dstkey, String... keys) {
-		return getYedis(false).sinterstore(dstkey, keys);
+		try {
+			return getYedis(false).sinterstore(dstkey, keys);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Set<String> sunion(String... keys) {
@@ -517,7 +1205,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long sunionstore(String dstkey, String... keys) {
-		return getYedis(false).sunionstore(dstkey, keys);
+		try {
+			return getYedis(false).sunionstore(dstkey, keys);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Set<String> sdiff(String... keys) {
@@ -525,7 +1217,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long sdiffstore(String dstkey, String... keys) {
-		return getYedis(false).sdiffstore(dstkey, keys);
+		try {
+			return getYedis(false).sdiffstore(dstkey, keys);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public String srandmember(String key) {
@@ -609,11 +1305,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long sort(String key, SortingParams sortingParameters, String dstkey) {
-		return getYedis(false).sort(key, sortingParameters, dstkey);
+		try {
+			return getYedis(false).sort(key, sortingParameters, dstkey);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long sort(String key, String dstkey) {
-		return getYedis(false).sort(key, dstkey);
+		try {
+			return getYedis(false).sort(key, dstkey);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public List<String> brpop(int timeout, String... keys) {
@@ -723,19 +1427,35 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long zunionstore(String dstkey, String... sets) {
-		return getYedis(false).zunionstore(dstkey, sets);
+		try {
+			return getYedis(false).zunionstore(dstkey, sets);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long zunionstore(String dstkey, ZParams params, String... sets) {
-		return getYedis(false).zunionstore(dstkey, params, sets);
+		try {
+			return getYedis(false).zunionstore(dstkey, params, sets);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long zinterstore(String dstkey, String... sets) {
-		return getYedis(false).zinterstore(dstkey, sets);
+		try {
+			return getYedis(false).zinterstore(dstkey, sets);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long zinterstore(String dstkey, ZParams params, String... sets) {
-		return getYedis(false).zinterstore(dstkey, params, sets);
+		try {
+			return getYedis(false).zinterstore(dstkey, params, sets);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long strlen(String key) {
@@ -747,7 +1467,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long persist(String key) {
-		return getYedis(false).persist(key);
+		try {
+			return getYedis(false).persist(key);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long rpushx(String key, String... string) {
@@ -764,11 +1488,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Boolean setbit(String key, long offset, boolean value) {
-		return getYedis(false).setbit(key, offset, value);
+		try {
+			return getYedis(false).setbit(key, offset, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Boolean setbit(String key, long offset, String value) {
-		return getYedis(false).setbit(key, offset, value);
+		try {
+			return getYedis(false).setbit(key, offset, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Boolean getbit(String key, long offset) {
@@ -776,7 +1508,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long setrange(String key, long offset, String value) {
-		return getYedis(false).setrange(key, offset, value);
+		try {
+			return getYedis(false).setrange(key, offset, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String getrange(String key, long startOffset, long endOffset) {
@@ -792,27 +1528,51 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Object eval(String script, int keyCount, String... params) {
-		return getYedis(false).eval(script, keyCount, params);
+		try {
+			return getYedis(false).eval(script, keyCount, params);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object eval(String script, List<String> keys, List<String> args) {
-		return getYedis(false).eval(script, keys, args);
+		try {
+			return getYedis(false).eval(script, keys, args);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object eval(String script) {
-		return getYedis(false).eval(script);
+		try {
+			return getYedis(false).eval(script);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object evalsha(String script) {
-		return getYedis(false).evalsha(script);
+		try {
+			return getYedis(false).evalsha(script);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object evalsha(String sha1, List<String> keys, List<String> args) {
-		return getYedis(false).evalsha(sha1, keys, args);
+		try {
+			return getYedis(false).evalsha(sha1, keys, args);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object evalsha(String sha1, int keyCount, String... params) {
-		return getYedis(false).evalsha(sha1, keyCount, params);
+		try {
+			return getYedis(false).evalsha(sha1, keyCount, params);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Boolean scriptExists(String sha1) {
@@ -844,7 +1604,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long bitop(BitOP op, String destKey, String... srcKeys) {
-		return getYedis(false).bitop(op, destKey, srcKeys);
+		try {
+			return getYedis(false).bitop(op, destKey, srcKeys);
+		} finally {
+			invalidate(destKey);
+		}
 	}
 
 	public byte[] dump(String key) {
@@ -852,20 +1616,36 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String restore(String key, int ttl, byte[] serializedValue) {
-		return getYedis(false).restore(key, ttl, serializedValue);
+		try {
+			return getYedis(false).restore(key, ttl, serializedValue);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	@Deprecated
 	public Long pexpire(String key, int milliseconds) {
-		return getYedis(false).pexpire(key, milliseconds);
+		try {
+			return getYedis(false).pexpire(key, milliseconds);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long pexpire(String key, long milliseconds) {
-		return getYedis(false).pexpire(key, milliseconds);
+		try {
+			return getYedis(false).pexpire(key, milliseconds);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long pexpireAt(String key, long millisecondsTimestamp) {
-		return getYedis(false).pexpireAt(key, millisecondsTimestamp);
+		try {
+			return getYedis(false).pexpireAt(key, millisecondsTimestamp);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long pttl(String key) {
@@ -873,20 +1653,36 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String psetex(String key, int milliseconds, String value) {
-		return getYedis(false).psetex(key, milliseconds, value);
+		try {
+			return getYedis(false).psetex(key, milliseconds, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String set(String key, String value, String nxxx) {
-		return getYedis(false).set(key, value, nxxx);
+		try {
+			return getYedis(false).set(key, value, nxxx);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String set(String key, String value, String nxxx, String expx,
 			int time) {
-		return getYedis(false).set(key, value, nxxx, expx, time);
+		try {
+			return getYedis(false).set(key, value, nxxx, expx, time);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long pfadd(String key, String... elements) {
-		return getYedis(false).pfadd(key, elements);
+		try {
+			return getYedis(false).pfadd(key, elements);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public long pfcount(String key) {
@@ -898,16 +1694,28 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String pfmerge(String destkey, String... sourcekeys) {
-		return getYedis(false).pfmerge(destkey, sourcekeys);
+		try {
+			return getYedis(false).pfmerge(destkey, sourcekeys);
+		} finally {
+			invalidate(destkey);
+		}
 	}
 
 	public String set(byte[] key, byte[] value) {
-		return getYedis(false).set(key, value);
+		try {
+			return getYedis(false).set(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String set(byte[] key, byte[] value, byte[] nxxx, byte[] expx,
 			long time) {
-		return getYedis(false).set(key, value, nxxx, expx, time);
+		try {
+			return getYedis(false).set(key, value, nxxx, expx, time);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public byte[] get(byte[] key) {
@@ -919,11 +1727,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long del(byte[]... keys) {
-		return getYedis(false).del(keys);
+		try {
+			return getYedis(false).del(keys);
+		} finally {
+			invalidate(keys);
+		}
 	}
 
 	public Long del(byte[] key) {
-		return getYedis(false).del(key);
+		try {
+			return getYedis(false).del(key);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String type(byte[] key) {
@@ -931,7 +1747,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String flushDB() {
-		return getYedis(false).flushDB();
+		try {
+			return getYedis(false).flushDB();
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Set<byte[]> keys(byte[] pattern) {
@@ -943,11 +1763,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String rename(byte[] oldkey, byte[] newkey) {
-		return getYedis(false).rename(oldkey, newkey);
+		try {
+			return getYedis(false).rename(oldkey, newkey);
+		} finally {
+			invalidate(oldkey, newkey);
+		}
 	}
 
 	public Long renamenx(byte[] oldkey, byte[] newkey) {
-		return getYedis(false).renamenx(oldkey, newkey);
+		try {
+			return getYedis(false).renamenx(oldkey, newkey);
+		} finally {
+			invalidate(oldkey, newkey);
+		}
 	}
 
 	public Long dbSize() {
@@ -955,11 +1783,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long expire(byte[] key, int seconds) {
-		return getYedis(false).expire(key, seconds);
+		try {
+			return getYedis(false).expire(key, seconds);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long expireAt(byte[] key, long unixTime) {
-		return getYedis(false).expireAt(key, unixTime);
+		try {
+			return getYedis(false).expireAt(key, unixTime);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long ttl(byte[] key) {
@@ -967,15 +1803,27 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long move(byte[] key, int dbIndex) {
-		return getYedis(false).move(key, dbIndex);
+		try {
+			return getYedis(false).move(key, dbIndex);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String flushAll() {
-		return getYedis(false).flushAll();
+		try {
+			return getYedis(false).flushAll();
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public byte[] getSet(byte[] key, byte[] value) {
-		return getYedis(false).getSet(key, value);
+		try {
+			return getYedis(false).getSet(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public List<byte[]> mget(byte[]... keys) {
@@ -983,43 +1831,83 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long setnx(byte[] key, byte[] value) {
-		return getYedis(false).setnx(key, value);
+		try {
+			return getYedis(false).setnx(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String setex(byte[] key, int seconds, byte[] value) {
-		return getYedis(false).setex(key, seconds, value);
+		try {
+			return getYedis(false).setex(key, seconds, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String mset(byte[]... keysvalues) {
-		return getYedis(false).mset(keysvalues);
+		try {
+			return getYedis(false).mset(keysvalues);
+		} finally {
+			invalidateKeysValues(keysvalues);
+		}
 	}
 
 	public Long msetnx(byte[]... keysvalues) {
-		return getYedis(false).msetnx(keysvalues);
+		try {
+			return getYedis(false).msetnx(keysvalues);
+		} finally {
+			invalidateKeysValues(keysvalues);
+		}
 	}
 
 	public Long decrBy(byte[] key, long integer) {
-		return getYedis(false).decrBy(key, integer);
+		try {
+			return getYedis(false).decrBy(key, integer);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long decr(byte[] key) {
-		return getYedis(false).decr(key);
+		try {
+			return getYedis(false).decr(key);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long incrBy(byte[] key, long integer) {
-		return getYedis(false).incrBy(key, integer);
+		try {
+			return getYedis(false).incrBy(key, integer);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Double incrByFloat(byte[] key, double integer) {
-		return getYedis(false).incrByFloat(key, integer);
+		try {
+			return getYedis(false).incrByFloat(key, integer);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long incr(byte[] key) {
-		return getYedis(false).incr(key);
+		try {
+			return getYedis(false).incr(key);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long append(byte[] key, byte[] value) {
-		return getYedis(false).append(key, value);
+		try {
+			return getYedis(false).append(key, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public byte[] substr(byte[] key, int start, int end) {
@@ -1027,7 +1915,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long hset(byte[] key, byte[] field, byte[] value) {
-		return getYedis(false).hset(key, field, value);
+		try {
+			return getYedis(false).hset(key, field, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public byte[] hget(byte[] key, byte[] field) {
@@ -1035,11 +1927,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long hsetnx(byte[] key, byte[] field, byte[] value) {
-		return getYedis(false).hsetnx(key, field, value);
+		try {
+			return getYedis(false).hsetnx(key, field, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String hmset(byte[] key, Map<byte[], byte[]> hash) {
-		return getYedis(false).hmset(key, hash);
+		try {
+			return getYedis(false).hmset(key, hash);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public List<byte[]> hmget(byte[] key, byte[]... fields) {
@@ -1047,11 +1947,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long hincrBy(byte[] key, byte[] field, long value) {
-		return getYedis(false).hincrBy(key, field, value);
+		try {
+			return getYedis(false).hincrBy(key, field, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Double hincrByFloat(byte[] key, byte[] field, double value) {
-		return getYedis(false).hincrByFloat(key, field, value);
+		try {
+			return getYedis(false).hincrByFloat(key, field, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Boolean hexists(byte[] key, byte[] field) {
@@ -1059,7 +1967,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long hdel(byte[] key, byte[]... fields) {
-		return getYedis(false).hdel(key, fields);
+		try {
+			return getYedis(false).hdel(key, fields);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long hlen(byte[] key) {
@@ -1155,7 +2067,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long sinterstore(byte[] dstkey, byte[]... keys) {
-		return getYedis(false).sinterstore(dstkey, keys);
+		try {
+			return getYedis(false).sinterstore(dstkey, keys);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Set<byte[]> sunion(byte[]... keys) {
@@ -1163,7 +2079,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long sunionstore(byte[] dstkey, byte[]... keys) {
-		return getYedis(false).sunionstore(dstkey, keys);
+		try {
+			return getYedis(false).sunionstore(dstkey, keys);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Set<byte[]> sdiff(byte[]... keys) {
@@ -1171,7 +2091,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long sdiffstore(byte[] dstkey, byte[]... keys) {
-		return getYedis(false).sdiffstore(dstkey, keys);
+		try {
+			return getYedis(false).sdiffstore(dstkey, keys);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public byte[] srandmember(byte[] key) {
@@ -1243,11 +2167,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long sort(byte[] key, SortingParams sortingParameters, byte[] dstkey) {
-		return getYedis(false).sort(key, sortingParameters, dstkey);
+		try {
+			return getYedis(false).sort(key, sortingParameters, dstkey);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long sort(byte[] key, byte[] dstkey) {
-		return getYedis(false).sort(key, dstkey);
+		try {
+			return getYedis(false).sort(key, dstkey);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public List<byte[]> brpop(int timeout, byte[]... keys) {
@@ -1365,19 +2297,35 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long zunionstore(byte[] dstkey, byte[]... sets) {
-		return getYedis(false).zunionstore(dstkey, sets);
+		try {
+			return getYedis(false).zunionstore(dstkey, sets);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long zunionstore(byte[] dstkey, ZParams params, byte[]... sets) {
-		return getYedis(false).zunionstore(dstkey, params, sets);
+		try {
+			return getYedis(false).zunionstore(dstkey, params, sets);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long zinterstore(byte[] dstkey, byte[]... sets) {
-		return getYedis(false).zinterstore(dstkey, sets);
+		try {
+			return getYedis(false).zinterstore(dstkey, sets);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long zinterstore(byte[] dstkey, ZParams params, byte[]... sets) {
-		return getYedis(false).zinterstore(dstkey, params, sets);
+		try {
+			return getYedis(false).zinterstore(dstkey, params, sets);
+		} finally {
+			invalidate(dstkey);
+		}
 	}
 
 	public Long strlen(byte[] key) {
@@ -1389,7 +2337,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long persist(byte[] key) {
-		return getYedis(false).persist(key);
+		try {
+			return getYedis(false).persist(key);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long rpushx(byte[] key, byte[]... string) {
@@ -1406,11 +2358,19 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Boolean setbit(byte[] key, long offset, boolean value) {
-		return getYedis(false).setbit(key, offset, value);
+		try {
+			return getYedis(false).setbit(key, offset, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Boolean setbit(byte[] key, long offset, byte[] value) {
-		return getYedis(false).setbit(key, offset, value);
+		try {
+			return getYedis(false).setbit(key, offset, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Boolean getbit(byte[] key, long offset) {
@@ -1426,7 +2386,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long setrange(byte[] key, long offset, byte[] value) {
-		return getYedis(false).setrange(key, offset, value);
+		try {
+			return getYedis(false).setrange(key, offset, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public byte[] getrange(byte[] key, long startOffset, long endOffset) {
@@ -1434,31 +2398,59 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Object eval(byte[] script, List<byte[]> keys, List<byte[]> args) {
-		return getYedis(false).eval(script, keys, args);
+		try {
+			return getYedis(false).eval(script, keys, args);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object eval(byte[] script, byte[] keyCount, byte[]... params) {
-		return getYedis(false).eval(script, keyCount, params);
+		try {
+			return getYedis(false).eval(script, keyCount, params);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object eval(byte[] script, int keyCount, byte[]... params) {
-		return getYedis(false).eval(script, keyCount, params);
+		try {
+			return getYedis(false).eval(script, keyCount, params);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object eval(byte[] script) {
-		return getYedis(false).eval(script);
+		try {
+			return getYedis(false).eval(script);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object evalsha(byte[] sha1) {
-		return getYedis(false).evalsha(sha1);
+		try {
+			return getYedis(false).evalsha(sha1);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object evalsha(byte[] sha1, List<byte[]> keys, List<byte[]> args) {
-		return getYedis(false).evalsha(sha1, keys, args);
+		try {
+			return getYedis(false).evalsha(sha1, keys, args);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Object evalsha(byte[] sha1, int keyCount, byte[]... params) {
-		return getYedis(false).evalsha(sha1, keyCount, params);
+		try {
+			return getYedis(false).evalsha(sha1, keyCount, params);
+		} finally {
+			invalidateAll();
+		}
 	}
 
 	public Long bitcount(byte[] key) {
@@ -1470,7 +2462,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public Long bitop(BitOP op, byte[] destKey, byte[]... srcKeys) {
-		return getYedis(false).bitop(op, destKey, srcKeys);
+		try {
+			return getYedis(false).bitop(op, destKey, srcKeys);
+		} finally {
+			invalidate(destKey);
+		}
 	}
 
 	public byte[] dump(byte[] key) {
@@ -1478,20 +2474,36 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String restore(byte[] key, int ttl, byte[] serializedValue) {
-		return getYedis(false).restore(key, ttl, serializedValue);
+		try {
+			return getYedis(false).restore(key, ttl, serializedValue);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	@Deprecated
 	public Long pexpire(byte[] key, int milliseconds) {
-		return getYedis(false).pexpire(key, milliseconds);
+		try {
+			return getYedis(false).pexpire(key, milliseconds);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long pexpire(byte[] key, long milliseconds) {
-		return getYedis(false).pexpire(key, milliseconds);
+		try {
+			return getYedis(false).pexpire(key, milliseconds);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long pexpireAt(byte[] key, long millisecondsTimestamp) {
-		return getYedis(false).pexpireAt(key, millisecondsTimestamp);
+		try {
+			return getYedis(false).pexpireAt(key, millisecondsTimestamp);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long pttl(byte[] key) {
@@ -1499,20 +2511,36 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String psetex(byte[] key, int milliseconds, byte[] value) {
-		return getYedis(false).psetex(key, milliseconds, value);
+		try {
+			return getYedis(false).psetex(key, milliseconds, value);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String set(byte[] key, byte[] value, byte[] nxxx) {
-		return getYedis(false).set(key, value, nxxx);
+		try {
+			return getYedis(false).set(key, value, nxxx);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public String set(byte[] key, byte[] value, byte[] nxxx, byte[] expx,
 			int time) {
-		return getYedis(false).set(key, value, nxxx, expx, time);
+		try {
+			return getYedis(false).set(key, value, nxxx, expx, time);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public Long pfadd(byte[] key, byte[]... elements) {
-		return getYedis(false).pfadd(key, elements);
+		try {
+			return getYedis(false).pfadd(key, elements);
+		} finally {
+			invalidate(key);
+		}
 	}
 
 	public long pfcount(byte[] key) {
@@ -1520,7 +2548,11 @@ public final class GroupYedis implements ConfigChangeListener {
 	}
 
 	public String pfmerge(byte[] destkey, byte[]... sourcekeys) {
-		return getYedis(false).pfmerge(destkey, sourcekeys);
+		try {
+			return getYedis(false).pfmerge(destkey, sourcekeys);
+		} finally {
+			invalidate(destkey);
+		}
 	}
 
 	public Long pfcount(byte[]... keys) {
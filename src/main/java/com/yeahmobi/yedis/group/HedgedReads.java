@@ -0,0 +1,196 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.yeahmobi.yedis.atomic.AsyncYedis;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.common.YedisException;
+import com.yeahmobi.yedis.metrics.CommandMetrics;
+import com.yeahmobi.yedis.metrics.HistogramSnapshot;
+import com.yeahmobi.yedis.metrics.YedisMetrics;
+
+/**
+ * 对冲读：读操作在按读写分离策略选出的server上超过对冲延迟还没有返回时，向另一个server（另一个slave或master）
+ * 发送同样的读，先成功返回的结果生效，另一个被取消（还在排队的不会再执行）。<br>
+ * 对冲延迟取该server上该命令最近5秒内成功的读的总耗时的hedgeDelayPercentile分位数（每秒更新一次），
+ * 不小于hedgeMinDelayMicros；超时和被取消的读（包括输掉的对冲读）不计入。
+ * 样本不足或没有开启metrics时使用hedgeMinDelayMicros。
+ */
+public final class HedgedReads {
+
+    // 计算分位数的时间窗口，每秒更新一次，能跟上server最近变慢
+    private static final long  WINDOW_NANOS  = TimeUnit.SECONDS.toNanos(5);
+
+    // 样本少于该值时分位数不可信，使用hedgeMinDelayMicros
+    private static final long  MIN_SAMPLES   = 100;
+
+    private final double       percentile;
+
+    private final long         minDelayMicros;
+
+    private final AtomicLong   reads         = new AtomicLong(0);
+
+    private final AtomicLong   hedged        = new AtomicLong(0);
+
+    private final AtomicLong   hedgeWins     = new AtomicLong(0);
+
+    /**
+     * 在指定的server上异步执行一次读
+     */
+    interface Read<T> {
+
+        ListenableFuture<T> submit(AsyncYedis yedis);
+    }
+
+    HedgedReads(GroupConfig config) {
+        this.percentile = config.getHedgeDelayPercentile();
+        this.minDelayMicros = config.getHedgeMinDelayMicros();
+    }
+
+    <T> T execute(GroupYedis group, String command, Read<T> read) {
+        Yedis primary = group.getYedis(true);
+        reads.incrementAndGet();
+        ListenableFuture<T> first = read.submit(primary.async());
+        try {
+            return first.get(delayMicros(primary, command), TimeUnit.MICROSECONDS);
+        } catch (TimeoutException e) {
+            // 超过对冲延迟，发送对冲读
+        } catch (InterruptedException e) {
+            first.cancel(true);
+            throw new YedisException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw translate(e.getCause());
+        } catch (CancellationException e) {
+            throw translate(e);
+        }
+
+        Yedis backup = group.hedgeTarget(primary);
+        if (backup == null) {
+            return await(first);
+        }
+        ListenableFuture<T> second;
+        try {
+            second = read.submit(backup.async());
+        } catch (RuntimeException e) {
+            // 对冲的server不可用（如刚被关闭），只等待第一个
+            return await(first);
+        }
+        hedged.incrementAndGet();
+        return await(race(first, second));
+    }
+
+    /**
+     * 先成功的结果生效并取消另一个；都失败时以后失败的异常结束
+     */
+    private <T> ListenableFuture<T> race(final ListenableFuture<T> first, final ListenableFuture<T> second) {
+        final SettableFuture<T> winner = SettableFuture.create();
+        final AtomicInteger failures = new AtomicInteger(0);
+        Futures.addCallback(first, new FutureCallback<T>() {
+
+            @Override
+            public void onSuccess(T result) {
+                if (winner.set(result)) {
+                    second.cancel(false);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                if (failures.incrementAndGet() == 2) {
+                    winner.setException(t);
+                }
+            }
+        });
+        Futures.addCallback(second, new FutureCallback<T>() {
+
+            @Override
+            public void onSuccess(T result) {
+                if (winner.set(result)) {
+                    hedgeWins.incrementAndGet();
+                    first.cancel(false);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                if (failures.incrementAndGet() == 2) {
+                    winner.setException(t);
+                }
+            }
+        });
+        return winner;
+    }
+
+    private static <T> T await(ListenableFuture<T> future) {
+        try {
+            // 每个操作都有Yedis的超时控制，不会无限等待
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw new YedisException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw translate(e.getCause());
+        } catch (CancellationException e) {
+            throw translate(e);
+        }
+    }
+
+    private static YedisException translate(Throwable cause) {
+        if (cause instanceof YedisException) {
+            return (YedisException) cause;
+        }
+        return new YedisException(cause.getMessage(), cause);
+    }
+
+    long delayMicros(Yedis primary, String command) {
+        YedisMetrics metrics = primary.getMetrics();
+        if (percentile <= 0 || metrics == null) {
+            return minDelayMicros;
+        }
+        CommandMetrics commandMetrics = metrics.getCommand(command);
+        if (commandMetrics == null) {
+            return minDelayMicros;
+        }
+        HistogramSnapshot snapshot = commandMetrics.getRecentSuccessSnapshot(WINDOW_NANOS);
+        if (snapshot.getCount() < MIN_SAMPLES) {
+            return minDelayMicros;
+        }
+        return Math.max(minDelayMicros, snapshot.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * 经过GroupYedis的对冲读方法的读操作数
+     */
+    public long getReads() {
+        return reads.get();
+    }
+
+    /**
+     * 发送了对冲读的次数
+     */
+    public long getHedged() {
+        return hedged.get();
+    }
+
+    /**
+     * 对冲读先返回的次数
+     */
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    @Override
+    public String toString() {
+        return "HedgedReads [reads=" + getReads() + ", hedged=" + getHedged() + ", hedgeWins=" + getHedgeWins() + "]";
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * 所有GroupYedis共享的后台线程，执行复制延迟采样和slave健康检查
+ */
+final class MonitorScheduler {
+
+    private static ScheduledExecutorService scheduler;
+
+    private MonitorScheduler() {
+    }
+
+    static synchronized ScheduledExecutorService get() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+                                                                                             .setNameFormat("Yedis-GroupMonitor")
+                                                                                             .build());
+        }
+        return scheduler;
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import redis.clients.util.SafeEncoder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+
+/**
+ * GroupYedis读操作（get/hget）的进程内近端缓存，按key数量和写入后的时间淘汰。<br>
+ * 一个key的get值和hget的各个field放在同一个entry中，key失效时一起移除。<br>
+ * 读操作未命中时，先取key的stamp再读redis，回填时如果期间该key发生过失效（stamp变化）则不缓存，
+ * 避免并发的写操作之后缓存旧值。写操作总是在命令完成之后再失效，失效时先增加stamp再移除entry。<br>
+ * stamp按key的hash分段，其他key的失效不会丢弃回填（只有落在同一段的key会互相影响）。
+ */
+public final class NearCache {
+
+    // get()/hget()未命中时的返回值
+    static final Object                   MISS              = new Object();
+
+    // 缓存redis返回的null
+    private static final Object           NULL              = new Object();
+
+    // stamp的段数，必须是2的幂
+    private static final int              STRIPES           = 4096;
+
+    private final Cache<String, Entry>    cache;
+
+    private final AtomicLongArray         stamps            = new AtomicLongArray(STRIPES);
+
+    private final AtomicLong              hitCount          = new AtomicLong(0);
+
+    private final AtomicLong              missCount         = new AtomicLong(0);
+
+    private final AtomicLong              evictionCount     = new AtomicLong(0);
+
+    private final AtomicLong              invalidationCount = new AtomicLong(0);
+
+    private final NearCacheSubscriber     subscriber;
+
+    NearCache(GroupConfig groupConfig) {
+        this.cache = CacheBuilder.newBuilder().maximumSize(groupConfig.getNearCacheMaxSize())
+                                 .expireAfterWrite(groupConfig.getNearCacheExpireMillis(), TimeUnit.MILLISECONDS)
+                                 .removalListener(new RemovalListener<String, Entry>() {
+
+                                     @Override
+                                     public void onRemoval(RemovalNotification<String, Entry> notification) {
+                                         if (notification.wasEvicted()) {
+                                             evictionCount.incrementAndGet();
+                                         }
+                                     }
+                                 }).build();
+        if (groupConfig.getNearCacheInvalidation() == NearCacheInvalidation.KEYSPACE
+            || groupConfig.getNearCacheInvalidation() == NearCacheInvalidation.CHANNEL) {
+            this.subscriber = new NearCacheSubscriber(this, groupConfig);
+            this.subscriber.start();
+        } else {
+            this.subscriber = null;
+        }
+    }
+
+    private static final class Entry {
+
+        volatile Object                          value  = MISS;
+
+        final ConcurrentMap<String, Object>      fields = new ConcurrentHashMap<String, Object>(4);
+    }
+
+    /**
+     * 返回缓存的值（可能为null），未命中时返回MISS
+     */
+    Object get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        Object value = entry != null ? entry.value : MISS;
+        return record(value);
+    }
+
+    Object hget(String key, String field) {
+        Entry entry = cache.getIfPresent(key);
+        Object value = entry != null ? entry.fields.get(field) : null;
+        return record(value != null ? value : MISS);
+    }
+
+    private Object record(Object value) {
+        if (value == MISS) {
+            missCount.incrementAndGet();
+            return MISS;
+        }
+        hitCount.incrementAndGet();
+        return value == NULL ? null : value;
+    }
+
+    private static int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * 未命中时，在读redis之前获取
+     */
+    long stamp(String key) {
+        return stamps.get(stripe(key));
+    }
+
+    void put(String key, Object value, long stamp) {
+        if (stamp(key) != stamp) {
+            return;
+        }
+        entry(key).value = value == null ? NULL : value;
+        recheck(key, stamp);
+    }
+
+    void hput(String key, String field, Object value, long stamp) {
+        if (stamp(key) != stamp) {
+            return;
+        }
+        entry(key).fields.put(field, value == null ? NULL : value);
+        recheck(key, stamp);
+    }
+
+    private Entry entry(String key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            Entry created = new Entry();
+            entry = cache.asMap().putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        return entry;
+    }
+
+    private void recheck(String key, long stamp) {
+        // 回填过程中发生了失效，回填的可能是旧值
+        if (stamp(key) != stamp) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidate(String key) {
+        stamps.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+        invalidationCount.incrementAndGet();
+    }
+
+    public void invalidate(byte[] key) {
+        invalidate(SafeEncoder.encode(key));
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            stamps.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+        invalidationCount.incrementAndGet();
+    }
+
+    public NearCacheStats stats() {
+        return new NearCacheStats(hitCount.get(), missCount.get(), evictionCount.get(), invalidationCount.get(),
+                                  cache.size());
+    }
+
+    /**
+     * master切换后，清空缓存并重新订阅新的master
+     */
+    void onMasterChanged() {
+        invalidateAll();
+        if (subscriber != null) {
+            subscriber.reconnect();
+        }
+    }
+
+    void close() {
+        if (subscriber != null) {
+            subscriber.close();
+        }
+        cache.invalidateAll();
+    }
+
+}
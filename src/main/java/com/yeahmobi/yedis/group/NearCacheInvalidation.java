@@ -0,0 +1,19 @@
+package com.yeahmobi.yedis.group;
+
+/**
+ * 近端缓存（near cache）如何感知其他客户端的写操作。通过本GroupYedis的写操作总是会使对应的key失效。
+ */
+public enum NearCacheInvalidation {
+    /**
+     * LOCAL：只有本客户端的写操作使缓存失效，其他客户端的写操作要等缓存过期才能看到。
+     */
+    LOCAL,
+    /**
+     * KEYSPACE：订阅master的keyspace通知（__keyspace@db__:*），需要在redis上开启notify-keyspace-events（如 "K$hgx"）。
+     */
+    KEYSPACE,
+    /**
+     * CHANNEL：订阅master上的nearCacheChannel，消息内容是需要失效的key，由其他写入方publish。
+     */
+    CHANNEL;
+}
@@ -0,0 +1,76 @@
+package com.yeahmobi.yedis.group;
+
+/**
+ * 近端缓存的统计快照
+ */
+public final class NearCacheStats {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final long invalidationCount;
+
+    private final long size;
+
+    public NearCacheStats(long hitCount, long missCount, long evictionCount, long invalidationCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 命中率，没有请求时为1.0（与Guava的CacheStats一致）
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * 因容量或过期被移除的key数
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 因写操作或失效通知被移除的次数
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 合并多个缓存的统计（如ShardedYedis的各个shard）
+     */
+    public NearCacheStats plus(NearCacheStats other) {
+        return new NearCacheStats(hitCount + other.hitCount, missCount + other.missCount,
+                                  evictionCount + other.evictionCount, invalidationCount + other.invalidationCount,
+                                  size + other.size);
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheStats [hitCount=" + hitCount + ", missCount=" + missCount + ", hitRate=" + getHitRate()
+               + ", evictionCount=" + evictionCount + ", invalidationCount=" + invalidationCount + ", size=" + size
+               + "]";
+    }
+
+}
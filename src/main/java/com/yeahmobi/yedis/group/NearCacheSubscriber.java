@@ -0,0 +1,141 @@
+package com.yeahmobi.yedis.group;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.util.SleepStrategy;
+
+/**
+ * 订阅master上的失效通知（keyspace通知或自定义channel），收到后使近端缓存中对应的key失效。<br>
+ * 连接断开期间可能错过通知，因此每次（重新）订阅成功和断开时都会清空缓存。
+ */
+final class NearCacheSubscriber extends Thread {
+
+    private static final Logger logger        = LoggerFactory.getLogger(NearCacheSubscriber.class);
+
+    private final NearCache     nearCache;
+
+    private final GroupConfig   groupConfig;
+
+    private final SleepStrategy sleepStrategy = new SleepStrategy();
+
+    private volatile boolean    closed        = false;
+
+    private volatile Jedis      jedis;
+
+    NearCacheSubscriber(NearCache nearCache, GroupConfig groupConfig) {
+        super("Yedis-NearCache");
+        this.setDaemon(true);
+        this.nearCache = nearCache;
+        this.groupConfig = groupConfig;
+    }
+
+    @Override
+    public void run() {
+        while (!closed) {
+            ServerInfo master = groupConfig.getMasterServerInfo();
+            if (master == null) {
+                sleepStrategy.sleep();
+                continue;
+            }
+            Jedis current = null;
+            try {
+                // 订阅的连接可能长时间没有消息，不设置读超时
+                current = new Jedis(master.getHost(), master.getPort(), 0);
+                jedis = current;
+                if (closed) {
+                    break;
+                }
+                if (groupConfig.getPassword() != null) {
+                    current.auth(groupConfig.getPassword());
+                }
+                if (groupConfig.getNearCacheInvalidation() == NearCacheInvalidation.KEYSPACE) {
+                    String prefix = "__keyspace@" + groupConfig.getDatabase() + "__:";
+                    current.psubscribe(new Listener(prefix), prefix + "*");
+                } else {
+                    current.subscribe(new Listener(null), groupConfig.getNearCacheChannel());
+                }
+            } catch (RuntimeException e) {
+                if (!closed) {
+                    logger.warn("Near cache subscriber disconnected from " + master.getHost() + ":"
+                                + master.getPort() + ": " + e.getMessage());
+                    sleepStrategy.sleep();
+                }
+            } finally {
+                nearCache.invalidateAll();
+                if (current != null) {
+                    jedis = null;
+                    current.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * 断开当前连接，重新订阅（master切换时使用）
+     */
+    void reconnect() {
+        Jedis current = jedis;
+        if (current != null) {
+            current.disconnect();
+        }
+    }
+
+    void close() {
+        closed = true;
+        reconnect();
+        this.interrupt();
+    }
+
+    private class Listener extends JedisPubSub {
+
+        // keyspace通知的channel前缀，null表示消息内容就是key
+        private final String prefix;
+
+        Listener(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void onMessage(String channel, String message) {
+            nearCache.invalidate(message);
+        }
+
+        @Override
+        public void onPMessage(String pattern, String channel, String message) {
+            if (channel.startsWith(prefix)) {
+                nearCache.invalidate(channel.substring(prefix.length()));
+            }
+        }
+
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+            subscribed();
+        }
+
+        @Override
+        public void onPSubscribe(String pattern, int subscribedChannels) {
+            subscribed();
+        }
+
+        private void subscribed() {
+            // 订阅之前的写操作没有通知，已缓存的值可能是旧的
+            nearCache.invalidateAll();
+            sleepStrategy.reset();
+            logger.info("Near cache subscriber connected to " + groupConfig.getMasterServerInfo());
+        }
+
+        @Override
+        public void onUnsubscribe(String channel, int subscribedChannels) {
+        }
+
+        @Override
+        public void onPUnsubscribe(String pattern, int subscribedChannels) {
+        }
+    }
+
+}
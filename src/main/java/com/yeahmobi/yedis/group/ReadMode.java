@@ -16,6 +16,10 @@ public enum ReadMode {
     /**
      * SlavePreferred：写操作访问 master；读操作访问 slave，但当 slave 都不可用时，则访问 master
      */
-    SLAVEPREFERRED;
+    SLAVEPREFERRED,
+    /**
+     * FreshSlave：写操作访问 master；读操作只访问最近一次采样时复制延迟不超过 maxReplicationLagBytes 的 slave，没有这样的 slave 时访问 master。
+     */
+    FRESHSLAVE;
 
 }
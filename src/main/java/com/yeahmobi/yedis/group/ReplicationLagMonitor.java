@@ -0,0 +1,145 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yeahmobi.yedis.atomic.Yedis;
+
+/**
+ * 定期通过INFO replication采样每个slave的复制延迟（master_repl_offset与slave_repl_offset之差，单位字节），
+ * 由GroupYedis据此把延迟过大的slave暂时移出负载均衡。<br>
+ * 先采样slave再采样master，期间master的写入只会使延迟偏大，不会把落后的slave误判为没有延迟。
+ */
+final class ReplicationLagMonitor implements Runnable {
+
+    /**
+     * 没有采样到（slave不可用等）
+     */
+    static final long                       UNKNOWN = -1;
+
+    /**
+     * 与master的复制连接已断开，或已不是slave
+     */
+    static final long                       DISCONNECTED = Long.MAX_VALUE;
+
+    private static final Logger             logger  = LoggerFactory.getLogger(ReplicationLagMonitor.class);
+
+    private final GroupYedis                group;
+
+    private volatile ScheduledFuture<?>     future;
+
+    ReplicationLagMonitor(GroupYedis group) {
+        this.group = group;
+    }
+
+    void start(long periodMillis) {
+        future = MonitorScheduler.get().scheduleWithFixedDelay(this, 0, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void close() {
+        ScheduledFuture<?> f = future;
+        if (f != null) {
+            f.cancel(false);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            GroupYedis.MsHolder holder = group.msHolder();
+            if (holder.slaves == null || holder.slaves.isEmpty()) {
+                return;
+            }
+            Map<Yedis, Long> lags = sample(holder.master, holder.slaves);
+            if (lags != null) {
+                group.onReplicationSampled(holder, lags);
+            }
+        } catch (Throwable e) {
+            // 不能让异常终止定时任务
+            logger.warn("Error when sampling replication lag", e);
+        }
+    }
+
+    /**
+     * 返回每个slave的延迟；master不可用时无法计算，返回null
+     */
+    static Map<Yedis, Long> sample(Yedis master, List<Yedis> slaves) {
+        Map<Yedis, Long> lags = new IdentityHashMap<Yedis, Long>();
+        Map<Yedis, Long> slaveOffsets = new IdentityHashMap<Yedis, Long>();
+        for (Yedis slave : slaves) {
+            try {
+                slaveOffsets.put(slave, slaveOffset(parseInfo(slave.info("replication"))));
+            } catch (RuntimeException e) {
+                slaveOffsets.put(slave, UNKNOWN);
+            }
+        }
+
+        long masterOffset;
+        try {
+            masterOffset = parseLong(parseInfo(master.info("replication")).get("master_repl_offset"));
+        } catch (RuntimeException e) {
+            logger.debug("Cannot get replication offset of master: " + e.getMessage());
+            return null;
+        }
+        if (masterOffset < 0) {
+            return null;
+        }
+
+        for (Yedis slave : slaves) {
+            long offset = slaveOffsets.get(slave);
+            if (offset == UNKNOWN || offset == DISCONNECTED) {
+                lags.put(slave, offset);
+            } else {
+                lags.put(slave, Math.max(0, masterOffset - offset));
+            }
+        }
+        return lags;
+    }
+
+    /**
+     * slave的复制偏移量；复制连接断开或不是slave时返回DISCONNECTED
+     */
+    static long slaveOffset(Map<String, String> info) {
+        if (!"slave".equals(info.get("role")) || !"up".equals(info.get("master_link_status"))) {
+            return DISCONNECTED;
+        }
+        long offset = parseLong(info.get("slave_repl_offset"));
+        return offset >= 0 ? offset : UNKNOWN;
+    }
+
+    /**
+     * 解析INFO的输出（每行为 key:value）
+     */
+    static Map<String, String> parseInfo(String info) {
+        Map<String, String> map = new HashMap<String, String>();
+        if (info == null) {
+            return map;
+        }
+        for (String line : info.split("\r?\n")) {
+            int index = line.indexOf(':');
+            if (index > 0 && !line.startsWith("#")) {
+                map.put(line.substring(0, index), line.substring(index + 1).trim());
+            }
+        }
+        return map;
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return UNKNOWN;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yeahmobi.yedis.atomic.Yedis;
+
+/**
+ * 在MonitorScheduler中释放切换后不再使用的Yedis，不阻塞配置变更：<br>
+ * 切换后先继续接受操作一个timeout（切换前已经拿到旧实例的调用方仍然可用），再停止接受新的操作，
+ * 等已提交的操作完成（最多再等一个timeout）后关闭。
+ */
+final class Retirement implements Runnable {
+
+    private static final Logger logger      = LoggerFactory.getLogger(Retirement.class);
+
+    private static final TimeUnit UNIT      = TimeUnit.MILLISECONDS;
+
+    // 等待已提交的操作完成时的检查间隔
+    private static final long   POLL_MILLIS = 5;
+
+    private final Yedis         yedis;
+
+    private final String        role;
+
+    private boolean             retired;
+
+    private long                deadline;
+
+    private Retirement(Yedis yedis, String role) {
+        this.yedis = yedis;
+        this.role = role;
+    }
+
+    static void schedule(Yedis yedis, String role) {
+        MonitorScheduler.get().schedule(new Retirement(yedis, role), yedis.getTimeout(), UNIT);
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (!retired) {
+                yedis.retire();
+                retired = true;
+                deadline = System.nanoTime() + UNIT.toNanos(yedis.getTimeout());
+            }
+            if (yedis.getStats().getInflight() > 0 && System.nanoTime() - deadline < 0) {
+                MonitorScheduler.get().schedule(this, POLL_MILLIS, UNIT);
+                return;
+            }
+            yedis.close();
+            logger.info("Unused " + role + " closed: " + yedis.getConfig().getHost() + ":"
+                        + yedis.getConfig().getPort());
+        } catch (RuntimeException e) {
+            logger.error("Failed to close unused " + role + ": " + yedis.getConfig().getHost() + ":"
+                         + yedis.getConfig().getPort(), e);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.atomic.YedisStats;
+
+/**
+ * 定期检查每个slave的YedisStats：连续的网络异常和超时次数，或一个检查间隔内的失败比例超过阈值时，
+ * 由GroupYedis将其移出读负载均衡；被移出的slave每个间隔PING一次，连续成功slaveReinstateProbes次后重新加入。<br>
+ * 所有状态只在MonitorScheduler的线程中访问。
+ */
+final class SlaveHealthChecker implements Runnable {
+
+    private static final Logger         logger         = LoggerFactory.getLogger(SlaveHealthChecker.class);
+
+    private final GroupYedis            group;
+
+    private final int                   consecutiveFailures;
+
+    private final int                   errorRatePercent;
+
+    private final int                   minRequests;
+
+    private final int                   reinstateProbes;
+
+    // 上一次检查时的 {completed, failures}
+    private final Map<Yedis, long[]>    lastCounts     = new IdentityHashMap<Yedis, long[]>();
+
+    // 被移出的slave连续PING成功的次数
+    private final Map<Yedis, Integer>   probeSuccesses = new IdentityHashMap<Yedis, Integer>();
+
+    private volatile ScheduledFuture<?> future;
+
+    SlaveHealthChecker(GroupYedis group, GroupConfig config) {
+        this.group = group;
+        this.consecutiveFailures = config.getSlaveEjectConsecutiveFailures();
+        this.errorRatePercent = config.getSlaveEjectErrorRatePercent();
+        this.minRequests = config.getSlaveEjectMinRequests();
+        this.reinstateProbes = Math.max(1, config.getSlaveReinstateProbes());
+    }
+
+    void start(long periodMillis) {
+        future = MonitorScheduler.get().scheduleWithFixedDelay(this, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void close() {
+        ScheduledFuture<?> f = future;
+        if (f != null) {
+            f.cancel(false);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            GroupYedis.MsHolder holder = group.msHolder();
+            List<Yedis> slaves = holder.slaves;
+            if (slaves == null || slaves.isEmpty()) {
+                return;
+            }
+            for (Yedis slave : slaves) {
+                if (holder.ejectedSlaves.contains(slave)) {
+                    probe(slave);
+                } else {
+                    check(slave);
+                }
+            }
+            retain(lastCounts, slaves);
+            retain(probeSuccesses, slaves);
+        } catch (Throwable e) {
+            // 不能让异常终止定时任务
+            logger.warn("Error when checking slave health", e);
+        }
+    }
+
+    private void check(Yedis slave) {
+        YedisStats stats = slave.getStats();
+        long completed = stats.getCompleted();
+        long failures = stats.getFailures();
+        long[] last = lastCounts.get(slave);
+        if (last == null) {
+            last = new long[2];
+            lastCounts.put(slave, last);
+        } else {
+            String reason = null;
+            long requests = completed - last[0];
+            long failed = failures - last[1];
+            if (consecutiveFailures > 0 && stats.getConsecutiveFailures() >= consecutiveFailures) {
+                reason = stats.getConsecutiveFailures() + " consecutive failures";
+            } else if (errorRatePercent > 0 && requests > 0 && requests >= minRequests
+                       && failed * 100 >= errorRatePercent * requests) {
+                reason = failed + " of " + requests + " requests failed";
+            }
+            if (reason != null && group.ejectSlave(slave, reason)) {
+                lastCounts.remove(slave);
+                return;
+            }
+        }
+        last[0] = completed;
+        last[1] = failures;
+    }
+
+    private void probe(Yedis slave) {
+        Integer successes = probeSuccesses.get(slave);
+        try {
+            slave.ping();
+        } catch (RuntimeException e) {
+            probeSuccesses.remove(slave);
+            return;
+        }
+        int count = successes != null ? successes + 1 : 1;
+        if (count >= reinstateProbes) {
+            probeSuccesses.remove(slave);
+            group.reinstateSlave(slave);
+        } else {
+            probeSuccesses.put(slave, count);
+        }
+    }
+
+    private static void retain(Map<Yedis, ?> map, List<Yedis> slaves) {
+        Iterator<Yedis> iterator = map.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (!slaves.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.yeahmobi.yedis.loadbalance;
+
+import java.util.List;
+import java.util.Random;
+
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.atomic.YedisStats;
+
+/**
+ * 根据Yedis的实时统计选择server（power of two choices）：随机取两个，选择 响应时间EWMA * (正在执行的操作数 + 1) 较小的。<br>
+ * 慢的或跨机房的slave会自动少分到读请求；网络异常和超时按超时时间计入EWMA，EWMA在没有新样本时会衰减，
+ * 恢复的server能重新分到请求。
+ */
+public class AdaptiveLoadBalancer implements LoadBalancer {
+
+    private final Type         type   = LoadBalancer.Type.ADAPTIVE;
+    private final List<Yedis>  yedisList;
+    private final int          listSize;
+
+    private final Random       random = new Random();
+
+    public AdaptiveLoadBalancer(List<Yedis> yedisList) {
+        if (yedisList == null || yedisList.size() <= 0) {
+            throw new IllegalArgumentException("yedisList cannot be null or empty.");
+        }
+        this.yedisList = yedisList;
+        this.listSize = yedisList.size();
+    }
+
+    @Override
+    public Yedis route() {
+        if (listSize == 1) {
+            return yedisList.get(0);
+        }
+        int i = random.nextInt(listSize);
+        // 与i不同的另一个
+        int j = random.nextInt(listSize - 1);
+        if (j >= i) {
+            j++;
+        }
+        Yedis a = yedisList.get(i);
+        Yedis b = yedisList.get(j);
+        return cost(b) < cost(a) ? b : a;
+    }
+
+    private static double cost(Yedis yedis) {
+        YedisStats stats = yedis.getStats();
+        // +1：没有样本的server也按在途操作数区分
+        return (stats.getLatencyNanos() + 1.0) * (stats.getInflight() + 1);
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+}
@@ -12,6 +12,6 @@ public interface LoadBalancer {
     Type getType();
     
     public enum Type {
-        RANDOM, ROUND_ROBIN
+        RANDOM, ROUND_ROBIN, WEIGHTED, ADAPTIVE
     }
 }
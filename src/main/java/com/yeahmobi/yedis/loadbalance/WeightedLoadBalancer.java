@@ -0,0 +1,77 @@
+package com.yeahmobi.yedis.loadbalance;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.yeahmobi.yedis.atomic.Yedis;
+
+/**
+ * 按AtomConfig的weight加权轮询。<br>
+ * 构建时用平滑加权轮询（与nginx相同）预先算出一个周期的选择顺序，route()时只需一次原子自增，不加锁；
+ * 权重高的server在周期内均匀分散，而不是连续被选中。weight为0的server不会被选中。
+ */
+public class WeightedLoadBalancer implements LoadBalancer {
+
+    private final Type          type  = LoadBalancer.Type.WEIGHTED;
+    private final Yedis[]       schedule;
+
+    private final AtomicInteger index = new AtomicInteger(-1);
+
+    public WeightedLoadBalancer(List<Yedis> yedisList) {
+        if (yedisList == null || yedisList.size() <= 0) {
+            throw new IllegalArgumentException("yedisList cannot be null or empty.");
+        }
+        int size = yedisList.size();
+        int[] weights = new int[size];
+        int gcd = 0;
+        for (int i = 0; i < size; i++) {
+            weights[i] = yedisList.get(i).getConfig().getWeight();
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("weight cannot be negative.");
+            }
+            gcd = gcd(gcd, weights[i]);
+        }
+        if (gcd == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive.");
+        }
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            weights[i] /= gcd;
+            total += weights[i];
+        }
+
+        this.schedule = new Yedis[total];
+        int[] current = new int[size];
+        for (int n = 0; n < total; n++) {
+            int selected = -1;
+            for (int i = 0; i < size; i++) {
+                current[i] += weights[i];
+                if (weights[i] > 0 && (selected < 0 || current[i] > current[selected])) {
+                    selected = i;
+                }
+            }
+            current[selected] -= total;
+            schedule[n] = yedisList.get(selected);
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    @Override
+    public Yedis route() {
+        return schedule[Math.abs(index.incrementAndGet() % schedule.length)];
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+}
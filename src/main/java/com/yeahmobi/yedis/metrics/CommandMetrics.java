@@ -0,0 +1,149 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 一个server上一个命令的统计：排队、执行和总耗时的直方图，以及各种失败的计数。<br>
+ * 排队是从提交到开始执行（或发送到pipeline）的时间，执行是从开始执行到完成的时间。
+ */
+public final class CommandMetrics {
+
+    private final String           name;
+
+    private final LatencyHistogram queueWait     = new LatencyHistogram();
+
+    private final LatencyHistogram execution     = new LatencyHistogram();
+
+    private final LatencyHistogram total         = new LatencyHistogram();
+
+    // 只记录成功的操作的总耗时，用于getRecentSuccessSnapshot
+    private final LatencyHistogram success       = new LatencyHistogram();
+
+    private final AtomicLong       errors        = new AtomicLong(0);
+
+    private final AtomicLong       timeouts      = new AtomicLong(0);
+
+    private final AtomicLong       networkErrors = new AtomicLong(0);
+
+    private final AtomicLong       cancellations = new AtomicLong(0);
+
+    private final AtomicLong       rejections    = new AtomicLong(0);
+
+    // getRecentSuccessSnapshot缓存的窗口
+    private volatile RecentWindow  recentSuccess;
+
+    CommandMetrics(String name) {
+        this.name = name;
+    }
+
+    void record(long submitNanos, long startNanos, long endNanos, Outcome outcome) {
+        if (outcome == Outcome.REJECTED) {
+            // 没有进入队列，不计入耗时
+            rejections.incrementAndGet();
+            return;
+        }
+        if (startNanos != 0) {
+            queueWait.record(startNanos - submitNanos);
+            execution.record(endNanos - startNanos);
+        } else {
+            // 没有开始执行（排队时超时或被取消）
+            queueWait.record(endNanos - submitNanos);
+        }
+        total.record(endNanos - submitNanos);
+        switch (outcome) {
+            case SUCCESS:
+                success.record(endNanos - submitNanos);
+                break;
+            case ERROR:
+                errors.incrementAndGet();
+                break;
+            case TIMEOUT:
+                timeouts.incrementAndGet();
+                break;
+            case NETWORK_ERROR:
+                networkErrors.incrementAndGet();
+                break;
+            case CANCELLED:
+                cancellations.incrementAndGet();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 最近约windowNanos内成功的操作的总耗时快照（不包括超时、失败和被取消的操作），
+     * 每windowNanos/RecentWindow.SLICES更新一次，供每次操作都要查询分位数的调用方（如对冲读）使用
+     */
+    public HistogramSnapshot getRecentSuccessSnapshot(long windowNanos) {
+        RecentWindow window = recentSuccess;
+        long now = System.nanoTime();
+        if (window == null || now - window.nanos > windowNanos / RecentWindow.SLICES) {
+            // 并发时可能多个线程同时更新，结果都是有效的窗口
+            window = new RecentWindow(window, success.snapshot(), now);
+            recentSuccess = window;
+        }
+        return window.recent;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    public LatencyHistogram getExecution() {
+        return execution;
+    }
+
+    public LatencyHistogram getTotal() {
+        return total;
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public long getNetworkErrors() {
+        return networkErrors.get();
+    }
+
+    public long getCancellations() {
+        return cancellations.get();
+    }
+
+    public long getRejections() {
+        return rejections.get();
+    }
+
+    /**
+     * 最近SLICES次更新时的累计快照，recent是最新与最早的累计快照之差
+     */
+    private static final class RecentWindow {
+
+        static final int          SLICES = 5;
+
+        final HistogramSnapshot[] history;
+
+        final HistogramSnapshot   recent;
+
+        final long                nanos;
+
+        RecentWindow(RecentWindow previous, HistogramSnapshot current, long nanos) {
+            HistogramSnapshot[] older = previous != null ? previous.history : new HistogramSnapshot[0];
+            int keep = Math.min(older.length, SLICES);
+            this.history = new HistogramSnapshot[keep + 1];
+            System.arraycopy(older, older.length - keep, history, 0, keep);
+            history[keep] = current;
+            this.recent = keep > 0 ? current.minus(history[0]) : current;
+            this.nanos = nanos;
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * 一个命令统计的快照，供JMX和MetricsReporter使用，耗时的单位都是微秒
+ */
+public final class CommandStats {
+
+    private final String name;
+
+    private final long   count;
+
+    private final long   errors;
+
+    private final long   timeouts;
+
+    private final long   networkErrors;
+
+    private final long   cancellations;
+
+    private final double meanMicros;
+
+    private final long   p50Micros;
+
+    private final long   p99Micros;
+
+    private final long   p999Micros;
+
+    private final long   maxMicros;
+
+    private final long   queueWaitP99Micros;
+
+    private final long   executionP99Micros;
+
+    @ConstructorProperties({ "name", "count", "errors", "timeouts", "networkErrors", "cancellations", "meanMicros",
+            "p50Micros", "p99Micros", "p999Micros", "maxMicros", "queueWaitP99Micros", "executionP99Micros" })
+    public CommandStats(String name, long count, long errors, long timeouts, long networkErrors, long cancellations,
+                        double meanMicros, long p50Micros, long p99Micros, long p999Micros, long maxMicros,
+                        long queueWaitP99Micros, long executionP99Micros) {
+        this.name = name;
+        this.count = count;
+        this.errors = errors;
+        this.timeouts = timeouts;
+        this.networkErrors = networkErrors;
+        this.cancellations = cancellations;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.p999Micros = p999Micros;
+        this.maxMicros = maxMicros;
+        this.queueWaitP99Micros = queueWaitP99Micros;
+        this.executionP99Micros = executionP99Micros;
+    }
+
+    static CommandStats of(CommandMetrics command) {
+        HistogramSnapshot total = command.getTotal().snapshot();
+        return new CommandStats(command.getName(), total.getCount(), command.getErrors(), command.getTimeouts(),
+                                command.getNetworkErrors(), command.getCancellations(), total.getMean(),
+                                total.getValueAtPercentile(50), total.getValueAtPercentile(99),
+                                total.getValueAtPercentile(99.9), total.getMax(),
+                                command.getQueueWait().snapshot().getValueAtPercentile(99),
+                                command.getExecution().snapshot().getValueAtPercentile(99));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getNetworkErrors() {
+        return networkErrors;
+    }
+
+    public long getCancellations() {
+        return cancellations;
+    }
+
+    public double getMeanMicros() {
+        return meanMicros;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getP999Micros() {
+        return p999Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public long getQueueWaitP99Micros() {
+        return queueWaitP99Micros;
+    }
+
+    public long getExecutionP99Micros() {
+        return executionP99Micros;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandStats [name=" + name + ", count=" + count + ", errors=" + errors + ", timeouts=" + timeouts
+               + ", networkErrors=" + networkErrors + ", cancellations=" + cancellations + ", meanMicros="
+               + meanMicros + ", p50Micros=" + p50Micros + ", p99Micros=" + p99Micros + ", p999Micros="
+               + p999Micros + ", maxMicros=" + maxMicros + ", queueWaitP99Micros=" + queueWaitP99Micros
+               + ", executionP99Micros=" + executionP99Micros + "]";
+    }
+
+}
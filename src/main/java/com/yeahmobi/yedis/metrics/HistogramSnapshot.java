@@ -0,0 +1,74 @@
+package com.yeahmobi.yedis.metrics;
+
+/**
+ * LatencyHistogram的快照，所有值的单位都是微秒
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+
+    private final long   count;
+
+    private final long   sum;
+
+    private final long   max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @param percentile 0到100之间，如99.9
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(LatencyHistogram.highestValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 从older（同一个直方图更早的快照）到当前快照之间记录的值；max取最高的非空桶的上界
+     */
+    HistogramSnapshot minus(HistogramSnapshot older) {
+        long[] diff = new long[counts.length];
+        long highest = 0;
+        for (int i = 0; i < counts.length; i++) {
+            diff[i] = counts[i] - older.counts[i];
+            if (diff[i] > 0) {
+                highest = Math.min(LatencyHistogram.highestValue(i), max);
+            }
+        }
+        return new HistogramSnapshot(diff, count - older.count, sum - older.sum, highest);
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot [count=" + count + ", mean=" + getMean() + ", p50=" + getValueAtPercentile(50)
+               + ", p99=" + getValueAtPercentile(99) + ", p999=" + getValueAtPercentile(99.9) + ", max=" + max + "]";
+    }
+
+}
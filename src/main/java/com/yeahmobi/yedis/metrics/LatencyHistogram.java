@@ -0,0 +1,77 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 无锁的延迟直方图，以微秒为单位，桶的划分与HdrHistogram相同（对数分段、段内线性）。<br>
+ * 每段16个子桶，相对误差不超过1/16；最大可记录约71分钟，超过的按最大值记录。
+ * record()只有几次原子操作，不加锁也不分配内存。
+ */
+public final class LatencyHistogram {
+
+    private static final int  SUB_BUCKET_BITS = 4;
+
+    private static final int  SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+
+    private static final int  MAX_BIT_LENGTH  = 32;
+
+    static final long         MAX_VALUE       = (1L << MAX_BIT_LENGTH) - 1;
+
+    static final int          BUCKETS         = (MAX_BIT_LENGTH - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + 2 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts      = new AtomicLongArray(BUCKETS);
+
+    private final AtomicLong      sum         = new AtomicLong(0);
+
+    private final AtomicLong      max         = new AtomicLong(0);
+
+    public void record(long nanos) {
+        long micros = nanos / 1000;
+        if (micros < 0) {
+            micros = 0;
+        } else if (micros > MAX_VALUE) {
+            micros = MAX_VALUE;
+        }
+        counts.incrementAndGet(index(micros));
+        sum.addAndGet(micros);
+        long current;
+        while (micros > (current = max.get())) {
+            if (max.compareAndSet(current, micros)) {
+                break;
+            }
+        }
+    }
+
+    static int index(long value) {
+        int bitLength = 64 - Long.numberOfLeadingZeros(value);
+        if (bitLength <= SUB_BUCKET_BITS + 1) {
+            return (int) value;
+        }
+        int shift = bitLength - SUB_BUCKET_BITS - 1;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * 桶内的最大值（与HdrHistogram的highestEquivalentValue一致）
+     */
+    static long highestValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index - shift * SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new HistogramSnapshot(copy, count, sum.get(), max.get());
+    }
+
+}
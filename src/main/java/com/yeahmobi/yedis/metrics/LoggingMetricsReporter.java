@@ -0,0 +1,29 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 把统计输出到日志的MetricsReporter
+ */
+public class LoggingMetricsReporter implements MetricsReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingMetricsReporter.class);
+
+    @Override
+    public void report(List<YedisMetrics> metrics) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        for (YedisMetrics yedisMetrics : metrics) {
+            logger.info(yedisMetrics.getServer() + " queueDepths=" + Arrays.toString(yedisMetrics.getQueueDepths()));
+            for (CommandStats stats : yedisMetrics.getCommandStats()) {
+                logger.info(yedisMetrics.getServer() + " " + stats);
+            }
+        }
+    }
+
+}
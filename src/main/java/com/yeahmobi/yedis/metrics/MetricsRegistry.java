@@ -0,0 +1,107 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * 进程内所有Yedis的统计。Yedis创建时注册（可选注册到JMX），关闭时注销。
+ */
+public final class MetricsRegistry {
+
+    private static final Logger                     logger   = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    private static final MetricsRegistry            INSTANCE = new MetricsRegistry();
+
+    private final CopyOnWriteArrayList<YedisMetrics> metrics  = new CopyOnWriteArrayList<YedisMetrics>();
+
+    private final AtomicInteger                     ids      = new AtomicInteger(0);
+
+    private ScheduledExecutorService                scheduler;
+
+    private MetricsRegistry() {
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public void register(YedisMetrics yedisMetrics, boolean jmx) {
+        metrics.add(yedisMetrics);
+        if (jmx) {
+            try {
+                ObjectName objectName = new ObjectName("com.yeahmobi.yedis:type=YedisMetrics,server="
+                                                       + yedisMetrics.getServer().replace(':', '_') + ",id="
+                                                       + ids.incrementAndGet());
+                ManagementFactory.getPlatformMBeanServer().registerMBean(yedisMetrics, objectName);
+                yedisMetrics.objectName = objectName;
+            } catch (Exception e) {
+                logger.warn("Failed to register " + yedisMetrics + " to JMX", e);
+            }
+        }
+    }
+
+    public void unregister(YedisMetrics yedisMetrics) {
+        metrics.remove(yedisMetrics);
+        ObjectName objectName = yedisMetrics.objectName;
+        if (objectName != null) {
+            yedisMetrics.objectName = null;
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to unregister " + objectName + " from JMX", e);
+            }
+        }
+    }
+
+    public List<YedisMetrics> getAll() {
+        return new ArrayList<YedisMetrics>(metrics);
+    }
+
+    /**
+     * 定期调用reporter，返回的ScheduledFuture可用于取消
+     */
+    public ScheduledFuture<?> schedule(final MetricsReporter reporter, long period, TimeUnit unit) {
+        if (reporter == null) {
+            throw new IllegalArgumentException("reporter cannot be null.");
+        }
+        return scheduler().scheduleAtFixedRate(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    reporter.report(getAll());
+                } catch (RuntimeException e) {
+                    logger.error("Error when reporting metrics", e);
+                }
+            }
+        }, period, period, unit);
+    }
+
+    private synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+                                                                                             .setNameFormat("Yedis-Metrics")
+                                                                                             .build());
+        }
+        return scheduler;
+    }
+
+}
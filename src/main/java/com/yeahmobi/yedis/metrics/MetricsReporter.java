@@ -0,0 +1,15 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.util.List;
+
+/**
+ * 定期输出统计，通过 {@link MetricsRegistry#schedule} 注册
+ */
+public interface MetricsReporter {
+
+    /**
+     * @param metrics 当前所有（开启了统计的）Yedis的统计，数值是从创建以来累计的
+     */
+    void report(List<YedisMetrics> metrics);
+
+}
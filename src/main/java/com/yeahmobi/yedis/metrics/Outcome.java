@@ -0,0 +1,19 @@
+package com.yeahmobi.yedis.metrics;
+
+/**
+ * 一次操作的结果
+ */
+public enum Outcome {
+    SUCCESS,
+    /**
+     * 命令本身的错误，如WRONGTYPE
+     */
+    ERROR,
+    TIMEOUT,
+    NETWORK_ERROR,
+    CANCELLED,
+    /**
+     * 队列已满，没有提交就被拒绝
+     */
+    REJECTED;
+}
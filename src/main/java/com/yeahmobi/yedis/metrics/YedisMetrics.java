@@ -0,0 +1,94 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.ObjectName;
+
+import com.yeahmobi.yedis.async.AsyncOperation;
+import com.yeahmobi.yedis.async.CommandExecutor;
+
+/**
+ * 一个Yedis（即一个server）的统计，按命令名分别记录。<br>
+ * 命令名第一次出现时创建CommandMetrics，之后的记录只有一次ConcurrentHashMap查找和若干原子操作。
+ */
+public final class YedisMetrics implements YedisMetricsMXBean {
+
+    private final String                                server;
+
+    private final CommandExecutor                       executor;
+
+    private final ConcurrentMap<String, CommandMetrics> commands = new ConcurrentHashMap<String, CommandMetrics>();
+
+    // 注册到JMX时的名字
+    volatile ObjectName                                 objectName;
+
+    public YedisMetrics(String server, CommandExecutor executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * 操作完成后记录
+     * 
+     * @param submitNanos 提交操作的时间
+     */
+    public void record(AsyncOperation<?> opr, long submitNanos, Outcome outcome) {
+        long endNanos = opr.getEndNanos();
+        if (endNanos == 0) {
+            endNanos = System.nanoTime();
+        }
+        command(opr.getCommandName()).record(submitNanos, opr.getStartNanos(), endNanos, outcome);
+    }
+
+    private CommandMetrics command(String name) {
+        CommandMetrics command = commands.get(name);
+        if (command == null) {
+            CommandMetrics created = new CommandMetrics(name);
+            command = commands.putIfAbsent(name, created);
+            if (command == null) {
+                command = created;
+            }
+        }
+        return command;
+    }
+
+    @Override
+    public String getServer() {
+        return server;
+    }
+
+    /**
+     * 每个worker（或连接）排队中的操作数
+     */
+    @Override
+    public int[] getQueueDepths() {
+        return executor.getQueueDepths();
+    }
+
+    public Collection<CommandMetrics> getCommands() {
+        return commands.values();
+    }
+
+    public CommandMetrics getCommand(String name) {
+        return commands.get(name);
+    }
+
+    @Override
+    public List<CommandStats> getCommandStats() {
+        List<CommandStats> stats = new ArrayList<CommandStats>(commands.size());
+        for (CommandMetrics command : commands.values()) {
+            stats.add(CommandStats.of(command));
+        }
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return "YedisMetrics [server=" + server + ", commands=" + commands.keySet() + "]";
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.util.List;
+
+/**
+ * 通过JMX暴露的Yedis统计，ObjectName为 com.yeahmobi.yedis:type=YedisMetrics,server=host_port,id=n
+ */
+public interface YedisMetricsMXBean {
+
+    String getServer();
+
+    int[] getQueueDepths();
+
+    List<CommandStats> getCommandStats();
+
+}
@@ -1,13 +1,16 @@
 package com.yeahmobi.yedis.pipeline;
 
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 
 import com.yeahmobi.yedis.atomic.AtomConfig;
 
 public class PipelineJedisPool {
 
-    private final JedisPool  jedisPool;
+    private final BoundedWaitJedisPool jedisPool;
 
     private final AtomConfig config;
 
@@ -17,8 +20,9 @@ public class PipelineJedisPool {
         }
 
         this.config = config;
-        this.jedisPool = new JedisPool(config.getPipelinePoolConfig(), config.getHost(), config.getPort(),
-                                       config.getSocketTimeout(), config.getPassword(), config.getDatabase());
+        this.jedisPool = new BoundedWaitJedisPool(config.getPipelinePoolConfig(), config.getHost(), config.getPort(),
+                                                  config.getSocketTimeout(), config.getPassword(),
+                                                  config.getDatabase());
     }
 
     public AtomConfig getConfig() {
@@ -29,6 +33,17 @@ public class PipelineJedisPool {
         return this.jedisPool.getResource();
     }
 
+    /**
+     * 连接池耗尽时最多等待maxWaitMillis（同时不超过连接池配置的maxWaitMillis），0表示不等待
+     */
+    public Jedis getJedis(long maxWaitMillis) {
+        long poolMaxWait = config.getPipelinePoolConfig().getMaxWaitMillis();
+        if (poolMaxWait >= 0 && poolMaxWait < maxWaitMillis) {
+            maxWaitMillis = poolMaxWait;
+        }
+        return this.jedisPool.getResource(maxWaitMillis);
+    }
+
     public void returnBrokenJedis(Jedis resource) {
         jedisPool.returnBrokenResource(resource);
     }
@@ -40,7 +55,24 @@ public class PipelineJedisPool {
     public void destroy() {
         jedisPool.destroy();
     }
-    
-    
+
+    /**
+     * JedisPool.getResource()总是按连接池配置的maxWaitMillis等待，这里允许调用方指定更短的等待时间
+     */
+    private static class BoundedWaitJedisPool extends JedisPool {
+
+        BoundedWaitJedisPool(GenericObjectPoolConfig poolConfig, String host, int port, int timeout, String password,
+                             int database) {
+            super(poolConfig, host, port, timeout, password, database);
+        }
+
+        Jedis getResource(long maxWaitMillis) {
+            try {
+                return internalPool.borrowObject(maxWaitMillis);
+            } catch (Exception e) {
+                throw new JedisConnectionException("Could not get a resource from the pool", e);
+            }
+        }
+    }
 
 }
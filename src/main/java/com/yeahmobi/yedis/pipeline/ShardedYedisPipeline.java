@@ -1,10 +1,15 @@
 package com.yeahmobi.yedis.pipeline;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import redis.clients.jedis.BinaryClient.LIST_POSITION;
 import redis.clients.jedis.BitPosParams;
@@ -13,76 +18,122 @@ import redis.clients.jedis.SortingParams;
 import redis.clients.jedis.Tuple;
 
 import com.yeahmobi.yedis.group.GroupYedis;
+import com.yeahmobi.yedis.shard.AbstractShardingStrategy;
 import com.yeahmobi.yedis.shard.ShardingStrategy;
 
 public class ShardedYedisPipeline {
 
-    private HashMap<GroupYedis, PipelineInfo> pipelineInfos = new HashMap<GroupYedis, PipelineInfo>();
+    private ShardingStrategy shardingStrategy;
 
-    private ShardingStrategy                  shardingStrategy;
+    // 可以按编号访问分片的策略；其他ShardingStrategy的实现为null，分片按route()的结果第一次出现的顺序编号
+    private final AbstractShardingStrategy indexed;
 
-    private List<ResponseInfo>                responseInfos = new ArrayList<ResponseInfo>();
+    // indexed为null时使用：已编号的分片及其编号
+    private final Map<GroupYedis, Integer> shardIds;
 
-    static class PipelineInfo {
+    private final List<GroupYedis> shards;
 
-        YedisPipeline yedisPipeline;
-        int           indexCount = 0;
-    }
+    // 并行读取各shard的reply，为null时在调用线程中依次读取
+    private final Executor   executor;
 
-    static class ResponseInfo {
+    // 下标是分片编号，尚未有命令的分片为null
+    private YedisPipeline[]  pipelines;
 
-        // indexCount指向当前pipeline的response的位置
-        YedisPipeline yedisPipeline;
-        // indexCount指向当前pipeline的response的位置
-        int           index;
+    // 按加入顺序，每个命令所在的分片编号；命令在该分片pipeline中的位置在合并结果时按顺序计数得到
+    private int[]            shardIndexes = new int[16];
 
-        public ResponseInfo(YedisPipeline yedisPipeline, int index) {
-            super();
-            this.yedisPipeline = yedisPipeline;
-            this.index = index;
-        }
-    }
+    private int              commandCount;
+
+    // 流式pipeline的配置，为null表示普通pipeline；流式时不记录shardIndexes
+    private final StreamingConfig streaming;
 
     public ShardedYedisPipeline(ShardingStrategy shardingStrategy) {
+        this(shardingStrategy, null);
+    }
+
+    /**
+     * @param executor 用于并行读取各shard的reply
+     */
+    public ShardedYedisPipeline(ShardingStrategy shardingStrategy, Executor executor) {
+        this(shardingStrategy, executor, null);
+    }
+
+    /**
+     * @param executor 用于并行读取各shard的reply
+     * @param streaming 不为null时为流式pipeline
+     */
+    public ShardedYedisPipeline(ShardingStrategy shardingStrategy, Executor executor, StreamingConfig streaming) {
         super();
         this.shardingStrategy = shardingStrategy;
+        this.executor = executor;
+        this.streaming = streaming;
+        if (shardingStrategy instanceof AbstractShardingStrategy) {
+            this.indexed = (AbstractShardingStrategy) shardingStrategy;
+            this.shardIds = null;
+            this.shards = null;
+            this.pipelines = new YedisPipeline[indexed.size()];
+        } else {
+            this.indexed = null;
+            this.shardIds = new IdentityHashMap<GroupYedis, Integer>();
+            this.shards = new ArrayList<GroupYedis>();
+            this.pipelines = new YedisPipeline[4];
+        }
     }
 
     private YedisPipeline route(byte[] key) {
-        GroupYedis groupYedis = shardingStrategy.route(key);
-        return getAndPut(groupYedis);
+        if (indexed != null) {
+            return getAndPut(indexed.shardIndex(key));
+        }
+        return getAndPut(shardId(shardingStrategy.route(key)));
     }
 
     private YedisPipeline route(String key) {
-        GroupYedis groupYedis = shardingStrategy.route(key);
-        return getAndPut(groupYedis);
+        if (indexed != null) {
+            return getAndPut(indexed.shardIndex(key));
+        }
+        return getAndPut(shardId(shardingStrategy.route(key)));
     }
 
-    private YedisPipeline getAndPut(GroupYedis groupYedis) {
-        PipelineInfo pipelineInfo = pipelineInfos.get(groupYedis);
-        if (pipelineInfo == null) {
-            pipelineInfo = new PipelineInfo();
-            pipelineInfo.yedisPipeline = groupYedis.pipelined();
-            pipelineInfos.put(groupYedis, pipelineInfo);
+    private int shardId(GroupYedis group) {
+        Integer id = shardIds.get(group);
+        if (id == null) {
+            id = shards.size();
+            shardIds.put(group, id);
+            shards.add(group);
+            if (id == pipelines.length) {
+                pipelines = Arrays.copyOf(pipelines, id * 2);
+            }
         }
+        return id;
+    }
 
-        ResponseInfo responseInfo = new ResponseInfo(pipelineInfo.yedisPipeline, pipelineInfo.indexCount);
-        responseInfos.add(responseInfo);
+    private YedisPipeline getAndPut(int shard) {
+        YedisPipeline pipeline = pipelines[shard];
+        if (pipeline == null) {
+            GroupYedis group = indexed != null ? indexed.getShard(shard) : shards.get(shard);
+            pipeline = streaming != null ? group.pipelined(streaming) : group.pipelined();
+            pipelines[shard] = pipeline;
+        }
+        if (streaming != null) {
+            return pipeline;
+        }
 
-        pipelineInfo.indexCount++;
+        if (commandCount == shardIndexes.length) {
+            shardIndexes = Arrays.copyOf(shardIndexes, commandCount * 2);
+        }
+        shardIndexes[commandCount++] = shard;
 
-        return pipelineInfo.yedisPipeline;
+        return pipeline;
     }
 
     public void sync() {
+        Object[] results = syncAll(false);
         List<String> errorMsg = new ArrayList<String>();
-        for (PipelineInfo pipelineInfo : pipelineInfos.values()) {
-            YedisPipeline pipeline = pipelineInfo.yedisPipeline;
-            try {
-                pipeline.sync();
-            } catch (Exception e) {
+        for (int i = 0; i < pipelines.length; i++) {
+            if (results[i] instanceof Exception) {
                 // 如果某个YedisPipeline 有异常，记录起来
-                errorMsg.add(String.format("Pipeline(%s:%s) error message is " + e.getMessage(),
+                YedisPipeline pipeline = pipelines[i];
+                errorMsg.add(String.format("Pipeline(%s:%s) error message is " + ((Exception) results[i]).getMessage(),
                                            pipeline.getConfig().getHost(), pipeline.getConfig().getPort()));
             }
         }
@@ -91,34 +142,142 @@ public class ShardedYedisPipeline {
         }
     }
 
+    /**
+     * 丢弃reply的流式pipeline中，各shard已读取的错误reply的个数之和
+     */
+    public int getErrorCount() {
+        int errorCount = 0;
+        for (YedisPipeline pipeline : pipelines) {
+            if (pipeline != null) {
+                errorCount += pipeline.getErrorCount();
+            }
+        }
+        return errorCount;
+    }
+
+    // 流式pipeline不支持
     @SuppressWarnings("unchecked")
     public List<Object> syncAndReturnAll() {
-        HashMap<YedisPipeline, Object> pipeline2ResponseList = new HashMap<YedisPipeline, Object>();
-        for (PipelineInfo pipelineInfo : pipelineInfos.values()) {
-            YedisPipeline pipeline = pipelineInfo.yedisPipeline;
-            try {
-                List<Object> responseList = pipeline.syncAndReturnAll();
-                pipeline2ResponseList.put(pipeline, responseList);
-            } catch (Exception e) {
-                // 如果某个YedisPipeline 有异常，该pipeline就没有 responseList,只有 e
-                pipeline2ResponseList.put(pipeline, e);
-            }
+        if (streaming != null) {
+            throw new UnsupportedOperationException("Streaming pipeline does not keep replies, use sync() instead.");
         }
-        List<Object> list = new ArrayList<Object>();
-        for (ResponseInfo responseInfo : responseInfos) {
-            Object object = pipeline2ResponseList.get(responseInfo.yedisPipeline);
+        Object[] results = syncAll(true);
+        // 每个分片下一个reply的位置
+        int[] positions = new int[pipelines.length];
+        List<Object> list = new ArrayList<Object>(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            int shard = shardIndexes[i];
+            Object object = results[shard];
             if (object instanceof List) {
-                List<Object> responseList = (List<Object>) object;
-                Object response = (responseList != null) ? responseList.get(responseInfo.index) : null;
-                list.add(response);
+                list.add(((List<Object>) object).get(positions[shard]++));
             } else {
-                // 如果某个YedisPipeline 有异常，该pipeline就没有 responseList,只有 e
+                // 如果某个YedisPipeline 有异常，该pipeline就没有 responseList,只有 e；已sync过时为null
                 list.add(object);
             }
         }
         return list;
     }
 
+    /**
+     * 先把所有shard的命令都写出，再读取reply，各shard的往返时间相互重叠，总耗时约为最慢的shard的一次往返，而不是各shard之和。<br>
+     * 指定了executor时，除第一个以外的shard的reply由executor并行读取。<br>
+     * 返回按分片编号的结果：returnAll时为reply列表，否则为null；失败时为异常。
+     */
+    private Object[] syncAll(final boolean returnAll) {
+        final YedisPipeline[] pipelines = this.pipelines;
+        final Object[] results = new Object[pipelines.length];
+        int first = -1;
+        for (int i = 0; i < pipelines.length; i++) {
+            if (pipelines[i] == null) {
+                continue;
+            }
+            if (first < 0) {
+                first = i;
+            }
+            try {
+                pipelines[i].flush();
+            } catch (Exception e) {
+                // 仍需要sync，以便将连接归还连接池
+                results[i] = e;
+            }
+        }
+        if (first < 0) {
+            return results;
+        }
+
+        List<FutureTask<Object>> tasks = null;
+        if (executor != null) {
+            for (int i = first + 1; i < pipelines.length; i++) {
+                if (pipelines[i] == null) {
+                    continue;
+                }
+                final int index = i;
+                FutureTask<Object> task = new FutureTask<Object>(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        read(pipelines, index, returnAll, results);
+                    }
+                }, null);
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.run();
+                }
+                if (tasks == null) {
+                    tasks = new ArrayList<FutureTask<Object>>();
+                }
+                tasks.add(task);
+            }
+        }
+
+        // 没有交给executor的在当前线程读取
+        int last = tasks == null ? pipelines.length - 1 : first;
+        for (int i = first; i <= last; i++) {
+            if (pipelines[i] != null) {
+                read(pipelines, i, returnAll, results);
+            }
+        }
+
+        if (tasks != null) {
+            boolean interrupted = false;
+            for (FutureTask<Object> task : tasks) {
+                while (true) {
+                    try {
+                        task.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        // 连接必须等读取完成后才能归还，不能提前返回
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        // read()不会抛出异常
+                        break;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return results;
+    }
+
+    private static void read(YedisPipeline[] pipelines, int index, boolean returnAll, Object[] results) {
+        Object flushError = results[index];
+        Object result;
+        try {
+            if (returnAll) {
+                result = pipelines[index].syncAndReturnAll();
+            } else {
+                pipelines[index].sync();
+                result = null;
+            }
+        } catch (Exception e) {
+            result = e;
+        }
+        results[index] = flushError != null ? flushError : result;
+    }
+
     public Response<Long> append(String key, String value) {
         return route(key).append(key, value);
     }
@@ -0,0 +1,68 @@
+package com.yeahmobi.yedis.pipeline;
+
+/**
+ * 流式pipeline的配置：命令边加入边写出，reply边到达边读取，内存占用与命令总数无关，适合批量导入。<br>
+ * 流式pipeline不支持syncAndReturnAll()，结果通过命令返回的Response获取。
+ */
+public class StreamingConfig {
+
+    public static final int DEFAULT_FLUSH_COMMANDS  = 1000;
+
+    public static final int DEFAULT_MAX_OUTSTANDING = 10000;
+
+    // 每加入多少个命令写出一次socket（Jedis的输出缓冲区每满8KB也会写出）
+    private int             flushCommands           = DEFAULT_FLUSH_COMMANDS;
+
+    // 已发送、尚未读取reply的命令数的上限，达到上限时读取较早的一半
+    private int             maxOutstanding          = DEFAULT_MAX_OUTSTANDING;
+
+    // 丢弃reply（fire-and-forget），命令返回的Response不可用，错误的reply只计数（YedisPipeline.getErrorCount()）
+    private boolean         discardReplies          = false;
+
+    public StreamingConfig() {
+
+    }
+
+    public StreamingConfig(int flushCommands, int maxOutstanding, boolean discardReplies) {
+        setFlushCommands(flushCommands);
+        setMaxOutstanding(maxOutstanding);
+        this.discardReplies = discardReplies;
+    }
+
+    public int getFlushCommands() {
+        return flushCommands;
+    }
+
+    public void setFlushCommands(int flushCommands) {
+        if (flushCommands <= 0) {
+            throw new IllegalArgumentException("flushCommands must be positive.");
+        }
+        this.flushCommands = flushCommands;
+    }
+
+    public int getMaxOutstanding() {
+        return maxOutstanding;
+    }
+
+    public void setMaxOutstanding(int maxOutstanding) {
+        if (maxOutstanding <= 0) {
+            throw new IllegalArgumentException("maxOutstanding must be positive.");
+        }
+        this.maxOutstanding = maxOutstanding;
+    }
+
+    public boolean isDiscardReplies() {
+        return discardReplies;
+    }
+
+    public void setDiscardReplies(boolean discardReplies) {
+        this.discardReplies = discardReplies;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingConfig [flushCommands=" + flushCommands + ", maxOutstanding=" + maxOutstanding
+               + ", discardReplies=" + discardReplies + "]";
+    }
+
+}
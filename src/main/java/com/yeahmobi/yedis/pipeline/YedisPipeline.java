@@ -1,5 +1,7 @@
 package com.yeahmobi.yedis.pipeline;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,16 +12,24 @@ import com.yeahmobi.yedis.atomic.AtomConfig;
 import redis.clients.jedis.BinaryClient.LIST_POSITION;
 import redis.clients.jedis.BitOP;
 import redis.clients.jedis.BitPosParams;
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.BuilderFactory;
 import redis.clients.jedis.Client;
+import redis.clients.jedis.Connection;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Response;
 import redis.clients.jedis.SortingParams;
 import redis.clients.jedis.Tuple;
 import redis.clients.jedis.ZParams;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
 
 public class YedisPipeline extends Pipeline {
 
+    // Connection.flush()是protected的，通过反射调用；不可用时为null
+    private static final Method FLUSH = flushMethod();
+
     private final Jedis         jedis;
 
     private final Pipeline      pipeline;
@@ -28,8 +38,26 @@ public class YedisPipeline extends Pipeline {
 
     private final AtomConfig    config;
 
+    // 流式pipeline的配置，为null表示普通pipeline
+    private final StreamingConfig streaming;
+
+    // 流式时已发送、尚未读取reply的命令数
+    private int                 outstanding;
+
+    // 流式时上次写出后加入的命令数
+    private int                 unflushed;
+
+    // 丢弃reply时，错误reply的个数
+    private int                 errorCount;
+
+    // 第一次sync之后执行
+    private Runnable            afterSync;
+
     private Pipeline getPipeline() {
         if (!isReturned.get()) {
+            if (streaming != null) {
+                beforeCommand();
+            }
             return pipeline;
         } else {
             throw new IllegalStateException(
@@ -38,33 +66,132 @@ public class YedisPipeline extends Pipeline {
     }
 
     public YedisPipeline(AtomConfig config, Jedis jedis) {
+        this(config, jedis, null);
+    }
+
+    /**
+     * @param streaming 不为null时为流式pipeline
+     */
+    public YedisPipeline(AtomConfig config, Jedis jedis, StreamingConfig streaming) {
         this.config = config;
         this.jedis = jedis;
-        this.pipeline = jedis.pipelined();
+        this.streaming = streaming;
+        // 与jedis.pipelined()相同，但可以逐个读取reply
+        this.pipeline = new ClientPipeline(jedis.getClient(), streaming != null && streaming.isDiscardReplies());
+    }
+
+    /**
+     * 每个代理方法在加入命令前调用：够flushCommands个命令时写出，未读取的reply达到上限时读取较早的一半
+     */
+    private void beforeCommand() {
+        if (unflushed >= streaming.getFlushCommands()) {
+            flush();
+            unflushed = 0;
+        }
+        if (outstanding >= streaming.getMaxOutstanding()) {
+            readReplies(outstanding - streaming.getMaxOutstanding() / 2);
+        }
+        outstanding++;
+        unflushed++;
+    }
+
+    private void readReplies(int count) {
+        ClientPipeline clientPipeline = (ClientPipeline) pipeline;
+        for (int i = 0; i < count; i++) {
+            if (!clientPipeline.readReply()) {
+                errorCount++;
+            }
+            outstanding--;
+        }
+        clientPipeline.discarded();
+    }
+
+    /**
+     * 第一次sync()或syncAndReturnAll()结束（包括失败）之后执行callback，GroupYedis用来失效近端缓存
+     */
+    public void afterSync(Runnable callback) {
+        this.afterSync = callback;
+    }
+
+    private void returned() {
+        jedis.close();
+        if (afterSync != null) {
+            afterSync.run();
+        }
+    }
+
+    public boolean isStreaming() {
+        return streaming != null;
+    }
+
+    /**
+     * 丢弃reply的流式pipeline中，已读取的错误reply的个数
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    private static Method flushMethod() {
+        try {
+            Method method = Connection.class.getDeclaredMethod("flush");
+            method.setAccessible(true);
+            return method;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 将已缓存的命令写出到socket，但不读取reply，之后的sync()只需读取。<br>
+     * 多个pipeline先各自flush再sync，等待reply的时间可以重叠。返回false表示没有写出（不支持或已sync），由sync()写出。
+     */
+    public boolean flush() {
+        if (FLUSH == null || isReturned.get()) {
+            return false;
+        }
+        try {
+            FLUSH.invoke(jedis.getClient());
+            return true;
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new JedisConnectionException(cause);
+        } catch (IllegalAccessException e) {
+            return false;
+        }
     }
 
     // 可多次调用，第一次正常sync，后续则不做任何事情
     public void sync() {
         if (!isReturned.get()) {
             try {
-                pipeline.sync();
+                if (streaming != null) {
+                    readReplies(outstanding);
+                } else {
+                    pipeline.sync();
+                }
             } finally {
                 if (isReturned.compareAndSet(false, true)) {
-                    jedis.close();
+                    returned();
                 }
             }
         }
     }
 
-    // 可多次调用，第一次正常返回，后续则返回null
+    // 可多次调用，第一次正常返回，后续则返回null；流式pipeline不支持
     public List<Object> syncAndReturnAll() {
+        if (streaming != null) {
+            throw new UnsupportedOperationException("Streaming pipeline does not keep replies, use sync() instead.");
+        }
         if (!isReturned.get()) {
             try {
-                List<Object> response = getPipeline().syncAndReturnAll();
+                List<Object> response = pipeline.syncAndReturnAll();
                 return response;
             } finally {
                 if (isReturned.compareAndSet(false, true)) {
-                    jedis.close();
+                    returned();
                 }
             }
         }
@@ -1407,4 +1534,60 @@ public class YedisPipeline extends Pipeline {
         return getPipeline().pfcount(key);
     }
 
+    /**
+     * 可以逐个读取reply的Pipeline
+     */
+    private static final class ClientPipeline extends Pipeline {
+
+        // 丢弃reply时所有命令返回的Response
+        private static final Response<?> DISCARDED = new Response<String>(BuilderFactory.STRING) {
+
+            @Override
+            public String get() {
+                throw new IllegalStateException("Replies of this pipeline are discarded.");
+            }
+        };
+
+        private final boolean            discardReplies;
+
+        ClientPipeline(Client client, boolean discardReplies) {
+            setClient(client);
+            this.discardReplies = discardReplies;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected <T> Response<T> getResponse(Builder<T> builder) {
+            if (discardReplies) {
+                return (Response<T>) DISCARDED;
+            }
+            return super.getResponse(builder);
+        }
+
+        /**
+         * 读取下一个reply（之前会写出已缓存的命令），返回false表示是错误的reply
+         */
+        boolean readReply() {
+            Object reply;
+            try {
+                reply = client.getOne();
+            } catch (JedisDataException e) {
+                reply = e;
+            }
+            if (!discardReplies) {
+                generateResponse(reply);
+            }
+            return !(reply instanceof JedisDataException);
+        }
+
+        /**
+         * 丢弃reply时，exec()/discard()仍会绕过getResponse登记Response，直接清除
+         */
+        void discarded() {
+            if (discardReplies) {
+                clean();
+            }
+        }
+    }
+
 }
@@ -1,7 +1,10 @@
 package com.yeahmobi.yedis.shard;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.yeahmobi.yedis.common.YedisException;
 import com.yeahmobi.yedis.group.GroupYedis;
@@ -9,6 +12,10 @@ import com.yeahmobi.yedis.group.GroupYedis;
 public abstract class AbstractShardingStrategy implements ShardingStrategy {
 	protected HashCodeComputingStrategy hashCodeComputingStrategy;
 	protected static final String STRING_ENCODING = "utf-8";
+	// 下标即分片的编号
+	protected final List<GroupYedis> groups;
+	// GroupYedis到分片编号，用于默认的shardIndex
+	private final Map<GroupYedis, Integer> indexes;
 
 	protected AbstractShardingStrategy(List<GroupYedis> groups,
 			HashCodeComputingStrategy hashCodeComputingStrategy) {
@@ -23,6 +30,62 @@ public abstract class AbstractShardingStrategy implements ShardingStrategy {
 		}
 
 		this.hashCodeComputingStrategy = hashCodeComputingStrategy;
+		// For the sake of random accessing performance,
+		// we should ensure the groups is an array based list.
+		this.groups = new ArrayList<GroupYedis>(groups);
+		this.indexes = new IdentityHashMap<GroupYedis, Integer>();
+		for (int i = 0; i < this.groups.size(); i++) {
+			if (!indexes.containsKey(this.groups.get(i))) {
+				indexes.put(this.groups.get(i), i);
+			}
+		}
+	}
+
+	/**
+	 * 分片数，分片的编号是 [0, size())
+	 */
+	public int size() {
+		return groups.size();
+	}
+
+	/**
+	 * key所在分片的编号，与route(key)对应的GroupYedis是同一个。<br>
+	 * 默认按route(key)的结果在groups中查找；内置的策略直接计算编号，并同时覆盖route
+	 */
+	public int shardIndex(String key) {
+		return indexOf(route(key));
+	}
+
+	public int shardIndex(byte[] key) {
+		return indexOf(route(key));
+	}
+
+	private int indexOf(GroupYedis group) {
+		Integer index = indexes.get(group);
+		if (index == null) {
+			throw new YedisException(
+					"route() returned a GroupYedis which is not in the groups.");
+		}
+		return index;
+	}
+
+	public GroupYedis getShard(int index) {
+		return groups.get(index);
+	}
+
+	protected int hash(String key) {
+		return hashCodeComputingStrategy.hash(key);
+	}
+
+	/**
+	 * 如果hashCodeComputingStrategy支持byte[]，直接计算，不再解码成String
+	 */
+	protected int hash(byte[] key) {
+		if (hashCodeComputingStrategy instanceof BinaryHashCodeComputingStrategy) {
+			return ((BinaryHashCodeComputingStrategy) hashCodeComputingStrategy)
+					.hash(key, 0, key.length);
+		}
+		return hashCodeComputingStrategy.hash(bytesToArray(key));
 	}
 
 	protected String bytesToArray(byte[] data) {
@@ -0,0 +1,1112 @@
+package com.yeahmobi.yedis.shard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import redis.clients.jedis.BinaryClient.LIST_POSITION;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.SortingParams;
+import redis.clients.jedis.Tuple;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.group.AsyncGroupYedis;
+import com.yeahmobi.yedis.group.GroupYedis;
+
+/**
+ * ShardedYedis的非阻塞版本，路由规则与ShardedYedis一致，每个命令都返回ListenableFuture。<br>
+ * 通过 {@link ShardedYedis#async()} 获取实例。
+ */
+public final class AsyncShardedYedis {
+
+    private final ShardingStrategy shardingStrategy;
+
+    AsyncShardedYedis(ShardingStrategy shardingStrategy) {
+        this.shardingStrategy = shardingStrategy;
+    }
+
+    private AsyncGroupYedis route(String key) {
+        return shardingStrategy.route(key).async();
+    }
+
+    private AsyncGroupYedis route(byte[] key) {
+        return shardingStrategy.route(key).async();
+    }
+
+    public ListenableFuture<String> set(byte[] key, byte[] value) {
+        return route(key).set(key, value);
+    }
+
+    public ListenableFuture<byte[]> get(byte[] key) {
+        return route(key).get(key);
+    }
+
+    public ListenableFuture<Boolean> exists(byte[] key) {
+        return route(key).exists(key);
+    }
+
+    public ListenableFuture<Long> persist(byte[] key) {
+        return route(key).persist(key);
+    }
+
+    public ListenableFuture<String> type(byte[] key) {
+        return route(key).type(key);
+    }
+
+    public ListenableFuture<Long> expire(byte[] key, int seconds) {
+        return route(key).expire(key, seconds);
+    }
+
+    public ListenableFuture<Long> expireAt(byte[] key, long unixTime) {
+        return route(key).expireAt(key, unixTime);
+    }
+
+    public ListenableFuture<Long> ttl(byte[] key) {
+        return route(key).ttl(key);
+    }
+
+    public ListenableFuture<Boolean> setbit(byte[] key, long offset, boolean value) {
+        return route(key).setbit(key, offset, value);
+    }
+
+    public ListenableFuture<Boolean> setbit(byte[] key, long offset, byte[] value) {
+        return route(key).setbit(key, offset, value);
+    }
+
+    public ListenableFuture<Boolean> getbit(byte[] key, long offset) {
+        return route(key).getbit(key, offset);
+    }
+
+    public ListenableFuture<Long> setrange(byte[] key, long offset, byte[] value) {
+        return route(key).setrange(key, offset, value);
+    }
+
+    public ListenableFuture<byte[]> getrange(byte[] key, long startOffset, long endOffset) {
+        return route(key).getrange(key, startOffset, endOffset);
+    }
+
+    public ListenableFuture<byte[]> getSet(byte[] key, byte[] value) {
+        return route(key).getSet(key, value);
+    }
+
+    public ListenableFuture<Long> setnx(byte[] key, byte[] value) {
+        return route(key).setnx(key, value);
+    }
+
+    public ListenableFuture<String> setex(byte[] key, int seconds, byte[] value) {
+        return route(key).setex(key, seconds, value);
+    }
+
+    public ListenableFuture<Long> decrBy(byte[] key, long integer) {
+        return route(key).decrBy(key, integer);
+    }
+
+    public ListenableFuture<Long> decr(byte[] key) {
+        return route(key).decr(key);
+    }
+
+    public ListenableFuture<Long> incrBy(byte[] key, long integer) {
+        return route(key).incrBy(key, integer);
+    }
+
+    public ListenableFuture<Double> incrByFloat(byte[] key, double value) {
+        return route(key).incrByFloat(key, value);
+    }
+
+    public ListenableFuture<Long> incr(byte[] key) {
+        return route(key).incr(key);
+    }
+
+    public ListenableFuture<Long> append(byte[] key, byte[] value) {
+        return route(key).append(key, value);
+    }
+
+    public ListenableFuture<byte[]> substr(byte[] key, int start, int end) {
+        return route(key).substr(key, start, end);
+    }
+
+    public ListenableFuture<Long> hset(byte[] key, byte[] field, byte[] value) {
+        return route(key).hset(key, field, value);
+    }
+
+    public ListenableFuture<byte[]> hget(byte[] key, byte[] field) {
+        return route(key).hget(key, field);
+    }
+
+    public ListenableFuture<Long> hsetnx(byte[] key, byte[] field, byte[] value) {
+        return route(key).hsetnx(key, field, value);
+    }
+
+    public ListenableFuture<String> hmset(byte[] key, Map<byte[], byte[]> hash) {
+        return route(key).hmset(key, hash);
+    }
+
+    public ListenableFuture<List<byte[]>> hmget(byte[] key, byte[]... fields) {
+        return route(key).hmget(key, fields);
+    }
+
+    public ListenableFuture<Long> hincrBy(byte[] key, byte[] field, long value) {
+        return route(key).hincrBy(key, field, value);
+    }
+
+    public ListenableFuture<Double> hincrByFloat(byte[] key, byte[] field, double value) {
+        return route(key).hincrByFloat(key, field, value);
+    }
+
+    public ListenableFuture<Boolean> hexists(byte[] key, byte[] field) {
+        return route(key).hexists(key, field);
+    }
+
+    public ListenableFuture<Long> hdel(byte[] key, byte[]... field) {
+        return route(key).hdel(key, field);
+    }
+
+    public ListenableFuture<Long> hlen(byte[] key) {
+        return route(key).hlen(key);
+    }
+
+    public ListenableFuture<Set<byte[]>> hkeys(byte[] key) {
+        return route(key).hkeys(key);
+    }
+
+    public ListenableFuture<List<byte[]>> hvals(byte[] key) {
+        return route(key).hvals(key);
+    }
+
+    public ListenableFuture<Map<byte[], byte[]>> hgetAll(byte[] key) {
+        return route(key).hgetAll(key);
+    }
+
+    public ListenableFuture<Long> rpush(byte[] key, byte[]... args) {
+        return route(key).rpush(key, args);
+    }
+
+    public ListenableFuture<Long> lpush(byte[] key, byte[]... args) {
+        return route(key).lpush(key, args);
+    }
+
+    public ListenableFuture<Long> llen(byte[] key) {
+        return route(key).llen(key);
+    }
+
+    public ListenableFuture<List<byte[]>> lrange(byte[] key, long start, long end) {
+        return route(key).lrange(key, start, end);
+    }
+
+    public ListenableFuture<String> ltrim(byte[] key, long start, long end) {
+        return route(key).ltrim(key, start, end);
+    }
+
+    public ListenableFuture<byte[]> lindex(byte[] key, long index) {
+        return route(key).lindex(key, index);
+    }
+
+    public ListenableFuture<String> lset(byte[] key, long index, byte[] value) {
+        return route(key).lset(key, index, value);
+    }
+
+    public ListenableFuture<Long> lrem(byte[] key, long count, byte[] value) {
+        return route(key).lrem(key, count, value);
+    }
+
+    public ListenableFuture<byte[]> lpop(byte[] key) {
+        return route(key).lpop(key);
+    }
+
+    public ListenableFuture<byte[]> rpop(byte[] key) {
+        return route(key).rpop(key);
+    }
+
+    public ListenableFuture<Long> sadd(byte[] key, byte[]... member) {
+        return route(key).sadd(key, member);
+    }
+
+    public ListenableFuture<Set<byte[]>> smembers(byte[] key) {
+        return route(key).smembers(key);
+    }
+
+    public ListenableFuture<Long> srem(byte[] key, byte[]... member) {
+        return route(key).srem(key, member);
+    }
+
+    public ListenableFuture<byte[]> spop(byte[] key) {
+        return route(key).spop(key);
+    }
+
+    public ListenableFuture<Long> scard(byte[] key) {
+        return route(key).scard(key);
+    }
+
+    public ListenableFuture<Boolean> sismember(byte[] key, byte[] member) {
+        return route(key).sismember(key, member);
+    }
+
+    public ListenableFuture<byte[]> srandmember(byte[] key) {
+        return route(key).srandmember(key);
+    }
+
+    public ListenableFuture<Long> strlen(byte[] key) {
+        return route(key).strlen(key);
+    }
+
+    public ListenableFuture<Long> zadd(byte[] key, double score, byte[] member) {
+        return route(key).zadd(key, score, member);
+    }
+
+    public ListenableFuture<Long> zadd(byte[] key, Map<byte[], Double> scoreMembers) {
+        return route(key).zadd(key, scoreMembers);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrange(byte[] key, long start, long end) {
+        return route(key).zrange(key, start, end);
+    }
+
+    public ListenableFuture<Long> zrem(byte[] key, byte[]... member) {
+        return route(key).zrem(key, member);
+    }
+
+    public ListenableFuture<Double> zincrby(byte[] key, double score, byte[] member) {
+        return route(key).zincrby(key, score, member);
+    }
+
+    public ListenableFuture<Long> zrank(byte[] key, byte[] member) {
+        return route(key).zrank(key, member);
+    }
+
+    public ListenableFuture<Long> zrevrank(byte[] key, byte[] member) {
+        return route(key).zrevrank(key, member);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrange(byte[] key, long start, long end) {
+        return route(key).zrevrange(key, start, end);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeWithScores(byte[] key, long start, long end) {
+        return route(key).zrangeWithScores(key, start, end);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeWithScores(byte[] key, long start, long end) {
+        return route(key).zrevrangeWithScores(key, start, end);
+    }
+
+    public ListenableFuture<Long> zcard(byte[] key) {
+        return route(key).zcard(key);
+    }
+
+    public ListenableFuture<Double> zscore(byte[] key, byte[] member) {
+        return route(key).zscore(key, member);
+    }
+
+    public ListenableFuture<List<byte[]>> sort(byte[] key) {
+        return route(key).sort(key);
+    }
+
+    public ListenableFuture<List<byte[]>> sort(byte[] key, SortingParams sortingParameters) {
+        return route(key).sort(key, sortingParameters);
+    }
+
+    public ListenableFuture<Long> zcount(byte[] key, double min, double max) {
+        return route(key).zcount(key, min, max);
+    }
+
+    public ListenableFuture<Long> zcount(byte[] key, byte[] min, byte[] max) {
+        return route(key).zcount(key, min, max);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, double min, double max) {
+        return route(key).zrangeByScore(key, min, max);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, byte[] min, byte[] max) {
+        return route(key).zrangeByScore(key, min, max);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, double max, double min) {
+        return route(key).zrevrangeByScore(key, max, min);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, double min, double max, int offset, int count) {
+        return route(key).zrangeByScore(key, min, max);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, byte[] max, byte[] min) {
+        return route(key).zrevrangeByScore(key, max, min);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrangeByScore(byte[] key, byte[] min, byte[] max, int offset, int count) {
+        return route(key).zrangeByScore(key, min, max, offset, count);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, double max, double min, int offset, int count) {
+        return route(key).zrevrangeByScore(key, max, min, offset, count);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, double min, double max) {
+        return route(key).zrangeByScoreWithScores(key, min, max);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, double max, double min) {
+        return route(key).zrevrangeByScoreWithScores(key, max, min);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, double min, double max, int offset,
+                                                                int count) {
+        return route(key).zrangeByScoreWithScores(key, min, max, offset, count);
+    }
+
+    public ListenableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, byte[] max, byte[] min, int offset, int count) {
+        return route(key).zrevrangeByScore(key, max, min, offset, count);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max) {
+        return route(key).zrangeByScoreWithScores(key, min, max);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min) {
+        return route(key).zrevrangeByScoreWithScores(key, max, min);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max, int offset,
+                                                                int count) {
+        return route(key).zrangeByScoreWithScores(key, min, max, offset, count);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, double max, double min, int offset,
+                                                                   int count) {
+        return route(key).zrevrangeByScoreWithScores(key, max, min, offset, count);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min, int offset,
+                                                                   int count) {
+        return route(key).zrevrangeByScoreWithScores(key, max, min, offset, count);
+    }
+
+    public ListenableFuture<Long> zremrangeByRank(byte[] key, long start, long end) {
+        return route(key).zremrangeByRank(key, start, end);
+    }
+
+    public ListenableFuture<Long> zremrangeByScore(byte[] key, double start, double end) {
+        return route(key).zremrangeByScore(key, start, end);
+    }
+
+    public ListenableFuture<Long> zremrangeByScore(byte[] key, byte[] start, byte[] end) {
+        return route(key).zremrangeByScore(key, start, end);
+    }
+
+    public ListenableFuture<Long> linsert(byte[] key, LIST_POSITION where, byte[] pivot, byte[] value) {
+        return route(key).linsert(key, where, pivot, value);
+    }
+
+    public ListenableFuture<Long> lpushx(byte[] key, byte[]... arg) {
+        return route(key).lpushx(key, arg);
+    }
+
+    public ListenableFuture<Long> rpushx(byte[] key, byte[]... arg) {
+        return route(key).rpushx(key, arg);
+    }
+
+    public ListenableFuture<List<byte[]>> blpop(byte[] arg) {
+        return route(arg).blpop(arg);
+    }
+
+    public ListenableFuture<List<byte[]>> brpop(byte[] arg) {
+        return route(arg).brpop(arg);
+    }
+
+    public ListenableFuture<Long> del(byte[] key) {
+        return route(key).del(key);
+    }
+
+    public ListenableFuture<byte[]> echo(byte[] arg) {
+        return route(arg).echo(arg);
+    }
+
+    public ListenableFuture<Long> move(byte[] key, int dbIndex) {
+        return route(key).move(key, dbIndex);
+    }
+
+    public ListenableFuture<Long> bitcount(byte[] key) {
+        return route(key).bitcount(key);
+    }
+
+    public ListenableFuture<Long> bitcount(byte[] key, long start, long end) {
+        return route(key).bitcount(key, start, end);
+    }
+
+    public ListenableFuture<Long> pfadd(byte[] key, byte[]... elements) {
+        return route(key).pfadd(key, elements);
+    }
+
+    public ListenableFuture<Long> pfcount(byte[] key) {
+        return route(key).pfcount(key);
+    }
+
+    public ListenableFuture<String> set(String key, String value) {
+        return route(key).set(key, value);
+    }
+
+    public ListenableFuture<String> set(String key, String value, String nxxx, String expx, long time) {
+        return route(key).set(key, value, nxxx, expx, time);
+    }
+
+    public ListenableFuture<String> get(String key) {
+        return route(key).get(key);
+    }
+
+    public ListenableFuture<Boolean> exists(String key) {
+        return route(key).exists(key);
+    }
+
+    public ListenableFuture<Long> persist(String key) {
+        return route(key).persist(key);
+    }
+
+    public ListenableFuture<String> type(String key) {
+        return route(key).type(key);
+    }
+
+    public ListenableFuture<Long> expire(String key, int seconds) {
+        return route(key).expire(key, seconds);
+    }
+
+    public ListenableFuture<Long> expireAt(String key, long unixTime) {
+        return route(key).expireAt(key, unixTime);
+    }
+
+    public ListenableFuture<Long> ttl(String key) {
+        return route(key).ttl(key);
+    }
+
+    public ListenableFuture<Boolean> setbit(String key, long offset, boolean value) {
+        return route(key).setbit(key, offset, value);
+    }
+
+    public ListenableFuture<Boolean> setbit(String key, long offset, String value) {
+        return route(key).setbit(key, offset, value);
+    }
+
+    public ListenableFuture<Boolean> getbit(String key, long offset) {
+        return route(key).getbit(key, offset);
+    }
+
+    public ListenableFuture<Long> setrange(String key, long offset, String value) {
+        return route(key).setrange(key, offset, value);
+    }
+
+    public ListenableFuture<String> getrange(String key, long startOffset, long endOffset) {
+        return route(key).getrange(key, startOffset, endOffset);
+    }
+
+    public ListenableFuture<String> getSet(String key, String value) {
+        return route(key).getSet(key, value);
+    }
+
+    public ListenableFuture<Long> setnx(String key, String value) {
+        return route(key).setnx(key, value);
+    }
+
+    public ListenableFuture<String> setex(String key, int seconds, String value) {
+        return route(key).setex(key, seconds, value);
+    }
+
+    public ListenableFuture<Long> decrBy(String key, long integer) {
+        return route(key).decrBy(key, integer);
+    }
+
+    public ListenableFuture<Long> decr(String key) {
+        return route(key).decr(key);
+    }
+
+    public ListenableFuture<Long> incrBy(String key, long integer) {
+        return route(key).incrBy(key, integer);
+    }
+
+    public ListenableFuture<Long> incr(String key) {
+        return route(key).incr(key);
+    }
+
+    public ListenableFuture<Long> append(String key, String value) {
+        return route(key).append(key, value);
+    }
+
+    public ListenableFuture<String> substr(String key, int start, int end) {
+        return route(key).substr(key, start, end);
+    }
+
+    public ListenableFuture<Long> hset(String key, String field, String value) {
+        return route(key).hset(key, field, value);
+    }
+
+    public ListenableFuture<String> hget(String key, String field) {
+        return route(key).hget(key, field);
+    }
+
+    public ListenableFuture<Long> hsetnx(String key, String field, String value) {
+        return route(key).hsetnx(key, field, value);
+    }
+
+    public ListenableFuture<String> hmset(String key, Map<String, String> hash) {
+        return route(key).hmset(key, hash);
+    }
+
+    public ListenableFuture<List<String>> hmget(String key, String... fields) {
+        return route(key).hmget(key, fields);
+    }
+
+    public ListenableFuture<Long> hincrBy(String key, String field, long value) {
+        return route(key).hincrBy(key, field, value);
+    }
+
+    public ListenableFuture<Boolean> hexists(String key, String field) {
+        return route(key).hexists(key, field);
+    }
+
+    public ListenableFuture<Long> hdel(String key, String... field) {
+        return route(key).hdel(key, field);
+    }
+
+    public ListenableFuture<Long> hlen(String key) {
+        return route(key).hlen(key);
+    }
+
+    public ListenableFuture<Set<String>> hkeys(String key) {
+        return route(key).hkeys(key);
+    }
+
+    public ListenableFuture<List<String>> hvals(String key) {
+        return route(key).hvals(key);
+    }
+
+    public ListenableFuture<Map<String, String>> hgetAll(String key) {
+        return route(key).hgetAll(key);
+    }
+
+    public ListenableFuture<Long> rpush(String key, String... string) {
+        return route(key).rpush(key, string);
+    }
+
+    public ListenableFuture<Long> lpush(String key, String... string) {
+        return route(key).lpush(key, string);
+    }
+
+    public ListenableFuture<Long> llen(String key) {
+        return route(key).llen(key);
+    }
+
+    public ListenableFuture<List<String>> lrange(String key, long start, long end) {
+        return route(key).lrange(key, start, end);
+    }
+
+    public ListenableFuture<String> ltrim(String key, long start, long end) {
+        return route(key).ltrim(key, start, end);
+    }
+
+    public ListenableFuture<String> lindex(String key, long index) {
+        return route(key).lindex(key, index);
+    }
+
+    public ListenableFuture<String> lset(String key, long index, String value) {
+        return route(key).lset(key, index, value);
+    }
+
+    public ListenableFuture<Long> lrem(String key, long count, String value) {
+        return route(key).lrem(key, count, value);
+    }
+
+    public ListenableFuture<String> lpop(String key) {
+        return route(key).lpop(key);
+    }
+
+    public ListenableFuture<String> rpop(String key) {
+        return route(key).rpop(key);
+    }
+
+    public ListenableFuture<Long> sadd(String key, String... member) {
+        return route(key).sadd(key, member);
+    }
+
+    public ListenableFuture<Set<String>> smembers(String key) {
+        return route(key).smembers(key);
+    }
+
+    public ListenableFuture<Long> srem(String key, String... member) {
+        return route(key).srem(key, member);
+    }
+
+    public ListenableFuture<String> spop(String key) {
+        return route(key).spop(key);
+    }
+
+    public ListenableFuture<Long> scard(String key) {
+        return route(key).scard(key);
+    }
+
+    public ListenableFuture<Boolean> sismember(String key, String member) {
+        return route(key).sismember(key, member);
+    }
+
+    public ListenableFuture<String> srandmember(String key) {
+        return route(key).srandmember(key);
+    }
+
+    public ListenableFuture<Long> strlen(String key) {
+        return route(key).strlen(key);
+    }
+
+    public ListenableFuture<Long> zadd(String key, double score, String member) {
+        return route(key).zadd(key, score, member);
+    }
+
+    public ListenableFuture<Long> zadd(String key, Map<String, Double> scoreMembers) {
+        return route(key).zadd(key, scoreMembers);
+    }
+
+    public ListenableFuture<Set<String>> zrange(String key, long start, long end) {
+        return route(key).zrange(key, start, end);
+    }
+
+    public ListenableFuture<Long> zrem(String key, String... member) {
+        return route(key).zrem(key, member);
+    }
+
+    public ListenableFuture<Double> zincrby(String key, double score, String member) {
+        return route(key).zincrby(key, score, member);
+    }
+
+    public ListenableFuture<Long> zrank(String key, String member) {
+        return route(key).zrank(key, member);
+    }
+
+    public ListenableFuture<Long> zrevrank(String key, String member) {
+        return route(key).zrevrank(key, member);
+    }
+
+    public ListenableFuture<Set<String>> zrevrange(String key, long start, long end) {
+        return route(key).zrevrange(key, start, end);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeWithScores(String key, long start, long end) {
+        return route(key).zrangeWithScores(key, start, end);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeWithScores(String key, long start, long end) {
+        return route(key).zrevrangeWithScores(key, start, end);
+    }
+
+    public ListenableFuture<Long> zcard(String key) {
+        return route(key).zcard(key);
+    }
+
+    public ListenableFuture<Double> zscore(String key, String member) {
+        return route(key).zscore(key, member);
+    }
+
+    public ListenableFuture<List<String>> sort(String key) {
+        return route(key).sort(key);
+    }
+
+    public ListenableFuture<List<String>> sort(String key, SortingParams sortingParameters) {
+        return route(key).sort(key, sortingParameters);
+    }
+
+    public ListenableFuture<Long> zcount(String key, double min, double max) {
+        return route(key).zcount(key, min, max);
+    }
+
+    public ListenableFuture<Long> zcount(String key, String min, String max) {
+        return route(key).zcount(key, min, max);
+    }
+
+    public ListenableFuture<Set<String>> zrangeByScore(String key, double min, double max) {
+        return route(key).zrangeByScore(key, min, max);
+    }
+
+    public ListenableFuture<Set<String>> zrangeByScore(String key, String min, String max) {
+        return route(key).zrangeByScore(key, min, max);
+    }
+
+    public ListenableFuture<Set<String>> zrevrangeByScore(String key, double max, double min) {
+        return route(key).zrevrangeByScore(key, max, min);
+    }
+
+    public ListenableFuture<Set<String>> zrangeByScore(String key, double min, double max, int offset, int count) {
+        return route(key).zrangeByScore(key, min, max, offset, count);
+    }
+
+    public ListenableFuture<Set<String>> zrevrangeByScore(String key, String max, String min) {
+        return route(key).zrevrangeByScore(key, max, min);
+    }
+
+    public ListenableFuture<Set<String>> zrangeByScore(String key, String min, String max, int offset, int count) {
+        return route(key).zrangeByScore(key, min, max);
+    }
+
+    public ListenableFuture<Set<String>> zrevrangeByScore(String key, double max, double min, int offset, int count) {
+        return route(key).zrevrangeByScore(key, max, min, offset, count);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, double min, double max) {
+        return route(key).zrangeByScoreWithScores(key, min, max);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, double max, double min) {
+        return route(key).zrevrangeByScoreWithScores(key, max, min);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, double min, double max, int offset,
+                                                                int count) {
+        return route(key).zrangeByScoreWithScores(key, min, max, offset, count);
+    }
+
+    public ListenableFuture<Set<String>> zrevrangeByScore(String key, String max, String min, int offset, int count) {
+        return route(key).zrevrangeByScore(key, max, min, offset, count);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, String min, String max) {
+        return route(key).zrangeByScoreWithScores(key, min, max);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, String max, String min) {
+        return route(key).zrevrangeByScoreWithScores(key, max, min);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, String min, String max, int offset,
+                                                                int count) {
+        return route(key).zrangeByScoreWithScores(key, min, max, offset, count);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, double max, double min, int offset,
+                                                                   int count) {
+        return route(key).zrevrangeByScoreWithScores(key, max, min, offset, count);
+    }
+
+    public ListenableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, String max, String min, int offset,
+                                                                   int count) {
+        return route(key).zrevrangeByScoreWithScores(key, max, min, offset, count);
+    }
+
+    public ListenableFuture<Long> zremrangeByRank(String key, long start, long end) {
+        return route(key).zremrangeByRank(key, start, end);
+    }
+
+    public ListenableFuture<Long> zremrangeByScore(String key, double start, double end) {
+        return route(key).zremrangeByScore(key, start, end);
+    }
+
+    public ListenableFuture<Long> zremrangeByScore(String key, String start, String end) {
+        return route(key).zremrangeByScore(key, start, end);
+    }
+
+    public ListenableFuture<Long> linsert(String key, LIST_POSITION where, String pivot, String value) {
+        return route(key).linsert(key, where, pivot, value);
+    }
+
+    public ListenableFuture<Long> lpushx(String key, String... string) {
+        return route(key).lpushx(key, string);
+    }
+
+    public ListenableFuture<Long> rpushx(String key, String... string) {
+        return route(key).rpushx(key, string);
+    }
+
+    public ListenableFuture<List<String>> blpop(String arg) {
+        return route(arg).blpop(arg);
+    }
+
+    public ListenableFuture<List<String>> brpop(String arg) {
+        return route(arg).brpop(arg);
+    }
+
+    public ListenableFuture<Long> del(String key) {
+        return route(key).del(key);
+    }
+
+    public ListenableFuture<String> echo(String string) {
+        return route(string).echo(string);
+    }
+
+    public ListenableFuture<Long> move(String key, int dbIndex) {
+        return route(key).move(key, dbIndex);
+    }
+
+    public ListenableFuture<Long> bitcount(String key) {
+        return route(key).bitcount(key);
+    }
+
+    public ListenableFuture<Long> bitcount(String key, long start, long end) {
+        return route(key).bitcount(key, start, end);
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<Entry<String, String>>> hscan(String key, int cursor) {
+        return route(key).hscan(key, cursor);
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<String>> sscan(String key, int cursor) {
+        return route(key).sscan(key, cursor);
+    }
+
+    @Deprecated
+    public ListenableFuture<ScanResult<Tuple>> zscan(String key, int cursor) {
+        return route(key).zscan(key, cursor);
+    }
+
+    public ListenableFuture<ScanResult<Entry<String, String>>> hscan(String key, String cursor) {
+        return route(key).hscan(key, cursor);
+    }
+
+    public ListenableFuture<ScanResult<String>> sscan(String key, String cursor) {
+        return route(key).sscan(key, cursor);
+    }
+
+    public ListenableFuture<ScanResult<Tuple>> zscan(String key, String cursor) {
+        return route(key).zscan(key, cursor);
+    }
+
+    public ListenableFuture<Long> pfadd(String key, String... elements) {
+        return route(key).pfadd(key, elements);
+    }
+
+    public ListenableFuture<Long> pfcount(String key) {
+        return route(key).pfcount(key);
+    }
+
+    /**
+     * 跨shard的MGET：按shard分组，每个shard并行发送一个MGET，结果按keys的顺序返回
+     */
+    public ListenableFuture<List<String>> mget(String... keys) {
+        if (keys.length == 0) {
+            return Futures.immediateFuture(Collections.<String> emptyList());
+        }
+        Map<GroupYedis, List<Integer>> shards = groupByShard(keys, 1);
+        if (shards.size() == 1) {
+            return shards.keySet().iterator().next().async().mget(keys);
+        }
+        List<ListenableFuture<List<String>>> futures = new ArrayList<ListenableFuture<List<String>>>(shards.size());
+        for (Entry<GroupYedis, List<Integer>> entry : shards.entrySet()) {
+            String[] shardKeys = select(keys, entry.getValue(), 1, new String[entry.getValue().size()]);
+            futures.add(entry.getKey().async().mget(shardKeys));
+        }
+        return merge(keys.length, shards.values(), futures);
+    }
+
+    /**
+     * 跨shard的MGET：按shard分组，每个shard并行发送一个MGET，结果按keys的顺序返回
+     */
+    public ListenableFuture<List<byte[]>> mget(byte[]... keys) {
+        if (keys.length == 0) {
+            return Futures.immediateFuture(Collections.<byte[]> emptyList());
+        }
+        Map<GroupYedis, List<Integer>> shards = groupByShard(keys, 1);
+        if (shards.size() == 1) {
+            return shards.keySet().iterator().next().async().mget(keys);
+        }
+        List<ListenableFuture<List<byte[]>>> futures = new ArrayList<ListenableFuture<List<byte[]>>>(shards.size());
+        for (Entry<GroupYedis, List<Integer>> entry : shards.entrySet()) {
+            byte[][] shardKeys = select(keys, entry.getValue(), 1, new byte[entry.getValue().size()][]);
+            futures.add(entry.getKey().async().mget(shardKeys));
+        }
+        return merge(keys.length, shards.values(), futures);
+    }
+
+    /**
+     * 跨shard的MSET：按shard分组，每个shard并行发送一个MSET（各shard之间不是原子的）
+     */
+    public ListenableFuture<String> mset(String... keysvalues) {
+        checkKeysValues(keysvalues.length);
+        Map<GroupYedis, List<Integer>> shards = groupByShard(keysvalues, 2);
+        if (shards.size() == 1) {
+            return shards.keySet().iterator().next().async().mset(keysvalues);
+        }
+        List<ListenableFuture<String>> futures = new ArrayList<ListenableFuture<String>>(shards.size());
+        for (Entry<GroupYedis, List<Integer>> entry : shards.entrySet()) {
+            String[] shardKeysValues = select(keysvalues, entry.getValue(), 2, new String[entry.getValue().size() * 2]);
+            futures.add(entry.getKey().async().mset(shardKeysValues));
+        }
+        return first(futures);
+    }
+
+    /**
+     * 跨shard的MSET：按shard分组，每个shard并行发送一个MSET（各shard之间不是原子的）
+     */
+    public ListenableFuture<String> mset(byte[]... keysvalues) {
+        checkKeysValues(keysvalues.length);
+        Map<GroupYedis, List<Integer>> shards = groupByShard(keysvalues, 2);
+        if (shards.size() == 1) {
+            return shards.keySet().iterator().next().async().mset(keysvalues);
+        }
+        List<ListenableFuture<String>> futures = new ArrayList<ListenableFuture<String>>(shards.size());
+        for (Entry<GroupYedis, List<Integer>> entry : shards.entrySet()) {
+            byte[][] shardKeysValues = select(keysvalues, entry.getValue(), 2,
+                                              new byte[entry.getValue().size() * 2][]);
+            futures.add(entry.getKey().async().mset(shardKeysValues));
+        }
+        return first(futures);
+    }
+
+    /**
+     * 跨shard的DEL：按shard分组，每个shard并行发送一个DEL，返回删除的key总数
+     */
+    public ListenableFuture<Long> del(String... keys) {
+        Map<GroupYedis, List<Integer>> shards = groupByShard(keys, 1);
+        List<ListenableFuture<Long>> futures = new ArrayList<ListenableFuture<Long>>(shards.size());
+        for (Entry<GroupYedis, List<Integer>> entry : shards.entrySet()) {
+            futures.add(entry.getKey().async().del(select(keys, entry.getValue(), 1,
+                                                          new String[entry.getValue().size()])));
+        }
+        return sum(futures);
+    }
+
+    /**
+     * 跨shard的DEL：按shard分组，每个shard并行发送一个DEL，返回删除的key总数
+     */
+    public ListenableFuture<Long> del(byte[]... keys) {
+        Map<GroupYedis, List<Integer>> shards = groupByShard(keys, 1);
+        List<ListenableFuture<Long>> futures = new ArrayList<ListenableFuture<Long>>(shards.size());
+        for (Entry<GroupYedis, List<Integer>> entry : shards.entrySet()) {
+            futures.add(entry.getKey().async().del(select(keys, entry.getValue(), 1,
+                                                          new byte[entry.getValue().size()][])));
+        }
+        return sum(futures);
+    }
+
+    /**
+     * 返回存在的key的个数。redis 3.0之前EXISTS只支持单个key，因此每个key单独发送，所有key并行执行
+     */
+    public ListenableFuture<Long> exists(String... keys) {
+        List<ListenableFuture<Boolean>> futures = new ArrayList<ListenableFuture<Boolean>>(keys.length);
+        for (String key : keys) {
+            futures.add(route(key).exists(key));
+        }
+        return count(futures);
+    }
+
+    /**
+     * 返回存在的key的个数。redis 3.0之前EXISTS只支持单个key，因此每个key单独发送，所有key并行执行
+     */
+    public ListenableFuture<Long> exists(byte[]... keys) {
+        List<ListenableFuture<Boolean>> futures = new ArrayList<ListenableFuture<Boolean>>(keys.length);
+        for (byte[] key : keys) {
+            futures.add(route(key).exists(key));
+        }
+        return count(futures);
+    }
+
+    /**
+     * 按shard分组，记录每个key在参数中的位置；step为2时参数是key value交替的
+     */
+    private Map<GroupYedis, List<Integer>> groupByShard(String[] args, int step) {
+        Map<GroupYedis, List<Integer>> shards = new LinkedHashMap<GroupYedis, List<Integer>>();
+        for (int i = 0; i < args.length; i += step) {
+            add(shards, shardingStrategy.route(args[i]), i);
+        }
+        return shards;
+    }
+
+    private Map<GroupYedis, List<Integer>> groupByShard(byte[][] args, int step) {
+        Map<GroupYedis, List<Integer>> shards = new LinkedHashMap<GroupYedis, List<Integer>>();
+        for (int i = 0; i < args.length; i += step) {
+            add(shards, shardingStrategy.route(args[i]), i);
+        }
+        return shards;
+    }
+
+    private static void add(Map<GroupYedis, List<Integer>> shards, GroupYedis group, int position) {
+        List<Integer> positions = shards.get(group);
+        if (positions == null) {
+            positions = new ArrayList<Integer>();
+            shards.put(group, positions);
+        }
+        positions.add(position);
+    }
+
+    private static <T> T[] select(T[] args, List<Integer> positions, int step, T[] selected) {
+        int i = 0;
+        for (Integer position : positions) {
+            for (int j = 0; j < step; j++) {
+                selected[i++] = args[position + j];
+            }
+        }
+        return selected;
+    }
+
+    private static void checkKeysValues(int length) {
+        if (length == 0 || length % 2 != 0) {
+            throw new IllegalArgumentException("Arguments must be key value pairs.");
+        }
+    }
+
+    /**
+     * 按位置把各shard的结果合并回原来的顺序
+     */
+    private static <T> ListenableFuture<List<T>> merge(final int size, final Collection<List<Integer>> positions,
+                                                       List<ListenableFuture<List<T>>> futures) {
+        return Futures.transform(Futures.allAsList(futures), new Function<List<List<T>>, List<T>>() {
+
+            @Override
+            public List<T> apply(List<List<T>> results) {
+                @SuppressWarnings("unchecked")
+                T[] merged = (T[]) new Object[size];
+                Iterator<List<Integer>> it = positions.iterator();
+                for (List<T> result : results) {
+                    List<Integer> shardPositions = it.next();
+                    for (int i = 0; i < shardPositions.size(); i++) {
+                        merged[shardPositions.get(i)] = result.get(i);
+                    }
+                }
+                return Arrays.asList(merged);
+            }
+        });
+    }
+
+    private static ListenableFuture<String> first(List<ListenableFuture<String>> futures) {
+        return Futures.transform(Futures.allAsList(futures), new Function<List<String>, String>() {
+
+            @Override
+            public String apply(List<String> results) {
+                return results.get(0);
+            }
+        });
+    }
+
+    private static ListenableFuture<Long> sum(List<ListenableFuture<Long>> futures) {
+        return Futures.transform(Futures.allAsList(futures), new Function<List<Long>, Long>() {
+
+            @Override
+            public Long apply(List<Long> results) {
+                long sum = 0;
+                for (Long result : results) {
+                    sum += result;
+                }
+                return sum;
+            }
+        });
+    }
+
+    private static ListenableFuture<Long> count(List<ListenableFuture<Boolean>> futures) {
+        return Futures.transform(Futures.allAsList(futures), new Function<List<Boolean>, Long>() {
+
+            @Override
+            public Long apply(List<Boolean> results) {
+                long count = 0;
+                for (Boolean result : results) {
+                    if (Boolean.TRUE.equals(result)) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+        });
+    }
+
+}
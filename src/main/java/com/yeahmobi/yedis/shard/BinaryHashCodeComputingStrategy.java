@@ -0,0 +1,11 @@
+package com.yeahmobi.yedis.shard;
+
+/**
+ * 支持直接对byte[]计算hash的HashCodeComputingStrategy，二进制key路由时不需要先解码成String。<br>
+ * 实现必须保证：hash(key.getBytes("UTF-8"), 0, len) == hash(key)，这样String和byte[]的key总是路由到同一个shard。
+ */
+public interface BinaryHashCodeComputingStrategy extends HashCodeComputingStrategy {
+
+	int hash(byte[] key, int offset, int length);
+
+}
@@ -0,0 +1,153 @@
+package com.yeahmobi.yedis.shard;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.yeahmobi.yedis.common.YedisException;
+import com.yeahmobi.yedis.group.GroupYedis;
+
+/**
+ * ketama风格的一致性hash：每个GroupYedis在环上有virtualNodes个虚拟节点，增加一个shard只会迁移约1/N的key。<br>
+ * 虚拟节点按GroupYedis在列表中的位置命名（SHARD-i-NODE-n），因此扩容时新的GroupYedis必须追加在列表末尾。
+ * 与ketama一致，每个MD5摘要产生4个点，virtualNodes会向上取整为4的倍数。
+ */
+public class ConsistentHashingShardingStrategy extends AbstractShardingStrategy {
+
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private static final int INDEX_BITS = 20;
+
+    // 环上的点（无符号32位hash），升序
+    private final long[]           points;
+
+    // points[i]对应的分片编号
+    private final int[]            owners;
+
+    public ConsistentHashingShardingStrategy(List<GroupYedis> groups,
+                                             HashCodeComputingStrategy hashCodeComputingStrategy) {
+        this(groups, hashCodeComputingStrategy, DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashingShardingStrategy(List<GroupYedis> groups,
+                                             HashCodeComputingStrategy hashCodeComputingStrategy, int virtualNodes) {
+        super(groups, hashCodeComputingStrategy);
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes must be positive.");
+        }
+
+        int digests = (virtualNodes + 3) / 4;
+        long[] ring = new long[groups.size() * digests * 4];
+        int n = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            for (int d = 0; d < digests; d++) {
+                byte[] digest = md5("SHARD-" + i + "-NODE-" + d);
+                for (int k = 0; k < 4; k++) {
+                    // hash在高位，GroupYedis的下标在低20位，排序后相同hash的点顺序也是确定的
+                    ring[n++] = (ketamaHash(digest, k) << INDEX_BITS) | i;
+                }
+            }
+        }
+        Arrays.sort(ring);
+
+        this.points = new long[ring.length];
+        this.owners = new int[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            points[i] = ring[i] >>> INDEX_BITS;
+            owners[i] = (int) (ring[i] & ((1 << INDEX_BITS) - 1));
+        }
+    }
+
+    @Override
+    public GroupYedis route(String key) {
+        return groups.get(shardIndex(key));
+    }
+
+    @Override
+    public GroupYedis route(byte[] key) {
+        return groups.get(shardIndex(key));
+    }
+
+    @Override
+    public int shardIndex(String key) {
+        return locate(hash(key));
+    }
+
+    @Override
+    public int shardIndex(byte[] key) {
+        return locate(hash(key));
+    }
+
+    /**
+     * 顺时针找到第一个不小于hash的点
+     */
+    private int locate(int hashCode) {
+        long hash = mix(hashCode) & 0xFFFFFFFFL;
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == points.length) {
+                index = 0;
+            }
+        } else {
+            // 相同的点取第一个
+            while (index > 0 && points[index - 1] == hash) {
+                index--;
+            }
+        }
+        return owners[index];
+    }
+
+    /**
+     * HashCodeComputingStrategy（如String.hashCode）的结果在高位分布不均匀，先打散再映射到环上
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static long ketamaHash(byte[] digest, int k) {
+        return ((long) (digest[3 + k * 4] & 0xFF) << 24) | ((long) (digest[2 + k * 4] & 0xFF) << 16)
+               | ((long) (digest[1 + k * 4] & 0xFF) << 8) | (digest[k * 4] & 0xFF);
+    }
+
+    private static byte[] md5(String node) {
+        try {
+            MessageDigest md5 = MessageDigest.getInstance("MD5");
+            return md5.digest(node.getBytes(STRING_ENCODING));
+        } catch (NoSuchAlgorithmException e) {
+            throw new YedisException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new YedisException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (GroupYedis group : groups) {
+            try {
+                group.close();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+    }
+
+    @Override
+    public void flushAll() {
+        for (GroupYedis group : groups) {
+            try {
+                group.flushAll();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+    }
+
+}
@@ -9,21 +9,28 @@ import com.yeahmobi.yedis.group.GroupYedis;
  */
 public class DummyShardingStrategy extends AbstractShardingStrategy {
 
-    private List<GroupYedis> groups;
-
     public DummyShardingStrategy(List<GroupYedis> groups, HashCodeComputingStrategy hashCodeComputingStrategy) {
         super(groups, hashCodeComputingStrategy);
-        this.groups = groups;
     }
 
     @Override
     public GroupYedis route(String key) {
-        return groups.get(0);
+        return groups.get(shardIndex(key));
     }
 
     @Override
     public GroupYedis route(byte[] key) {
-        return groups.get(0);
+        return groups.get(shardIndex(key));
+    }
+
+    @Override
+    public int shardIndex(String key) {
+        return 0;
+    }
+
+    @Override
+    public int shardIndex(byte[] key) {
+        return 0;
     }
 
     @Override
@@ -0,0 +1,117 @@
+package com.yeahmobi.yedis.shard;
+
+/**
+ * MurmurHash3（x86_32），对key的UTF-8编码计算hash，结果与Guava的Hashing.murmur3_32()一致。<br>
+ * String的key在计算时逐个字符编码，byte[]的key直接计算，两者都不分配内存。
+ */
+public class MurmurHashCodeComputingStrategy implements BinaryHashCodeComputingStrategy {
+
+    private static final int C1 = 0xcc9e2d51;
+
+    private static final int C2 = 0x1b873593;
+
+    private final int        seed;
+
+    public MurmurHashCodeComputingStrategy() {
+        this(0);
+    }
+
+    public MurmurHashCodeComputingStrategy(int seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public int hash(byte[] key, int offset, int length) {
+        int h = seed;
+        int end = offset + (length & ~3);
+        for (int i = offset; i < end; i += 4) {
+            int k = (key[i] & 0xFF) | ((key[i + 1] & 0xFF) << 8) | ((key[i + 2] & 0xFF) << 16) | (key[i + 3] << 24);
+            h = mixH(h, mixK(k));
+        }
+        int tail = length & 3;
+        if (tail > 0) {
+            int k = 0;
+            if (tail >= 3) {
+                k ^= (key[end + 2] & 0xFF) << 16;
+            }
+            if (tail >= 2) {
+                k ^= (key[end + 1] & 0xFF) << 8;
+            }
+            k ^= key[end] & 0xFF;
+            h ^= mixK(k);
+        }
+        return fmix(h ^ length);
+    }
+
+    @Override
+    public int hash(String key) {
+        int h = seed;
+        int k = 0;
+        int shift = 0;
+        int length = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            // 当前字符的UTF-8编码，按字节从低位到高位排列
+            int utf8;
+            int bytes;
+            if (c < 0x80) {
+                utf8 = c;
+                bytes = 1;
+            } else if (c < 0x800) {
+                utf8 = (0xC0 | (c >>> 6)) | ((0x80 | (c & 0x3F)) << 8);
+                bytes = 2;
+            } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+                utf8 = (0xE0 | (c >>> 12)) | ((0x80 | ((c >>> 6) & 0x3F)) << 8) | ((0x80 | (c & 0x3F)) << 16);
+                bytes = 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < key.length()
+                       && Character.isLowSurrogate(key.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, key.charAt(++i));
+                utf8 = (0xF0 | (cp >>> 18)) | ((0x80 | ((cp >>> 12) & 0x3F)) << 8)
+                       | ((0x80 | ((cp >>> 6) & 0x3F)) << 16) | ((0x80 | (cp & 0x3F)) << 24);
+                bytes = 4;
+            } else {
+                // 与String.getBytes("UTF-8")一致，不成对的surrogate编码为'?'
+                utf8 = '?';
+                bytes = 1;
+            }
+            for (int j = 0; j < bytes; j++) {
+                k |= ((utf8 >>> (j * 8)) & 0xFF) << shift;
+                shift += 8;
+                if (shift == 32) {
+                    h = mixH(h, mixK(k));
+                    k = 0;
+                    shift = 0;
+                }
+            }
+            length += bytes;
+        }
+        if (shift > 0) {
+            h ^= mixK(k);
+        }
+        return fmix(h ^ length);
+    }
+
+    private static int mixK(int k) {
+        k *= C1;
+        k = Integer.rotateLeft(k, 15);
+        k *= C2;
+        return k;
+    }
+
+    private static int mixH(int h, int k) {
+        h ^= k;
+        h = Integer.rotateLeft(h, 13);
+        h = h * 5 + 0xe6546b64;
+        return h;
+    }
+
+    private static int fmix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+}
@@ -1,35 +1,81 @@
 package com.yeahmobi.yedis.shard;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import redis.clients.jedis.BinaryClient.LIST_POSITION;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.SortingParams;
 import redis.clients.jedis.Tuple;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.common.YedisException;
 import com.yeahmobi.yedis.group.GroupYedis;
+import com.yeahmobi.yedis.group.NearCache;
+import com.yeahmobi.yedis.group.NearCacheStats;
 import com.yeahmobi.yedis.pipeline.ShardedYedisPipeline;
+import com.yeahmobi.yedis.pipeline.StreamingConfig;
 
 /**
  * @author Leo.Liang
  */
 public class ShardedYedis {
 
-    private ShardingStrategy shardingStrategy;
+    private ShardingStrategy  shardingStrategy;
+
+    private List<GroupYedis>  groups;
+
+    private AsyncShardedYedis async;
 
     public ShardedYedis(List<GroupYedis> groups, ShardingAlgorithm algo,
                         HashCodeComputingStrategy hashCodeComputingStrategy) {
         this.shardingStrategy = ShardingStrategyFactory.createShardingStrategy(groups, algo, hashCodeComputingStrategy);
+        this.async = new AsyncShardedYedis(shardingStrategy);
+        this.groups = new ArrayList<GroupYedis>(groups);
+    }
+
+    /**
+     * @param virtualNodes 每个GroupYedis的虚拟节点数，仅对CONSISTENT_HASH有效
+     */
+    public ShardedYedis(List<GroupYedis> groups, ShardingAlgorithm algo,
+                        HashCodeComputingStrategy hashCodeComputingStrategy, int virtualNodes) {
+        this.shardingStrategy = ShardingStrategyFactory.createShardingStrategy(groups, algo, hashCodeComputingStrategy,
+                                                                               virtualNodes);
+        this.async = new AsyncShardedYedis(shardingStrategy);
+        this.groups = new ArrayList<GroupYedis>(groups);
+    }
+
+    /**
+     * 返回非阻塞的ShardedYedis，与当前ShardedYedis共享连接，每个命令返回ListenableFuture
+     */
+    public AsyncShardedYedis async() {
+        return async;
     }
 
     public void close() {
         this.shardingStrategy.close();
     }
 
+    /**
+     * 所有shard的近端缓存统计之和；没有shard开启近端缓存时返回null
+     */
+    public NearCacheStats getNearCacheStats() {
+        NearCacheStats stats = null;
+        for (GroupYedis group : groups) {
+            NearCache nearCache = group.getNearCache();
+            if (nearCache != null) {
+                stats = stats == null ? nearCache.stats() : stats.plus(nearCache.stats());
+            }
+        }
+        return stats;
+    }
+
     private GroupYedis route(String key) {
         return shardingStrategy.route(key);
     }
@@ -42,6 +88,23 @@ public class ShardedYedis {
         return new ShardedYedisPipeline(shardingStrategy);
     }
 
+    /**
+     * @param executor 用于并行读取各shard的reply，reply较大、解析耗时较多时使用
+     */
+    public ShardedYedisPipeline pipeline(Executor executor) {
+        return new ShardedYedisPipeline(shardingStrategy, executor);
+    }
+
+    /**
+     * 流式pipeline：每个shard的pipeline按streaming的配置自动写出和读取reply，不支持syncAndReturnAll()
+     */
+    public ShardedYedisPipeline pipeline(StreamingConfig streaming) {
+        if (streaming == null) {
+            throw new IllegalArgumentException("Argument cannot be null.");
+        }
+        return new ShardedYedisPipeline(shardingStrategy, null, streaming);
+    }
+
     public String set(byte[] key, byte[] value) {
         return route(key).set(key, value);
     }
@@ -876,5 +939,81 @@ public class ShardedYedis {
     public void flushAll() {
         shardingStrategy.flushAll();
     }
-    
+
+    /**
+     * 跨shard的MGET，各shard并行执行，结果按keys的顺序返回
+     */
+    public List<String> mget(String... keys) {
+        return getResult(async.mget(keys));
+    }
+
+    /**
+     * 跨shard的MGET，各shard并行执行，结果按keys的顺序返回
+     */
+    public List<byte[]> mget(byte[]... keys) {
+        return getResult(async.mget(keys));
+    }
+
+    /**
+     * 跨shard的MSET，各shard并行执行，各shard之间不是原子的
+     */
+    public String mset(String... keysvalues) {
+        return getResult(async.mset(keysvalues));
+    }
+
+    /**
+     * 跨shard的MSET，各shard并行执行，各shard之间不是原子的
+     */
+    public String mset(byte[]... keysvalues) {
+        return getResult(async.mset(keysvalues));
+    }
+
+    /**
+     * 跨shard的DEL，各shard并行执行，返回删除的key总数
+     */
+    public Long del(String... keys) {
+        return getResult(async.del(keys));
+    }
+
+    /**
+     * 跨shard的DEL，各shard并行执行，返回删除的key总数
+     */
+    public Long del(byte[]... keys) {
+        return getResult(async.del(keys));
+    }
+
+    /**
+     * 返回存在的key的个数，所有key并行执行
+     */
+    public Long exists(String... keys) {
+        return getResult(async.exists(keys));
+    }
+
+    /**
+     * 返回存在的key的个数，所有key并行执行
+     */
+    public Long exists(byte[]... keys) {
+        return getResult(async.exists(keys));
+    }
+
+    /**
+     * 等待跨shard操作的结果，每个shard上的操作由各自的Yedis控制超时
+     */
+    private static <T> T getResult(ListenableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            // 取消会传递到各shard上还没有完成的操作
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new YedisException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof YedisException) {
+                throw (YedisException) cause;
+            }
+            throw new YedisException(cause.getMessage(), cause);
+        }
+    }
+
 }
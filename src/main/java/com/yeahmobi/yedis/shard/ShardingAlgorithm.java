@@ -2,5 +2,6 @@ package com.yeahmobi.yedis.shard;
 
 public enum ShardingAlgorithm {
 	SIMPLE_HASH, //
+	CONSISTENT_HASH, // ketama风格的一致性hash，扩容时只迁移约1/N的key
 	;
 }
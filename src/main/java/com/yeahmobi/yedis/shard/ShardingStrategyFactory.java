@@ -13,11 +13,27 @@ public class ShardingStrategyFactory {
 	public static ShardingStrategy createShardingStrategy(
 			List<GroupYedis> groups, ShardingAlgorithm algo,
 			HashCodeComputingStrategy hashCodeComputingStrategy) {
+		return createShardingStrategy(groups, algo, hashCodeComputingStrategy,
+				ConsistentHashingShardingStrategy.DEFAULT_VIRTUAL_NODES);
+	}
+
+	/**
+	 * @param virtualNodes 每个GroupYedis的虚拟节点数，仅对CONSISTENT_HASH有效
+	 */
+	public static ShardingStrategy createShardingStrategy(
+			List<GroupYedis> groups, ShardingAlgorithm algo,
+			HashCodeComputingStrategy hashCodeComputingStrategy,
+			int virtualNodes) {
 		if (algo == ShardingAlgorithm.SIMPLE_HASH) {
 			return new SimpleHashingShardingStrategy(groups,
 					hashCodeComputingStrategy);
 		}
 
+		if (algo == ShardingAlgorithm.CONSISTENT_HASH) {
+			return new ConsistentHashingShardingStrategy(groups,
+					hashCodeComputingStrategy, virtualNodes);
+		}
+
 		throw new IllegalArgumentException("Unsupported sharding algorithm.");
 	}
 }
@@ -1,6 +1,5 @@
 package com.yeahmobi.yedis.shard;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import com.yeahmobi.yedis.group.GroupYedis;
@@ -10,26 +9,38 @@ import com.yeahmobi.yedis.group.GroupYedis;
  */
 public class SimpleHashingShardingStrategy extends AbstractShardingStrategy {
 
-    private ArrayList<GroupYedis> groups;
-    private int                   size = 0;
+    private int size = 0;
 
     public SimpleHashingShardingStrategy(List<GroupYedis> groups, HashCodeComputingStrategy hashCodeComputingStrategy) {
         super(groups, hashCodeComputingStrategy);
-        // For the sake of random accessing performance,
-        // we should ensure the groups is an array based list.
-        this.groups = new ArrayList<GroupYedis>(groups);
         this.size = this.groups.size();
     }
 
     @Override
     public GroupYedis route(String key) {
-        int hash = Math.abs(this.hashCodeComputingStrategy.hash(key));
-        return this.groups.get(hash % size);
+        return groups.get(shardIndex(key));
     }
 
     @Override
     public GroupYedis route(byte[] key) {
-        return this.groups.get(this.hashCodeComputingStrategy.hash(bytesToArray(key)) % size);
+        return groups.get(shardIndex(key));
+    }
+
+    @Override
+    public int shardIndex(String key) {
+        return index(hash(key));
+    }
+
+    @Override
+    public int shardIndex(byte[] key) {
+        return index(hash(key));
+    }
+
+    /**
+     * 与原来的Math.abs(hash) % size结果相同，但hash为Integer.MIN_VALUE时也不会得到负数
+     */
+    private int index(int hash) {
+        return Math.abs(hash % size);
     }
 
     @Override
@@ -0,0 +1,429 @@
+package com.yeahmobi.yedis.template;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.yeahmobi.yedis.codec.Codec;
+import com.yeahmobi.yedis.codec.StringCodec;
+import com.yeahmobi.yedis.codec.ValueCompressor;
+import com.yeahmobi.yedis.group.GroupYedis;
+import com.yeahmobi.yedis.shard.ShardedYedis;
+
+/**
+ * 带类型的GroupYedis/ShardedYedis：key和value由Codec编码后通过byte[]命令读写，不经过String。<br>
+ * hash的field固定为UTF-8的String。value不能为null，读不到时返回null。<br>
+ * 指定ValueCompressor时，编码后的value超过阈值会被压缩后写入；读时自动识别，开启压缩前写入的value仍然可读。
+ * 压缩只对通过YedisTemplate的读写生效，底层GroupYedis/ShardedYedis的命令看到的是压缩后的数据。
+ *
+ * @param <K> key的类型
+ * @param <V> value的类型
+ */
+public final class YedisTemplate<K, V> {
+
+    private final Commands        commands;
+
+    private final Codec<K>        keyCodec;
+
+    private final Codec<V>        valueCodec;
+
+    // 为null时不压缩
+    private final ValueCompressor compressor;
+
+    public YedisTemplate(GroupYedis yedis, Codec<K> keyCodec, Codec<V> valueCodec) {
+        this(new GroupCommands(yedis), keyCodec, valueCodec, null);
+    }
+
+    public YedisTemplate(GroupYedis yedis, Codec<K> keyCodec, Codec<V> valueCodec, ValueCompressor compressor) {
+        this(new GroupCommands(yedis), keyCodec, valueCodec, compressor);
+    }
+
+    public YedisTemplate(ShardedYedis yedis, Codec<K> keyCodec, Codec<V> valueCodec) {
+        this(new ShardedCommands(yedis), keyCodec, valueCodec, null);
+    }
+
+    public YedisTemplate(ShardedYedis yedis, Codec<K> keyCodec, Codec<V> valueCodec, ValueCompressor compressor) {
+        this(new ShardedCommands(yedis), keyCodec, valueCodec, compressor);
+    }
+
+    private YedisTemplate(Commands commands, Codec<K> keyCodec, Codec<V> valueCodec, ValueCompressor compressor) {
+        if (keyCodec == null || valueCodec == null) {
+            throw new IllegalArgumentException("Codec cannot be null.");
+        }
+        this.commands = commands;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.compressor = compressor;
+    }
+
+    public V get(K key) {
+        return decode("get", commands.get(key(key)));
+    }
+
+    public String set(K key, V value) {
+        return commands.set(key(key), value("set", value));
+    }
+
+    public String setex(K key, int seconds, V value) {
+        return commands.setex(key(key), seconds, value("setex", value));
+    }
+
+    public Long setnx(K key, V value) {
+        return commands.setnx(key(key), value("setnx", value));
+    }
+
+    public Boolean exists(K key) {
+        return commands.exists(key(key));
+    }
+
+    public Long del(K key) {
+        return commands.del(key(key));
+    }
+
+    public Long expire(K key, int seconds) {
+        return commands.expire(key(key), seconds);
+    }
+
+    public Long ttl(K key) {
+        return commands.ttl(key(key));
+    }
+
+    /**
+     * 返回的List与keys一一对应，不存在的key为null
+     */
+    public List<V> mget(List<K> keys) {
+        byte[][] encoded = new byte[keys.size()][];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = key(keys.get(i));
+        }
+        return decode("mget", commands.mget(encoded));
+    }
+
+    public String mset(Map<K, V> keysvalues) {
+        byte[][] encoded = new byte[keysvalues.size() * 2][];
+        int i = 0;
+        for (Map.Entry<K, V> entry : keysvalues.entrySet()) {
+            encoded[i++] = key(entry.getKey());
+            encoded[i++] = value("mset", entry.getValue());
+        }
+        return commands.mset(encoded);
+    }
+
+    public V hget(K key, String field) {
+        return decode("hget", commands.hget(key(key), field(field)));
+    }
+
+    public Long hset(K key, String field, V value) {
+        return commands.hset(key(key), field(field), value("hset", value));
+    }
+
+    public List<V> hmget(K key, String... fields) {
+        byte[][] encoded = new byte[fields.length][];
+        for (int i = 0; i < fields.length; i++) {
+            encoded[i] = field(fields[i]);
+        }
+        return decode("hmget", commands.hmget(key(key), encoded));
+    }
+
+    public String hmset(K key, Map<String, V> hash) {
+        Map<byte[], byte[]> encoded = new HashMap<byte[], byte[]>(hash.size() * 4 / 3 + 1);
+        for (Map.Entry<String, V> entry : hash.entrySet()) {
+            encoded.put(field(entry.getKey()), value("hmset", entry.getValue()));
+        }
+        return commands.hmset(key(key), encoded);
+    }
+
+    public Map<String, V> hgetAll(K key) {
+        Map<byte[], byte[]> hash = commands.hgetAll(key(key));
+        Map<String, V> result = new LinkedHashMap<String, V>(hash.size() * 4 / 3 + 1);
+        for (Map.Entry<byte[], byte[]> entry : hash.entrySet()) {
+            result.put(StringCodec.INSTANCE.decode(entry.getKey()), decode("hgetAll", entry.getValue()));
+        }
+        return result;
+    }
+
+    public Long hdel(K key, String... fields) {
+        byte[][] encoded = new byte[fields.length][];
+        for (int i = 0; i < fields.length; i++) {
+            encoded[i] = field(fields[i]);
+        }
+        return commands.hdel(key(key), encoded);
+    }
+
+    public Codec<K> getKeyCodec() {
+        return keyCodec;
+    }
+
+    public Codec<V> getValueCodec() {
+        return valueCodec;
+    }
+
+    /**
+     * 没有开启压缩时为null，压缩统计见ValueCompressor.getStats
+     */
+    public ValueCompressor getCompressor() {
+        return compressor;
+    }
+
+    private byte[] key(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+        return keyCodec.encode(key);
+    }
+
+    private byte[] value(String command, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        byte[] bytes = valueCodec.encode(value);
+        return compressor != null ? compressor.compress(command, bytes) : bytes;
+    }
+
+    private static byte[] field(String field) {
+        if (field == null) {
+            throw new IllegalArgumentException("Field cannot be null.");
+        }
+        return StringCodec.INSTANCE.encode(field);
+    }
+
+    private V decode(String command, byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        return valueCodec.decode(compressor != null ? compressor.decompress(command, bytes) : bytes);
+    }
+
+    private List<V> decode(String command, List<byte[]> values) {
+        List<V> result = new ArrayList<V>(values.size());
+        for (byte[] bytes : values) {
+            result.add(decode(command, bytes));
+        }
+        return result;
+    }
+
+    /**
+     * GroupYedis和ShardedYedis共有的byte[]命令
+     */
+    private interface Commands {
+
+        byte[] get(byte[] key);
+
+        String set(byte[] key, byte[] value);
+
+        String setex(byte[] key, int seconds, byte[] value);
+
+        Long setnx(byte[] key, byte[] value);
+
+        Boolean exists(byte[] key);
+
+        Long del(byte[] key);
+
+        Long expire(byte[] key, int seconds);
+
+        Long ttl(byte[] key);
+
+        List<byte[]> mget(byte[]... keys);
+
+        String mset(byte[]... keysvalues);
+
+        byte[] hget(byte[] key, byte[] field);
+
+        Long hset(byte[] key, byte[] field, byte[] value);
+
+        List<byte[]> hmget(byte[] key, byte[]... fields);
+
+        String hmset(byte[] key, Map<byte[], byte[]> hash);
+
+        Map<byte[], byte[]> hgetAll(byte[] key);
+
+        Long hdel(byte[] key, byte[]... fields);
+    }
+
+    private static final class GroupCommands implements Commands {
+
+        private final GroupYedis yedis;
+
+        GroupCommands(GroupYedis yedis) {
+            if (yedis == null) {
+                throw new IllegalArgumentException("Argument cannot be null.");
+            }
+            this.yedis = yedis;
+        }
+
+        @Override
+        public byte[] get(byte[] key) {
+            return yedis.get(key);
+        }
+
+        @Override
+        public String set(byte[] key, byte[] value) {
+            return yedis.set(key, value);
+        }
+
+        @Override
+        public String setex(byte[] key, int seconds, byte[] value) {
+            return yedis.setex(key, seconds, value);
+        }
+
+        @Override
+        public Long setnx(byte[] key, byte[] value) {
+            return yedis.setnx(key, value);
+        }
+
+        @Override
+        public Boolean exists(byte[] key) {
+            return yedis.exists(key);
+        }
+
+        @Override
+        public Long del(byte[] key) {
+            return yedis.del(key);
+        }
+
+        @Override
+        public Long expire(byte[] key, int seconds) {
+            return yedis.expire(key, seconds);
+        }
+
+        @Override
+        public Long ttl(byte[] key) {
+            return yedis.ttl(key);
+        }
+
+        @Override
+        public List<byte[]> mget(byte[]... keys) {
+            return yedis.mget(keys);
+        }
+
+        @Override
+        public String mset(byte[]... keysvalues) {
+            return yedis.mset(keysvalues);
+        }
+
+        @Override
+        public byte[] hget(byte[] key, byte[] field) {
+            return yedis.hget(key, field);
+        }
+
+        @Override
+        public Long hset(byte[] key, byte[] field, byte[] value) {
+            return yedis.hset(key, field, value);
+        }
+
+        @Override
+        public List<byte[]> hmget(byte[] key, byte[]... fields) {
+            return yedis.hmget(key, fields);
+        }
+
+        @Override
+        public String hmset(byte[] key, Map<byte[], byte[]> hash) {
+            return yedis.hmset(key, hash);
+        }
+
+        @Override
+        public Map<byte[], byte[]> hgetAll(byte[] key) {
+            return yedis.hgetAll(key);
+        }
+
+        @Override
+        public Long hdel(byte[] key, byte[]... fields) {
+            return yedis.hdel(key, fields);
+        }
+    }
+
+    private static final class ShardedCommands implements Commands {
+
+        private final ShardedYedis yedis;
+
+        ShardedCommands(ShardedYedis yedis) {
+            if (yedis == null) {
+                throw new IllegalArgumentException("Argument cannot be null.");
+            }
+            this.yedis = yedis;
+        }
+
+        @Override
+        public byte[] get(byte[] key) {
+            return yedis.get(key);
+        }
+
+        @Override
+        public String set(byte[] key, byte[] value) {
+            return yedis.set(key, value);
+        }
+
+        @Override
+        public String setex(byte[] key, int seconds, byte[] value) {
+            return yedis.setex(key, seconds, value);
+        }
+
+        @Override
+        public Long setnx(byte[] key, byte[] value) {
+            return yedis.setnx(key, value);
+        }
+
+        @Override
+        public Boolean exists(byte[] key) {
+            return yedis.exists(key);
+        }
+
+        @Override
+        public Long del(byte[] key) {
+            return yedis.del(key);
+        }
+
+        @Override
+        public Long expire(byte[] key, int seconds) {
+            return yedis.expire(key, seconds);
+        }
+
+        @Override
+        public Long ttl(byte[] key) {
+            return yedis.ttl(key);
+        }
+
+        @Override
+        public List<byte[]> mget(byte[]... keys) {
+            return yedis.mget(keys);
+        }
+
+        @Override
+        public String mset(byte[]... keysvalues) {
+            return yedis.mset(keysvalues);
+        }
+
+        @Override
+        public byte[] hget(byte[] key, byte[] field) {
+            return yedis.hget(key, field);
+        }
+
+        @Override
+        public Long hset(byte[] key, byte[] field, byte[] value) {
+            return yedis.hset(key, field, value);
+        }
+
+        @Override
+        public List<byte[]> hmget(byte[] key, byte[]... fields) {
+            return yedis.hmget(key, fields);
+        }
+
+        @Override
+        public String hmset(byte[] key, Map<byte[], byte[]> hash) {
+            return yedis.hmset(key, hash);
+        }
+
+        @Override
+        public Map<byte[], byte[]> hgetAll(byte[] key) {
+            return yedis.hgetAll(key);
+        }
+
+        @Override
+        public Long hdel(byte[] key, byte[]... fields) {
+            return yedis.hdel(key, fields);
+        }
+    }
+
+}
@@ -1,32 +1,85 @@
 package com.yeahmobi.yedis.util;
 
+import java.util.concurrent.TimeUnit;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.yeahmobi.yedis.common.YedisException;
 import com.yeahmobi.yedis.common.YedisNetworkException;
 import com.yeahmobi.yedis.common.YedisTimeoutException;
 
+/**
+ * 遇到YedisNetworkException或YedisTimeoutException时按RetryPolicy重试，其他异常直接抛出
+ */
 public final class RetribleExecutor {
 
-    private static final Logger logger = LoggerFactory.getLogger(RetribleExecutor.class);
+    private static final Logger      logger         = LoggerFactory.getLogger(RetribleExecutor.class);
+
+    // execute(opr, retryCount)共用的策略：默认的退避，没有重试预算（预算应按下游分别设置，不能整个进程共用一个）
+    private static final RetryPolicy DEFAULT_POLICY = new RetryPolicy();
+    static {
+        DEFAULT_POLICY.setRetryBudget(0, RetryPolicy.DEFAULT_BUDGET_TOKEN_RATIO);
+    }
 
+    /**
+     * 最多重试retryCount次，使用默认的退避，不限制重试预算；需要重试预算时按下游传入各自的RetryPolicy
+     */
     public static <T> T execute(RetriableOperator<T> opr, int retryCount) {
+        return execute(opr, DEFAULT_POLICY, retryCount);
+    }
+
+    /**
+     * opr须是幂等的（如get、set、del、expire）
+     */
+    public static <T> T execute(RetriableOperator<T> opr, RetryPolicy policy) {
+        return execute(opr, policy, true);
+    }
+
+    /**
+     * idempotent为false的操作（如incr、lpush）超时或网络异常时可能已经执行，不重试，只计入重试预算
+     */
+    public static <T> T execute(RetriableOperator<T> opr, RetryPolicy policy, boolean idempotent) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Argument cannot be null.");
+        }
+        return execute(opr, policy, idempotent ? policy.getMaxRetries() : 0);
+    }
+
+    private static <T> T execute(RetriableOperator<T> opr, RetryPolicy policy, int maxRetries) {
+        long deadlineMillis = policy.getDeadlineMillis();
+        long start = deadlineMillis > 0 ? System.nanoTime() : 0;
+        int retry = 0;
         for (;;) {
+            YedisException failure;
             try {
-                return opr.execute();
+                T result = opr.execute();
+                policy.onSuccess();
+                return result;
             } catch (YedisNetworkException e) {
-                if (retryCount-- <= 0) {
-                    throw e;
-                } else {
-                    logger.warn("Error occur, message is:" + e.getMessage() + ", exception is " + e + ", retrying...");
-                    continue;
-                }
+                failure = e;
             } catch (YedisTimeoutException e) {
-                if (retryCount-- <= 0) {
-                    throw e;
-                } else {
-                    logger.warn("Error occur, message is:" + e.getMessage() + ", exception is " + e + ", retrying...");
-                    continue;
+                failure = e;
+            }
+
+            if (!policy.onFailure() || retry >= maxRetries) {
+                throw failure;
+            }
+            retry++;
+            long backoff = policy.backoffMillis(retry);
+            if (deadlineMillis > 0
+                && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + backoff >= deadlineMillis) {
+                throw failure;
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Retry " + retry + " after " + backoff + "ms: " + failure);
+            }
+            if (backoff > 0) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw failure;
                 }
             }
         }
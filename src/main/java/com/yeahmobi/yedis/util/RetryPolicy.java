@@ -0,0 +1,175 @@
+package com.yeahmobi.yedis.util;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RetribleExecutor的重试策略：最多重试次数、总的截止时间、带随机抖动的指数退避，以及限制重试放大的重试预算。<br>
+ * 重试预算与gRPC的retry throttling相同：每次失败消耗1个token，每次成功补充tokenRatio个token，
+ * token不超过maxTokens的一半时不再重试，直到成功的调用把token补回来。同一个RetryPolicy在所有线程间共享预算，
+ * 因此应按下游（如每个GroupYedis）共用一个实例，而不是每次调用新建。
+ */
+public class RetryPolicy {
+
+    public static final int    DEFAULT_MAX_RETRIES         = 3;
+
+    public static final long   DEFAULT_BASE_BACKOFF_MILLIS = 10;
+
+    public static final long   DEFAULT_MAX_BACKOFF_MILLIS  = 1000;
+
+    public static final int    DEFAULT_BUDGET_MAX_TOKENS   = 100;
+
+    public static final double DEFAULT_BUDGET_TOKEN_RATIO  = 0.1;
+
+    // token按千分之一计数
+    private static final int   TOKEN_SCALE                 = 1000;
+
+    private static final Random random                     = new Random();
+
+    // 最多重试次数（不包括第一次执行）
+    private int                maxRetries                  = DEFAULT_MAX_RETRIES;
+
+    // 从第一次执行开始的总时间上限，下一次重试（包括退避时间）会超过该时间时不再重试，0表示不限制
+    private long               deadlineMillis              = 0;
+
+    // 第n次重试前随机等待 [0, min(maxBackoffMillis, baseBackoffMillis * 2^(n-1))] 毫秒，0表示不等待
+    private long               baseBackoffMillis           = DEFAULT_BASE_BACKOFF_MILLIS;
+
+    private long               maxBackoffMillis            = DEFAULT_MAX_BACKOFF_MILLIS;
+
+    // 重试预算的token上限，0表示不限制重试的比例
+    private int                budgetMaxTokens             = DEFAULT_BUDGET_MAX_TOKENS;
+
+    // 每次成功补充的token数
+    private double             budgetTokenRatio            = DEFAULT_BUDGET_TOKEN_RATIO;
+
+    private final AtomicLong   tokens                      = new AtomicLong((long) DEFAULT_BUDGET_MAX_TOKENS
+                                                                            * TOKEN_SCALE);
+
+    public RetryPolicy() {
+
+    }
+
+    public RetryPolicy(int maxRetries, long deadlineMillis) {
+        setMaxRetries(maxRetries);
+        setDeadlineMillis(deadlineMillis);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries cannot be negative.");
+        }
+        this.maxRetries = maxRetries;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    public void setDeadlineMillis(long deadlineMillis) {
+        if (deadlineMillis < 0) {
+            throw new IllegalArgumentException("deadlineMillis cannot be negative.");
+        }
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    public long getBaseBackoffMillis() {
+        return baseBackoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public void setBackoff(long baseBackoffMillis, long maxBackoffMillis) {
+        if (baseBackoffMillis < 0 || maxBackoffMillis < baseBackoffMillis) {
+            throw new IllegalArgumentException("Backoff must satisfy 0 <= baseBackoffMillis <= maxBackoffMillis.");
+        }
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public int getBudgetMaxTokens() {
+        return budgetMaxTokens;
+    }
+
+    public double getBudgetTokenRatio() {
+        return budgetTokenRatio;
+    }
+
+    /**
+     * 设置重试预算，maxTokens为0表示不限制
+     */
+    public void setRetryBudget(int maxTokens, double tokenRatio) {
+        if (maxTokens < 0 || tokenRatio <= 0) {
+            throw new IllegalArgumentException("maxTokens cannot be negative, and tokenRatio must be positive.");
+        }
+        this.budgetMaxTokens = maxTokens;
+        this.budgetTokenRatio = tokenRatio;
+        this.tokens.set((long) maxTokens * TOKEN_SCALE);
+    }
+
+    /**
+     * 当前剩余的重试预算
+     */
+    public double getBudgetTokens() {
+        return (double) tokens.get() / TOKEN_SCALE;
+    }
+
+    /**
+     * 第retry次（从1开始）重试前的等待时间：在指数退避的上限内均匀随机（full jitter），避免多个客户端同时重试
+     */
+    long backoffMillis(int retry) {
+        if (baseBackoffMillis <= 0) {
+            return 0;
+        }
+        long ceiling = baseBackoffMillis << Math.min(retry - 1, 30);
+        if (ceiling <= 0 || ceiling > maxBackoffMillis) {
+            ceiling = maxBackoffMillis;
+        }
+        return (long) (random.nextDouble() * (ceiling + 1));
+    }
+
+    void onSuccess() {
+        if (budgetMaxTokens <= 0) {
+            return;
+        }
+        long max = (long) budgetMaxTokens * TOKEN_SCALE;
+        long delta = (long) (budgetTokenRatio * TOKEN_SCALE);
+        long current;
+        do {
+            current = tokens.get();
+            if (current >= max) {
+                return;
+            }
+        } while (!tokens.compareAndSet(current, Math.min(max, current + delta)));
+    }
+
+    /**
+     * 记录一次失败，返回预算是否还允许重试
+     */
+    boolean onFailure() {
+        if (budgetMaxTokens <= 0) {
+            return true;
+        }
+        long current;
+        long next;
+        do {
+            current = tokens.get();
+            next = Math.max(0, current - TOKEN_SCALE);
+        } while (!tokens.compareAndSet(current, next));
+        return next > (long) budgetMaxTokens * TOKEN_SCALE / 2;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy [maxRetries=" + maxRetries + ", deadlineMillis=" + deadlineMillis + ", baseBackoffMillis="
+               + baseBackoffMillis + ", maxBackoffMillis=" + maxBackoffMillis + ", budgetMaxTokens=" + budgetMaxTokens
+               + ", budgetTokenRatio=" + budgetTokenRatio + ", budgetTokens=" + getBudgetTokens() + "]";
+    }
+
+}
@@ -29,11 +29,7 @@ public class SleepStrategy {
     }
 
     public long sleep() {
-        long sleepTime = base + (long) count++ * interval;
-        if (sleepTime > upperbound) {
-            sleepTime = upperbound;
-            count = 0;
-        }
+        long sleepTime = next();
         if (sleepTime > 0) {
             if (logger.isDebugEnabled()) {
                 logger.debug("Sleep " + sleepTime + "ms.");
@@ -47,6 +43,18 @@ public class SleepStrategy {
         return sleepTime;
     }
 
+    /**
+     * 计算下一次的睡眠时间，但不睡眠（供不能阻塞的调用方使用）
+     */
+    public long next() {
+        long sleepTime = base + (long) count++ * interval;
+        if (sleepTime > upperbound) {
+            sleepTime = upperbound;
+            count = 0;
+        }
+        return sleepTime;
+    }
+
     public void reset() {
         count = 0;
     }
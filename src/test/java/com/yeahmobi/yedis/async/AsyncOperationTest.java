@@ -0,0 +1,227 @@
+package com.yeahmobi.yedis.async;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.yeahmobi.yedis.common.YedisTimeoutException;
+
+public class AsyncOperationTest extends Assert {
+
+    private static class Operation extends AsyncOperation<String> {
+
+        private final AtomicInteger executed = new AtomicInteger(0);
+
+        @Override
+        public String execute(Jedis jedis) {
+            executed.incrementAndGet();
+            return "value";
+        }
+    }
+
+    private static Runnable countDown(final CountDownLatch latch) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        };
+    }
+
+    @Test
+    public void cancelRacesComplete() throws Exception {
+        for (int i = 0; i < 2000; i++) {
+            final Operation opr = new Operation();
+            final AtomicInteger listenerRuns = new AtomicInteger(0);
+            opr.addListener(new Runnable() {
+
+                @Override
+                public void run() {
+                    listenerRuns.incrementAndGet();
+                }
+            }, MoreExecutors.directExecutor());
+
+            final CountDownLatch start = new CountDownLatch(1);
+            final AtomicBoolean cancelled = new AtomicBoolean();
+            Thread canceller = new Thread() {
+
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    cancelled.set(opr.cancel(true));
+                }
+            };
+            canceller.start();
+            start.countDown();
+            boolean set = opr.set("value");
+            canceller.join();
+
+            // 只有一方成功，结果与成功的一方一致，listener只执行一次
+            assertTrue(set != cancelled.get());
+            assertEquals(cancelled.get(), opr.isCancelled());
+            assertTrue(opr.isDone());
+            assertEquals(1, listenerRuns.get());
+            if (set) {
+                assertEquals("value", opr.get());
+            } else {
+                try {
+                    opr.get();
+                    fail();
+                } catch (CancellationException e) {
+                    // 已取消
+                }
+            }
+        }
+    }
+
+    @Test
+    public void completeOnlyOnce() throws Exception {
+        Operation opr = new Operation();
+        assertTrue(opr.setException(new IllegalStateException()));
+        assertFalse(opr.set("value"));
+        assertFalse(opr.cancel(true));
+        try {
+            opr.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void timedGet() throws Exception {
+        Operation opr = new Operation();
+        long start = System.nanoTime();
+        try {
+            opr.get(20, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (TimeoutException e) {
+            // 没有完成
+        }
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertFalse(opr.isDone());
+
+        opr.set("value");
+        assertEquals("value", opr.get(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void listeners() {
+        Operation opr = new Operation();
+        CountDownLatch before = new CountDownLatch(1);
+        opr.addListener(countDown(before), MoreExecutors.directExecutor());
+        assertEquals(1, before.getCount());
+
+        opr.set("value");
+        assertEquals(0, before.getCount());
+
+        // 完成之后添加的listener立即执行
+        CountDownLatch after = new CountDownLatch(1);
+        opr.addListener(countDown(after), MoreExecutors.directExecutor());
+        assertEquals(0, after.getCount());
+    }
+
+    @Test
+    public void assignAndReassign() {
+        AtomicInteger first = new AtomicInteger(0);
+        AtomicInteger second = new AtomicInteger(0);
+
+        Operation opr = new Operation();
+        opr.assign(first);
+        assertEquals(1, first.get());
+
+        // 窃取后load转移到新的worker
+        opr.reassign(second);
+        assertEquals(0, first.get());
+        assertEquals(1, second.get());
+
+        opr.set("value");
+        assertEquals(0, first.get());
+        assertEquals(0, second.get());
+
+        // 已完成的操作不再计入load
+        opr.assign(first);
+        opr.reassign(second);
+        assertEquals(0, first.get());
+        assertEquals(0, second.get());
+    }
+
+    @Test
+    public void cancelAfterReassign() {
+        AtomicInteger first = new AtomicInteger(0);
+        AtomicInteger second = new AtomicInteger(0);
+
+        Operation opr = new Operation();
+        opr.assign(first);
+        opr.reassign(second);
+        opr.cancel(true);
+        assertEquals(0, first.get());
+        assertEquals(0, second.get());
+    }
+
+    @Test
+    public void expireIfOverdue() throws Exception {
+        long now = System.nanoTime();
+
+        // 没有截止时间
+        Operation opr = new Operation();
+        assertFalse(opr.expireIfOverdue(now));
+        assertFalse(opr.isDone());
+
+        // 截止时间未到
+        opr.setDeadlineNanos(now + TimeUnit.SECONDS.toNanos(1));
+        assertFalse(opr.expireIfOverdue(now));
+        assertFalse(opr.isDone());
+
+        // 已过截止时间
+        AtomicInteger load = new AtomicInteger(0);
+        opr.assign(load);
+        assertTrue(opr.expireIfOverdue(now + TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(0, load.get());
+        try {
+            opr.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof YedisTimeoutException);
+        }
+
+        // 已经完成的操作不改变结果
+        Operation done = new Operation();
+        done.setDeadlineNanos(now);
+        done.set("value");
+        assertTrue(done.expireIfOverdue(now + 1));
+        assertEquals("value", done.get());
+    }
+
+    @Test
+    public void runSkipsOverdue() throws Exception {
+        Operation opr = new Operation();
+        opr.setDeadlineNanos(System.nanoTime() - 1);
+        opr.run(null);
+        assertEquals(0, opr.executed.get());
+        assertTrue(opr.isDone());
+
+        Operation fresh = new Operation();
+        fresh.setDeadlineNanos(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+        fresh.run(null);
+        assertEquals(1, fresh.executed.get());
+        assertEquals("value", fresh.get());
+        assertTrue(fresh.getStartNanos() != 0 && fresh.getEndNanos() - fresh.getStartNanos() >= 0);
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.yeahmobi.yedis.async;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.YedisTimeoutException;
+import com.yeahmobi.yedis.pipeline.PipelineJedisPool;
+
+public class DirectCommandExecutorTest extends YedisTestBase {
+
+    // 让redis忙等ARGV[1]微秒
+    private static final String BUSY_SCRIPT = "local t = redis.call('TIME') local start = t[1] * 1000000 + t[2] "
+                                              + "while true do local n = redis.call('TIME') "
+                                              + "if n[1] * 1000000 + n[2] - start > tonumber(ARGV[1]) then break end end "
+                                              + "return 1";
+
+    private Yedis yedis;
+
+    @Before
+    public void setUp() {
+        AtomConfig config = new AtomConfig(host, port);
+        config.setTransport(Transport.DIRECT);
+        config.setTimeout(200);
+        config.setSocketTimeout(3000);
+        yedis = new Yedis(config);
+    }
+
+    @After
+    public void tearDown() {
+        yedis.flushAll();
+        yedis.close();
+    }
+
+    @Test
+    public void setAndGet() {
+        assertEquals("OK", yedis.set("key", "value"));
+        assertEquals("value", yedis.get("key"));
+    }
+
+    @Test
+    public void async() throws InterruptedException, ExecutionException {
+        assertEquals(Long.valueOf(1), yedis.async().incr("counter").get());
+        assertEquals("1", yedis.async().get("counter").get());
+    }
+
+    @Test
+    public void asyncTimeout() throws InterruptedException {
+        try {
+            yedis.async().blpop(2, "nolist").get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof YedisTimeoutException);
+        }
+        // 超时的连接不会被复用
+        assertEquals("OK", yedis.set("key", "value"));
+        assertEquals("value", yedis.get("key"));
+    }
+
+    @Test
+    public void syncTimeout() throws InterruptedException {
+        Thread busy = new Thread() {
+
+            @Override
+            public void run() {
+                Jedis jedis = new Jedis(host, port, 5000);
+                try {
+                    jedis.eval(BUSY_SCRIPT, 0, String.valueOf(1000 * 1000));
+                } finally {
+                    jedis.close();
+                }
+            }
+        };
+        busy.start();
+        Thread.sleep(50);
+
+        long start = System.currentTimeMillis();
+        try {
+            yedis.get("key");
+            fail();
+        } catch (YedisTimeoutException e) {
+            // 在调用线程中执行，读超时按timeout而不是socketTimeout
+        }
+        assertTrue(System.currentTimeMillis() - start < 800);
+        busy.join();
+
+        // 超时的连接不会被复用
+        assertEquals("OK", yedis.set("key", "value"));
+        assertEquals("value", yedis.get("key"));
+    }
+
+    @Test
+    public void poolExhausted() throws Exception {
+        AtomConfig config = new AtomConfig(host, port);
+        config.getPipelinePoolConfig().setMaxTotal(1);
+        config.getPipelinePoolConfig().setMaxWaitMillis(5000);
+        PipelineJedisPool pool = new PipelineJedisPool(config);
+        DirectCommandExecutor executor = new DirectCommandExecutor(pool);
+        Jedis held = pool.getJedis();
+        try {
+            // 连接池耗尽时只等到操作的截止时间，而不是连接池的maxWaitMillis
+            PingOperation ping = new PingOperation();
+            ping.setDeadlineNanos(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200));
+            long start = System.currentTimeMillis();
+            executor.execute(ping);
+            assertTrue(System.currentTimeMillis() - start < 1000);
+            try {
+                ping.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof YedisTimeoutException);
+            }
+
+            PingOperation asyncPing = new PingOperation();
+            asyncPing.setDeadlineNanos(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200));
+            executor.submit(asyncPing);
+            try {
+                asyncPing.get(1, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof YedisTimeoutException);
+            }
+        } finally {
+            pool.returnJedis(held);
+        }
+
+        // 连接归还后可以正常执行
+        PingOperation ping = new PingOperation();
+        ping.setDeadlineNanos(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals("PONG", executor.execute(ping).get());
+        executor.shutdown();
+        pool.destroy();
+    }
+
+}
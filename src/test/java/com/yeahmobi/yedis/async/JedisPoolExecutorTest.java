@@ -0,0 +1,313 @@
+package com.yeahmobi.yedis.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.YedisException;
+import com.yeahmobi.yedis.common.YedisOverloadException;
+import com.yeahmobi.yedis.common.YedisTimeoutException;
+
+public class JedisPoolExecutorTest extends YedisTestBase {
+
+    private JedisPoolExecutor executor;
+
+    @After
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void leastLoaded() throws Exception {
+        assertNotBlockedBySlowCommand(DispatchMode.LEAST_LOADED);
+    }
+
+    @Test
+    public void workStealing() throws Exception {
+        assertNotBlockedBySlowCommand(DispatchMode.WORK_STEALING);
+    }
+
+    @Test
+    public void loadAfterWorkStealing() throws Exception {
+        executor = start(DispatchMode.WORK_STEALING);
+        CountDownLatch release = block();
+
+        // 一个worker被占住时，排到它队列里的操作都被另一个worker窃取执行
+        List<AsyncOperation<String>> pings = new ArrayList<AsyncOperation<String>>();
+        for (int i = 0; i < 50; i++) {
+            pings.add(executor.submit(ping()));
+        }
+        for (AsyncOperation<String> p : pings) {
+            assertEquals("PONG", p.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, sum(executor.getLoads()));
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (sum(executor.getLoads()) != 0 && System.nanoTime() - deadline < 0) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, sum(executor.getLoads()));
+    }
+
+    @Test
+    public void roundRobin() throws Exception {
+        executor = start(DispatchMode.ROUND_ROBIN);
+        List<AsyncOperation<String>> pings = new ArrayList<AsyncOperation<String>>();
+        for (int i = 0; i < 10; i++) {
+            pings.add(executor.submit(ping()));
+        }
+        for (AsyncOperation<String> p : pings) {
+            assertEquals("PONG", p.get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void autoPipeline() throws Exception {
+        AtomConfig config = config(DispatchMode.ROUND_ROBIN);
+        config.setThreadPoolSize(1);
+        config.setAutoPipelineBatchSize(16);
+        config.setAutoPipelineWaitMicros(200);
+        executor = new JedisPoolExecutor(config);
+        executor.start();
+
+        List<AsyncOperation<Long>> incrs = new ArrayList<AsyncOperation<Long>>();
+        for (int i = 0; i < 100; i++) {
+            incrs.add(executor.submit(incr("autoPipeline")));
+            if (i == 50) {
+                // 不支持pipeline的操作夹在中间，顺序不变
+                executor.submit(ping());
+            }
+        }
+        for (int i = 0; i < incrs.size(); i++) {
+            assertEquals(Long.valueOf(i + 1), incrs.get(i).get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void autoPipelineError() throws Exception {
+        AtomConfig config = config(DispatchMode.ROUND_ROBIN);
+        config.setThreadPoolSize(1);
+        config.setAutoPipelineBatchSize(16);
+        executor = new JedisPoolExecutor(config);
+        executor.start();
+
+        AsyncOperation<String> set = executor.submit(new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.set("autoPipelineError", "a");
+            }
+
+            @Override
+            public Response<String> pipeline(Pipeline pipeline) {
+                return pipeline.set("autoPipelineError", "a");
+            }
+        });
+        AsyncOperation<Long> incr = executor.submit(incr("autoPipelineError"));
+        AsyncOperation<String> ping = executor.submit(ping());
+
+        assertEquals("OK", set.get(1, TimeUnit.SECONDS));
+        try {
+            incr.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof YedisException);
+        }
+        // 同一批中其他操作不受影响
+        assertEquals("PONG", ping.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void rejectWhenQueueFull() throws Exception {
+        executor = startBlocked(2);
+        CountDownLatch release = block();
+
+        AsyncOperation<String> ping1 = executor.submit(ping());
+        AsyncOperation<String> ping2 = executor.submit(ping());
+        AsyncOperation<String> rejected = ping();
+        try {
+            executor.submit(rejected);
+            fail();
+        } catch (YedisOverloadException e) {
+            // 队列满时快速失败
+        }
+        assertTrue(rejected.isDone());
+
+        release.countDown();
+        assertEquals("PONG", ping1.get(1, TimeUnit.SECONDS));
+        assertEquals("PONG", ping2.get(1, TimeUnit.SECONDS));
+        assertEquals("PONG", executor.submit(ping()).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void purgeCancelledWhenQueueFull() throws Exception {
+        executor = startBlocked(2);
+        CountDownLatch release = block();
+
+        AsyncOperation<String> cancelled = executor.submit(ping());
+        AsyncOperation<String> expired = ping();
+        expired.setDeadlineNanos(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10));
+        executor.submit(expired);
+        cancelled.cancel(true);
+        Thread.sleep(20);
+
+        // 已取消和已过截止时间的操作不再占用队列
+        AsyncOperation<String> ping1 = executor.submit(ping());
+        AsyncOperation<String> ping2 = executor.submit(ping());
+        try {
+            expired.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof YedisTimeoutException);
+        }
+
+        release.countDown();
+        assertEquals("PONG", ping1.get(1, TimeUnit.SECONDS));
+        assertEquals("PONG", ping2.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void expiredNotExecuted() throws Exception {
+        executor = startBlocked(0);
+        CountDownLatch release = block();
+
+        AsyncOperation<Long> expired = incr("expiredNotExecuted");
+        expired.setDeadlineNanos(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10));
+        executor.submit(expired);
+        AsyncOperation<Long> live = incr("expiredNotExecuted");
+        executor.submit(live);
+        Thread.sleep(20);
+
+        release.countDown();
+        // 过了截止时间才轮到的操作不会发送到redis
+        assertEquals(Long.valueOf(1), live.get(1, TimeUnit.SECONDS));
+        try {
+            expired.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof YedisTimeoutException);
+        }
+    }
+
+    /**
+     * 只有一个worker的executor
+     */
+    private JedisPoolExecutor startBlocked(int maxQueueSize) {
+        AtomConfig config = config(DispatchMode.ROUND_ROBIN);
+        config.setThreadPoolSize(1);
+        config.setMaxQueueSize(maxQueueSize);
+        JedisPoolExecutor executor = new JedisPoolExecutor(config);
+        executor.start();
+        return executor;
+    }
+
+    /**
+     * 提交一个占住worker的操作，返回释放它的latch
+     */
+    private CountDownLatch block() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.submit(new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return jedis.ping();
+            }
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private void assertNotBlockedBySlowCommand(DispatchMode mode) throws Exception {
+        executor = start(mode);
+
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncOperation<String> slow = executor.submit(new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return jedis.ping();
+            }
+        });
+
+        // 慢命令占住一个连接时，后续命令都应由另一个连接完成
+        for (int i = 0; i < 10; i++) {
+            assertEquals("PONG", executor.submit(ping()).get(1, TimeUnit.SECONDS));
+        }
+
+        release.countDown();
+        assertEquals("PONG", slow.get(1, TimeUnit.SECONDS));
+    }
+
+    private JedisPoolExecutor start(DispatchMode mode) {
+        JedisPoolExecutor executor = new JedisPoolExecutor(config(mode));
+        executor.start();
+        return executor;
+    }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static AtomConfig config(DispatchMode mode) {
+        AtomConfig config = new AtomConfig(host, port);
+        config.setThreadPoolSize(2);
+        config.setDispatchMode(mode);
+        return config;
+    }
+
+    private static AsyncOperation<Long> incr(final String key) {
+        return new AsyncOperation<Long>() {
+
+            @Override
+            public Long execute(Jedis jedis) {
+                return jedis.incr(key);
+            }
+
+            @Override
+            public Response<Long> pipeline(Pipeline pipeline) {
+                return pipeline.incr(key);
+            }
+        };
+    }
+
+    private static AsyncOperation<String> ping() {
+        return new AsyncOperation<String>() {
+
+            @Override
+            public String execute(Jedis jedis) {
+                return jedis.ping();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.yeahmobi.yedis.async;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.YedisException;
+import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.pipeline.PipelineJedisPool;
+
+public class NioCommandExecutorTest extends YedisTestBase {
+
+    private Yedis yedis;
+
+    @Before
+    public void setUp() {
+        yedis = new Yedis(config(0));
+    }
+
+    @After
+    public void tearDown() {
+        yedis.flushAll();
+        yedis.close();
+    }
+
+    @Test
+    public void setAndGet() {
+        assertEquals("OK", yedis.set("key", "value"));
+        assertEquals("value", yedis.get("key"));
+        assertEquals("OK", yedis.set("key".getBytes(), "value".getBytes()));
+        assertArrayEquals("value".getBytes(), yedis.get("key".getBytes()));
+        assertNull(yedis.get("nokey"));
+    }
+
+    @Test
+    public void multiBulk() {
+        yedis.rpush("list", "a", "b", "c");
+        assertEquals(Arrays.asList("a", "b", "c"), yedis.lrange("list", 0, -1));
+        yedis.hset("hash", "field", "value");
+        assertEquals("value", yedis.hgetAll("hash").get("field"));
+    }
+
+    @Test
+    public void largeValue() {
+        char[] chars = new char[100 * 1024];
+        Arrays.fill(chars, 'x');
+        String value = new String(chars);
+        yedis.set("large", value);
+        assertEquals(value, yedis.get("large"));
+    }
+
+    @Test
+    public void errorReply() {
+        yedis.set("key", "value");
+        try {
+            yedis.incr("key");
+            fail();
+        } catch (YedisException e) {
+            // 错误只影响当前命令
+        }
+        assertEquals("value", yedis.get("key"));
+    }
+
+    @Test
+    public void notPipelinedCommand() {
+        // blpop不能复用连接，由阻塞的连接池执行
+        yedis.rpush("list", "a");
+        assertEquals(Arrays.asList("list", "a"), yedis.blpop(1, "list"));
+    }
+
+    @Test
+    public void concurrent() throws InterruptedException, ExecutionException {
+        List<ListenableFuture<Long>> futures = new ArrayList<ListenableFuture<Long>>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(yedis.async().incr("counter"));
+        }
+        List<Long> results = Futures.allAsList(futures).get();
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(Long.valueOf(i + 1), results.get(i));
+        }
+    }
+
+    @Test
+    public void database() {
+        Yedis db1 = new Yedis(config(1));
+        try {
+            db1.set("key", "db1");
+            yedis.set("key", "db0");
+            assertEquals("db1", db1.get("key"));
+            assertEquals("db0", yedis.get("key"));
+        } finally {
+            db1.flushDB();
+            db1.close();
+        }
+    }
+
+    @Test
+    public void submitAfterClose() throws Exception {
+        AtomConfig config = config(0);
+        NioCommandExecutor executor = new NioCommandExecutor(config, new PipelineJedisPool(config));
+        NioConnection connection = new NioConnection(NioEventLoop.getInstance(), config, executor);
+        connection.close();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!connection.isClosed() && System.nanoTime() - deadline < 0) {
+            Thread.sleep(5);
+        }
+        assertTrue(connection.isClosed());
+
+        // 关闭后提交的操作立即失败，不会等到超时
+        PingOperation ping = new PingOperation();
+        connection.submit(ping);
+        assertTrue(ping.isDone());
+        try {
+            ping.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof YedisNetworkException);
+        }
+    }
+
+    @Test
+    public void submitConcurrentWithClose() throws Exception {
+        AtomConfig config = config(0);
+        NioCommandExecutor executor = new NioCommandExecutor(config, new PipelineJedisPool(config));
+        for (int i = 0; i < 200; i++) {
+            final NioConnection connection = new NioConnection(NioEventLoop.getInstance(), config, executor);
+            Thread closer = new Thread() {
+
+                @Override
+                public void run() {
+                    connection.close();
+                }
+            };
+            closer.start();
+            PingOperation ping = new PingOperation();
+            connection.submit(ping);
+            closer.join();
+
+            // 与close()并发提交的操作要么正常执行，要么被取消或失败，不会一直留在队列中
+            try {
+                ping.get(1, TimeUnit.SECONDS);
+            } catch (CancellationException e) {
+                // 关闭时取消
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof YedisNetworkException);
+            }
+        }
+    }
+
+    private static AtomConfig config(int database) {
+        AtomConfig config = new AtomConfig(host, port);
+        config.setTransport(Transport.MULTIPLEXED);
+        config.setDatabase(database);
+        config.setTimeout(1000);
+        config.setSocketTimeout(1000);
+        return config;
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.yeahmobi.yedis.atomic;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.yeahmobi.yedis.async.Transport;
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.common.YedisTimeoutException;
+
+public class AsyncYedisTest extends YedisTestBase {
+
+    // 让redis忙等ARGV[1]微秒
+    private static final String BUSY_SCRIPT = "local t = redis.call('TIME') local start = t[1] * 1000000 + t[2] "
+                                              + "while true do local n = redis.call('TIME') "
+                                              + "if n[1] * 1000000 + n[2] - start > tonumber(ARGV[1]) then break end end "
+                                              + "return 1";
+
+    // 没有启动redis的端口
+    private static final int    deadPort    = 63810;
+
+    private Yedis               yedis;
+
+    @Before
+    public void setUp() {
+        AtomConfig config = new AtomConfig(host, port);
+        config.setTimeout(200);
+        config.setSocketTimeout(3000);
+        yedis = new Yedis(config);
+    }
+
+    @After
+    public void tearDown() {
+        yedis.flushAll();
+        yedis.close();
+    }
+
+    @Test
+    public void setAndGet() throws InterruptedException, ExecutionException {
+        AsyncYedis async = yedis.async();
+        assertEquals("OK", async.set("key1", "value1").get());
+        assertEquals("value1", async.get("key1").get());
+        assertEquals(Long.valueOf(1), async.del("key1").get());
+        assertNull(async.get("key1").get());
+    }
+
+    @Test
+    public void fanOut() throws InterruptedException, ExecutionException {
+        AsyncYedis async = yedis.async();
+        async.set("key1", "value1").get();
+        async.set("key2", "value2").get();
+
+        ListenableFuture<List<String>> all = Futures.allAsList(async.get("key1"), async.get("key2"));
+        assertEquals(Arrays.asList("value1", "value2"), all.get());
+    }
+
+    /**
+     * 在后台让redis停顿millis毫秒
+     */
+    private Thread pause(final long millis) throws InterruptedException {
+        Thread thread = new Thread() {
+
+            @Override
+            public void run() {
+                Jedis jedis = new Jedis(host, port, 5000);
+                try {
+                    jedis.eval(BUSY_SCRIPT, 0, String.valueOf(millis * 1000));
+                } finally {
+                    jedis.close();
+                }
+            }
+        };
+        thread.start();
+        Thread.sleep(50);
+        return thread;
+    }
+
+    @Test
+    public void timeout() throws Exception {
+        Thread busy = pause(1000);
+        try {
+            yedis.async().get("key1").get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof YedisTimeoutException);
+        } finally {
+            busy.join();
+        }
+        assertEquals("OK", yedis.async().set("key1", "value1").get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void networkError() throws Exception {
+        // 读超时（socketTimeout）早于操作超时，连接被认为已经损坏
+        AtomConfig config = new AtomConfig(host, port);
+        config.setTimeout(2000);
+        config.setSocketTimeout(100);
+        Yedis slow = new Yedis(config);
+        Thread busy = pause(1000);
+        try {
+            slow.async().get("key1").get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof YedisNetworkException);
+        } finally {
+            busy.join();
+            slow.close();
+        }
+    }
+
+    @Test
+    public void connectionRefused() throws InterruptedException {
+        // THREAD_PER_CONNECTION的worker连接失败时保留队列中的操作并重连，操作以超时结束
+        for (Transport transport : new Transport[] { Transport.MULTIPLEXED, Transport.DIRECT }) {
+            AtomConfig config = new AtomConfig(host, deadPort);
+            config.setTransport(transport);
+            config.setTimeout(1000);
+            Yedis dead = new Yedis(config);
+            try {
+                dead.async().get("key1").get();
+                fail(transport.name());
+            } catch (ExecutionException e) {
+                assertTrue(transport.name() + ": " + e.getCause(), e.getCause() instanceof YedisNetworkException);
+            } finally {
+                dead.close();
+            }
+        }
+    }
+
+    @Test
+    public void callback() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Long> result = new AtomicReference<Long>();
+        Futures.addCallback(yedis.async().incr("counter"), new FutureCallback<Long>() {
+
+            @Override
+            public void onSuccess(Long value) {
+                result.set(value);
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(Long.valueOf(1), result.get());
+    }
+
+    @Test
+    public void callbackOnFailure() throws InterruptedException {
+        yedis.set("key1", "value1");
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Futures.addCallback(yedis.async().incr("key1"), new FutureCallback<Long>() {
+
+            @Override
+            public void onSuccess(Long value) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                failure.set(t);
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        // 命令本身的错误
+        assertNotNull(failure.get());
+    }
+
+    @Test
+    public void listenerAfterCompletion() throws Exception {
+        ListenableFuture<String> set = yedis.async().set("key1", "value1");
+        assertEquals("OK", set.get());
+        final CountDownLatch latch = new CountDownLatch(1);
+        set.addListener(new Runnable() {
+
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        }, MoreExecutors.directExecutor());
+        // 已经完成的future上添加的listener立即执行
+        assertEquals(0, latch.getCount());
+    }
+
+}
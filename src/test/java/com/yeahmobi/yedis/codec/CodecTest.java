@@ -0,0 +1,127 @@
+package com.yeahmobi.yedis.codec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodecTest extends Assert {
+
+    public static class User {
+
+        private String name;
+
+        private int    age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    @Test
+    public void byteArrayNotCopied() {
+        byte[] value = { 1, 2, 3 };
+        assertSame(value, ByteArrayCodec.INSTANCE.encode(value));
+        assertSame(value, ByteArrayCodec.INSTANCE.decode(value));
+    }
+
+    @Test
+    public void string() throws Exception {
+        String[] values = { "", "ascii", "中文", "emoji 😀", "broken \uD800 surrogate", "߿ࠀ" };
+        for (String value : values) {
+            byte[] bytes = StringCodec.INSTANCE.encode(value);
+            assertArrayEquals(value, value.getBytes("UTF-8"), bytes);
+            assertEquals(new String(value.getBytes("UTF-8"), "UTF-8"), StringCodec.INSTANCE.decode(bytes));
+        }
+    }
+
+    @Test
+    public void compact() {
+        Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put("name", "中文😀");
+        map.put(1, Long.MIN_VALUE);
+        map.put(Long.MAX_VALUE, -1);
+        map.put(true, 3.14);
+        map.put(false, null);
+        List<Object> list = new ArrayList<Object>();
+        list.add(map);
+        list.add(new ArrayList<Object>());
+        list.add(Integer.MIN_VALUE);
+        list.add(Integer.MAX_VALUE);
+
+        Object decoded = CompactCodec.INSTANCE.decode(CompactCodec.INSTANCE.encode(list));
+        assertEquals(list, decoded);
+
+        byte[] bytes = { 0, 1, (byte) 0xFF };
+        assertArrayEquals(bytes, (byte[]) CompactCodec.INSTANCE.decode(CompactCodec.INSTANCE.encode(bytes)));
+        assertNull(CompactCodec.INSTANCE.decode(CompactCodec.INSTANCE.encode(null)));
+    }
+
+    @Test
+    public void compactIsSmallerThanJson() {
+        List<Object> list = new ArrayList<Object>();
+        for (int i = 0; i < 100; i++) {
+            list.add((long) i * 1000);
+        }
+        byte[] compact = CompactCodec.INSTANCE.encode(list);
+        byte[] json = new JsonCodec<List<Object>>(List.class).encode(list);
+        assertTrue(compact.length < json.length);
+    }
+
+    @Test
+    public void compactLargeValue() {
+        char[] chars = new char[200 * 1024];
+        Arrays.fill(chars, 'x');
+        String value = new String(chars);
+        assertEquals(value, CompactCodec.INSTANCE.decode(CompactCodec.INSTANCE.encode(value)));
+        // 用过大缓冲区之后仍然正确
+        assertEquals("small", CompactCodec.INSTANCE.decode(CompactCodec.INSTANCE.encode("small")));
+    }
+
+    @Test
+    public void compactMalformed() {
+        byte[][] malformed = { {}, { 6, 10, 'a' }, { 8, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F }, { 42 },
+                { 0, 0 } };
+        for (byte[] bytes : malformed) {
+            try {
+                CompactCodec.INSTANCE.decode(bytes);
+                fail(Arrays.toString(bytes));
+            } catch (IllegalArgumentException e) {
+                // 错误的数据
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compactUnsupportedType() {
+        CompactCodec.INSTANCE.encode(new User());
+    }
+
+    @Test
+    public void json() {
+        User user = new User();
+        user.setName("中文");
+        user.setAge(18);
+        JsonCodec<User> codec = JsonCodec.of(User.class);
+        User decoded = codec.decode(codec.encode(user));
+        assertEquals("中文", decoded.getName());
+        assertEquals(18, decoded.getAge());
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.yeahmobi.yedis.codec;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ValueCompressorTest extends Assert {
+
+    private static byte[] json(int items) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i).append(",\"name\":\"user").append(i)
+                   .append("\",\"country\":\"CN\",\"active\":true}");
+        }
+        return StringCodec.INSTANCE.encode(builder.append(']').toString());
+    }
+
+    @Test
+    public void compressLargeValue() {
+        ValueCompressor compressor = new ValueCompressor(1024);
+        byte[] value = json(2000);
+        byte[] compressed = compressor.compress("set", value);
+        assertTrue(ValueCompressor.isCompressed(compressed));
+        assertTrue(compressed.length < value.length / 4);
+        assertArrayEquals(value, compressor.decompress("get", compressed));
+
+        CompressionStats stats = compressor.getStats("set");
+        assertEquals(1, stats.getCompressedCount());
+        assertEquals(value.length, stats.getOriginalBytes());
+        assertEquals(compressed.length, stats.getCompressedBytes());
+        assertEquals(value.length - compressed.length, stats.getBytesSaved());
+        assertEquals(1, compressor.getStats("get").getDecompressedCount());
+        assertEquals(Arrays.asList("get", "set"), Arrays.asList(compressor.getStats().keySet().toArray()));
+    }
+
+    @Test
+    public void smallOrIncompressibleValueUnchanged() {
+        ValueCompressor compressor = new ValueCompressor(1024);
+        byte[] small = json(1);
+        assertSame(small, compressor.compress("set", small));
+
+        byte[] random = new byte[4096];
+        new Random(1).nextBytes(random);
+        random[0] = 0;
+        assertSame(random, compressor.compress("set", random));
+        assertEquals(2, compressor.getStats("set").getUncompressedCount());
+        assertEquals(0, compressor.getStats("set").getCompressedCount());
+    }
+
+    @Test
+    public void readUncompressedValue() {
+        ValueCompressor compressor = new ValueCompressor(0);
+        byte[] old = json(2000);
+        assertSame(old, compressor.decompress("get", old));
+        assertNull(compressor.getStats("get"));
+    }
+
+    @Test
+    public void valueStartingWithMagic() {
+        ValueCompressor compressor = new ValueCompressor(1024);
+        byte[] value = { (byte) 0xF9, 'Y', 'Z', 1, 2, 3 };
+        byte[] stored = compressor.compress("set", value);
+        assertNotSame(value, stored);
+        assertArrayEquals(value, compressor.decompress("get", stored));
+    }
+
+    @Test
+    public void dictionary() {
+        byte[] dictionary = json(20);
+        ValueCompressor plain = new ValueCompressor(0);
+        ValueCompressor compressor = new ValueCompressor(0, dictionary);
+        byte[] value = StringCodec.INSTANCE.encode("{\"id\":7,\"name\":\"user7\",\"country\":\"CN\",\"active\":true}");
+        byte[] compressed = compressor.compress("set", value);
+        assertTrue(ValueCompressor.isCompressed(compressed));
+        assertTrue(compressed.length < value.length / 2);
+        assertSame(value, plain.compress("set", value));
+        assertArrayEquals(value, compressor.decompress("get", compressed));
+
+        try {
+            plain.decompress("get", compressed);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // 没有字典不能解压
+        }
+        try {
+            new ValueCompressor(0, json(21)).decompress("get", compressed);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // 字典不一致
+        }
+    }
+
+    @Test
+    public void corrupted() {
+        ValueCompressor compressor = new ValueCompressor(0);
+        byte[] compressed = compressor.compress("set", json(100));
+        byte[][] corrupted = { Arrays.copyOf(compressed, compressed.length - 1),
+                Arrays.copyOf(compressed, compressed.length + 1), { (byte) 0xF9, 'Y', 'Z', 9, 0 },
+                { (byte) 0xF9, 'Y', 'Z', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F } };
+        byte[] wrongLength = compressed.clone();
+        wrongLength[4]++;
+        for (byte[] bytes : new byte[][] { corrupted[0], corrupted[1], corrupted[2], corrupted[3], wrongLength }) {
+            try {
+                compressor.decompress("get", bytes);
+                fail(Arrays.toString(Arrays.copyOf(bytes, 8)));
+            } catch (IllegalArgumentException e) {
+                // 数据损坏
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeThreshold() {
+        new ValueCompressor(-1);
+    }
+
+}
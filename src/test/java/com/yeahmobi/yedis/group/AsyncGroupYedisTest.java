@@ -0,0 +1,62 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+public class AsyncGroupYedisTest extends GroupYedisTest {
+
+    @After
+    public void tearDown() {
+        yedis.flushAll();
+    }
+
+    @Test
+    public void setAndGet() throws InterruptedException, ExecutionException {
+        AsyncGroupYedis async = yedis.async();
+        assertEquals("OK", async.set("key1", "value1").get());
+        assertEquals("value1", async.get("key1").get());
+    }
+
+    @Test
+    public void fanOut() throws InterruptedException, ExecutionException {
+        AsyncGroupYedis async = yedis.async();
+        async.set("key1", "value1").get();
+        async.set("key2", "value2").get();
+
+        ListenableFuture<List<String>> all = Futures.allAsList(async.get("key1"), async.get("key2"));
+        assertEquals(Arrays.asList("value1", "value2"), all.get());
+    }
+
+    @Test
+    public void callback() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Long> result = new AtomicReference<Long>();
+        Futures.addCallback(yedis.async().incr("counter"), new FutureCallback<Long>() {
+
+            @Override
+            public void onSuccess(Long value) {
+                result.set(value);
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(Long.valueOf(1), result.get());
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.yeahmobi.yedis.group;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.DoubleServerYedisTestBase;
+import com.yeahmobi.yedis.common.ServerInfo;
+
+public class HedgedReadsTest extends DoubleServerYedisTestBase {
+
+    // 让redis忙等ARGV[1]微秒，模拟GC或慢命令造成的停顿
+    private static final String BUSY_SCRIPT = "local t = redis.call('TIME') local start = t[1] * 1000000 + t[2] "
+                                              + "while true do local n = redis.call('TIME') "
+                                              + "if n[1] * 1000000 + n[2] - start > tonumber(ARGV[1]) then break end end "
+                                              + "return 1";
+
+    private GroupYedis          yedis;
+
+    private Jedis               master;
+
+    private Jedis               slave;
+
+    @BeforeClass
+    public static void start() throws IOException {
+        startRedisServer();
+    }
+
+    @AfterClass
+    public static void stop() throws InterruptedException {
+        stopRedisServer();
+    }
+
+    @Before
+    public void init() {
+        master = new Jedis(host, port1);
+        slave = new Jedis(host, port2);
+        master.set("key", "value");
+        slave.set("key", "value");
+    }
+
+    @After
+    public void tearDown() {
+        if (yedis != null) {
+            yedis.close();
+        }
+        master.flushAll();
+        master.close();
+        slave.flushAll();
+        slave.close();
+    }
+
+    private GroupYedis create(ReadMode readMode, long minDelayMicros) {
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(new ServerInfo(host, port2));
+        GroupConfig groupConfig = new GroupConfig(new ServerInfo(host, port1), readSeverInfoList);
+        groupConfig.setReadMode(readMode);
+        groupConfig.setTimeout(1000);
+        groupConfig.setSocketTimeout(1000);
+        groupConfig.setHedgedReads(true);
+        // 固定对冲延迟，不依赖之前的读学到的分位数
+        groupConfig.setHedgeDelayPercentile(0);
+        groupConfig.setHedgeMinDelayMicros(minDelayMicros);
+        return new GroupYedis(groupConfig);
+    }
+
+    /**
+     * 在后台让slave停顿millis毫秒
+     */
+    private Thread pauseSlave(final long millis) throws InterruptedException {
+        Thread thread = new Thread() {
+
+            @Override
+            public void run() {
+                Jedis jedis = new Jedis(host, port2, 5000);
+                try {
+                    jedis.eval(BUSY_SCRIPT, 0, String.valueOf(millis * 1000));
+                } finally {
+                    jedis.close();
+                }
+            }
+        };
+        thread.start();
+        Thread.sleep(50);
+        return thread;
+    }
+
+    @Test
+    public void disabledByDefault() {
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(new ServerInfo(host, port2));
+        yedis = new GroupYedis(new GroupConfig(new ServerInfo(host, port1), readSeverInfoList));
+        assertNull(yedis.getHedgedReads());
+    }
+
+    @Test
+    public void noHedgeWhenFast() {
+        yedis = create(ReadMode.SLAVEPREFERRED, 500000);
+        for (int i = 0; i < 10; i++) {
+            assertEquals("value", yedis.get("key"));
+        }
+        assertEquals(10, yedis.getHedgedReads().getReads());
+        assertEquals(0, yedis.getHedgedReads().getHedged());
+    }
+
+    @Test
+    public void hedgeToMasterWhenSlaveSlow() throws InterruptedException {
+        yedis = create(ReadMode.SLAVEPREFERRED, 5000);
+        assertEquals("value", yedis.get("key"));
+
+        // slave的停顿远大于5ms的对冲延迟
+        Thread pause = pauseSlave(2000);
+        assertEquals("value", yedis.get("key"));
+        assertEquals(true, yedis.exists("key"));
+        assertEquals(1, yedis.hmget("hash", "field").size());
+        pause.join();
+
+        long hedged = yedis.getHedgedReads().getHedged();
+        assertTrue(hedged >= 1);
+        assertEquals(hedged, yedis.getHedgedReads().getHedgeWins());
+    }
+
+    @Test
+    public void noHedgeInSlaveModeWithSingleSlave() throws InterruptedException {
+        yedis = create(ReadMode.SLAVE, 5000);
+        Thread pause = pauseSlave(300);
+        // 没有可对冲的server，只能等slave
+        assertEquals("value", yedis.get("key"));
+        pause.join();
+        assertEquals(0, yedis.getHedgedReads().getHedged());
+    }
+
+    @Test
+    public void hedgeTarget() {
+        yedis = create(ReadMode.MASTER, 5000);
+        assertNull(yedis.hedgeTarget(yedis.getYedis(true)));
+        yedis.close();
+
+        yedis = create(ReadMode.SLAVEPREFERRED, 5000);
+        Yedis primary = yedis.getYedis(true);
+        assertEquals(port2, primary.getConfig().getPort());
+        assertEquals(port1, yedis.hedgeTarget(primary).getConfig().getPort());
+    }
+
+}
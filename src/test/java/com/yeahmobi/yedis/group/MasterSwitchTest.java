@@ -0,0 +1,228 @@
+package com.yeahmobi.yedis.group;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.async.Transport;
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.DoubleServerYedisTestBase;
+import com.yeahmobi.yedis.common.ServerInfo;
+
+public class MasterSwitchTest extends DoubleServerYedisTestBase {
+
+    // 让redis忙等ARGV[1]微秒，模拟master切换时还有操作在执行
+    private static final String BUSY_SCRIPT = "local t = redis.call('TIME') local start = t[1] * 1000000 + t[2] "
+                                              + "while true do local n = redis.call('TIME') "
+                                              + "if n[1] * 1000000 + n[2] - start > tonumber(ARGV[1]) then break end end "
+                                              + "return 1";
+
+    // 没有启动redis的端口
+    private static final int    deadPort    = 63810;
+
+    private GroupYedis          yedis;
+
+    private Jedis               jedis1;
+
+    private Jedis               jedis2;
+
+    private static class MutableConfigManager implements MasterSlaveConfigManager {
+
+        private volatile ServerInfo       master;
+
+        private volatile List<ServerInfo> slaves;
+
+        @Override
+        public ServerInfo getMasterServerInfo() {
+            return master;
+        }
+
+        @Override
+        public List<ServerInfo> getSlaveServerInfos() {
+            return slaves;
+        }
+
+        @Override
+        public void addListener(ConfigChangeListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @BeforeClass
+    public static void start() throws IOException {
+        startRedisServer();
+    }
+
+    @AfterClass
+    public static void stop() throws InterruptedException {
+        stopRedisServer();
+    }
+
+    @Before
+    public void init() {
+        jedis1 = new Jedis(host, port1);
+        jedis2 = new Jedis(host, port2);
+    }
+
+    @After
+    public void tearDown() {
+        if (yedis != null) {
+            yedis.close();
+        }
+        jedis1.flushAll();
+        jedis1.close();
+        jedis2.flushAll();
+        jedis2.close();
+    }
+
+    private MutableConfigManager create(int masterPort) {
+        MutableConfigManager manager = new MutableConfigManager();
+        manager.master = new ServerInfo(host, masterPort);
+        manager.slaves = new ArrayList<ServerInfo>();
+        GroupConfig groupConfig = new GroupConfig(manager.master, manager.slaves);
+        groupConfig.setMasterSlaveConfigManager(manager);
+        groupConfig.setReadMode(ReadMode.MASTER);
+        groupConfig.setTimeout(1000);
+        groupConfig.setSocketTimeout(1000);
+        yedis = new GroupYedis(groupConfig);
+        return manager;
+    }
+
+    @Test
+    public void prewarm() {
+        for (Transport transport : Transport.values()) {
+            AtomConfig config = new AtomConfig(host, port1);
+            config.setTransport(transport);
+            Yedis live = new Yedis(config);
+            try {
+                assertTrue(transport.name(), live.prewarm(1000));
+            } finally {
+                live.close();
+            }
+
+            config = new AtomConfig(host, deadPort);
+            config.setTransport(transport);
+            Yedis dead = new Yedis(config);
+            try {
+                long start = System.currentTimeMillis();
+                assertFalse(transport.name(), dead.prewarm(200));
+                assertTrue(transport.name(), System.currentTimeMillis() - start < 1000);
+            } finally {
+                dead.close();
+            }
+        }
+    }
+
+    @Test
+    public void switchMaster() {
+        MutableConfigManager manager = create(port1);
+        yedis.set("key", "value1");
+
+        manager.master = new ServerInfo(host, port2);
+        yedis.onChanged(manager);
+
+        assertEquals(port2, yedis.getYedis(false).getConfig().getPort());
+        yedis.set("key", "value2");
+        assertEquals("value2", jedis2.get("key"));
+        assertEquals("value1", jedis1.get("key"));
+    }
+
+    @Test
+    public void inflightCompleteOnOldMaster() throws Exception {
+        MutableConfigManager manager = create(port1);
+        assertEquals("OK", yedis.set("key", "value"));
+
+        Thread pause = new Thread() {
+
+            @Override
+            public void run() {
+                Jedis jedis = new Jedis(host, port1, 5000);
+                try {
+                    jedis.eval(BUSY_SCRIPT, 0, String.valueOf(300 * 1000));
+                } finally {
+                    jedis.close();
+                }
+            }
+        };
+        pause.start();
+        Thread.sleep(50);
+
+        // master停顿期间提交的操作，在切换后仍然在老的master上完成，而不是被取消
+        ListenableFuture<String> set = yedis.async().set("inflight", "value");
+        ListenableFuture<String> get = yedis.async().get("key");
+
+        manager.master = new ServerInfo(host, port2);
+        yedis.onChanged(manager);
+        pause.join();
+
+        assertEquals("OK", set.get(1, TimeUnit.SECONDS));
+        assertEquals("value", get.get(1, TimeUnit.SECONDS));
+        assertEquals("value", jedis1.get("inflight"));
+        assertEquals(port2, yedis.getYedis(false).getConfig().getPort());
+    }
+
+    @Test
+    public void oldMasterUsableUntilRetired() throws Exception {
+        MutableConfigManager manager = create(port1);
+        Yedis old = yedis.getYedis(false);
+
+        manager.master = new ServerInfo(host, port2);
+        yedis.onChanged(manager);
+
+        // 切换前拿到老master的调用方仍然可以使用
+        assertEquals("OK", old.set("stale", "value"));
+        assertEquals("value", jedis1.get("stale"));
+
+        // 之后老master在后台关闭，不阻塞onChanged
+        long deadline = System.currentTimeMillis() + 5000;
+        while (true) {
+            try {
+                old.get("stale");
+            } catch (IllegalStateException e) {
+                break;
+            }
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(50);
+        }
+        assertEquals(0, old.getStats().getInflight());
+    }
+
+    @Test
+    public void retireRejectsNewOperations() throws Exception {
+        Yedis single = new Yedis(new AtomConfig(host, port1));
+        try {
+            ListenableFuture<String> set = single.async().set("key", "value");
+            single.retire();
+            try {
+                single.get("key");
+                fail();
+            } catch (IllegalStateException e) {
+                // 不再接受新的操作
+            }
+            // 已提交的操作继续执行，被拒绝的操作不计入inflight
+            assertEquals("OK", set.get(1, TimeUnit.SECONDS));
+            long deadline = System.currentTimeMillis() + 1000;
+            while (single.getStats().getInflight() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(0, single.getStats().getInflight());
+        } finally {
+            single.close();
+        }
+    }
+
+}
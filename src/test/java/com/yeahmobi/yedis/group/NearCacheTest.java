@@ -0,0 +1,242 @@
+package com.yeahmobi.yedis.group;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.pipeline.StreamingConfig;
+import com.yeahmobi.yedis.pipeline.YedisPipeline;
+import com.yeahmobi.yedis.shard.DefaultHashCodeCoputingStrategy;
+import com.yeahmobi.yedis.shard.ShardedYedis;
+import com.yeahmobi.yedis.shard.ShardingAlgorithm;
+
+public class NearCacheTest extends YedisTestBase {
+
+    private GroupYedis yedis;
+
+    // 模拟其他客户端的写操作
+    private Jedis      other;
+
+    @Before
+    public void init() {
+        other = new Jedis(host, port);
+    }
+
+    @After
+    public void tearDown() {
+        if (yedis != null) {
+            yedis.flushAll();
+            yedis.close();
+        }
+        other.close();
+    }
+
+    private GroupYedis create(NearCacheInvalidation invalidation, long expireMillis) throws IOException {
+        ServerInfo serverInfo = new ServerInfo(host, port);
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(serverInfo);
+        GroupConfig groupConfig = new GroupConfig(serverInfo, readSeverInfoList);
+        groupConfig.setNearCacheMaxSize(100);
+        groupConfig.setNearCacheExpireMillis(expireMillis);
+        groupConfig.setNearCacheInvalidation(invalidation);
+        groupConfig.setNearCacheChannel("invalidation");
+        return new GroupYedis(groupConfig);
+    }
+
+    @Test
+    public void disabledByDefault() throws IOException {
+        ServerInfo serverInfo = new ServerInfo(host, port);
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(serverInfo);
+        yedis = new GroupYedis(new GroupConfig(serverInfo, readSeverInfoList));
+        assertNull(yedis.getNearCache());
+    }
+
+    @Test
+    public void hitAndMiss() throws IOException {
+        yedis = create(NearCacheInvalidation.LOCAL, 60000);
+        yedis.set("key", "value");
+        assertEquals("value", yedis.get("key"));
+        other.set("key", "changed");
+        // 命中缓存，看不到其他客户端的写
+        assertEquals("value", yedis.get("key"));
+        // 不存在的key同样缓存
+        assertNull(yedis.get("absent"));
+        assertNull(yedis.get("absent"));
+
+        NearCacheStats stats = yedis.getNearCache().stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate(), 0.0001);
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    public void localWriteInvalidates() throws IOException {
+        yedis = create(NearCacheInvalidation.LOCAL, 60000);
+        yedis.set("key", "v1");
+        assertEquals("v1", yedis.get("key"));
+        yedis.set("key", "v2");
+        assertEquals("v2", yedis.get("key"));
+        yedis.incr("counter");
+        assertEquals("1", yedis.get("counter"));
+        yedis.incr("counter");
+        assertEquals("2", yedis.get("counter"));
+        yedis.del("key".getBytes());
+        assertNull(yedis.get("key"));
+        yedis.mset("key", "v3", "key2", "v4");
+        assertEquals("v3", yedis.get("key"));
+    }
+
+    @Test
+    public void persistInvalidates() throws Exception {
+        yedis = create(NearCacheInvalidation.LOCAL, 60000);
+        yedis.set("key", "v1");
+        assertEquals("v1", yedis.get("key"));
+        other.set("key", "v2");
+        yedis.persist("key");
+        assertEquals("v2", yedis.get("key"));
+        other.set("key", "v3");
+        yedis.async().persist("key".getBytes()).get();
+        assertEquals("v3", yedis.get("key"));
+    }
+
+    @Test
+    public void pipelineInvalidatesAfterSync() throws IOException {
+        yedis = create(NearCacheInvalidation.LOCAL, 60000);
+        yedis.set("key", "v1");
+        assertEquals("v1", yedis.get("key"));
+
+        // pipeline中的写操作在sync之后失效整个近端缓存
+        YedisPipeline pipeline = yedis.pipelined();
+        pipeline.set("key", "v2");
+        pipeline.sync();
+        assertEquals("v2", yedis.get("key"));
+
+        pipeline = yedis.pipelined(new StreamingConfig());
+        pipeline.set("key", "v3");
+        pipeline.sync();
+        assertEquals("v3", yedis.get("key"));
+    }
+
+    @Test
+    public void fillDroppedOnlyForInvalidatedKey() throws IOException {
+        yedis = create(NearCacheInvalidation.LOCAL, 60000);
+        NearCache nearCache = yedis.getNearCache();
+        long hot = nearCache.stamp("hot");
+        long stale = nearCache.stamp("stale");
+        // 回填过程中其他key的失效不影响回填
+        for (int i = 0; i < 100; i++) {
+            nearCache.invalidate("other" + i);
+        }
+        nearCache.invalidate("stale");
+        nearCache.put("hot", "value", hot);
+        nearCache.put("stale", "old", stale);
+        assertEquals("value", nearCache.get("hot"));
+        assertSame(NearCache.MISS, nearCache.get("stale"));
+
+        // invalidateAll丢弃所有回填
+        long stamp = nearCache.stamp("key");
+        nearCache.invalidateAll();
+        nearCache.put("key", "value", stamp);
+        assertSame(NearCache.MISS, nearCache.get("key"));
+    }
+
+    @Test
+    public void hget() throws IOException {
+        yedis = create(NearCacheInvalidation.LOCAL, 60000);
+        yedis.hset("hash", "f1", "v1");
+        assertEquals("v1", yedis.hget("hash", "f1"));
+        assertNull(yedis.hget("hash", "f2"));
+        other.hset("hash", "f1", "changed");
+        assertEquals("v1", yedis.hget("hash", "f1"));
+        yedis.hset("hash", "f2", "v2");
+        assertEquals("changed", yedis.hget("hash", "f1"));
+        assertEquals("v2", yedis.hget("hash", "f2"));
+        yedis.del("hash");
+        assertNull(yedis.hget("hash", "f1"));
+    }
+
+    @Test
+    public void async() throws IOException, InterruptedException, ExecutionException {
+        yedis = create(NearCacheInvalidation.LOCAL, 60000);
+        yedis.async().set("key", "v1").get();
+        assertEquals("v1", yedis.async().get("key").get());
+        assertEquals("v1", yedis.async().get("key").get());
+        assertEquals(1, yedis.getNearCache().stats().getHitCount());
+        yedis.async().set("key", "v2").get();
+        assertEquals("v2", yedis.async().get("key").get());
+    }
+
+    @Test
+    public void expire() throws IOException, InterruptedException {
+        yedis = create(NearCacheInvalidation.LOCAL, 50);
+        yedis.set("key", "v1");
+        assertEquals("v1", yedis.get("key"));
+        other.set("key", "v2");
+        Thread.sleep(100);
+        assertEquals("v2", yedis.get("key"));
+    }
+
+    @Test
+    public void keyspace() throws IOException, InterruptedException {
+        other.configSet("notify-keyspace-events", "KA");
+        try {
+            yedis = create(NearCacheInvalidation.KEYSPACE, 60000);
+            yedis.set("key", "v1");
+            assertEquals("v1", waitFor(yedis, "key", "v1"));
+            other.set("key", "v2");
+            assertEquals("v2", waitFor(yedis, "key", "v2"));
+        } finally {
+            other.configSet("notify-keyspace-events", "");
+        }
+    }
+
+    @Test
+    public void channel() throws IOException, InterruptedException {
+        yedis = create(NearCacheInvalidation.CHANNEL, 60000);
+        yedis.set("key", "v1");
+        assertEquals("v1", waitFor(yedis, "key", "v1"));
+        other.set("key", "v2");
+        other.publish("invalidation", "key");
+        assertEquals("v2", waitFor(yedis, "key", "v2"));
+    }
+
+    @Test
+    public void shardedStats() throws IOException {
+        yedis = create(NearCacheInvalidation.LOCAL, 60000);
+        List<GroupYedis> groups = new ArrayList<GroupYedis>();
+        groups.add(yedis);
+        ShardedYedis sharded = new ShardedYedis(groups, ShardingAlgorithm.SIMPLE_HASH,
+                                                new DefaultHashCodeCoputingStrategy());
+        sharded.set("key", "value");
+        sharded.get("key");
+        sharded.get("key");
+        assertEquals(1, sharded.getNearCacheStats().getHitCount());
+    }
+
+    /**
+     * 订阅是异步建立的，轮询直到读到期望的值
+     */
+    private static String waitFor(GroupYedis yedis, String key, String expected) throws InterruptedException {
+        String value = null;
+        for (int i = 0; i < 100; i++) {
+            value = yedis.get(key);
+            if (expected.equals(value)) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        return value;
+    }
+
+}
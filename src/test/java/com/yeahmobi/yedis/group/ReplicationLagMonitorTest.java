@@ -0,0 +1,133 @@
+package com.yeahmobi.yedis.group;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.yeahmobi.yedis.base.DoubleServerYedisTestBase;
+import com.yeahmobi.yedis.common.ServerInfo;
+
+public class ReplicationLagMonitorTest extends DoubleServerYedisTestBase {
+
+    private static final String INFO_SLAVE  = "# Replication\r\nrole:slave\r\nmaster_host:localhost\r\n"
+                                              + "master_port:63800\r\nmaster_link_status:up\r\n"
+                                              + "slave_repl_offset:1234\r\n";
+
+    private static final String INFO_DOWN   = "# Replication\r\nrole:slave\r\nmaster_link_status:down\r\n"
+                                              + "slave_repl_offset:1234\r\n";
+
+    private static final String INFO_MASTER = "# Replication\r\nrole:master\r\nconnected_slaves:0\r\n"
+                                              + "master_repl_offset:5678\r\n";
+
+    private GroupYedis          yedis;
+
+    // port2 作为 port1 的slave
+    private Jedis               slave;
+
+    @BeforeClass
+    public static void start() throws IOException {
+        startRedisServer();
+    }
+
+    @AfterClass
+    public static void stop() throws InterruptedException {
+        stopRedisServer();
+    }
+
+    @Before
+    public void init() {
+        slave = new Jedis(host, port2);
+        slave.slaveof(host, port1);
+    }
+
+    @After
+    public void tearDown() {
+        if (yedis != null) {
+            yedis.close();
+        }
+        slave.slaveofNoOne();
+        slave.close();
+    }
+
+    private GroupYedis create(ReadMode readMode) {
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(new ServerInfo(host, port2));
+        GroupConfig groupConfig = new GroupConfig(new ServerInfo(host, port1), readSeverInfoList);
+        groupConfig.setReadMode(readMode);
+        groupConfig.setMaxReplicationLagBytes(1024 * 1024);
+        groupConfig.setReplicationLagCheckMillis(50);
+        return new GroupYedis(groupConfig);
+    }
+
+    private void waitForReadPort(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (yedis.getYedis(true).getConfig().getPort() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, yedis.getYedis(true).getConfig().getPort());
+    }
+
+    @Test
+    public void parseInfo() {
+        Map<String, String> info = ReplicationLagMonitor.parseInfo(INFO_SLAVE);
+        assertEquals("slave", info.get("role"));
+        assertEquals("63800", info.get("master_port"));
+        assertFalse(info.containsKey("# Replication"));
+        assertEquals(1234, ReplicationLagMonitor.slaveOffset(info));
+    }
+
+    @Test
+    public void slaveOffsetWhenDisconnected() {
+        assertEquals(ReplicationLagMonitor.DISCONNECTED,
+                     ReplicationLagMonitor.slaveOffset(ReplicationLagMonitor.parseInfo(INFO_DOWN)));
+        assertEquals(ReplicationLagMonitor.DISCONNECTED,
+                     ReplicationLagMonitor.slaveOffset(ReplicationLagMonitor.parseInfo(INFO_MASTER)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void freshSlaveRequiresMaxLag() {
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(new ServerInfo(host, port2));
+        GroupConfig groupConfig = new GroupConfig(new ServerInfo(host, port1), readSeverInfoList);
+        groupConfig.setReadMode(ReadMode.FRESHSLAVE);
+        new GroupYedis(groupConfig);
+    }
+
+    @Test
+    public void freshSlave() throws InterruptedException {
+        yedis = create(ReadMode.FRESHSLAVE);
+        // 采样到slave没有延迟后才读slave
+        waitForReadPort(port2);
+        Long lag = yedis.getReplicationLags().get(new ServerInfo(host, port2));
+        assertNotNull(lag);
+        assertTrue(lag >= 0 && lag <= 1024 * 1024);
+
+        // 复制断开后读master
+        slave.slaveofNoOne();
+        waitForReadPort(port1);
+        assertEquals(Long.valueOf(ReplicationLagMonitor.DISCONNECTED),
+                     yedis.getReplicationLags().get(new ServerInfo(host, port2)));
+    }
+
+    @Test
+    public void slavePreferredSkipsDisconnectedSlave() throws InterruptedException {
+        yedis = create(ReadMode.SLAVEPREFERRED);
+        waitForReadPort(port2);
+
+        slave.slaveofNoOne();
+        waitForReadPort(port1);
+
+        slave.slaveof(host, port1);
+        waitForReadPort(port2);
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.yeahmobi.yedis.group;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import redis.embedded.RedisServer;
+
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.common.YedisException;
+import com.yeahmobi.yedis.loadbalance.LoadBalancer;
+
+public class SlaveHealthCheckerTest extends YedisTestBase {
+
+    // 没有启动redis的端口
+    private static final int deadPort = 63810;
+
+    private GroupYedis       yedis;
+
+    private RedisServer      deadServer;
+
+    @After
+    public void tearDown() throws Exception {
+        if (yedis != null) {
+            yedis.close();
+        }
+        if (deadServer != null) {
+            deadServer.stop();
+        }
+    }
+
+    private GroupConfig config(ReadMode readMode, int consecutiveFailures, int errorRatePercent) {
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(new ServerInfo(host, port));
+        readSeverInfoList.add(new ServerInfo(host, deadPort));
+        GroupConfig groupConfig = new GroupConfig(new ServerInfo(host, port), readSeverInfoList);
+        groupConfig.setReadMode(readMode);
+        groupConfig.setLoadBalancerType(LoadBalancer.Type.ROUND_ROBIN);
+        groupConfig.setSlaveHealthCheckMillis(50);
+        groupConfig.setSlaveEjectConsecutiveFailures(consecutiveFailures);
+        groupConfig.setSlaveEjectErrorRatePercent(errorRatePercent);
+        groupConfig.setSlaveEjectMinRequests(2);
+        groupConfig.setSlaveReinstateProbes(2);
+        return groupConfig;
+    }
+
+    /**
+     * 不断读，直到dead slave被移出，返回读的次数
+     */
+    private int readUntilEjected() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        int reads = 0;
+        while (yedis.getEjectedSlaves().isEmpty() && System.currentTimeMillis() < deadline) {
+            try {
+                yedis.get("key");
+            } catch (YedisException e) {
+                // 路由到dead slave
+            }
+            reads++;
+        }
+        assertEquals(1, yedis.getEjectedSlaves().size());
+        assertEquals(new ServerInfo(host, deadPort), yedis.getEjectedSlaves().get(0));
+        return reads;
+    }
+
+    @Test
+    public void ejectOnConsecutiveFailures() throws InterruptedException {
+        yedis = new GroupYedis(config(ReadMode.SLAVE, 3, 0));
+        readUntilEjected();
+
+        // 移出后所有读都路由到健康的slave
+        for (int i = 0; i < 20; i++) {
+            assertEquals(port, yedis.getYedis(true).getConfig().getPort());
+            yedis.get("key");
+        }
+    }
+
+    @Test
+    public void ejectOnErrorRate() throws InterruptedException {
+        GroupConfig groupConfig = config(ReadMode.SLAVE, 0, 30);
+        // 每次读dead slave都要等到超时，检查间隔要能容纳多个操作
+        groupConfig.setSlaveHealthCheckMillis(300);
+        yedis = new GroupYedis(groupConfig);
+        readUntilEjected();
+    }
+
+    @Test
+    public void reinstateAfterProbes() throws IOException, InterruptedException {
+        yedis = new GroupYedis(config(ReadMode.SLAVE, 3, 0));
+        readUntilEjected();
+
+        deadServer = new RedisServer(deadPort);
+        deadServer.start();
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!yedis.getEjectedSlaves().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(yedis.getEjectedSlaves().isEmpty());
+
+        boolean routedToReinstated = false;
+        for (int i = 0; i < 4; i++) {
+            routedToReinstated |= yedis.getYedis(true).getConfig().getPort() == deadPort;
+        }
+        assertTrue(routedToReinstated);
+    }
+
+    @Test
+    public void slavePreferredFallsBackToMaster() throws InterruptedException {
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(new ServerInfo(host, deadPort));
+        GroupConfig groupConfig = new GroupConfig(new ServerInfo(host, port), readSeverInfoList);
+        groupConfig.setSlaveHealthCheckMillis(50);
+        groupConfig.setSlaveEjectConsecutiveFailures(3);
+        yedis = new GroupYedis(groupConfig);
+        readUntilEjected();
+
+        // 唯一的slave被移出后，SlavePreferred读master
+        assertEquals(port, yedis.getYedis(true).getConfig().getPort());
+        yedis.set("key", "value");
+        assertEquals("value", yedis.get("key"));
+        yedis.del("key");
+    }
+
+    @Test
+    public void weightedFallsBackToMaster() throws InterruptedException {
+        GroupConfig groupConfig = config(ReadMode.SLAVEPREFERRED, 3, 0);
+        groupConfig.setLoadBalancerType(LoadBalancer.Type.WEIGHTED);
+        groupConfig.setSlaveWeight(new ServerInfo(host, port), 0);
+        yedis = new GroupYedis(groupConfig);
+        readUntilEjected();
+
+        // 剩下的slave权重都为0，读master
+        assertSame(yedis.getYedis(false), yedis.getYedis(true));
+        yedis.set("key", "value");
+        assertEquals("value", yedis.get("key"));
+        yedis.del("key");
+    }
+
+    @Test
+    public void disabled() {
+        List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+        readSeverInfoList.add(new ServerInfo(host, port));
+        GroupConfig groupConfig = new GroupConfig(new ServerInfo(host, port), readSeverInfoList);
+        groupConfig.setSlaveHealthCheckMillis(0);
+        yedis = new GroupYedis(groupConfig);
+        assertTrue(yedis.getEjectedSlaves().isEmpty());
+    }
+
+}
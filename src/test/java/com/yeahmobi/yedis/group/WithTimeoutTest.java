@@ -0,0 +1,142 @@
+package com.yeahmobi.yedis.group;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.common.YedisTimeoutException;
+
+public class WithTimeoutTest extends YedisTestBase {
+
+    // 让redis忙等ARGV[1]微秒
+    private static final String BUSY_SCRIPT = "local t = redis.call('TIME') local start = t[1] * 1000000 + t[2] "
+                                              + "while true do local n = redis.call('TIME') "
+                                              + "if n[1] * 1000000 + n[2] - start > tonumber(ARGV[1]) then break end end "
+                                              + "return 1";
+
+    private GroupYedis          yedis;
+
+    @After
+    public void tearDown() {
+        if (yedis != null) {
+            yedis.flushAll();
+            yedis.close();
+        }
+    }
+
+    private GroupYedis create() {
+        GroupConfig groupConfig = new GroupConfig(new ServerInfo(host, port), new ArrayList<ServerInfo>());
+        groupConfig.setReadMode(ReadMode.MASTER);
+        groupConfig.setThreadPoolSize(1);
+        groupConfig.setTimeout(1000);
+        groupConfig.setSocketTimeout(1000);
+        return new GroupYedis(groupConfig);
+    }
+
+    private Thread pause(final long millis) throws InterruptedException {
+        Thread thread = new Thread() {
+
+            @Override
+            public void run() {
+                Jedis jedis = new Jedis(host, port, 5000);
+                try {
+                    jedis.eval(BUSY_SCRIPT, 0, String.valueOf(millis * 1000));
+                } finally {
+                    jedis.close();
+                }
+            }
+        };
+        thread.start();
+        Thread.sleep(50);
+        return thread;
+    }
+
+    @Test
+    public void yedisViews() {
+        AtomConfig config = new AtomConfig(host, port);
+        config.setTimeout(500);
+        Yedis origin = new Yedis(config);
+        try {
+            Yedis view = origin.withTimeout(20);
+            assertEquals(20, view.getTimeout());
+            assertSame(view, origin.withTimeout(20));
+            assertSame(view, view.withTimeout(20));
+            assertSame(origin, view.withTimeout(500));
+            assertSame(origin.getStats(), view.getStats());
+
+            // 视图不持有连接
+            view.close();
+            assertEquals("OK", view.set("key", "value"));
+            assertEquals("value", origin.get("key"));
+        } finally {
+            origin.close();
+        }
+        try {
+            origin.withTimeout(20).get("key");
+            fail();
+        } catch (IllegalStateException e) {
+            // 原Yedis关闭后视图也不可用
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidTimeout() {
+        yedis = create();
+        yedis.withTimeout(0);
+    }
+
+    @Test
+    public void perCallTimeout() throws InterruptedException {
+        yedis = create();
+        yedis.set("key", "value");
+        GroupYedis fast = yedis.withTimeout(20);
+
+        Thread pause = pause(300);
+        long start = System.currentTimeMillis();
+        try {
+            fast.get("key");
+            fail();
+        } catch (YedisTimeoutException e) {
+            assertTrue(System.currentTimeMillis() - start < 200);
+        }
+        // 同一个客户端上超时更长的调用不受影响
+        assertEquals("value", yedis.get("key"));
+        pause.join();
+    }
+
+    @Test
+    public void overdueNeverSent() throws Exception {
+        yedis = create();
+        GroupYedis fast = yedis.withTimeout(20);
+
+        Thread pause = pause(300);
+        // 占住唯一的连接，fast的操作只能排队，过了截止时间后不再发送
+        ListenableFuture<String> blocking = yedis.async().get("key");
+        try {
+            fast.incr("counter");
+            fail();
+        } catch (YedisTimeoutException e) {
+            // 排队超时
+        }
+        try {
+            fast.async().incr("counter").get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof YedisTimeoutException);
+        }
+        assertNull(blocking.get(1, TimeUnit.SECONDS));
+        pause.join();
+        assertNull(yedis.get("counter"));
+    }
+
+}
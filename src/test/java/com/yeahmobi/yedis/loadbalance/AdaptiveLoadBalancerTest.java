@@ -0,0 +1,76 @@
+package com.yeahmobi.yedis.loadbalance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.YedisException;
+
+public class AdaptiveLoadBalancerTest extends YedisTestBase {
+
+    private static List<Yedis> yedisList = new ArrayList<Yedis>();
+
+    private static Yedis       yedis1;
+    private static Yedis       yedis2;
+
+    @BeforeClass
+    public static void init() {
+        yedis1 = new Yedis(new AtomConfig(host, port));
+        // 不可用的server，所有操作都会失败
+        yedis2 = new Yedis(new AtomConfig(host, 1));
+        yedisList.add(yedis1);
+        yedisList.add(yedis2);
+    }
+
+    @AfterClass
+    public static void close() {
+        for (Yedis yedis : yedisList) {
+            yedis.close();
+        }
+    }
+
+    private AdaptiveLoadBalancer lb = new AdaptiveLoadBalancer(yedisList);
+
+    @Test
+    public void testType() {
+        assertEquals(LoadBalancer.Type.ADAPTIVE, lb.getType());
+    }
+
+    @Test
+    public void testRoute() {
+        for (int i = 0; i < 3; i++) {
+            yedis1.get("key");
+            try {
+                yedis2.get("key");
+                fail();
+            } catch (YedisException e) {
+                // 失败按超时时间计入统计
+            }
+        }
+        assertEquals(0, yedis2.getStats().getInflight());
+        assertTrue(yedis2.getStats().getLatencyNanos() > yedis1.getStats().getLatencyNanos());
+        for (int i = 0; i < 100; i++) {
+            assertSame(yedis1, lb.route());
+        }
+    }
+
+    @Test
+    public void testSingle() {
+        AdaptiveLoadBalancer lb = new AdaptiveLoadBalancer(yedisList.subList(1, 2));
+        assertSame(yedis2, lb.route());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test(expected = IllegalArgumentException.class)
+    public void testException() {
+        new AdaptiveLoadBalancer(Collections.EMPTY_LIST);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.yeahmobi.yedis.loadbalance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.YedisTestBase;
+
+public class WeightedLoadBalancerTest extends YedisTestBase {
+
+    private static List<Yedis> yedisList = new ArrayList<Yedis>();
+
+    private static Yedis       yedis1;
+    private static Yedis       yedis2;
+    private static Yedis       yedis3;
+
+    @BeforeClass
+    public static void init() {
+        yedis1 = create(3);
+        yedis2 = create(1);
+        yedis3 = create(0);
+        yedisList.add(yedis1);
+        yedisList.add(yedis2);
+        yedisList.add(yedis3);
+    }
+
+    @AfterClass
+    public static void close() {
+        for (Yedis yedis : yedisList) {
+            yedis.close();
+        }
+    }
+
+    private static Yedis create(int weight) {
+        AtomConfig config = new AtomConfig(host, port);
+        config.setWeight(weight);
+        return new Yedis(config);
+    }
+
+    private WeightedLoadBalancer lb = new WeightedLoadBalancer(yedisList);
+
+    @Test
+    public void testType() {
+        assertEquals(LoadBalancer.Type.WEIGHTED, lb.getType());
+    }
+
+    @Test
+    public void testRoute() {
+        int count1 = 0;
+        int count2 = 0;
+        for (int i = 0; i < 400; i++) {
+            Yedis yedis = lb.route();
+            if (yedis == yedis1) {
+                count1++;
+            } else if (yedis == yedis2) {
+                count2++;
+            } else {
+                fail("weight 0 should never be routed");
+            }
+        }
+        assertEquals(300, count1);
+        assertEquals(100, count2);
+    }
+
+    @Test
+    public void testSmooth() {
+        List<Yedis> list = new ArrayList<Yedis>();
+        list.add(create(1));
+        list.add(create(1));
+        try {
+            WeightedLoadBalancer lb = new WeightedLoadBalancer(list);
+            // 权重相同时交替选择
+            Yedis first = lb.route();
+            assertNotSame(first, lb.route());
+            assertSame(first, lb.route());
+        } finally {
+            for (Yedis yedis : list) {
+                yedis.close();
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAllZero() {
+        new WeightedLoadBalancer(yedisList.subList(2, 3));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test(expected = IllegalArgumentException.class)
+    public void testException() {
+        new WeightedLoadBalancer(Collections.EMPTY_LIST);
+    }
+
+}
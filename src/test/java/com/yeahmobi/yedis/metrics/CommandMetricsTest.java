@@ -0,0 +1,58 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CommandMetricsTest extends Assert {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static void record(CommandMetrics metrics, long millis, Outcome outcome, int times) {
+        for (int i = 0; i < times; i++) {
+            long end = System.nanoTime();
+            metrics.record(end - TimeUnit.MILLISECONDS.toNanos(millis), 0, end, outcome);
+        }
+    }
+
+    @Test
+    public void recentSuccessOnly() {
+        CommandMetrics metrics = new CommandMetrics("get");
+        record(metrics, 1, Outcome.SUCCESS, 100);
+        record(metrics, 500, Outcome.CANCELLED, 100);
+        record(metrics, 500, Outcome.TIMEOUT, 100);
+
+        HistogramSnapshot snapshot = metrics.getRecentSuccessSnapshot(WINDOW_NANOS);
+        assertEquals(100, snapshot.getCount());
+        assertTrue(snapshot.getValueAtPercentile(99) < 2000);
+        assertEquals(300, metrics.getTotal().snapshot().getCount());
+    }
+
+    @Test
+    public void recentWindowFollowsSlowdown() throws InterruptedException {
+        CommandMetrics metrics = new CommandMetrics("get");
+        record(metrics, 100, Outcome.SUCCESS, 100);
+        assertTrue(metrics.getRecentSuccessSnapshot(WINDOW_NANOS).getValueAtPercentile(50) >= 90000);
+
+        // 窗口滑过之后，旧的慢样本不再计入
+        for (int i = 0; i < 7; i++) {
+            Thread.sleep(15);
+            record(metrics, 1, Outcome.SUCCESS, 10);
+            metrics.getRecentSuccessSnapshot(WINDOW_NANOS);
+        }
+        HistogramSnapshot snapshot = metrics.getRecentSuccessSnapshot(WINDOW_NANOS);
+        assertTrue(snapshot.getCount() > 0 && snapshot.getCount() < 100);
+        assertTrue(snapshot.getValueAtPercentile(99) < 2000);
+        assertTrue(snapshot.getMax() < 2000);
+
+        // 最近变慢
+        for (int i = 0; i < 7; i++) {
+            Thread.sleep(15);
+            record(metrics, 100, Outcome.SUCCESS, 10);
+            metrics.getRecentSuccessSnapshot(WINDOW_NANOS);
+        }
+        assertTrue(metrics.getRecentSuccessSnapshot(WINDOW_NANOS).getValueAtPercentile(50) >= 90000);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.yeahmobi.yedis.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.Test;
+
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.YedisException;
+
+public class YedisMetricsTest extends YedisTestBase {
+
+    @Test
+    public void commands() throws Exception {
+        Yedis yedis = new Yedis(new AtomConfig(host, port));
+        try {
+            yedis.set("key", "value");
+            yedis.get("key");
+            yedis.async().get("key").get();
+            try {
+                yedis.incr("key");
+                fail();
+            } catch (YedisException e) {
+                // 值不是整数
+            }
+
+            YedisMetrics metrics = yedis.getMetrics();
+            assertEquals(host + ":" + port, metrics.getServer());
+            assertEquals(1, metrics.getCommand("set").getTotal().snapshot().getCount());
+            CommandMetrics get = metrics.getCommand("get");
+            assertEquals(2, get.getTotal().snapshot().getCount());
+            assertEquals(2, get.getExecution().snapshot().getCount());
+            assertEquals(2, get.getQueueWait().snapshot().getCount());
+            assertEquals(1, metrics.getCommand("incr").getErrors());
+            assertEquals(new AtomConfig().getThreadPoolSize(), metrics.getQueueDepths().length);
+        } finally {
+            yedis.flushAll();
+            yedis.close();
+        }
+    }
+
+    @Test
+    public void networkErrorsAndTimeouts() {
+        // 不可用的server
+        Yedis yedis = new Yedis(new AtomConfig(host, 1));
+        try {
+            for (int i = 0; i < 3; i++) {
+                try {
+                    yedis.get("key");
+                    fail();
+                } catch (YedisException e) {
+                    // 网络异常或超时
+                }
+            }
+            CommandMetrics get = yedis.getMetrics().getCommand("get");
+            assertEquals(3, get.getNetworkErrors() + get.getTimeouts());
+        } finally {
+            yedis.close();
+        }
+    }
+
+    @Test
+    public void disabled() {
+        AtomConfig config = new AtomConfig(host, port);
+        config.setMetricsEnabled(false);
+        Yedis yedis = new Yedis(config);
+        try {
+            assertNull(yedis.getMetrics());
+            yedis.get("key");
+        } finally {
+            yedis.close();
+        }
+    }
+
+    @Test
+    public void jmx() throws Exception {
+        AtomConfig config = new AtomConfig(host, port);
+        config.setJmxEnabled(true);
+        Yedis yedis = new Yedis(config);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName pattern = new ObjectName("com.yeahmobi.yedis:type=YedisMetrics,server=" + host + "_" + port
+                                            + ",*");
+        try {
+            yedis.get("key");
+            assertEquals(1, server.queryNames(pattern, null).size());
+            ObjectName name = server.queryNames(pattern, null).iterator().next();
+            CompositeData[] stats = (CompositeData[]) server.getAttribute(name, "CommandStats");
+            assertEquals(1, stats.length);
+            assertEquals("get", stats[0].get("name"));
+            assertEquals(1L, stats[0].get("count"));
+        } finally {
+            yedis.close();
+        }
+        assertEquals(0, server.queryNames(pattern, null).size());
+    }
+
+    @Test
+    public void reporter() throws InterruptedException {
+        final Yedis yedis = new Yedis(new AtomConfig(host, port));
+        final CountDownLatch latch = new CountDownLatch(1);
+        yedis.get("key");
+        ScheduledFuture<?> future = MetricsRegistry.getInstance().schedule(new MetricsReporter() {
+
+            @Override
+            public void report(List<YedisMetrics> metrics) {
+                if (metrics.contains(yedis.getMetrics())) {
+                    latch.countDown();
+                }
+            }
+        }, 10, TimeUnit.MILLISECONDS);
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } finally {
+            future.cancel(false);
+            yedis.close();
+        }
+        assertFalse(MetricsRegistry.getInstance().getAll().contains(yedis.getMetrics()));
+    }
+
+}
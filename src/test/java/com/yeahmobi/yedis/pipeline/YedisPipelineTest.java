@@ -0,0 +1,128 @@
+package com.yeahmobi.yedis.pipeline;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.base.YedisTestBase;
+
+public class YedisPipelineTest extends YedisTestBase {
+
+    private Yedis yedis;
+
+    @Before
+    public void setUp() {
+        yedis = new Yedis(new AtomConfig(host, port));
+    }
+
+    @After
+    public void tearDown() {
+        yedis.flushAll();
+        yedis.close();
+    }
+
+    @Test
+    public void pipelined() {
+        YedisPipeline pipeline = yedis.pipelined();
+        assertFalse(pipeline.isStreaming());
+        pipeline.set("key", "value");
+        pipeline.get("key");
+        List<Object> results = pipeline.syncAndReturnAll();
+        assertEquals("OK", results.get(0));
+        assertEquals("value", results.get(1));
+    }
+
+    @Test
+    public void streaming() {
+        YedisPipeline pipeline = yedis.pipelined(new StreamingConfig(100, 1000, false));
+        assertTrue(pipeline.isStreaming());
+        Response<String> first = pipeline.set("key0", "value0");
+        for (int i = 1; i < 20000; i++) {
+            pipeline.set("key" + i, "value" + i);
+        }
+        // 未读取的reply超过上限时已经读取，不需要等到sync
+        assertEquals("OK", first.get());
+        Response<String> last = pipeline.get("key19999");
+        pipeline.sync();
+        assertEquals("value19999", last.get());
+        assertEquals(20000L, yedis.dbSize().longValue());
+        assertEquals(0, pipeline.getErrorCount());
+    }
+
+    @Test
+    public void streamingError() {
+        yedis.set("string", "value");
+        YedisPipeline pipeline = yedis.pipelined(new StreamingConfig(1, 2, false));
+        Response<Long> incr = pipeline.incr("string");
+        Response<String> set = pipeline.set("key", "value");
+        pipeline.sync();
+        try {
+            incr.get();
+            fail();
+        } catch (JedisDataException e) {
+            // 值不是整数
+        }
+        assertEquals("OK", set.get());
+    }
+
+    @Test
+    public void streamingTransaction() {
+        YedisPipeline pipeline = yedis.pipelined(new StreamingConfig(1, 2, false));
+        pipeline.multi();
+        pipeline.set("key1", "value1");
+        pipeline.set("key2", "value2");
+        pipeline.incr("counter");
+        Response<List<Object>> exec = pipeline.exec();
+        pipeline.sync();
+        assertEquals(3, exec.get().size());
+        assertEquals(1L, exec.get().get(2));
+        assertEquals("value2", yedis.get("key2"));
+    }
+
+    @Test
+    public void discardReplies() {
+        yedis.set("string", "value");
+        YedisPipeline pipeline = yedis.pipelined(new StreamingConfig(10, 100, true));
+        Response<String> set = pipeline.set("key0", "value0");
+        for (int i = 1; i < 1000; i++) {
+            pipeline.set("key" + i, "value" + i);
+        }
+        pipeline.incr("string");
+        pipeline.multi();
+        pipeline.incr("counter");
+        pipeline.exec();
+        pipeline.sync();
+        assertEquals(1, pipeline.getErrorCount());
+        assertEquals("value999", yedis.get("key999"));
+        assertEquals("1", yedis.get("counter"));
+        try {
+            set.get();
+            fail();
+        } catch (IllegalStateException e) {
+            // reply已丢弃
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void streamingSyncAndReturnAll() {
+        YedisPipeline pipeline = yedis.pipelined(new StreamingConfig());
+        try {
+            pipeline.syncAndReturnAll();
+        } finally {
+            pipeline.sync();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidConfig() {
+        new StreamingConfig().setMaxOutstanding(0);
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.yeahmobi.yedis.shard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import redis.clients.jedis.Jedis;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.common.YedisNetworkException;
+import com.yeahmobi.yedis.common.YedisTimeoutException;
+import com.yeahmobi.yedis.group.GroupConfig;
+import com.yeahmobi.yedis.group.GroupYedis;
+
+public class AsyncShardedYedisTest extends AbstractShardedYedisTest {
+
+    // 让redis忙等ARGV[1]微秒
+    private static final String BUSY_SCRIPT = "local t = redis.call('TIME') local start = t[1] * 1000000 + t[2] "
+                                              + "while true do local n = redis.call('TIME') "
+                                              + "if n[1] * 1000000 + n[2] - start > tonumber(ARGV[1]) then break end end "
+                                              + "return 1";
+
+    @After
+    public void tearDown() {
+        flushAll();
+    }
+
+    /**
+     * 在后台让port上的redis停顿millis毫秒
+     */
+    private Thread pause(final int port, final long millis) throws InterruptedException {
+        Thread thread = new Thread() {
+
+            @Override
+            public void run() {
+                Jedis jedis = new Jedis(host, port, 5000);
+                try {
+                    jedis.eval(BUSY_SCRIPT, 0, String.valueOf(millis * 1000));
+                } finally {
+                    jedis.close();
+                }
+            }
+        };
+        thread.start();
+        Thread.sleep(50);
+        return thread;
+    }
+
+    private static String[] keys(int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = "key" + i;
+        }
+        return keys;
+    }
+
+    @Test
+    public void setAndGet() throws InterruptedException, ExecutionException {
+        AsyncShardedYedis async = yedis.async();
+        assertEquals("OK", async.set("key1", "value1").get());
+        assertEquals("value1", async.get("key1").get());
+    }
+
+    @Test
+    public void msetAndMgetAcrossShards() throws InterruptedException, ExecutionException {
+        String[] keys = keys(20);
+        String[] keysvalues = new String[keys.length * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keysvalues[i * 2] = keys[i];
+            keysvalues[i * 2 + 1] = "value" + i;
+        }
+        AsyncShardedYedis async = yedis.async();
+        assertEquals("OK", async.mset(keysvalues).get());
+
+        // key分布在两个shard上
+        for (int port : new int[] { port1, port2 }) {
+            Jedis jedis = new Jedis(host, port);
+            try {
+                int count = 0;
+                for (String key : keys) {
+                    if (jedis.exists(key)) {
+                        count++;
+                    }
+                }
+                assertTrue(count > 0 && count < keys.length);
+            } finally {
+                jedis.close();
+            }
+        }
+
+        List<String> values = async.mget(keys).get();
+        assertEquals(keys.length, values.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals("value" + i, values.get(i));
+        }
+        assertEquals(Long.valueOf(keys.length), async.del(keys).get());
+        assertNull(async.mget(keys).get().get(0));
+    }
+
+    @Test
+    public void callback() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<List<String>> result = new AtomicReference<List<String>>();
+        yedis.set("key1", "value1");
+        Futures.addCallback(yedis.async().mget(keys(10)), new FutureCallback<List<String>>() {
+
+            @Override
+            public void onSuccess(List<String> value) {
+                result.set(value);
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(10, result.get().size());
+        assertEquals("value1", result.get().get(1));
+    }
+
+    @Test
+    public void timeout() throws InterruptedException {
+        // 一个shard停顿时，跨shard的mget以超时结束
+        Thread busy = pause(port1, 500);
+        try {
+            yedis.async().mget(keys(20)).get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof YedisTimeoutException);
+        } finally {
+            busy.join();
+        }
+    }
+
+    @Test
+    public void networkError() throws InterruptedException {
+        // 读超时（socketTimeout）早于操作超时，连接被认为已经损坏
+        List<GroupYedis> slowGroups = new ArrayList<GroupYedis>();
+        for (int port : new int[] { port1, port2 }) {
+            List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+            readSeverInfoList.add(new ServerInfo(host, port));
+            GroupConfig groupConfig = new GroupConfig(new ServerInfo(host, port), readSeverInfoList);
+            groupConfig.setTimeout(2000);
+            groupConfig.setSocketTimeout(100);
+            slowGroups.add(new GroupYedis(groupConfig));
+        }
+        ShardedYedis slow = new ShardedYedis(slowGroups, ShardingAlgorithm.SIMPLE_HASH,
+                                             new DefaultHashCodeCoputingStrategy());
+        Thread busy = pause(port1, 1000);
+        try {
+            slow.async().mget(keys(20)).get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof YedisNetworkException);
+        } finally {
+            busy.join();
+            slow.close();
+        }
+    }
+
+}
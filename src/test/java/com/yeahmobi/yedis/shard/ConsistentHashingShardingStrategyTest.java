@@ -0,0 +1,110 @@
+package com.yeahmobi.yedis.shard;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.group.GroupConfig;
+import com.yeahmobi.yedis.group.GroupYedis;
+
+public class ConsistentHashingShardingStrategyTest extends YedisTestBase {
+
+    private static final int        KEYS   = 10000;
+
+    private static List<GroupYedis> groups = new ArrayList<GroupYedis>();
+
+    @BeforeClass
+    public static void initGroupYedis() throws IOException {
+        // 只测试路由，多个GroupYedis可以指向同一个redis
+        for (int i = 0; i < 5; i++) {
+            ServerInfo serverInfo = new ServerInfo(host, port);
+            List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+            readSeverInfoList.add(serverInfo);
+            groups.add(new GroupYedis(new GroupConfig(serverInfo, readSeverInfoList)));
+        }
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        for (GroupYedis group : groups) {
+            group.close();
+        }
+    }
+
+    @Test
+    public void distribution() {
+        ShardingStrategy strategy = create(4);
+        Map<GroupYedis, Integer> counts = new HashMap<GroupYedis, Integer>();
+        for (int i = 0; i < KEYS; i++) {
+            GroupYedis group = strategy.route("key" + i);
+            Integer count = counts.get(group);
+            counts.put(group, count == null ? 1 : count + 1);
+        }
+        assertEquals(4, counts.size());
+        for (Integer count : counts.values()) {
+            assertTrue("unbalanced: " + counts.values(), count > KEYS / 4 * 0.7 && count < KEYS / 4 * 1.3);
+        }
+    }
+
+    @Test
+    public void addShard() {
+        ShardingStrategy before = create(4);
+        ShardingStrategy after = create(5);
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "key" + i;
+            GroupYedis from = before.route(key);
+            GroupYedis to = after.route(key);
+            if (from != to) {
+                // 只会迁移到新增的shard
+                assertSame(groups.get(4), to);
+                moved++;
+            }
+        }
+        assertTrue("moved " + moved, moved > KEYS / 5 * 0.7 && moved < KEYS / 5 * 1.3);
+    }
+
+    @Test
+    public void routeBytes() {
+        ShardingStrategy strategy = create(5);
+        for (int i = 0; i < 100; i++) {
+            String key = "key" + i;
+            assertSame(strategy.route(key), strategy.route(key.getBytes()));
+        }
+    }
+
+    @Test
+    public void shardIndex() {
+        AbstractShardingStrategy strategy = create(5);
+        assertEquals(5, strategy.size());
+        for (int i = 0; i < 100; i++) {
+            String key = "key" + i;
+            int index = strategy.shardIndex(key);
+            assertSame(groups.get(index), strategy.getShard(index));
+            assertSame(strategy.route(key), strategy.getShard(index));
+            assertEquals(index, strategy.shardIndex(key.getBytes()));
+        }
+    }
+
+    @Test
+    public void shardedYedis() {
+        ShardedYedis yedis = new ShardedYedis(groups.subList(0, 2), ShardingAlgorithm.CONSISTENT_HASH,
+                                              new DefaultHashCodeCoputingStrategy(), 40);
+        yedis.set("key", "value");
+        assertEquals("value", yedis.get("key"));
+        yedis.del("key");
+    }
+
+    private static AbstractShardingStrategy create(int shards) {
+        return new ConsistentHashingShardingStrategy(groups.subList(0, shards), new DefaultHashCodeCoputingStrategy());
+    }
+
+}
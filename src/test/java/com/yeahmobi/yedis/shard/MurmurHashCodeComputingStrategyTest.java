@@ -0,0 +1,40 @@
+package com.yeahmobi.yedis.shard;
+
+import java.io.UnsupportedEncodingException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+
+public class MurmurHashCodeComputingStrategyTest extends Assert {
+
+    private static final String[]                 KEYS     = { "", "a", "ab", "abc", "abcd", "hello",
+            "The quick brown fox jumps over the lazy dog", "été", "中文key",
+            "emoji😀", "broken\ud83d", "\ude00broken", "user:10086:profile" };
+
+    private final MurmurHashCodeComputingStrategy strategy = new MurmurHashCodeComputingStrategy();
+
+    @Test
+    public void sameAsGuava() {
+        for (String key : KEYS) {
+            int expected = Hashing.murmur3_32().hashString(key, Charsets.UTF_8).asInt();
+            assertEquals(key, expected, strategy.hash(key));
+            byte[] bytes = key.getBytes(Charsets.UTF_8);
+            assertEquals(key, expected, strategy.hash(bytes, 0, bytes.length));
+        }
+    }
+
+    @Test
+    public void offset() throws UnsupportedEncodingException {
+        byte[] bytes = "xxhelloyy".getBytes("UTF-8");
+        assertEquals(strategy.hash("hello"), strategy.hash(bytes, 2, 5));
+    }
+
+    @Test
+    public void seed() {
+        assertFalse(strategy.hash("hello") == new MurmurHashCodeComputingStrategy(1).hash("hello"));
+    }
+
+}
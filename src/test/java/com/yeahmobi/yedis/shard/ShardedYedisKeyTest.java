@@ -28,12 +28,30 @@ public class ShardedYedisKeyTest extends AbstractShardedYedisTest {
         assertEquals(Long.valueOf(0), yedis.del("key3"));
     }
 
+    @Test
+    public void delMulti() {
+        assertEquals(Long.valueOf(2), yedis.del(key1, key2, "key3"));
+        assertNull(yedis.get(key1));
+        assertNull(yedis.get(key2));
+    }
+
+    @Test
+    public void delMultiByte() {
+        assertEquals(Long.valueOf(2), yedis.del(key1.getBytes(), key2.getBytes(), "key3".getBytes()));
+    }
+
     @Test
     public void delByte() {
         assertEquals(Long.valueOf(1), yedis.del(key1.getBytes()));
         assertEquals(Long.valueOf(0), yedis.del("key3".getBytes()));
     }
 
+    @Test
+    public void existsMulti() {
+        assertEquals(Long.valueOf(2), yedis.exists(key1, key2, "key3"));
+        assertEquals(Long.valueOf(1), yedis.exists(key2.getBytes(), "key3".getBytes()));
+    }
+
     @Test
     public void exists() {
         assertEquals(true, yedis.exists(key1));
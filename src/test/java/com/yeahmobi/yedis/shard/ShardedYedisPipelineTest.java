@@ -0,0 +1,170 @@
+package com.yeahmobi.yedis.shard;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import com.yeahmobi.yedis.group.GroupYedis;
+import com.yeahmobi.yedis.pipeline.ShardedYedisPipeline;
+import com.yeahmobi.yedis.pipeline.StreamingConfig;
+
+public class ShardedYedisPipelineTest extends AbstractShardedYedisTest {
+
+    @After
+    public void tearDown() {
+        flushAll();
+    }
+
+    @Test
+    public void syncAndReturnAll() {
+        ShardedYedisPipeline pipeline = yedis.pipeline();
+        assertResults(pipeline);
+    }
+
+    @Test
+    public void syncAndReturnAllWithExecutor() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            for (int i = 0; i < 10; i++) {
+                assertResults(yedis.pipeline(executor));
+                flushAll();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void sync() {
+        ShardedYedisPipeline pipeline = yedis.pipeline(Executors.newSingleThreadExecutor());
+        Response<String> set1 = pipeline.set("key1", "value1");
+        Response<String> set2 = pipeline.set("key2", "value2");
+        Response<String> get1 = pipeline.get("key1");
+        Response<String> get2 = pipeline.get("key2");
+        pipeline.sync();
+        assertEquals("OK", set1.get());
+        assertEquals("OK", set2.get());
+        assertEquals("value1", get1.get());
+        assertEquals("value2", get2.get());
+        // 可多次调用
+        pipeline.sync();
+    }
+
+    @Test
+    public void commandError() {
+        yedis.set("key1", "value1");
+        ShardedYedisPipeline pipeline = yedis.pipeline();
+        pipeline.incr("key1");
+        pipeline.set("key2", "value2");
+        List<Object> results = pipeline.syncAndReturnAll();
+        assertTrue(results.get(0) instanceof JedisDataException);
+        assertEquals("OK", results.get(1));
+        assertEquals("value2", yedis.get("key2"));
+    }
+
+    @Test
+    public void streaming() {
+        yedis.set("string", "value");
+        ShardedYedisPipeline pipeline = yedis.pipeline(new StreamingConfig(10, 100, true));
+        for (int i = 0; i < 1000; i++) {
+            pipeline.set("key" + i, "value" + i);
+        }
+        pipeline.incr("string");
+        pipeline.sync();
+        assertEquals(1, pipeline.getErrorCount());
+        for (int i = 0; i < 1000; i += 100) {
+            assertEquals("value" + i, yedis.get("key" + i));
+        }
+        try {
+            pipeline.syncAndReturnAll();
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // 流式pipeline不保留reply
+        }
+    }
+
+    @Test
+    public void customStrategy() {
+        // 没有继承AbstractShardingStrategy的实现，按route()的结果分组
+        final ShardingStrategy delegate = new SimpleHashingShardingStrategy(groups, new DefaultHashCodeCoputingStrategy());
+        ShardingStrategy custom = new ShardingStrategy() {
+
+            @Override
+            public GroupYedis route(String key) {
+                return delegate.route(key);
+            }
+
+            @Override
+            public GroupYedis route(byte[] key) {
+                return delegate.route(key);
+            }
+
+            @Override
+            public void flushAll() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertResults(new ShardedYedisPipeline(custom));
+        assertEquals("value7", yedis.get("key7"));
+    }
+
+    @Test
+    public void routeOnlySubclass() {
+        // 只实现route()的AbstractShardingStrategy子类，shardIndex按route()的结果查找
+        final ShardingStrategy delegate = new SimpleHashingShardingStrategy(groups, new DefaultHashCodeCoputingStrategy());
+        AbstractShardingStrategy strategy = new AbstractShardingStrategy(groups, new DefaultHashCodeCoputingStrategy()) {
+
+            @Override
+            public GroupYedis route(String key) {
+                return delegate.route(key);
+            }
+
+            @Override
+            public GroupYedis route(byte[] key) {
+                return delegate.route(key);
+            }
+
+            @Override
+            public void flushAll() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        for (int i = 0; i < 20; i++) {
+            String key = "key" + i;
+            assertSame(strategy.route(key), strategy.getShard(strategy.shardIndex(key)));
+            assertSame(strategy.route(key), strategy.getShard(strategy.shardIndex(key.getBytes())));
+        }
+        assertResults(new ShardedYedisPipeline(strategy));
+        assertEquals("value7", yedis.get("key7"));
+    }
+
+    private void assertResults(ShardedYedisPipeline pipeline) {
+        for (int i = 0; i < 20; i++) {
+            pipeline.set("key" + i, "value" + i);
+        }
+        for (int i = 19; i >= 0; i--) {
+            pipeline.get("key" + i);
+        }
+        List<Object> results = pipeline.syncAndReturnAll();
+        assertEquals(40, results.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("OK", results.get(i));
+            assertEquals("value" + (19 - i), results.get(20 + i));
+        }
+        // 已sync过的pipeline不再返回结果
+        assertNull(pipeline.syncAndReturnAll().get(0));
+    }
+
+}
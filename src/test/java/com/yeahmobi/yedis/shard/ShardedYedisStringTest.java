@@ -1,9 +1,15 @@
 package com.yeahmobi.yedis.shard;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.yeahmobi.yedis.common.YedisException;
+import com.yeahmobi.yedis.group.GroupYedis;
+
 public class ShardedYedisStringTest extends AbstractShardedYedisTest {
 
     private String key1 = "key1";
@@ -170,4 +176,57 @@ public class ShardedYedisStringTest extends AbstractShardedYedisTest {
         assertEquals(Long.valueOf(6), yedis.strlen(key1.getBytes()));
     }
 
+    @Test
+    public void mget() {
+        yedis.set("key3", "value3");
+        assertEquals(Arrays.asList("value1", null, "value2", "value3"), yedis.mget(key1, "nokey", key2, "key3"));
+    }
+
+    @Test
+    public void mgetByte() {
+        List<byte[]> values = yedis.mget(key2.getBytes(), key1.getBytes());
+        assertArrayEquals("value2".getBytes(), values.get(0));
+        assertArrayEquals("value1".getBytes(), values.get(1));
+    }
+
+    @Test
+    public void mset() {
+        String[] keysvalues = new String[40];
+        for (int i = 0; i < 20; i++) {
+            keysvalues[i * 2] = "mkey" + i;
+            keysvalues[i * 2 + 1] = "mvalue" + i;
+        }
+        assertEquals("OK", yedis.mset(keysvalues));
+        // key分布在两个shard上
+        for (GroupYedis group : groups) {
+            assertTrue(group.dbSize() > 0);
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals("mvalue" + i, yedis.get("mkey" + i));
+        }
+    }
+
+    @Test
+    public void msetByte() {
+        assertEquals("OK", yedis.mset(key1.getBytes(), "new1".getBytes(), "key3".getBytes(), "new3".getBytes()));
+        assertEquals(Arrays.asList("new1", "value2", "new3"), yedis.mget(key1, key2, "key3"));
+    }
+
+    @Test
+    public void mgetInterrupted() {
+        String[] keys = new String[20];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "mkey" + i;
+        }
+        Thread.currentThread().interrupt();
+        try {
+            yedis.mget(keys);
+            fail();
+        } catch (YedisException e) {
+            // 等待各shard的结果时被中断
+        }
+        // 中断状态要保留给调用者
+        assertTrue(Thread.interrupted());
+    }
+
 }
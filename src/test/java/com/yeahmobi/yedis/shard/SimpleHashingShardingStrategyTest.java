@@ -0,0 +1,89 @@
+package com.yeahmobi.yedis.shard;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.yeahmobi.yedis.base.YedisTestBase;
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.group.GroupConfig;
+import com.yeahmobi.yedis.group.GroupYedis;
+
+public class SimpleHashingShardingStrategyTest extends YedisTestBase {
+
+    private static List<GroupYedis> groups = new ArrayList<GroupYedis>();
+
+    @BeforeClass
+    public static void initGroupYedis() throws IOException {
+        // 只测试路由，多个GroupYedis可以指向同一个redis
+        for (int i = 0; i < 3; i++) {
+            ServerInfo serverInfo = new ServerInfo(host, port);
+            List<ServerInfo> readSeverInfoList = new ArrayList<ServerInfo>();
+            readSeverInfoList.add(serverInfo);
+            groups.add(new GroupYedis(new GroupConfig(serverInfo, readSeverInfoList)));
+        }
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        for (GroupYedis group : groups) {
+            group.close();
+        }
+    }
+
+    @Test
+    public void routeBytes() {
+        // String.hashCode()为负数的key，以前byte[]的路由会得到负的下标
+        ShardingStrategy strategy = new SimpleHashingShardingStrategy(groups, new DefaultHashCodeCoputingStrategy());
+        int negative = 0;
+        for (int i = 0; i < 1000; i++) {
+            String key = "negative-hash-key" + i;
+            if (key.hashCode() < 0) {
+                negative++;
+            }
+            assertSame(strategy.route(key), strategy.route(key.getBytes()));
+        }
+        assertTrue(negative > 0);
+    }
+
+    @Test
+    public void shardIndex() {
+        AbstractShardingStrategy strategy = new SimpleHashingShardingStrategy(groups, new DefaultHashCodeCoputingStrategy());
+        assertEquals(3, strategy.size());
+        for (int i = 0; i < 100; i++) {
+            String key = "key" + i;
+            int index = strategy.shardIndex(key);
+            assertEquals(Math.abs(key.hashCode() % 3), index);
+            assertSame(groups.get(index), strategy.route(key));
+            assertEquals(index, strategy.shardIndex(key.getBytes()));
+        }
+    }
+
+    @Test
+    public void minValueHash() {
+        ShardingStrategy strategy = new SimpleHashingShardingStrategy(groups, new HashCodeComputingStrategy() {
+
+            @Override
+            public int hash(String key) {
+                return Integer.MIN_VALUE;
+            }
+        });
+        assertSame(groups.get(Math.abs(Integer.MIN_VALUE % 3)), strategy.route("key"));
+        assertSame(strategy.route("key"), strategy.route("key".getBytes()));
+    }
+
+    @Test
+    public void routeBytesWithMurmur() {
+        ShardingStrategy strategy = new SimpleHashingShardingStrategy(groups, new MurmurHashCodeComputingStrategy());
+        for (int i = 0; i < 1000; i++) {
+            String key = "中文key" + i;
+            assertSame(strategy.route(key), strategy.route(key.getBytes(Charsets.UTF_8)));
+        }
+    }
+
+}
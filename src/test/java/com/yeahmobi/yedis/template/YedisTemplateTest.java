@@ -0,0 +1,155 @@
+package com.yeahmobi.yedis.template;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.yeahmobi.yedis.base.DoubleServerYedisTestBase;
+import com.yeahmobi.yedis.codec.ByteArrayCodec;
+import com.yeahmobi.yedis.codec.CompactCodec;
+import com.yeahmobi.yedis.codec.StringCodec;
+import com.yeahmobi.yedis.codec.ValueCompressor;
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.group.GroupConfig;
+import com.yeahmobi.yedis.group.GroupYedis;
+import com.yeahmobi.yedis.shard.DefaultHashCodeCoputingStrategy;
+import com.yeahmobi.yedis.shard.ShardedYedis;
+import com.yeahmobi.yedis.shard.ShardingAlgorithm;
+
+public class YedisTemplateTest extends DoubleServerYedisTestBase {
+
+    private static GroupYedis   group1;
+
+    private static GroupYedis   group2;
+
+    private static ShardedYedis sharded;
+
+    @BeforeClass
+    public static void start() throws IOException {
+        startRedisServer();
+        group1 = new GroupYedis(new GroupConfig(new ServerInfo(host, port1), new ArrayList<ServerInfo>()));
+        group2 = new GroupYedis(new GroupConfig(new ServerInfo(host, port2), new ArrayList<ServerInfo>()));
+        sharded = new ShardedYedis(Arrays.asList(group1, group2), ShardingAlgorithm.SIMPLE_HASH,
+                                   new DefaultHashCodeCoputingStrategy());
+    }
+
+    @AfterClass
+    public static void stop() throws InterruptedException {
+        sharded.close();
+        stopRedisServer();
+    }
+
+    @After
+    public void tearDown() {
+        group1.flushAll();
+        group2.flushAll();
+    }
+
+    @Test
+    public void group() {
+        verify(new YedisTemplate<String, Object>(group1, StringCodec.INSTANCE, CompactCodec.INSTANCE));
+    }
+
+    @Test
+    public void sharded() {
+        verify(new YedisTemplate<String, Object>(sharded, StringCodec.INSTANCE, CompactCodec.INSTANCE));
+    }
+
+    @Test
+    public void stringValuesReadableByPlainCommands() {
+        YedisTemplate<String, String> template = new YedisTemplate<String, String>(group1, StringCodec.INSTANCE,
+                                                                                   StringCodec.INSTANCE);
+        template.set("中文", "值");
+        assertEquals("值", group1.get("中文"));
+        assertEquals(Long.valueOf(1), template.hset("hash", "field", "v"));
+        assertEquals("v", group1.hget("hash", "field"));
+    }
+
+    @Test
+    public void compression() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append("{\"id\":").append(i).append(",\"name\":\"中文\"}");
+        }
+        String large = builder.toString();
+        YedisTemplate<String, byte[]> raw = new YedisTemplate<String, byte[]>(sharded, StringCodec.INSTANCE,
+                                                                              ByteArrayCodec.INSTANCE);
+        YedisTemplate<String, String> template = new YedisTemplate<String, String>(sharded, StringCodec.INSTANCE,
+                                                                                   StringCodec.INSTANCE,
+                                                                                   new ValueCompressor(1024));
+        // 开启压缩前写入的value
+        raw.set("old", StringCodec.INSTANCE.encode(large));
+        assertTrue(large.equals(template.get("old")));
+
+        template.set("large", large);
+        template.set("small", "small");
+        assertTrue(large.equals(template.get("large")));
+        assertTrue(ValueCompressor.isCompressed(raw.get("large")));
+        assertEquals("small", StringCodec.INSTANCE.decode(raw.get("small")));
+
+        template.hset("hash", "field", large);
+        assertTrue(large.equals(template.hgetAll("hash").get("field")));
+
+        ValueCompressor compressor = template.getCompressor();
+        assertEquals(1, compressor.getStats("set").getCompressedCount());
+        assertEquals(1, compressor.getStats("set").getUncompressedCount());
+        assertTrue(compressor.getStats("set").getBytesSaved() > large.length());
+        assertEquals(1, compressor.getStats("get").getDecompressedCount());
+        assertEquals(1, compressor.getStats("hgetAll").getDecompressedCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullValue() {
+        new YedisTemplate<String, String>(group1, StringCodec.INSTANCE, StringCodec.INSTANCE).set("key", null);
+    }
+
+    private void verify(YedisTemplate<String, Object> template) {
+        List<Object> value = new ArrayList<Object>();
+        value.add(1L);
+        value.add("two");
+        value.add(new byte[] { 3 });
+
+        assertNull(template.get("key"));
+        assertEquals("OK", template.set("key", value));
+        Object decoded = template.get("key");
+        assertEquals(1L, ((List<?>) decoded).get(0));
+        assertEquals("two", ((List<?>) decoded).get(1));
+        assertTrue(template.exists("key"));
+        assertEquals(Long.valueOf(0), template.setnx("key", 1));
+        assertEquals(Long.valueOf(1), template.expire("key", 100));
+        assertTrue(template.ttl("key") > 0);
+
+        Map<String, Object> keysvalues = new LinkedHashMap<String, Object>();
+        keysvalues.put("k1", 1);
+        keysvalues.put("k2", "v2");
+        assertEquals("OK", template.mset(keysvalues));
+        assertEquals(Arrays.<Object> asList(1, "v2", null), template.mget(Arrays.asList("k1", "k2", "k3")));
+
+        assertEquals("OK", template.setex("ex", 100, true));
+        assertEquals(true, template.get("ex"));
+
+        Map<String, Object> hash = new LinkedHashMap<String, Object>();
+        hash.put("f1", 1.5);
+        hash.put("f2", "中文");
+        assertEquals("OK", template.hmset("hash", hash));
+        assertEquals(Long.valueOf(1), template.hset("hash", "f3", 3L));
+        assertEquals(1.5, template.hget("hash", "f1"));
+        assertEquals(Arrays.<Object> asList("中文", null), template.hmget("hash", "f2", "none"));
+        Map<String, Object> all = template.hgetAll("hash");
+        assertEquals(3, all.size());
+        assertEquals(3L, all.get("f3"));
+        assertEquals(Long.valueOf(2), template.hdel("hash", "f1", "f2"));
+
+        assertEquals(Long.valueOf(1), template.del("key"));
+        assertNull(template.get("key"));
+    }
+
+}
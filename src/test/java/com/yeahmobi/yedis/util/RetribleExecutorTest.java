@@ -69,4 +69,114 @@ public class RetribleExecutorTest extends Assert {
         }, retryCount);
     }
 
+    /**
+     * 前failures次抛出YedisTimeoutException，之后返回"done"
+     */
+    private static class FailingOperator implements RetriableOperator<String> {
+
+        private final int failures;
+
+        int               calls;
+
+        FailingOperator(int failures) {
+            this.failures = failures;
+        }
+
+        public String execute() {
+            if (calls++ < failures) {
+                throw new YedisTimeoutException();
+            }
+            return "done";
+        }
+    }
+
+    @Test
+    public void testPolicy() {
+        RetryPolicy policy = new RetryPolicy(3, 0);
+        policy.setBackoff(1, 5);
+        FailingOperator opr = new FailingOperator(3);
+        assertEquals("done", RetribleExecutor.execute(opr, policy));
+        assertEquals(4, opr.calls);
+    }
+
+    @Test
+    public void testNonIdempotent() {
+        RetryPolicy policy = new RetryPolicy(3, 0);
+        FailingOperator opr = new FailingOperator(1);
+        try {
+            RetribleExecutor.execute(opr, policy, false);
+            fail();
+        } catch (YedisTimeoutException e) {
+            assertEquals(1, opr.calls);
+        }
+    }
+
+    @Test
+    public void testDeadline() {
+        RetryPolicy policy = new RetryPolicy(Integer.MAX_VALUE, 100);
+        policy.setBackoff(10, 10);
+        FailingOperator opr = new FailingOperator(Integer.MAX_VALUE);
+        long start = System.currentTimeMillis();
+        try {
+            RetribleExecutor.execute(opr, policy);
+            fail();
+        } catch (YedisTimeoutException e) {
+            assertTrue(System.currentTimeMillis() - start < 1000);
+            assertTrue(opr.calls > 1);
+        }
+    }
+
+    @Test
+    public void testBudget() {
+        RetryPolicy policy = new RetryPolicy(Integer.MAX_VALUE, 0);
+        policy.setBackoff(0, 0);
+        policy.setRetryBudget(10, 1);
+        FailingOperator opr = new FailingOperator(Integer.MAX_VALUE);
+        try {
+            RetribleExecutor.execute(opr, policy);
+            fail();
+        } catch (YedisTimeoutException e) {
+            // token从10降到5时停止重试
+            assertEquals(5, opr.calls);
+        }
+
+        // 成功的调用补充预算后可以再次重试
+        for (int i = 0; i < 5; i++) {
+            assertEquals("done", RetribleExecutor.execute(new FailingOperator(0), policy));
+        }
+        assertEquals(10.0, policy.getBudgetTokens(), 0.001);
+        FailingOperator retried = new FailingOperator(2);
+        assertEquals("done", RetribleExecutor.execute(retried, policy));
+        assertEquals(3, retried.calls);
+    }
+
+    @Test
+    public void testLegacyWithoutBudget() {
+        // 不使用进程共享的重试预算：大量失败之后其他调用仍然会重试
+        for (int i = 0; i < 200; i++) {
+            try {
+                RetribleExecutor.execute(new FailingOperator(Integer.MAX_VALUE), 0);
+                fail();
+            } catch (YedisTimeoutException e) {
+                // 不重试
+            }
+        }
+        FailingOperator retried = new FailingOperator(1);
+        assertEquals("done", RetribleExecutor.execute(retried, 1));
+        assertEquals(2, retried.calls);
+    }
+
+    @Test
+    public void testBackoff() {
+        RetryPolicy policy = new RetryPolicy();
+        policy.setBackoff(10, 50);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(policy.backoffMillis(1) <= 10);
+            assertTrue(policy.backoffMillis(2) <= 20);
+            assertTrue(policy.backoffMillis(10) <= 50);
+            assertTrue(policy.backoffMillis(100) <= 50);
+            assertTrue(policy.backoffMillis(100) >= 0);
+        }
+    }
+
 }
@@ -0,0 +1,98 @@
+package com.yeahmobi.yedis.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yeahmobi.yedis.async.Transport;
+import com.yeahmobi.yedis.group.GroupConfig;
+import com.yeahmobi.yedis.group.GroupYedis;
+import com.yeahmobi.yedis.group.ReadMode;
+import com.yeahmobi.yedis.loadbalance.LoadBalancer;
+
+/**
+ * GroupYedis：读写分离和负载均衡的开销，以及近端缓存（nearCacheMaxSize>0）的效果。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupYedisBenchmark {
+
+    private static final String KEY = "yedis-benchmark";
+
+    @Param({ "THREAD_PER_CONNECTION" })
+    public Transport            transport;
+
+    @Param({ "SLAVEPREFERRED" })
+    public ReadMode             readMode;
+
+    @Param({ "ROUND_ROBIN", "ADAPTIVE" })
+    public LoadBalancer.Type    loadBalancerType;
+
+    @Param({ "0", "10000" })
+    public long                 nearCacheMaxSize;
+
+    private RedisServers        servers;
+
+    private GroupYedis          yedis;
+
+    private String              value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        servers = RedisServers.start(1);
+        GroupConfig config = servers.groupConfig(0);
+        config.setTransport(transport);
+        config.setReadMode(readMode);
+        config.setLoadBalancerType(loadBalancerType);
+        config.setNearCacheMaxSize(nearCacheMaxSize);
+        // 基准期间没有其他客户端写入，缓存不过期
+        config.setNearCacheExpireMillis(TimeUnit.HOURS.toMillis(1));
+        yedis = new GroupYedis(config);
+        value = Keys.value(64);
+        yedis.set(KEY, value);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        yedis.flushAll();
+        yedis.close();
+        servers.stop();
+    }
+
+    @Benchmark
+    public String get() {
+        return yedis.get(KEY);
+    }
+
+    @Benchmark
+    public String set() {
+        return yedis.set(KEY, value);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(16)
+    public String getThroughput() {
+        return yedis.get(KEY);
+    }
+
+}
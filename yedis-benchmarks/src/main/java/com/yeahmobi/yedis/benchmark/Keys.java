@@ -0,0 +1,49 @@
+package com.yeahmobi.yedis.benchmark;
+
+import java.util.Arrays;
+
+import redis.clients.util.SafeEncoder;
+
+/**
+ * 预先生成的key和value，避免在基准方法中拼接字符串
+ */
+public final class Keys {
+
+    private Keys() {
+    }
+
+    public static String[] strings(String prefix, int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = prefix + i;
+        }
+        return keys;
+    }
+
+    public static byte[][] bytes(String[] keys) {
+        byte[][] result = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = SafeEncoder.encode(keys[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 交替的key和value，用于mset
+     */
+    public static String[] keysValues(String[] keys, String value) {
+        String[] keysValues = new String[keys.length * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keysValues[i * 2] = keys[i];
+            keysValues[i * 2 + 1] = value;
+        }
+        return keysValues;
+    }
+
+    public static String value(int size) {
+        char[] value = new char[size];
+        Arrays.fill(value, 'v');
+        return new String(value);
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.yeahmobi.yedis.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.yeahmobi.yedis.async.DispatchMode;
+import com.yeahmobi.yedis.async.Transport;
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.atomic.Yedis;
+import com.yeahmobi.yedis.pipeline.ShardedYedisPipeline;
+import com.yeahmobi.yedis.pipeline.YedisPipeline;
+import com.yeahmobi.yedis.shard.MurmurHashCodeComputingStrategy;
+import com.yeahmobi.yedis.shard.ShardedYedis;
+import com.yeahmobi.yedis.shard.ShardingAlgorithm;
+
+/**
+ * 按批大小比较：显式pipeline（Yedis和ShardedYedis）、以及异步提交一批命令（可配合autoPipelineBatchSize）。<br>
+ * 结果是每批的耗时，除以batchSize即为每个命令的平均耗时。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    private static final int SHARDS = 2;
+
+    @Param({ "1", "10", "100", "1000" })
+    public int               batchSize;
+
+    @Param({ "1", "16" })
+    public int               autoPipelineBatchSize;
+
+    private RedisServers     servers;
+
+    private Yedis            yedis;
+
+    private ShardedYedis     shardedYedis;
+
+    private String[]         keys;
+
+    private String           value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        servers = RedisServers.start(SHARDS);
+        AtomConfig config = servers.atomConfig(0, Transport.THREAD_PER_CONNECTION, DispatchMode.ROUND_ROBIN);
+        config.setAutoPipelineBatchSize(autoPipelineBatchSize);
+        yedis = new Yedis(config);
+        shardedYedis = new ShardedYedis(servers.groups(SHARDS), ShardingAlgorithm.CONSISTENT_HASH,
+                                        new MurmurHashCodeComputingStrategy());
+        keys = Keys.strings("yedis-benchmark-", batchSize);
+        value = Keys.value(64);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        yedis.flushAll();
+        yedis.close();
+        shardedYedis.flushAll();
+        shardedYedis.close();
+        servers.stop();
+    }
+
+    @Benchmark
+    public List<Object> pipeline() {
+        YedisPipeline pipeline = yedis.pipelined();
+        for (String key : keys) {
+            pipeline.set(key, value);
+        }
+        return pipeline.syncAndReturnAll();
+    }
+
+    @Benchmark
+    public List<Object> shardedPipeline() {
+        ShardedYedisPipeline pipeline = shardedYedis.pipeline();
+        for (String key : keys) {
+            pipeline.set(key, value);
+        }
+        return pipeline.syncAndReturnAll();
+    }
+
+    @Benchmark
+    public List<String> async() throws InterruptedException, ExecutionException {
+        @SuppressWarnings("unchecked")
+        ListenableFuture<String>[] futures = new ListenableFuture[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            futures[i] = yedis.async().set(keys[i], value);
+        }
+        return Futures.allAsList(futures).get();
+    }
+
+    @Benchmark
+    public String sequential() {
+        String result = null;
+        for (String key : keys) {
+            result = yedis.set(key, value);
+        }
+        return result;
+    }
+
+}
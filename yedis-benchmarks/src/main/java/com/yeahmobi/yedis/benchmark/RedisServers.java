@@ -0,0 +1,117 @@
+package com.yeahmobi.yedis.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import redis.embedded.RedisServer;
+
+import com.yeahmobi.yedis.async.DispatchMode;
+import com.yeahmobi.yedis.async.Transport;
+import com.yeahmobi.yedis.atomic.AtomConfig;
+import com.yeahmobi.yedis.common.ServerInfo;
+import com.yeahmobi.yedis.group.GroupConfig;
+import com.yeahmobi.yedis.group.GroupYedis;
+
+/**
+ * 基准测试使用的redis：默认在basePort开始的端口上启动嵌入式redis；<br>
+ * 指定 -Dyedis.benchmark.host 时不启动，直接使用该host上 basePort, basePort+1... 的redis（注意会被flushAll）。
+ */
+public final class RedisServers {
+
+    public static final String HOST_PROPERTY = "yedis.benchmark.host";
+
+    public static final String PORT_PROPERTY = "yedis.benchmark.port";
+
+    private static final int   DEFAULT_PORT  = 63900;
+
+    private final String            host;
+
+    private final int               basePort;
+
+    private final int               count;
+
+    private final List<RedisServer> servers = new ArrayList<RedisServer>();
+
+    private RedisServers(String host, int basePort, int count) {
+        this.host = host;
+        this.basePort = basePort;
+        this.count = count;
+    }
+
+    /**
+     * 准备count个redis
+     */
+    public static RedisServers start(int count) throws IOException {
+        String host = System.getProperty(HOST_PROPERTY);
+        int basePort = Integer.getInteger(PORT_PROPERTY, DEFAULT_PORT);
+        RedisServers redisServers = new RedisServers(host != null ? host : "localhost", basePort, count);
+        if (host == null) {
+            try {
+                for (int i = 0; i < count; i++) {
+                    RedisServer server = new RedisServer(basePort + i);
+                    server.start();
+                    redisServers.servers.add(server);
+                }
+            } catch (IOException e) {
+                redisServers.stop();
+                throw e;
+            }
+        }
+        return redisServers;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort(int index) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("No such server: " + index);
+        }
+        return basePort + index;
+    }
+
+    public AtomConfig atomConfig(int index, Transport transport, DispatchMode dispatchMode) {
+        AtomConfig config = new AtomConfig(host, getPort(index));
+        config.setTransport(transport);
+        config.setDispatchMode(dispatchMode);
+        // 基准测试关注吞吐和延迟，放宽超时避免高并发时大量超时
+        config.setTimeout(1000);
+        config.setSocketTimeout(1000);
+        return config;
+    }
+
+    /**
+     * master和唯一的slave是同一个redis
+     */
+    public GroupConfig groupConfig(int index) {
+        ServerInfo serverInfo = new ServerInfo(host, getPort(index));
+        List<ServerInfo> slaves = new ArrayList<ServerInfo>();
+        slaves.add(serverInfo);
+        GroupConfig config = new GroupConfig(serverInfo, slaves);
+        config.setTimeout(1000);
+        config.setSocketTimeout(1000);
+        return config;
+    }
+
+    public List<GroupYedis> groups(int size) {
+        List<GroupYedis> groups = new ArrayList<GroupYedis>();
+        for (int i = 0; i < size; i++) {
+            groups.add(new GroupYedis(groupConfig(i)));
+        }
+        return groups;
+    }
+
+    public void stop() {
+        for (RedisServer server : servers) {
+            try {
+                server.stop();
+            } catch (Exception e) {
+                // 继续停止其他redis
+            }
+        }
+        servers.clear();
+    }
+
+}
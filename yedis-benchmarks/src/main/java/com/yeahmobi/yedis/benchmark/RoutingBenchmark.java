@@ -0,0 +1,92 @@
+package com.yeahmobi.yedis.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yeahmobi.yedis.group.GroupConfig;
+import com.yeahmobi.yedis.group.GroupYedis;
+import com.yeahmobi.yedis.shard.MurmurHashCodeComputingStrategy;
+import com.yeahmobi.yedis.shard.ShardingAlgorithm;
+import com.yeahmobi.yedis.shard.ShardingStrategy;
+import com.yeahmobi.yedis.shard.ShardingStrategyFactory;
+
+/**
+ * 只测路由（hash+定位shard）的CPU开销，不访问redis。<br>
+ * 路由只依赖GroupYedis在列表中的位置，因此所有GroupYedis都连到同一个redis。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark {
+
+    private static final int KEYS = 1024;
+
+    @Param({ "4", "32" })
+    public int               shards;
+
+    @Param({ "SIMPLE_HASH", "CONSISTENT_HASH" })
+    public ShardingAlgorithm algorithm;
+
+    private RedisServers     servers;
+
+    private List<GroupYedis> groups;
+
+    private ShardingStrategy strategy;
+
+    private String[]         keys;
+
+    private byte[][]         binaryKeys;
+
+    private int              next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        servers = RedisServers.start(1);
+        groups = new ArrayList<GroupYedis>();
+        for (int i = 0; i < shards; i++) {
+            GroupConfig config = servers.groupConfig(0);
+            config.setThreadPoolSize(1);
+            groups.add(new GroupYedis(config));
+        }
+        strategy = ShardingStrategyFactory.createShardingStrategy(groups, algorithm,
+                                                                  new MurmurHashCodeComputingStrategy());
+        keys = Keys.strings("user:session:", KEYS);
+        binaryKeys = Keys.bytes(keys);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        strategy.close();
+        servers.stop();
+    }
+
+    @Benchmark
+    public GroupYedis routeString() {
+        return strategy.route(keys[next++ & (KEYS - 1)]);
+    }
+
+    @Benchmark
+    public GroupYedis routeBytes() {
+        return strategy.route(binaryKeys[next++ & (KEYS - 1)]);
+    }
+
+}
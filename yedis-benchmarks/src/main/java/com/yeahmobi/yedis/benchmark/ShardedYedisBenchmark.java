@@ -0,0 +1,101 @@
+package com.yeahmobi.yedis.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yeahmobi.yedis.shard.MurmurHashCodeComputingStrategy;
+import com.yeahmobi.yedis.shard.ShardedYedis;
+import com.yeahmobi.yedis.shard.ShardingAlgorithm;
+
+/**
+ * ShardedYedis：单key命令的路由开销，以及跨shard的mget/mset随key数和shard数的扇出开销。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardedYedisBenchmark {
+
+    @Param({ "2", "4" })
+    public int               shards;
+
+    @Param({ "SIMPLE_HASH", "CONSISTENT_HASH" })
+    public ShardingAlgorithm algorithm;
+
+    @Param({ "10", "100" })
+    public int               keyCount;
+
+    private RedisServers     servers;
+
+    private ShardedYedis     yedis;
+
+    private String[]         keys;
+
+    private String[]         keysValues;
+
+    private String           value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        servers = RedisServers.start(shards);
+        yedis = new ShardedYedis(servers.groups(shards), algorithm, new MurmurHashCodeComputingStrategy());
+        keys = Keys.strings("yedis-benchmark-", keyCount);
+        value = Keys.value(64);
+        keysValues = Keys.keysValues(keys, value);
+        yedis.mset(keysValues);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        yedis.flushAll();
+        yedis.close();
+        servers.stop();
+    }
+
+    @Benchmark
+    public String get() {
+        return yedis.get(keys[0]);
+    }
+
+    @Benchmark
+    public String set() {
+        return yedis.set(keys[0], value);
+    }
+
+    @Benchmark
+    public List<String> mget() {
+        return yedis.mget(keys);
+    }
+
+    @Benchmark
+    public String mset() {
+        return yedis.mset(keysValues);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(16)
+    public List<String> mgetThroughput() {
+        return yedis.mget(keys);
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.yeahmobi.yedis.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import redis.clients.jedis.Jedis;
+
+import com.yeahmobi.yedis.async.DispatchMode;
+import com.yeahmobi.yedis.async.Transport;
+import com.yeahmobi.yedis.atomic.Yedis;
+
+/**
+ * 单个Yedis：单命令延迟（SampleTime，可看p99等）和多线程吞吐，按transport/dispatchMode比较，以直接使用Jedis作为基线。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class YedisBenchmark {
+
+    private static final String KEY = "yedis-benchmark";
+
+    @Param({ "THREAD_PER_CONNECTION", "MULTIPLEXED", "DIRECT" })
+    public Transport            transport;
+
+    @Param({ "ROUND_ROBIN" })
+    public DispatchMode         dispatchMode;
+
+    @Param({ "64" })
+    public int                  valueSize;
+
+    private RedisServers        servers;
+
+    private Yedis               yedis;
+
+    private String              value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        servers = RedisServers.start(1);
+        yedis = new Yedis(servers.atomConfig(0, transport, dispatchMode));
+        value = Keys.value(valueSize);
+        yedis.set(KEY, value);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        yedis.flushAll();
+        yedis.close();
+        servers.stop();
+    }
+
+    @Benchmark
+    public String get() {
+        return yedis.get(KEY);
+    }
+
+    @Benchmark
+    public String set() {
+        return yedis.set(KEY, value);
+    }
+
+    @Benchmark
+    public String asyncGet() throws InterruptedException, ExecutionException {
+        return yedis.async().get(KEY).get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(16)
+    public String getThroughput() {
+        return yedis.get(KEY);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(16)
+    public String setThroughput() {
+        return yedis.set(KEY, value);
+    }
+
+    /**
+     * 每个线程独占一个Jedis连接，作为没有Yedis调度开销的基线
+     */
+    @State(Scope.Thread)
+    public static class JedisState {
+
+        private Jedis jedis;
+
+        @Setup(Level.Trial)
+        public void setUp(YedisBenchmark benchmark) {
+            jedis = new Jedis(benchmark.servers.getHost(), benchmark.servers.getPort(0));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            jedis.close();
+        }
+    }
+
+    @Benchmark
+    public String jedisGet(JedisState state) {
+        return state.jedis.get(KEY);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(16)
+    public String jedisGetThroughput(JedisState state) {
+        return state.jedis.get(KEY);
+    }
+
+}